@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão e latência da serialização e da deserialização de objetos
+ * representativos (Composition, EHR, Observation, EHRExtract e Message),
+ * tanto diretamente pelo codec quanto por meio de
+ * {@link RMObjectSerializationClient}. A taxa de alocação é obtida com
+ * {@code -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class PayloadBenchmark {
+
+    @Param({"composition", "ehr", "observation", "ehrExtract", "message"})
+    public String payload;
+
+    private RMObjectCodec<Object> codec;
+    private Object value;
+    private Buffer buffer;
+    private RMObjectSerializationClient client;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        switch (payload) {
+            case "composition":
+                value = RMObjectTestHelper.composition();
+                break;
+            case "ehr":
+                value = RMObjectTestHelper.eHR();
+                break;
+            case "observation":
+                value = RMObjectTestHelper.observationWithItemTreeItemTree();
+                break;
+            case "ehrExtract":
+                value = RMObjectTestHelper.ehrExtract();
+                break;
+            case "message":
+                value = RMObjectTestHelper.message();
+                break;
+            default:
+                throw new IllegalArgumentException(payload);
+        }
+
+        codec = (RMObjectCodec<Object>) RMObjectCodecs.of(value.getClass());
+        buffer = Buffer.newGrowableInstance(codec.sizeOf(value));
+        codec.serialize(buffer, 0, value);
+        client = RMObjectSerializationClient.create();
+    }
+
+    @Benchmark
+    public int serialize() {
+        return codec.serialize(buffer, 0, value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return codec.deserialize(buffer, 0);
+    }
+
+    /**
+     * Uso típico por requisição: cliente reutilizado, serialização e
+     * obtenção dos bytes produzidos.
+     */
+    @Benchmark
+    public byte[] clientSerialize() {
+        client.reset();
+        switch (payload) {
+            case "composition":
+                client.serializeComposition((RMObject.Composition) value);
+                break;
+            case "ehr":
+                client.serializeEHR((RMObject.EHR) value);
+                break;
+            case "observation":
+                client.serializeObservation(
+                        (RMObject.ObservationWithItemTreeItemTree) value);
+                break;
+            case "ehrExtract":
+                client.serializeEHRExtract((RMObject.EHRExtract) value);
+                break;
+            default:
+                client.serializeMessage((RMObject.Message) value);
+                break;
+        }
+
+        return client.getBytes();
+    }
+}
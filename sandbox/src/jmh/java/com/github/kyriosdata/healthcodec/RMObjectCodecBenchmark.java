@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão da serialização e da deserialização de cada tipo do modelo de
+ * referência, por meio de {@link RMObjectCodecs}. As instâncias são
+ * aquelas criadas por {@link RMObjectTestHelper}.
+ *
+ * <p>São muitos os tipos, o que torna longa a execução completa. Um
+ * subconjunto pode ser selecionado, por exemplo, por
+ * {@code -Djmh.args="RMObjectCodecBenchmark -p type=DvText,Composition"}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RMObjectCodecBenchmark {
+
+    /**
+     * Nome (simples) do tipo, classe aninhada de {@link RMObject}.
+     */
+    @Param({
+            "DvIdentifier", "UID", "InternetID", "ISO_OID", "UUID",
+            "TerminologyID", "GenericID", "TemplateID", "CodePhrase", "DVURI",
+            "DvEHRURI", "VersionTreeID", "ArchetypeID", "ObjectVersionID",
+            "HierObjectID", "ObjectID", "PartyRef", "ObjectRef", "LocatableRef",
+            "ProportionKind", "AccessGroupRef", "PartyIdentified", "Archetyped",
+            "DvEncapsulated", "UIDBasedID", "DvParsable", "DvTimeSpecification",
+            "DvMultimedia", "DvText", "DvCodedText", "TermMapping", "Link",
+            "DvState", "DvParagraph", "PartyProxy", "FeederAuditDetails",
+            "FeederAudit", "Locatable", "PartyRelated", "PartySelf",
+            "ResourceDescriptionItem", "TranslationDetails", "Item", "Cluster",
+            "Element", "DataStructure", "ItemList", "ItemStructure",
+            "ItemSingle", "ItemTable", "ItemTree", "PartyIdentity",
+            "PartyRelationship", "Address", "Contact", "Capability", "Role",
+            "Actor", "Agent", "Group", "Organisation", "Person",
+            "InstructionDetails", "ISMTransition", "Activity", "DvOrdered",
+            "DvInterval", "DvQuantified", "DvAmount", "DvOrdinal", "DvCount",
+            "DvProportion", "DvQuantity", "DvDuration",
+            "DvAbsoluteQuantityWithDvCount", "DvAbsoluteQuantityWithDvDuration",
+            "DvAbsoluteQuantityWithDvProportion", "DvDate", "DvTime",
+            "DvDateTime", "DvTemporal", "Participation", "AuditDetails",
+            "Attestation", "RevisionHistoryItem", "RevisionHistory",
+            "Contribution", "Folder", "AuthoredResource", "ResourceDescription",
+            "EventWithItemTree", "EventWithItemSingle", "EventWithItemTable",
+            "IntervalEventWithItemTree", "IntervalEventWithItemSingle",
+            "IntervalEventWithItemTable", "HistoryWithItemTree",
+            "HistoryWithItemSingle", "HistoryWithItemTable",
+            "PointEventWithItemTree", "PointEventWithItemSingle",
+            "PointEventWithItemTable", "Entry", "CareEntry", "Action",
+            "AdminEntry", "Evaluation", "Instruction",
+            "ObservationWithItemTreeItemTree",
+            "ObservationWithItemTreeItemSingle",
+            "ObservationWithItemTreeItemTable",
+            "ObservationWithItemSingleItemTree",
+            "ObservationWithItemSingleItemSingle",
+            "ObservationWithItemSingleItemTable",
+            "ObservationWithItemTableItemTree",
+            "ObservationWithItemTableItemSingle",
+            "ObservationWithItemTableItemTable", "Section", "EventContext",
+            "Composition", "EHR", "EHRStatus", "EHRAccess", "XTerminology",
+            "XComposition", "XDemographics", "XFolder", "XAccessControl",
+            "EHRExtract", "GenericEntry", "MessageContent", "Message"
+    })
+    public String type;
+
+    private RMObjectCodec<Object> codec;
+    private Object value;
+    private Buffer buffer;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws ReflectiveOperationException {
+        Class<?> classe = Class.forName(
+                RMObject.class.getName() + "$" + type);
+        codec = (RMObjectCodec<Object>) RMObjectCodecs.of(classe);
+        value = instanceOf(classe);
+        buffer = Buffer.newGrowableInstance(codec.sizeOf(value));
+        codec.serialize(buffer, 0, value);
+    }
+
+    @Benchmark
+    public int serialize() {
+        return codec.serialize(buffer, 0, value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return codec.deserialize(buffer, 0);
+    }
+
+    @Benchmark
+    public int sizeOf() {
+        return codec.sizeOf(value);
+    }
+
+    /**
+     * Obtém instância do tipo por meio do método de
+     * {@link RMObjectTestHelper}, sem argumentos, que a retorna.
+     */
+    private static Object instanceOf(Class<?> classe)
+            throws ReflectiveOperationException {
+        for (Method m : RMObjectTestHelper.class.getMethods()) {
+            if (Modifier.isStatic(m.getModifiers())
+                    && m.getParameterCount() == 0
+                    && m.getReturnType() == classe) {
+                return m.invoke(null);
+            }
+        }
+
+        throw new IllegalArgumentException("sem instância: " + classe);
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Segmento de conteúdos binários (<em>blobs</em>), por exemplo, os dados
+ * de DvMultimedia, endereçados pelo respectivo hash (SHA-256). Um conteúdo
+ * é armazenado uma única vez, independentemente da quantidade de
+ * referências a ele.
+ *
+ * <p>Quando associado a um {@link Buffer} (ver
+ * {@link Buffer#setBlobSegment(BlobSegment, int)}), os dados de
+ * DvMultimedia cujo tamanho excede o limite estabelecido são depositados
+ * no segmento, e apenas a referência (tamanho e hash) é serializada. Na
+ * deserialização a partir de um buffer associado ao segmento, os dados são
+ * obtidos do segmento apenas quando requisitados.</p>
+ *
+ * <p>O segmento pode residir em memória ({@link #newInstance()}) ou em
+ * arquivo ({@link #open(Path)}), no qual os conteúdos são acrescentados ao
+ * final e lidos por meio de mapeamento em memória, sem cópia. O arquivo é
+ * mapeado uma única vez e novamente apenas quando cresce.</p>
+ *
+ * <p>Um conteúdo depositado ({@link #put(ByteBuffer)}) é escrito no
+ * arquivo, mas não necessariamente gravado no dispositivo, o que é
+ * assegurado por {@link #flush()} ou {@link #close()}. Ao abrir o arquivo,
+ * o último registro é verificado contra o respectivo hash e descartado se
+ * não corresponde, por exemplo, após falha durante a escrita.</p>
+ *
+ * <p>Instâncias desta classe podem ser compartilhadas entre
+ * <em>threads</em>.</p>
+ */
+public final class BlobSegment implements Closeable {
+
+    /**
+     * Algoritmo empregado pelo hash dos conteúdos.
+     */
+    public static final String ALGORITHM = "SHA-256";
+
+    /**
+     * Início do arquivo de um segmento ("HCB1").
+     */
+    private static final int MAGIC = 0x48434231;
+
+    /**
+     * Tamanho, em bytes, do hash.
+     */
+    static final int HASH = 32;
+
+    private static final int INT = PrimitiveTypeSize.INT.getSize();
+
+    /**
+     * Referência a um conteúdo: tamanho e hash. A referência é resolvida
+     * pelo segmento, quando disponível.
+     */
+    public static final class Reference {
+        private final byte[] hash;
+        private final int length;
+        private final BlobSegment segment;
+
+        Reference(byte[] hash, int length, BlobSegment segment) {
+            this.hash = hash;
+            this.length = length;
+            this.segment = segment;
+        }
+
+        /**
+         * Hash (SHA-256) do conteúdo.
+         *
+         * @return Cópia do hash.
+         */
+        public byte[] getHash() {
+            return hash.clone();
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * Obtém o conteúdo referenciado.
+         *
+         * @return Visão somente leitura do conteúdo.
+         * @throws IllegalStateException se a referência não está associada
+         *                               a um segmento ou o conteúdo não
+         *                               está disponível no segmento.
+         */
+        public ByteBuffer data() {
+            if (segment == null) {
+                throw new IllegalStateException("segmento não disponível");
+            }
+
+            ByteBuffer data = segment.get(hash);
+            if (data == null) {
+                throw new IllegalStateException("conteúdo não disponível");
+            }
+
+            return data;
+        }
+
+        byte[] hash() {
+            return hash;
+        }
+
+        BlobSegment segment() {
+            return segment;
+        }
+    }
+
+    /**
+     * Região (posição e tamanho) de um conteúdo no armazenamento.
+     */
+    private static final class Region {
+        private final long position;
+        private final int length;
+
+        private Region(long position, int length) {
+            this.position = position;
+            this.length = length;
+        }
+    }
+
+    private final Map<ByteBuffer, Region> index = new HashMap<>();
+
+    /**
+     * Armazenamento em memória, ou {@code null} se em arquivo.
+     */
+    private final Buffer memory;
+
+    /**
+     * Armazenamento em arquivo, ou {@code null} se em memória.
+     */
+    private final FileChannel channel;
+    private long size;
+
+    /**
+     * Mapeamento (somente leitura) dos primeiros 2 GiB do arquivo, renovado
+     * quando um conteúdo posterior ao mapeado é requisitado, ou
+     * {@code null}.
+     */
+    private ByteBuffer mapping;
+
+    private BlobSegment(Buffer memory, FileChannel channel, long size) {
+        this.memory = memory;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    /**
+     * Cria segmento mantido em memória.
+     *
+     * @return Novo segmento, vazio.
+     */
+    public static BlobSegment newInstance() {
+        return new BlobSegment(Buffer.newGrowableInstance(), null, 0);
+    }
+
+    /**
+     * Abre (ou cria) segmento mantido no arquivo indicado. Os conteúdos
+     * previamente depositados no arquivo são preservados, exceto um
+     * registro incompleto ao final, ou cujo conteúdo não corresponde ao
+     * hash, que é removido.
+     *
+     * @param path Arquivo do segmento.
+     * @return Segmento correspondente ao arquivo.
+     * @throws IOException se o arquivo não pode ser lido ou não corresponde
+     *                     a um segmento.
+     */
+    public static BlobSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            BlobSegment segment = new BlobSegment(null, channel, 0);
+            segment.load();
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Calcula o hash (SHA-256) do conteúdo.
+     *
+     * @param data Conteúdo, entre a posição corrente e o limite. O estado
+     *             não é alterado.
+     * @return Hash do conteúdo.
+     */
+    public static byte[] hash(ByteBuffer data) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
+            digest.update(data.duplicate());
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM, e);
+        }
+    }
+
+    /**
+     * Deposita o conteúdo no segmento, caso ainda não esteja presente. Em
+     * arquivo, o conteúdo não é necessariamente gravado no dispositivo
+     * (ver {@link #flush()}).
+     *
+     * @param data Conteúdo, entre a posição corrente e o limite. O estado
+     *             não é alterado.
+     * @return Referência ao conteúdo.
+     */
+    public Reference put(ByteBuffer data) {
+        byte[] hash = hash(data);
+        int length = data.remaining();
+        synchronized (this) {
+            if (!index.containsKey(ByteBuffer.wrap(hash))) {
+                append(hash, data.duplicate());
+            }
+        }
+
+        return new Reference(hash, length, this);
+    }
+
+    /**
+     * Obtém o conteúdo cujo hash é indicado.
+     *
+     * @param hash Hash do conteúdo.
+     * @return Visão somente leitura do conteúdo ou {@code null}, se ausente.
+     */
+    public synchronized ByteBuffer get(byte[] hash) {
+        Region region = index.get(ByteBuffer.wrap(hash));
+        if (region == null) {
+            return null;
+        }
+
+        if (memory != null) {
+            return memory.slice((int) region.position, region.length);
+        }
+
+        try {
+            long end = region.position + region.length;
+            if (end > Integer.MAX_VALUE) {
+                return channel.map(FileChannel.MapMode.READ_ONLY,
+                        region.position, region.length).asReadOnlyBuffer();
+            }
+
+            if (mapping == null || mapping.capacity() < end) {
+                mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                        Math.min(size, Integer.MAX_VALUE));
+            }
+
+            ByteBuffer data = mapping.duplicate();
+            data.limit((int) end).position((int) region.position);
+            return data.slice();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Verifica se o conteúdo cujo hash é indicado está no segmento.
+     *
+     * @param hash Hash do conteúdo.
+     * @return {@code true} se e somente se o conteúdo está presente.
+     */
+    public synchronized boolean contains(byte[] hash) {
+        return index.containsKey(ByteBuffer.wrap(hash));
+    }
+
+    /**
+     * Quantidade de conteúdos (distintos) no segmento.
+     *
+     * @return Quantidade de conteúdos.
+     */
+    public synchronized int count() {
+        return index.size();
+    }
+
+    /**
+     * Cria referência, associada a este segmento, ao conteúdo de hash e
+     * tamanho indicados.
+     */
+    Reference reference(byte[] hash, int length) {
+        return new Reference(hash, length, this);
+    }
+
+    /**
+     * Assegura que os conteúdos depositados estão gravados no dispositivo,
+     * se o segmento é mantido em arquivo.
+     *
+     * @throws IOException se a gravação falhar.
+     */
+    public void flush() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Grava no dispositivo os conteúdos depositados e fecha o arquivo do
+     * segmento, se for o caso.
+     *
+     * @throws IOException se o arquivo não pode ser gravado ou fechado.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            try {
+                channel.force(false);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Acrescenta registro {@code tamanho:int hash conteúdo} ao
+     * armazenamento.
+     */
+    private void append(byte[] hash, ByteBuffer data) {
+        int length = data.remaining();
+        long position = size + INT + hash.length;
+        if (memory != null) {
+            memory.writeInteger((int) size, length);
+            memory.writeByteArray((int) size + INT, hash);
+            memory.writeByteBuffer((int) position, data);
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(INT + hash.length);
+            header.putInt(length).put(hash).flip();
+            try {
+                write(header, size);
+                write(data, position);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        index.put(ByteBuffer.wrap(hash), new Region(position, length));
+        size = position + length;
+    }
+
+    /**
+     * Reconstrói o índice a partir dos registros do arquivo. Um registro
+     * incompleto ao final (por exemplo, após falha durante um acréscimo) é
+     * descartado, assim como o último registro completo, se o conteúdo não
+     * corresponde ao hash. Apenas o último é verificado, pois os acréscimos
+     * são sequenciais e um registro anterior já foi seguido por outro.
+     */
+    private void load() throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(INT);
+        if (channel.size() == 0) {
+            magic.putInt(MAGIC).flip();
+            write(magic, 0);
+            size = INT;
+            return;
+        }
+
+        read(magic, 0);
+        if (magic.getInt(0) != MAGIC) {
+            throw new IOException("arquivo não é segmento de conteúdos");
+        }
+
+        long end = channel.size();
+        long position = INT;
+        long last = -1;
+        ByteBuffer header = ByteBuffer.allocate(INT + HASH);
+        while (position + header.capacity() <= end) {
+            header.clear();
+            read(header, position);
+            int length = header.getInt(0);
+            long data = position + header.capacity();
+            if (length < 0 || data + length > end) {
+                break;
+            }
+
+            byte[] hash = Arrays.copyOfRange(header.array(), INT, INT + HASH);
+            index.put(ByteBuffer.wrap(hash), new Region(data, length));
+            last = position;
+            position = data + length;
+        }
+
+        if (last >= 0 && !verify(last, header)) {
+            index.remove(ByteBuffer.wrap(header.array(), INT, HASH));
+            position = last;
+        }
+
+        if (position != end) {
+            channel.truncate(position);
+        }
+
+        size = position;
+    }
+
+    /**
+     * Verifica se o conteúdo do registro na posição indicada corresponde ao
+     * hash. O cabeçalho fornecido é preenchido com o do registro.
+     */
+    private boolean verify(long position, ByteBuffer header)
+            throws IOException {
+        header.clear();
+        read(header, position);
+        int length = header.getInt(0);
+        ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY,
+                position + header.capacity(), length);
+        return Arrays.equals(hash(data), Arrays.copyOfRange(header.array(),
+                INT, INT + HASH));
+    }
+
+    private void write(ByteBuffer bytes, long position) throws IOException {
+        while (bytes.hasRemaining()) {
+            position += channel.write(bytes, position);
+        }
+    }
+
+    private void read(ByteBuffer bytes, long position) throws IOException {
+        while (bytes.hasRemaining()) {
+            int lidos = channel.read(bytes, position);
+            if (lidos < 0) {
+                throw new IOException("segmento incompleto");
+            }
+
+            position += lidos;
+        }
+    }
+}
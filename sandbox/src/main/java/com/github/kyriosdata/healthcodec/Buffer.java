@@ -14,11 +14,21 @@
  */
 package com.github.kyriosdata.healthcodec;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.BufferUnderflowException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
 import java.nio.ReadOnlyBufferException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Classe responsável por encapsular operações de leitura e escrita de
@@ -32,6 +42,11 @@ import java.nio.charset.StandardCharsets;
  * (<em>byte[]</em>.
  *
  * </p>
+ *
+ * <p>O armazenamento pode residir no <em>heap</em> (padrão), fora dele
+ * ({@link #newDirectInstance(int)}) ou em arquivo mapeado em memória
+ * ({@link #newMappedInstance(FileChannel, FileChannel.MapMode, long, int)}).
+ * As operações de leitura e escrita são as mesmas em todos os casos.</p>
  */
 public class Buffer {
 
@@ -41,15 +56,94 @@ public class Buffer {
     private static final int MAX_BYTES_SIZE_BUFFER = 10_000_000;
 
     /**
-     * Estrutura empregada para armazenamento.
+     * Capacidade inicial, em bytes, de um buffer expansível quando não
+     * fornecida explicitamente.
+     */
+    private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+    /**
+     * Maior capacidade possível para um buffer expansível. Alguns ambientes
+     * reservam palavras de cabeçalho em vetores e não permitem alocar
+     * exatamente {@link Integer#MAX_VALUE} bytes.
+     */
+    private static final int MAX_GROWABLE_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Estrutura empregada para armazenamento. Substituída por outra de maior
+     * capacidade sempre que um buffer expansível precisa crescer.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Indica se o buffer pode crescer quando uma escrita ultrapassa a
+     * capacidade corrente.
+     */
+    private final boolean growable;
+
+    /**
+     * Final da região que pode conter bytes escritos (não nulos), ou seja,
+     * a partir desta posição todos os bytes são nulos. Apenas as escritas
+     * realizadas por meio dos métodos deste buffer são consideradas.
+     */
+    private int dirty;
+
+    /**
+     * Segmento no qual dados de DvMultimedia são mantidos fora do buffer,
+     * ou {@code null}.
+     */
+    private BlobSegment blobSegment;
+
+    /**
+     * Tamanho a partir do qual dados de DvMultimedia são mantidos no
+     * segmento.
+     */
+    private int blobThreshold;
+
+    /**
+     * Indica se o perfil compacto (prefixos de tamanho em varint) é
+     * empregado.
      */
-    private final ByteBuffer buffer;
+    private boolean compact;
+
+    /**
+     * Tabela de sequências de caracteres do documento, ou {@code null}.
+     */
+    private StringTable stringTable;
+
+    /**
+     * Pool empregado na serialização paralela, ou {@code null}.
+     */
+    private ForkJoinPool forkJoinPool;
+
+    /**
+     * Menor quantidade de itens de uma lista serializados em paralelo.
+     */
+    private int parallelThreshold;
 
     /**
      * Construtor empregado exclusivamente por factory methods.
      */
     private Buffer(final ByteBuffer original) {
+        this(original, false);
+    }
+
+    /**
+     * Construtor empregado exclusivamente por factory methods.
+     */
+    private Buffer(final ByteBuffer original, final boolean expansivel) {
+        this(original, expansivel, original.capacity());
+    }
+
+    /**
+     * Construtor empregado exclusivamente por factory methods. O conteúdo
+     * a partir de {@code dirty} é nulo, por exemplo, 0 para armazenamento
+     * recém-alocado.
+     */
+    private Buffer(final ByteBuffer original, final boolean expansivel,
+                   final int dirty) {
         buffer = original;
+        growable = expansivel;
+        this.dirty = dirty;
     }
 
     /**
@@ -58,7 +152,8 @@ public class Buffer {
      * @return Cria um buffer com a capacidade máxima de bytes.
      */
     public static Buffer newInstance() {
-        return new Buffer(ByteBuffer.allocate(MAX_BYTES_SIZE_BUFFER));
+        return new Buffer(ByteBuffer.allocate(MAX_BYTES_SIZE_BUFFER), false,
+                0);
     }
 
     /**
@@ -80,6 +175,411 @@ public class Buffer {
         return new Buffer(ByteBuffer.wrap(dados));
     }
 
+    /**
+     * Cria buffer sobre a região de {@code original} compreendida entre a
+     * posição corrente e o limite deste. A posição 0 do buffer criado
+     * corresponde à posição corrente de {@code original}, cujo conteúdo é
+     * compartilhado (não copiado).
+     *
+     * @param original Região a partir da qual o buffer será definido. Pode
+     *                 residir ou não no <em>heap</em>.
+     * @return Instância de buffer que compartilha o conteúdo fornecido.
+     */
+    public static Buffer newInstance(ByteBuffer original) {
+        return new Buffer(original.slice().order(ByteOrder.BIG_ENDIAN));
+    }
+
+    /**
+     * Cria buffer cujo armazenamento reside fora do <em>heap</em>
+     * ({@link ByteBuffer#allocateDirect(int)}), o que permite a escrita em
+     * canais (arquivos, <em>sockets</em>) sem cópia intermediária.
+     *
+     * @param capacidade Capacidade do buffer, em bytes.
+     * @return Buffer de capacidade fixa fora do <em>heap</em>.
+     * @throws IllegalArgumentException se a capacidade for negativa.
+     */
+    public static Buffer newDirectInstance(int capacidade) {
+        if (capacidade < 0) {
+            throw new IllegalArgumentException("capacidade negativa");
+        }
+
+        return new Buffer(ByteBuffer.allocateDirect(capacidade), false, 0);
+    }
+
+    /**
+     * Cria buffer expansível cujo armazenamento reside fora do
+     * <em>heap</em>. Ao crescer, o novo armazenamento também é alocado fora
+     * do <em>heap</em>.
+     *
+     * @param capacidade Capacidade inicial, em bytes.
+     * @return Buffer expansível fora do <em>heap</em>.
+     * @throws IllegalArgumentException se a capacidade for negativa.
+     */
+    public static Buffer newGrowableDirectInstance(int capacidade) {
+        if (capacidade < 0) {
+            throw new IllegalArgumentException("capacidade negativa");
+        }
+
+        return new Buffer(ByteBuffer.allocateDirect(capacidade), true, 0);
+    }
+
+    /**
+     * Cria buffer sobre a região indicada de um arquivo mapeado em memória.
+     * O efeito de escritas no buffer depende do modo: no modo
+     * {@link FileChannel.MapMode#READ_WRITE} são refletidas no arquivo
+     * (gravadas no dispositivo por meio de {@link #force()}); no modo
+     * {@link FileChannel.MapMode#PRIVATE} permanecem em cópia privada e não
+     * alcançam o arquivo; no modo {@link FileChannel.MapMode#READ_ONLY}
+     * são recusadas ({@link java.nio.ReadOnlyBufferException}). O
+     * mapeamento permanece válido mesmo após o fechamento do canal.
+     *
+     * @param channel  Canal do arquivo a ser mapeado, aberto para leitura
+     *                 e, exceto no modo READ_ONLY, também para escrita.
+     * @param mode     Modo de mapeamento.
+     * @param position Posição inicial da região no arquivo.
+     * @param size     Tamanho da região, em bytes.
+     * @return Buffer de capacidade fixa sobre a região mapeada.
+     * @throws IOException se o mapeamento não puder ser realizado.
+     */
+    public static Buffer newMappedInstance(FileChannel channel,
+            FileChannel.MapMode mode, long position, int size)
+            throws IOException {
+        return new Buffer(channel.map(mode, position, size));
+    }
+
+    /**
+     * Cria buffer de leitura e escrita sobre os primeiros {@code size}
+     * bytes do arquivo indicado, criado se necessário (e estendido, se
+     * menor que {@code size}).
+     *
+     * @param path Arquivo a ser mapeado.
+     * @param size Tamanho da região mapeada, em bytes.
+     * @return Buffer de capacidade fixa sobre o arquivo mapeado.
+     * @throws IOException se o arquivo não puder ser aberto ou mapeado.
+     */
+    public static Buffer newMappedInstance(Path path, int size)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return newMappedInstance(channel, FileChannel.MapMode.READ_WRITE,
+                    0, size);
+        }
+    }
+
+    /**
+     * Indica se o armazenamento reside fora do <em>heap</em> (alocação
+     * direta ou arquivo mapeado).
+     *
+     * @return {@code true} se e somente se o armazenamento não é um vetor
+     * de bytes no <em>heap</em>.
+     */
+    public boolean isDirect() {
+        return buffer.isDirect();
+    }
+
+    /**
+     * Assegura que alterações realizadas em buffer mapeado em memória são
+     * gravadas no arquivo correspondente. Não produz efeito para os
+     * demais buffers.
+     */
+    public void force() {
+        if (buffer instanceof MappedByteBuffer) {
+            ((MappedByteBuffer) buffer).force();
+        }
+    }
+
+    /**
+     * Cria um buffer expansível com capacidade inicial reduzida.
+     *
+     * @return Buffer cuja capacidade é ampliada conforme a demanda.
+     *
+     * @see #newGrowableInstance(int)
+     */
+    public static Buffer newGrowableInstance() {
+        return newGrowableInstance(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * Cria um buffer expansível com a capacidade inicial indicada. Quando uma
+     * escrita ultrapassa a capacidade corrente, o conteúdo é copiado para
+     * uma nova área com, pelo menos, o dobro da capacidade anterior.
+     *
+     * @param capacidade Capacidade inicial, em bytes.
+     * @return Buffer cuja capacidade é ampliada conforme a demanda.
+     * @throws IllegalArgumentException se a capacidade for negativa.
+     */
+    public static Buffer newGrowableInstance(int capacidade) {
+        if (capacidade < 0) {
+            throw new IllegalArgumentException("capacidade negativa");
+        }
+
+        return new Buffer(ByteBuffer.allocate(capacidade), true, 0);
+    }
+
+    /**
+     * Obtém buffer que não armazena coisa alguma: as operações de escrita
+     * são descartadas e as de leitura não são suportadas. Empregado para
+     * obter, por meio dos próprios serializadores, a quantidade de bytes
+     * que a serialização de um objeto ocupa.
+     *
+     * @return Buffer que apenas descarta escritas.
+     */
+    static Buffer newSizingInstance() {
+        return SizingBuffer.INSTANCE;
+    }
+
+    /**
+     * Indica se o buffer é expansível.
+     *
+     * @return {@code true} se e somente se a capacidade do buffer é
+     * ampliada conforme a demanda.
+     */
+    public boolean isGrowable() {
+        return growable;
+    }
+
+    /**
+     * Associa o buffer a um segmento de conteúdos. Na serialização, dados
+     * de DvMultimedia cujo tamanho excede o limite são depositados no
+     * segmento, e apenas a referência a eles é mantida no buffer. Na
+     * deserialização, as referências são resolvidas pelo segmento, apenas
+     * quando os dados são requisitados.
+     *
+     * @param segment   Segmento de conteúdos ou {@code null}, para
+     *                  desfazer a associação.
+     * @param threshold Maior tamanho, em bytes, de dados mantidos no
+     *                  próprio buffer.
+     * @throws IllegalArgumentException se o limite é negativo.
+     */
+    public void setBlobSegment(BlobSegment segment, int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("limite negativo");
+        }
+
+        blobSegment = segment;
+        blobThreshold = threshold;
+    }
+
+    /**
+     * Segmento de conteúdos associado ao buffer.
+     *
+     * @return Segmento ou {@code null}, se não há associação.
+     */
+    public BlobSegment getBlobSegment() {
+        return blobSegment;
+    }
+
+    /**
+     * Maior tamanho, em bytes, de dados de DvMultimedia mantidos no próprio
+     * buffer quando associado a um segmento de conteúdos.
+     *
+     * @return Limite estabelecido.
+     */
+    public int getBlobThreshold() {
+        return blobThreshold;
+    }
+
+    /**
+     * Define o perfil de serialização. No perfil compacto, o prefixo de
+     * tamanho de cada sequência de caracteres é registrado como inteiro de
+     * tamanho variável (varint), em geral um único byte, em vez de 4 bytes.
+     * Os cabeçalhos (posições) permanecem com tamanho fixo, pois são
+     * reservados antes da serialização dos respectivos valores. Contudo, o
+     * cabeçalho de Locatable, Composition, EventContext e DvMultimedia
+     * registra a presença dos atributos opcionais em um único byte e omite
+     * as posições dos atributos ausentes.
+     *
+     * <p>A deserialização deve empregar o mesmo perfil empregado na
+     * serialização.</p>
+     *
+     * @param compact {@code true} para o perfil compacto.
+     */
+    public void setCompact(boolean compact) {
+        this.compact = compact;
+    }
+
+    /**
+     * Indica se o perfil compacto está em uso.
+     *
+     * @return {@code true} se e somente se prefixos de tamanho são
+     * registrados como varint.
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * Associa o buffer à tabela de sequências de caracteres do documento.
+     * Na serialização, um valor repetido é registrado apenas como
+     * referência à primeira ocorrência. Na deserialização, ocorrências do
+     * mesmo valor produzem a mesma instância.
+     *
+     * @param table Tabela ou {@code null}, para desfazer a associação.
+     */
+    public void setStringTable(StringTable table) {
+        stringTable = table;
+    }
+
+    /**
+     * Tabela de sequências de caracteres associada ao buffer.
+     *
+     * @return Tabela ou {@code null}, se não há associação.
+     */
+    public StringTable getStringTable() {
+        return stringTable;
+    }
+
+    /**
+     * Define o pool no qual listas de ContentItem (por exemplo, o conteúdo
+     * de Composition) com pelo menos {@code threshold} itens são
+     * serializadas em paralelo. O resultado é idêntico ao da serialização
+     * sequencial. Como as posições registradas são absolutas, o tamanho de
+     * cada item é obtido previamente, o que implica uma passagem adicional
+     * sobre os itens. Apenas listas extensas, de itens não triviais, são
+     * beneficiadas.
+     *
+     * <p>Cada tarefa trata sequencialmente ao menos 32 itens (cerca de 4
+     * tarefas por <em>thread</em> do pool), e listas com até 32 itens são
+     * sempre tratadas sequencialmente, independentemente de
+     * {@code threshold}.</p>
+     *
+     * <p>A serialização é sempre sequencial:</p>
+     * <ul>
+     *     <li>no perfil compacto ({@link #setCompact(boolean)});</li>
+     *     <li>quando há associação com tabela de sequências de caracteres
+     *     ({@link #setStringTable(StringTable)});</li>
+     *     <li>quando há associação com segmento de conteúdos
+     *     ({@link #setBlobSegment(BlobSegment, int)}).</li>
+     * </ul>
+     * <p>Nesses casos o tamanho de um item depende dos itens que o
+     * antecedem.</p>
+     *
+     * <p>Na deserialização, os elementos de listas (por exemplo,
+     * EHR.compositions, History.events e XFolder.compositions) com pelo
+     * menos {@code threshold} elementos são deserializados em paralelo, com
+     * a mesma granularidade, exceto quando há associação com tabela de
+     * sequências de caracteres.</p>
+     *
+     * @param pool      Pool ou {@code null}, para serialização sequencial.
+     * @param threshold Menor quantidade de itens serializados em paralelo.
+     * @throws IllegalArgumentException se a quantidade não é positiva.
+     */
+    public void setParallelism(ForkJoinPool pool, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("limite deve ser positivo");
+        }
+
+        forkJoinPool = pool;
+        parallelThreshold = threshold;
+    }
+
+    /**
+     * Pool empregado na serialização paralela.
+     *
+     * @return Pool ou {@code null}, se a serialização é sequencial.
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    /**
+     * Menor quantidade de itens de uma lista serializados em paralelo.
+     *
+     * @return Limite estabelecido.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Restaura a configuração padrão: perfil padrão, sem associação com
+     * segmento de conteúdos, tabela de sequências de caracteres ou pool
+     * de serialização paralela. O conteúdo não é alterado.
+     */
+    void resetSettings() {
+        compact = false;
+        stringTable = null;
+        blobSegment = null;
+        blobThreshold = 0;
+        forkJoinPool = null;
+        parallelThreshold = 0;
+    }
+
+    /**
+     * Verifica se o buffer descarta as escritas, ou seja, se é empregado
+     * apenas para obter o tamanho de serializações (ver
+     * {@link #newSizingInstance()}).
+     *
+     * @return {@code true} se e somente se as escritas são descartadas.
+     */
+    boolean discardsWrites() {
+        return false;
+    }
+
+    /**
+     * Obtém a capacidade corrente do buffer, em bytes.
+     *
+     * @return Quantidade de bytes que podem ser armazenados sem que o buffer
+     * precise crescer.
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Assegura que o buffer é capaz de armazenar a quantidade de bytes
+     * indicada. Não produz efeito em buffers que não são expansíveis.
+     *
+     * @param size Quantidade de bytes desejada.
+     * @throws IllegalArgumentException se a quantidade ultrapassa a maior
+     *                                  capacidade possível para um buffer.
+     */
+    public void ensureCapacity(int size) {
+        if (growable && size > buffer.capacity()) {
+            grow(size);
+        }
+    }
+
+    /**
+     * Assegura espaço para escrita de {@code length} bytes a partir da
+     * posição indicada (apenas para buffer expansível).
+     */
+    private void ensure(int position, int length) {
+        int end = position + length;
+        if (growable && position >= 0 && end > buffer.capacity()) {
+            grow(end);
+        }
+
+        if (end > dirty) {
+            dirty = end;
+        }
+    }
+
+    /**
+     * Substitui a estrutura de armazenamento por outra com capacidade
+     * suficiente para {@code size} bytes, preservando o conteúdo.
+     */
+    private void grow(int size) {
+        if (size < 0 || size > MAX_GROWABLE_CAPACITY) {
+            throw new IllegalArgumentException("capacidade excede o limite");
+        }
+
+        int dobro = buffer.capacity() << 1;
+        int capacidade = dobro < 0 || dobro > MAX_GROWABLE_CAPACITY
+                ? MAX_GROWABLE_CAPACITY
+                : Math.max(dobro, size);
+
+        ByteBuffer maior = buffer.isDirect()
+                ? ByteBuffer.allocateDirect(capacidade)
+                : ByteBuffer.allocate(capacidade);
+        ByteBuffer atual = buffer.duplicate();
+        atual.clear();
+        maior.put(atual);
+        maior.clear();
+        buffer = maior;
+    }
+
     /**
      * Obtém o _byte_ do buffer na posição indicada.
      *
@@ -101,6 +601,7 @@ public class Buffer {
      *                                   ao limite do buffer.
      */
     public void writeByte(int position, byte b) {
+        ensure(position, PrimitiveTypeSize.BYTE.getSize());
         buffer.put(position, b);
     }
 
@@ -131,9 +632,72 @@ public class Buffer {
      *                                   escrita
      */
     public void writeInteger(int position, int valor) {
+        ensure(position, PrimitiveTypeSize.INT.getSize());
         buffer.putInt(position, valor);
     }
 
+    /**
+     * Lê inteiro não negativo de tamanho variável (varint): 7 bits por
+     * byte, do menos para o mais significativo, com o bit mais alto de cada
+     * byte indicando a continuação.
+     *
+     * @param position Posição inicial de leitura no <em>buffer</em>.
+     * @return Valor lido.
+     * @throws IllegalStateException se a codificação excede 5 bytes.
+     */
+    public int readVarInt(int position) {
+        int valor = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = readByte(position++);
+            valor |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return valor;
+            }
+        }
+
+        throw new IllegalStateException("varint inválido");
+    }
+
+    /**
+     * Armazena inteiro não negativo como varint (ver
+     * {@link #readVarInt(int)}).
+     *
+     * @param position Posição inicial da escrita no <em>buffer</em>.
+     * @param valor    Valor a ser armazenado.
+     * @return Quantidade de bytes empregada.
+     * @throws IllegalArgumentException se o valor é negativo.
+     */
+    public int writeVarInt(int position, int valor) {
+        if (valor < 0) {
+            throw new IllegalArgumentException("valor negativo");
+        }
+
+        int p = position;
+        while (valor >= 0x80) {
+            writeByte(p++, (byte) (valor | 0x80));
+            valor >>>= 7;
+        }
+        writeByte(p++, (byte) valor);
+
+        return p - position;
+    }
+
+    /**
+     * Quantidade de bytes empregada por {@link #writeVarInt(int, int)} para
+     * o valor indicado.
+     *
+     * @param valor Valor não negativo.
+     * @return Quantidade de bytes, de 1 a 5.
+     */
+    public static int sizeOfVarInt(int valor) {
+        int size = 1;
+        while ((valor >>>= 7) != 0) {
+            size++;
+        }
+
+        return size;
+    }
+
     /**
      * Função responsável por ler 8 bytes sequenciais do buffer, a partir da
      * posição indicada, e retornar o double correspondente.
@@ -161,6 +725,7 @@ public class Buffer {
      *                                   escrita
      */
     public void writeDouble(int position, double valor) {
+        ensure(position, PrimitiveTypeSize.DOUBLE.getSize());
         buffer.putDouble(position, valor);
     }
 
@@ -181,19 +746,25 @@ public class Buffer {
      *                                   posição no buffer
      */
     public byte[] readByteArray(int position, int length) {
+        checkRegion(position, length);
         byte[] bytes = new byte[length];
-        buffer.position(position);
-        buffer.get(bytes, 0, length);
+        if (buffer.hasArray()) {
+            System.arraycopy(buffer.array(), buffer.arrayOffset() + position,
+                    bytes, 0, length);
+        } else {
+            ByteBuffer origem = buffer.duplicate();
+            origem.position(position);
+            origem.get(bytes, 0, length);
+        }
 
         return bytes;
     }
 
     /**
-     * TODO Não é o caso de usar System.arraycopy?
-     * <p>
      * Função responsável por escrever um array de bytes do buffer a partir de
      * uma posição inicial e da quantidade de bytes que serão lidos a partir
-     * desta posição
+     * desta posição. A cópia é realizada em bloco e não altera o estado do
+     * buffer além da região escrita.
      *
      * @param position Posição do array
      * @param bytes     Vetor de bytes cujo conteúdo será depositado no buffer.
@@ -204,15 +775,46 @@ public class Buffer {
      *                                   posição no buffer
      */
     public void writeByteArray(int position, byte[] bytes) {
-        buffer.position(position);
-        buffer.put(bytes);
+        ensure(position, bytes.length);
+        checkRegion(position, bytes.length);
+        if (buffer.hasArray()) {
+            System.arraycopy(bytes, 0, buffer.array(),
+                    buffer.arrayOffset() + position, bytes.length);
+        } else {
+            ByteBuffer destino = buffer.duplicate();
+            destino.position(position);
+            destino.put(bytes);
+        }
+    }
+
+    /**
+     * Deposita no buffer, a partir da posição indicada, os bytes
+     * remanescentes de {@code bytes} (entre a posição corrente e o limite).
+     * O estado de {@code bytes} não é alterado. Quando a origem é uma visão
+     * de outro buffer ou de um arquivo mapeado, não há cópia intermediária
+     * no <em>heap</em>.
+     *
+     * @param position Posição inicial da escrita.
+     * @param bytes    Região cujo conteúdo será depositado no buffer.
+     * @throws IndexOutOfBoundsException no caso de não conseguir acessar a
+     *                                   posição no buffer
+     */
+    public void writeByteBuffer(int position, ByteBuffer bytes) {
+        int length = bytes.remaining();
+        ensure(position, length);
+        checkRegion(position, length);
+        ByteBuffer destino = buffer.duplicate();
+        destino.position(position);
+        destino.put(bytes.duplicate());
     }
 
     /**
      * Função responsável por ler um array de bytes do buffer a partir de
      * uma posição inicial e da quantidade de bytes que serão lidos a partir
      * desta posição. Esse array de bytes é então convertido em uma String
-     * após a conversão de cada caractere para UTF-8
+     * após a conversão de cada caractere para UTF-8. Se o armazenamento
+     * reside no <em>heap</em>, a decodificação é realizada diretamente sobre
+     * ele, sem cópia intermediária.
      *
      * @param position Posição do array
      * @param length   Quantidade de bytes que serão lidos a partir da posição
@@ -224,35 +826,140 @@ public class Buffer {
      *                                   posição no buffer
      */
     public String readString(int position, int length) {
-        byte[] byteArray = new byte[length];
-        int j = 0;
-        for (int i = position; i < (position + length); i++) {
-            byteArray[j] = buffer.get(i);
-            j++;
+        checkRegion(position, length);
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + position,
+                    length, StandardCharsets.UTF_8);
         }
-        return getStringFromByteArray(byteArray);
+
+        return getStringFromByteArray(readByteArray(position, length));
     }
 
     /**
      * Função responsável por escrever uma String no buffer a partir de
-     * uma posição inicial e da quantidade de bytes que serão lidos a partir
-     * desta posição. Cada caracter dessa String será primeiramente convertido
-     * em UTF-8.
+     * uma posição inicial. Cada caracter dessa String é codificado em UTF-8
+     * diretamente no buffer, sem vetor intermediário. Sequências formadas
+     * apenas por caracteres ASCII, as mais comuns, são tratadas por um
+     * caminho específico.
+     *
+     * <p>Um <em>surrogate</em> isolado (par incompleto) é codificado como
+     * '?', assim como em {@link String#getBytes(java.nio.charset.Charset)}.
+     * </p>
      *
      * @param position Posição do array
      * @param text     String que será codificada e armazenada
+     * @return Quantidade de bytes empregada pela codificação.
      * @throws IndexOutOfBoundsException no caso de não conseguir acessar a
      *                                   posição no buffer
-     * @throws BufferOverflowException   se não existe espaço suficiente para
-     *                                   armazenar o array de bytes
      */
-    public void writeString(int position, String text) {
-        byte[] b = getUTF8BytesFromString(text);
-        int j = 0;
-        for (int i = position; i < (position + b.length); i++) {
-            writeByte(i, b[j]);
-            j++;
+    public int writeString(int position, String text) {
+        int length = text.length();
+        ensure(position, length);
+        checkRegion(position, length);
+
+        int i = 0;
+        if (buffer.hasArray()) {
+            byte[] destino = buffer.array();
+            int base = buffer.arrayOffset() + position;
+            while (i < length) {
+                char c = text.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                destino[base + i] = (byte) c;
+                i++;
+            }
+        } else {
+            while (i < length) {
+                char c = text.charAt(i);
+                if (c >= 0x80) {
+                    break;
+                }
+                buffer.put(position + i, (byte) c);
+                i++;
+            }
+        }
+
+        if (i == length) {
+            return length;
         }
+
+        int total = i + encodedLength(text, i);
+        ensure(position, total);
+        checkRegion(position, total);
+        encode(position + i, text, i);
+
+        return total;
+    }
+
+    /**
+     * Obtém a quantidade de bytes da codificação UTF-8 da sequência de
+     * caracteres, ou seja, quantos bytes {@link #writeString(int, String)}
+     * emprega para ela. Nenhum objeto é criado.
+     *
+     * @param text Sequência de caracteres.
+     * @return Quantidade de bytes da codificação UTF-8 de {@code text}.
+     */
+    public static int sizeOf(String text) {
+        return encodedLength(text, 0);
+    }
+
+    /**
+     * Codifica em UTF-8, a partir da posição indicada do buffer, os
+     * caracteres de {@code text} a partir de {@code from}.
+     */
+    private void encode(int position, String text, int from) {
+        int p = position;
+        int length = text.length();
+        for (int i = from; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                buffer.put(p++, (byte) c);
+            } else if (c < 0x800) {
+                buffer.put(p++, (byte) (0xC0 | (c >> 6)));
+                buffer.put(p++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, text.charAt(++i));
+                buffer.put(p++, (byte) (0xF0 | (cp >> 18)));
+                buffer.put(p++, (byte) (0x80 | ((cp >> 12) & 0x3F)));
+                buffer.put(p++, (byte) (0x80 | ((cp >> 6) & 0x3F)));
+                buffer.put(p++, (byte) (0x80 | (cp & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put(p++, (byte) '?');
+            } else {
+                buffer.put(p++, (byte) (0xE0 | (c >> 12)));
+                buffer.put(p++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put(p++, (byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Quantidade de bytes necessária para codificar em UTF-8 os caracteres
+     * de {@code text} a partir de {@code from}.
+     */
+    private static int encodedLength(String text, int from) {
+        int total = 0;
+        int length = text.length();
+        for (int i = from; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                total += 1;
+            } else if (c < 0x800) {
+                total += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(text.charAt(i + 1))) {
+                total += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                total += 1;
+            } else {
+                total += 3;
+            }
+        }
+
+        return total;
     }
 
     /**
@@ -282,6 +989,7 @@ public class Buffer {
     public void writeBoolean(int position, boolean b)
             throws IndexOutOfBoundsException,
             ReadOnlyBufferException {
+        ensure(position, PrimitiveTypeSize.BOOLEAN.getSize());
         buffer.put(position, (byte) (b ? 1 : 0));
     }
 
@@ -313,13 +1021,251 @@ public class Buffer {
         return new String(utf8ByteArray, StandardCharsets.UTF_8);
     }
 
+    /**
+     * Obtém visão, apenas para leitura, da região indicada do buffer. O
+     * conteúdo não é copiado: a posição 0 da visão corresponde à posição
+     * {@code position} do buffer.
+     *
+     * <p>Se o buffer for expansível, a visão deixa de refletir escritas
+     * posteriores caso o buffer cresça.</p>
+     *
+     * @param position Posição inicial da região.
+     * @param length   Quantidade de bytes da região.
+     * @return Visão da região, cujo limite é {@code length}.
+     * @throws IndexOutOfBoundsException se a região ultrapassa os limites
+     *                                   do buffer.
+     */
+    public ByteBuffer slice(int position, int length) {
+        checkRegion(position, length);
+        ByteBuffer regiao = buffer.asReadOnlyBuffer();
+        regiao.limit(position + length).position(position);
+        return regiao.slice();
+    }
+
+    /**
+     * Obtém cópia dos bytes da região indicada.
+     *
+     * @param position Posição inicial da região.
+     * @param length   Quantidade de bytes da região.
+     * @return Vetor com exatamente {@code length} bytes.
+     * @throws IndexOutOfBoundsException se a região ultrapassa os limites
+     *                                   do buffer.
+     */
+    public byte[] copyOf(int position, int length) {
+        byte[] copia = new byte[length];
+        slice(position, length).get(copia);
+        return copia;
+    }
+
+    /**
+     * Atribui o valor 0 a todos os bytes da região indicada.
+     *
+     * @param position Posição inicial da região.
+     * @param length   Quantidade de bytes da região.
+     * @throws IndexOutOfBoundsException se a região ultrapassa os limites
+     *                                   do buffer.
+     */
+    public void clear(int position, int length) {
+        checkRegion(position, length);
+        if (buffer.hasArray()) {
+            int base = buffer.arrayOffset() + position;
+            Arrays.fill(buffer.array(), base, base + length, (byte) 0);
+            return;
+        }
+
+        int limite = position + length;
+        int i = position;
+        for (; i <= limite - Long.BYTES; i += Long.BYTES) {
+            buffer.putLong(i, 0L);
+        }
+        for (; i < limite; i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    /**
+     * Atribui o valor 0 a todos os bytes possivelmente escritos, ou seja,
+     * apenas à região inicial que pode conter bytes não nulos, e não à
+     * capacidade inteira do buffer.
+     */
+    void clearWritten() {
+        clear(0, Math.min(dirty, buffer.capacity()));
+        dirty = 0;
+    }
+
+    /**
+     * Escreve no canal os bytes da região indicada, sem cópia
+     * intermediária.
+     *
+     * @param channel  Canal de destino.
+     * @param position Posição inicial da região.
+     * @param length   Quantidade de bytes da região.
+     * @return Quantidade de bytes escrita, ou seja, {@code length}.
+     * @throws IOException               se a escrita no canal falhar.
+     * @throws IndexOutOfBoundsException se a região ultrapassa os limites
+     *                                   do buffer.
+     */
+    public int writeTo(WritableByteChannel channel, int position, int length)
+            throws IOException {
+        ByteBuffer regiao = slice(position, length);
+        while (regiao.hasRemaining()) {
+            channel.write(regiao);
+        }
+
+        return length;
+    }
+
+    /**
+     * Escreve no fluxo os bytes da região indicada. Se o armazenamento
+     * reside no <em>heap</em>, não há cópia intermediária.
+     *
+     * @param out      Fluxo de destino.
+     * @param position Posição inicial da região.
+     * @param length   Quantidade de bytes da região.
+     * @return Quantidade de bytes escrita, ou seja, {@code length}.
+     * @throws IOException               se a escrita no fluxo falhar.
+     * @throws IndexOutOfBoundsException se a região ultrapassa os limites
+     *                                   do buffer.
+     */
+    public int writeTo(OutputStream out, int position, int length)
+            throws IOException {
+        checkRegion(position, length);
+        if (buffer.hasArray()) {
+            out.write(buffer.array(), buffer.arrayOffset() + position, length);
+            return length;
+        }
+
+        ByteBuffer regiao = slice(position, length);
+        byte[] bloco = new byte[Math.min(length, 8192)];
+        while (regiao.hasRemaining()) {
+            int quantidade = Math.min(bloco.length, regiao.remaining());
+            regiao.get(bloco, 0, quantidade);
+            out.write(bloco, 0, quantidade);
+        }
+
+        return length;
+    }
+
+    /**
+     * Verifica se a região indicada está contida no buffer.
+     */
+    private void checkRegion(int position, int length) {
+        if (position < 0 || length < 0
+                || position > buffer.capacity() - length) {
+            throw new IndexOutOfBoundsException("região fora do buffer");
+        }
+    }
+
     /**
      * Função responsável por retornar a representação em array e bytes
-     * do buffer (ByteBuffer)
+     * do buffer (ByteBuffer). Se o armazenamento não é um vetor acessível
+     * no <em>heap</em> (por exemplo, alocação direta ou arquivo mapeado),
+     * uma cópia do conteúdo é retornada.
      *
      * @return byte[] data Array de bytes correspondente ao buffer
      */
     public byte[] data() {
-        return buffer.array();
+        if (buffer.hasArray() && buffer.arrayOffset() == 0
+                && buffer.array().length == buffer.capacity()) {
+            return buffer.array();
+        }
+
+        byte[] copia = new byte[buffer.capacity()];
+        ByteBuffer origem = buffer.duplicate();
+        origem.clear();
+        origem.get(copia);
+        return copia;
+    }
+
+    /**
+     * Buffer que descarta escritas. Como os serializadores retornam a
+     * posição final após a escrita, serializar um objeto a partir da
+     * posição 0 neste buffer fornece o tamanho da serialização.
+     */
+    private static final class SizingBuffer extends Buffer {
+
+        /**
+         * Única instância necessária (não há estado).
+         */
+        private static final SizingBuffer INSTANCE = new SizingBuffer();
+
+        private SizingBuffer() {
+            super(ByteBuffer.allocate(0));
+        }
+
+        @Override
+        boolean discardsWrites() {
+            return true;
+        }
+
+        @Override
+        public void writeByte(int position, byte b) {
+            // Nada é armazenado.
+        }
+
+        @Override
+        public void writeInteger(int position, int valor) {
+            // Nada é armazenado.
+        }
+
+        @Override
+        public void writeDouble(int position, double valor) {
+            // Nada é armazenado.
+        }
+
+        @Override
+        public void writeByteArray(int position, byte[] bytes) {
+            // Nada é armazenado.
+        }
+
+        @Override
+        public void writeByteBuffer(int position, ByteBuffer bytes) {
+            // Nada é armazenado.
+        }
+
+        @Override
+        public int writeString(int position, String text) {
+            return sizeOf(text);
+        }
+
+        @Override
+        public void writeBoolean(int position, boolean b) {
+            // Nada é armazenado.
+        }
+
+        @Override
+        public void clear(int position, int length) {
+            // Nada é armazenado.
+        }
+
+        @Override
+        public byte readByte(int position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int readInteger(int position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public double readDouble(int position) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public byte[] readByteArray(int position, int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String readString(int position, int length) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean readBoolean(int position) {
+            throw new UnsupportedOperationException();
+        }
     }
 }
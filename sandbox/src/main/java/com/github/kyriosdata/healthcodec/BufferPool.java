@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Repositório de instâncias de {@link Buffer} expansíveis que podem ser
+ * reutilizadas, o que evita a alocação (e a coleta) de uma nova área de
+ * memória a cada serialização.
+ *
+ * <p>Os buffers são organizados em classes de tamanho, potências de 2
+ * entre 1 KiB e 16 MiB. Uma requisição é atendida por um buffer da menor
+ * classe capaz de acomodá-la. Um buffer devolvido é depositado na classe
+ * correspondente à sua capacidade corrente (que pode ter crescido durante o
+ * uso). Buffers acima da maior classe não são retidos.</p>
+ *
+ * <p>Buffers no <em>heap</em> ({@link #acquire(int)}) e fora dele
+ * ({@link #acquireDirect(int)}) são mantidos em repositórios distintos, ou
+ * seja, um buffer devolvido é obtido novamente apenas por requisição do
+ * mesmo tipo. A devolução de um buffer já devolvido (e ainda não obtido
+ * novamente) é recusada.</p>
+ *
+ * <p>Instâncias desta classe podem ser compartilhadas entre
+ * <em>threads</em>.</p>
+ */
+public final class BufferPool {
+
+    /**
+     * Logaritmo (base 2) da menor classe de tamanho (1 KiB).
+     */
+    private static final int MIN_SIZE_CLASS = 10;
+
+    /**
+     * Logaritmo (base 2) da maior classe de tamanho (16 MiB).
+     */
+    private static final int MAX_SIZE_CLASS = 24;
+
+    /**
+     * Quantidade máxima de buffers retidos por classe de tamanho quando
+     * não fornecida explicitamente.
+     */
+    private static final int DEFAULT_BUFFERS_PER_CLASS = 16;
+
+    /**
+     * Buffers disponíveis no <em>heap</em>, um repositório para cada classe
+     * de tamanho.
+     */
+    private final List<ArrayBlockingQueue<Buffer>> classes;
+
+    /**
+     * Buffers disponíveis fora do <em>heap</em>, um repositório para cada
+     * classe de tamanho.
+     */
+    private final List<ArrayBlockingQueue<Buffer>> directClasses;
+
+    /**
+     * Buffers retidos nos repositórios (igualdade por identidade, pois
+     * {@link Buffer} não redefine {@code equals}).
+     */
+    private final Set<Buffer> pooled = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Cria repositório que retém até 16 buffers por classe de tamanho.
+     */
+    public BufferPool() {
+        this(DEFAULT_BUFFERS_PER_CLASS);
+    }
+
+    /**
+     * Cria repositório que retém a quantidade indicada de buffers por
+     * classe de tamanho.
+     *
+     * @param buffersPorClasse Quantidade máxima de buffers retidos em cada
+     *                         classe de tamanho.
+     * @throws IllegalArgumentException se a quantidade não for positiva.
+     */
+    public BufferPool(int buffersPorClasse) {
+        if (buffersPorClasse < 1) {
+            throw new IllegalArgumentException("quantidade deve ser positiva");
+        }
+
+        classes = newClasses(buffersPorClasse);
+        directClasses = newClasses(buffersPorClasse);
+    }
+
+    /**
+     * Obtém buffer expansível com capacidade de, pelo menos, a quantidade
+     * de bytes indicada. Se não houver buffer disponível na classe de
+     * tamanho correspondente, um novo é criado.
+     *
+     * @param capacidade Quantidade mínima de bytes desejada.
+     * @return Buffer expansível, cujo conteúdo é indefinido.
+     * @throws IllegalArgumentException se a capacidade for negativa.
+     */
+    public Buffer acquire(int capacidade) {
+        return acquire(capacidade, false);
+    }
+
+    /**
+     * Obtém buffer expansível, cujo armazenamento reside fora do
+     * <em>heap</em>, com capacidade de, pelo menos, a quantidade de bytes
+     * indicada. Se não houver buffer disponível na classe de tamanho
+     * correspondente, um novo é criado.
+     *
+     * @param capacidade Quantidade mínima de bytes desejada.
+     * @return Buffer expansível fora do <em>heap</em>, cujo conteúdo é
+     * indefinido.
+     * @throws IllegalArgumentException se a capacidade for negativa.
+     * @see Buffer#newGrowableDirectInstance(int)
+     */
+    public Buffer acquireDirect(int capacidade) {
+        return acquire(capacidade, true);
+    }
+
+    /**
+     * Devolve o buffer para reutilização. Buffers que não são expansíveis,
+     * menores que a menor classe ou maiores que a maior classe de tamanho,
+     * bem como aqueles excedentes à quantidade retida por classe, são
+     * simplesmente descartados.
+     *
+     * <p>A configuração do buffer (perfil, segmento de conteúdos, tabela de
+     * sequências de caracteres e pool de serialização paralela) é
+     * restaurada para a padrão, pois corresponde ao documento de quem o
+     * devolve. O buffer não deve ser empregado após devolvido.</p>
+     *
+     * @param buffer Buffer a ser devolvido.
+     * @throws IllegalStateException se o buffer já foi devolvido e não foi
+     *                               obtido novamente.
+     */
+    public void release(Buffer buffer) {
+        if (buffer == null || !buffer.isGrowable()) {
+            return;
+        }
+
+        int sizeClass = floorLog2(buffer.capacity());
+        if (sizeClass < MIN_SIZE_CLASS || sizeClass > MAX_SIZE_CLASS) {
+            return;
+        }
+
+        if (!pooled.add(buffer)) {
+            throw new IllegalStateException("buffer já devolvido");
+        }
+
+        buffer.resetSettings();
+        List<ArrayBlockingQueue<Buffer>> repositorios = buffer.isDirect()
+                ? directClasses : classes;
+        if (!repositorios.get(sizeClass - MIN_SIZE_CLASS).offer(buffer)) {
+            pooled.remove(buffer);
+        }
+    }
+
+    private Buffer acquire(int capacidade, boolean direct) {
+        if (capacidade < 0) {
+            throw new IllegalArgumentException("capacidade negativa");
+        }
+
+        int sizeClass = Math.max(MIN_SIZE_CLASS, ceilLog2(capacidade));
+        if (sizeClass > MAX_SIZE_CLASS) {
+            return newBuffer(capacidade, direct);
+        }
+
+        List<ArrayBlockingQueue<Buffer>> repositorios = direct
+                ? directClasses : classes;
+        Buffer disponivel = repositorios.get(sizeClass - MIN_SIZE_CLASS)
+                .poll();
+        if (disponivel == null) {
+            return newBuffer(1 << sizeClass, direct);
+        }
+
+        pooled.remove(disponivel);
+        return disponivel;
+    }
+
+    private static Buffer newBuffer(int capacidade, boolean direct) {
+        return direct
+                ? Buffer.newGrowableDirectInstance(capacidade)
+                : Buffer.newGrowableInstance(capacidade);
+    }
+
+    private static List<ArrayBlockingQueue<Buffer>> newClasses(
+            int buffersPorClasse) {
+        int total = MAX_SIZE_CLASS - MIN_SIZE_CLASS + 1;
+        List<ArrayBlockingQueue<Buffer>> repositorios = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            repositorios.add(new ArrayBlockingQueue<>(buffersPorClasse));
+        }
+
+        return repositorios;
+    }
+
+    /**
+     * Menor expoente {@code k} tal que {@code 2^k >= valor}.
+     */
+    private static int ceilLog2(int valor) {
+        return valor <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(valor - 1);
+    }
+
+    /**
+     * Maior expoente {@code k} tal que {@code 2^k <= valor}.
+     */
+    private static int floorLog2(int valor) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(valor);
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.Composition;
+import com.github.kyriosdata.healthcodec.RMObject.EHR;
+import com.github.kyriosdata.healthcodec.RMObject.HierObjectID;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Repositório local de EHRs e respectivas Compositions, mantido em um
+ * {@link RMObjectContainer}. Os registros são obtidos diretamente do
+ * arquivo mapeado em memória, ou seja, a consulta a um EHR não depende da
+ * leitura dos demais registros do arquivo.
+ *
+ * <p>Cada EHR (identificado por {@link EHR#getEhrID()}) é localizado por
+ * meio de um índice <em>hash</em> mantido em vetores de tipos primitivos,
+ * reconstruído quando o repositório é aberto, o que percorre todos os
+ * registros (tempo proporcional à quantidade de registros). A
+ * serialização mais recente de um EHR substitui as anteriores. O registro
+ * de uma Composition, identificado por {@link RMObjectID#COMPOSITION} e por
+ * uma variante própria deste repositório (e não pela variante do codec,
+ * pois o conteúdo não é apenas a Composition), é precedido pela entrada
+ * do EHR no índice e pelo registro da Composition anterior do mesmo EHR,
+ * o que permite percorrer as Compositions mais recentes de um EHR sem
+ * consultar as demais:</p>
+ *
+ * <pre>
+ * [entrada:int][registro anterior:int][Composition]
+ * </pre>
+ *
+ * <p>Consultas realizadas após acréscimos escrevem no arquivo os registros
+ * acumulados e mapeiam apenas a porção acrescentada do arquivo (ver
+ * {@link RMObjectContainer#reader()}). Instâncias desta classe não podem
+ * ser compartilhadas entre <em>threads</em>.</p>
+ */
+public final class EHRRepository implements Closeable {
+
+    private static final int INT = PrimitiveTypeSize.INT.getSize();
+
+    /**
+     * Posição da Composition no registro, após a entrada do EHR e o
+     * registro da Composition anterior.
+     */
+    private static final int COMPOSITION = 2 * INT;
+
+    /**
+     * Variante (formato próprio) do registro de uma Composition, que o
+     * distingue de um registro cujo conteúdo é apenas a Composition.
+     */
+    private static final int LINKED = -1;
+
+    private static final RMObjectCodec<EHR> EHR_CODEC =
+            RMObjectCodecs.of(EHR.class);
+    private static final RMObjectCodec<Composition> COMPOSITION_CODEC =
+            RMObjectCodecs.of(Composition.class);
+
+    private final RMObjectContainer container;
+
+    private final Buffer scratch = Buffer.newGrowableInstance();
+
+    /**
+     * Tabela de endereçamento aberto: entrada + 1 de cada identificador,
+     * ou 0 para posição livre. A capacidade é sempre potência de 2.
+     */
+    private int[] table = new int[64];
+
+    /**
+     * Entradas do índice: identificador, registro do EHR e registro da
+     * Composition mais recente (-1, se não há).
+     */
+    private String[] ids = new String[32];
+    private int[] ehrs = new int[32];
+    private int[] latest = new int[32];
+    private int size;
+
+    private EHRRepository(RMObjectContainer container) {
+        this.container = container;
+    }
+
+    /**
+     * Abre (ou cria) o repositório mantido no arquivo indicado.
+     *
+     * @param path Arquivo do repositório.
+     * @return Repositório correspondente ao arquivo.
+     * @throws IOException se o arquivo não pode ser lido ou não corresponde
+     *                     a um repositório.
+     */
+    public static EHRRepository open(Path path) throws IOException {
+        RMObjectContainer container = RMObjectContainer.open(path);
+        try {
+            EHRRepository repository = new EHRRepository(container);
+            repository.load();
+            return repository;
+        } catch (IOException | RuntimeException e) {
+            container.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Quantidade de EHRs do repositório.
+     *
+     * @return Quantidade de EHRs distintos.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Verifica se o repositório contém o EHR indicado.
+     *
+     * @param ehrId Identificador do EHR.
+     * @return {@code true} se e somente se o EHR está no repositório.
+     */
+    public boolean contains(HierObjectID ehrId) {
+        return find(key(ehrId)) >= 0;
+    }
+
+    /**
+     * Acrescenta o EHR ao repositório, que substitui qualquer outro de
+     * mesmo identificador. As Compositions do EHR são preservadas.
+     *
+     * @param ehr EHR a ser acrescentado.
+     * @throws IOException se o arquivo excederia 2 GiB ou se os registros
+     *                     acumulados não podem ser escritos.
+     */
+    public void put(EHR ehr) throws IOException {
+        int record = container.append(EHR_CODEC, ehr);
+        int entry = entry(key(ehr.getEhrID()));
+        ehrs[entry] = record;
+    }
+
+    /**
+     * Acrescenta a Composition às Compositions do EHR indicado.
+     *
+     * @param ehrId       Identificador do EHR.
+     * @param composition Composition a ser acrescentada.
+     * @throws IllegalArgumentException se o EHR não está no repositório.
+     * @throws IOException              se o arquivo excederia 2 GiB ou se
+     *                                  os registros acumulados não podem
+     *                                  ser escritos.
+     */
+    public void addComposition(HierObjectID ehrId, Composition composition)
+            throws IOException {
+        int entry = find(key(ehrId));
+        if (entry < 0) {
+            throw new IllegalArgumentException("EHR ausente: " + key(ehrId));
+        }
+
+        scratch.writeInteger(0, entry);
+        scratch.writeInteger(INT, latest[entry]);
+        int end = COMPOSITION_CODEC.serialize(scratch, COMPOSITION,
+                composition);
+        ByteBuffer payload = scratch.slice(0, end);
+        latest[entry] = container.append(RMObjectID.COMPOSITION, LINKED,
+                payload);
+    }
+
+    /**
+     * Obtém o EHR indicado.
+     *
+     * @param ehrId Identificador do EHR.
+     * @return EHR deserializado ou {@code null}, se ausente.
+     * @throws IOException se o arquivo não pode ser mapeado.
+     */
+    public EHR getEHR(HierObjectID ehrId) throws IOException {
+        int entry = find(key(ehrId));
+        if (entry < 0) {
+            return null;
+        }
+
+        Buffer buffer = container.reader().buffer(ehrs[entry]);
+        return EHR_CODEC.deserialize(buffer, 0);
+    }
+
+    /**
+     * Obtém visão do EHR indicado, sem deserializá-lo.
+     *
+     * @param ehrId Identificador do EHR.
+     * @return Visão do EHR ou {@code null}, se ausente.
+     * @throws IOException se o arquivo não pode ser mapeado.
+     */
+    public RMObjectView.EHRView viewEHR(HierObjectID ehrId)
+            throws IOException {
+        int entry = find(key(ehrId));
+        if (entry < 0) {
+            return null;
+        }
+
+        return RMObjectView.ehr(container.reader().buffer(ehrs[entry]), 0);
+    }
+
+    /**
+     * Obtém as Compositions mais recentes do EHR indicado. Apenas os
+     * registros das Compositions obtidas são consultados.
+     *
+     * @param ehrId Identificador do EHR.
+     * @param limit Maior quantidade de Compositions.
+     * @return Compositions, da mais recente para a mais antiga, ou lista
+     * vazia, se o EHR está ausente.
+     * @throws IllegalArgumentException se o limite é negativo.
+     * @throws IOException              se o arquivo não pode ser mapeado.
+     */
+    public List<Composition> getLatestCompositions(HierObjectID ehrId,
+                                                   int limit)
+            throws IOException {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limite negativo");
+        }
+
+        List<Composition> compositions = new ArrayList<>();
+        int entry = find(key(ehrId));
+        if (entry < 0) {
+            return compositions;
+        }
+
+        RMObjectContainer.Reader r = container.reader();
+        int record = latest[entry];
+        while (record >= 0 && compositions.size() < limit) {
+            Buffer buffer = r.buffer(record);
+            compositions.add(COMPOSITION_CODEC.deserialize(buffer,
+                    COMPOSITION));
+            record = buffer.readInteger(INT);
+        }
+
+        return compositions;
+    }
+
+    /**
+     * Escreve no arquivo os registros acumulados e assegura que estão
+     * gravados no dispositivo.
+     *
+     * @throws IOException se a escrita falhar.
+     */
+    public void flush() throws IOException {
+        container.flush();
+    }
+
+    /**
+     * Fecha o arquivo do repositório.
+     *
+     * @throws IOException se a escrita falhar.
+     */
+    @Override
+    public void close() throws IOException {
+        container.close();
+    }
+
+    /**
+     * Reconstrói o índice a partir dos registros do repositório.
+     */
+    private void load() throws IOException {
+        RMObjectContainer.Reader r = container.reader();
+        for (int record = 0; record < r.count(); record++) {
+            RMObjectID id = r.id(record);
+            Buffer buffer = r.buffer(record);
+            if (id == RMObjectID.EHR) {
+                int entry = entry(key(RMObjectView.ehr(buffer, 0).ehrID()));
+                ehrs[entry] = record;
+            } else if (id == RMObjectID.COMPOSITION
+                    && r.variant(record) == LINKED) {
+                int entry = buffer.readInteger(0);
+                if (entry < 0 || entry >= size) {
+                    throw new IOException("registro " + record
+                            + " não pertence ao repositório");
+                }
+
+                latest[entry] = record;
+            } else {
+                throw new IOException("registro " + record + " de " + id);
+            }
+        }
+    }
+
+    private static String key(HierObjectID ehrId) {
+        return ehrId.getUIDBasedID().getValue();
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Entrada do identificador no índice.
+     *
+     * @return Entrada ou -1, se ausente.
+     */
+    private int find(String key) {
+        int mask = table.length - 1;
+        for (int i = hash(key) & mask; table[i] != 0; i = (i + 1) & mask) {
+            if (ids[table[i] - 1].equals(key)) {
+                return table[i] - 1;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Entrada do identificador no índice, criada se ausente.
+     */
+    private int entry(String key) {
+        int found = find(key);
+        if (found >= 0) {
+            return found;
+        }
+
+        if (size == ids.length) {
+            int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            ehrs = Arrays.copyOf(ehrs, capacity);
+            latest = Arrays.copyOf(latest, capacity);
+        }
+
+        ids[size] = key;
+        latest[size] = -1;
+        if (2 * (size + 1) > table.length) {
+            table = new int[table.length * 2];
+            for (int i = 0; i < size; i++) {
+                insert(i);
+            }
+        }
+
+        insert(size);
+        return size++;
+    }
+
+    private void insert(int entry) {
+        int mask = table.length - 1;
+        int i = hash(ids[entry]) & mask;
+        while (table[i] != 0) {
+            i = (i + 1) & mask;
+        }
+
+        table[i] = entry + 1;
+    }
+}
@@ -14,26 +14,142 @@
 */
 package com.github.kyriosdata.healthcodec;
 
-import java.util.HashMap;
+import java.util.Arrays;
 
 /**
+ * Índice das posições, no buffer, dos objetos serializados. As posições
+ * são mantidas por tipo ({@link RMObjectID}) e, para cada tipo, na ordem
+ * em que foram registradas. Nenhum objeto é criado para registro ou
+ * consulta, exceto quando a capacidade reservada para um tipo é esgotada.
  *
  * @author Gabriel
  */
 public class Index {
-    private final HashMap<String, Integer> positions = new HashMap<>();
+
+    /**
+     * Quantidade de posições inicialmente reservada para cada tipo.
+     */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * Posição, nos vetores, dos registros de segmentos de vários objetos
+     * ({@link RMObjectBatch}), após as posições dos tipos.
+     */
+    private static final int BATCHES = RMObjectID.values().length;
+
+    /**
+     * Posições registradas, indexadas pela ordem do identificador do tipo
+     * na enumeração ({@link RMObjectID#ordinal()}), que independe do valor
+     * do identificador, e pela ordem da instância.
+     */
+    private final int[][] positions;
+
+    /**
+     * Quantidade de posições registradas por tipo.
+     */
+    private final int[] counts;
+
     Index() {
+        positions = new int[BATCHES + 1][];
+        counts = new int[BATCHES + 1];
+    }
+
+    /**
+     * Registra a posição de uma nova instância do tipo indicado.
+     *
+     * @param id Identificador do tipo.
+     * @param position Posição inicial da instância no buffer.
+     * @return Ordem da instância registrada, a partir de 0.
+     */
+    public int add(RMObjectID id, int position) {
+        return add(id.ordinal(), position);
+    }
+
+    /**
+     * Registra a posição de um novo segmento de vários objetos
+     * ({@link RMObjectBatch}). Os segmentos são mantidos à parte das
+     * instâncias de cada tipo.
+     *
+     * @param position Posição inicial do segmento no buffer.
+     * @return Ordem do segmento registrado, a partir de 0.
+     */
+    public int addBatch(int position) {
+        return add(BATCHES, position);
+    }
+
+    /**
+     * Quantidade de instâncias registradas do tipo indicado.
+     *
+     * @param id Identificador do tipo.
+     * @return Quantidade de instâncias do tipo.
+     */
+    public int count(RMObjectID id) {
+        return counts[id.ordinal()];
     }
-    
-    public void setItemPosition(String key, int position){
-        positions.put(key, position);
+
+    /**
+     * Quantidade de segmentos de vários objetos registrados.
+     *
+     * @return Quantidade de segmentos.
+     */
+    public int batches() {
+        return counts[BATCHES];
+    }
+
+    /**
+     * Obtém a posição registrada para uma instância do tipo indicado.
+     *
+     * @param id Identificador do tipo.
+     * @param instance Ordem da instância, de 0 a {@code count(id) - 1}.
+     * @return Posição inicial da instância no buffer.
+     * @throws IndexOutOfBoundsException se não existe a instância.
+     */
+    public int position(RMObjectID id, int instance) {
+        return position(id.ordinal(), instance, id.name());
     }
-    
-    public int getItemPosition(String key){
-        return positions.get(key);
+
+    /**
+     * Obtém a posição registrada para um segmento de vários objetos.
+     *
+     * @param instance Ordem do segmento, de 0 a {@code batches() - 1}.
+     * @return Posição inicial do segmento no buffer.
+     * @throws IndexOutOfBoundsException se não existe o segmento.
+     */
+    public int batch(int instance) {
+        return position(BATCHES, instance, "segmento");
     }
-    
-    public static String createKey(String key, int order){
-        return key + order;
+
+    private int add(int type, int position) {
+        int instance = counts[type];
+        int[] registered = positions[type];
+        if (registered == null) {
+            registered = new int[INITIAL_CAPACITY];
+            positions[type] = registered;
+        } else if (instance == registered.length) {
+            registered = Arrays.copyOf(registered, instance * 2);
+            positions[type] = registered;
+        }
+
+        registered[instance] = position;
+        counts[type] = instance + 1;
+        return instance;
+    }
+
+    private int position(int type, int instance, String name) {
+        if (instance < 0 || instance >= counts[type]) {
+            throw new IndexOutOfBoundsException(
+                    name + ": instância " + instance
+                            + " de " + counts[type]);
+        }
+
+        return positions[type][instance];
+    }
+
+    /**
+     * Remove todos os registros. A memória reservada é mantida para
+     * reutilização do índice.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
     }
 }
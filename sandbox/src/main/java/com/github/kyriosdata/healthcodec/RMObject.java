@@ -14,6 +14,7 @@
  */
 package com.github.kyriosdata.healthcodec;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -648,6 +649,18 @@ public class RMObject {
         private final DVURI uri;
         private final byte[] data;
 
+        /**
+         * Visão (somente leitura) dos dados, quando estes não são mantidos
+         * em vetor próprio.
+         */
+        private final ByteBuffer dataView;
+
+        /**
+         * Referência aos dados mantidos em segmento de conteúdos, quando
+         * estes não são mantidos em vetor próprio nem em visão.
+         */
+        private final BlobSegment.Reference blob;
+
         protected DvMultimedia(
                 DvEncapsulated dvEncapsulated,
                 String alternateText,
@@ -658,6 +671,64 @@ public class RMObject {
                 DvMultimedia thumbnail,
                 DVURI uri,
                 byte[] data) {
+            this(dvEncapsulated, alternateText, mediaType,
+                    compressionAlgorithm, integrityCheck,
+                    integrityCheckAlgorithm, thumbnail, uri, data, null,
+                    null);
+        }
+
+        /**
+         * Cria instância cujos dados não são copiados, mas mantidos como
+         * visão somente leitura da região fornecida (por exemplo, região de
+         * um {@link Buffer} ou de um arquivo mapeado em memória).
+         */
+        protected DvMultimedia(
+                DvEncapsulated dvEncapsulated,
+                String alternateText,
+                CodePhrase mediaType,
+                CodePhrase compressionAlgorithm,
+                byte[] integrityCheck,
+                CodePhrase integrityCheckAlgorithm,
+                DvMultimedia thumbnail,
+                DVURI uri,
+                ByteBuffer data) {
+            this(dvEncapsulated, alternateText, mediaType,
+                    compressionAlgorithm, integrityCheck,
+                    integrityCheckAlgorithm, thumbnail, uri, null,
+                    data == null ? null : data.asReadOnlyBuffer(), null);
+        }
+
+        /**
+         * Cria instância cujos dados são mantidos em segmento de conteúdos
+         * e obtidos apenas quando requisitados.
+         */
+        protected DvMultimedia(
+                DvEncapsulated dvEncapsulated,
+                String alternateText,
+                CodePhrase mediaType,
+                CodePhrase compressionAlgorithm,
+                byte[] integrityCheck,
+                CodePhrase integrityCheckAlgorithm,
+                DvMultimedia thumbnail,
+                DVURI uri,
+                BlobSegment.Reference data) {
+            this(dvEncapsulated, alternateText, mediaType,
+                    compressionAlgorithm, integrityCheck,
+                    integrityCheckAlgorithm, thumbnail, uri, null, null, data);
+        }
+
+        private DvMultimedia(
+                DvEncapsulated dvEncapsulated,
+                String alternateText,
+                CodePhrase mediaType,
+                CodePhrase compressionAlgorithm,
+                byte[] integrityCheck,
+                CodePhrase integrityCheckAlgorithm,
+                DvMultimedia thumbnail,
+                DVURI uri,
+                byte[] data,
+                ByteBuffer dataView,
+                BlobSegment.Reference blob) {
             if (mediaType == null) {
                 throw new IllegalArgumentException("null mediaType");
             }
@@ -669,7 +740,8 @@ public class RMObject {
                 throw new IllegalArgumentException(
                         "null integrity check algorithm");
             }
-            if (uri == null && data == null) {
+            if (uri == null && data == null && dataView == null
+                    && blob == null) {
                 throw new IllegalArgumentException("null uri e null data");
             }
             this.dvEncapsulated = dvEncapsulated;
@@ -681,6 +753,8 @@ public class RMObject {
             this.thumbnail = thumbnail;
             this.uri = uri;
             this.data = data;
+            this.dataView = dataView;
+            this.blob = blob;
         }
 
         public DvEncapsulated getDvEncapsulated() {
@@ -715,8 +789,70 @@ public class RMObject {
             return uri;
         }
 
+        /**
+         * Obtém os dados. Se a instância mantém apenas a visão dos dados,
+         * ou a referência a eles, uma cópia é criada a cada chamada (ver
+         * {@link #getDataBuffer()}).
+         *
+         * @return Dados ou {@code null}, se não fornecidos.
+         * @throws IllegalStateException se os dados são mantidos em segmento
+         *                               de conteúdos não disponível.
+         */
         public byte[] getData() {
-            return data;
+            if (data != null || (dataView == null && blob == null)) {
+                return data;
+            }
+
+            ByteBuffer origem = getDataBuffer();
+            byte[] copia = new byte[origem.remaining()];
+            origem.get(copia);
+            return copia;
+        }
+
+        /**
+         * Obtém visão somente leitura dos dados, sem cópia. A posição e o
+         * limite da visão retornada podem ser alterados livremente.
+         *
+         * @return Visão dos dados ou {@code null}, se não fornecidos.
+         */
+        public ByteBuffer getDataBuffer() {
+            if (dataView != null) {
+                return dataView.duplicate();
+            }
+
+            if (blob != null) {
+                return blob.data();
+            }
+
+            return data == null ? null : ByteBuffer.wrap(data).asReadOnlyBuffer();
+        }
+
+        /**
+         * Obtém a quantidade de bytes dos dados.
+         *
+         * @return Tamanho dos dados ou 0, se não fornecidos.
+         */
+        public int getDataLength() {
+            if (dataView != null) {
+                return dataView.remaining();
+            }
+
+            if (blob != null) {
+                return blob.getLength();
+            }
+
+            return data == null ? 0 : data.length;
+        }
+
+        /**
+         * Referência aos dados quando mantidos em segmento de conteúdos.
+         *
+         * @return Referência ou {@code null}, se os dados não são mantidos
+         * em segmento de conteúdos.
+         * @see BlobSegment
+         */
+        public BlobSegment.Reference getBlobReference() {
+            return blob;
         }
     }
 
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Segmento que reúne a serialização de vários objetos de um mesmo tipo,
+ * por exemplo, uma série de Observation. O segmento é formado pelo
+ * identificador do tipo, pela variante do tipo, pela quantidade de
+ * objetos, pela posição de cada um deles e, por fim, pelas serializações
+ * dos objetos, uma após a outra:
+ *
+ * <pre>
+ * [id:int][variante:int][n:int][posição:int × n][objeto 0]...[objeto n - 1]
+ * </pre>
+ *
+ * <p>A variante é o código estável da variante do tipo
+ * ({@link RMObjectCodec#variant()}), o que distingue, por exemplo, as
+ * variantes de Observation. A deserialização exige o codec empregado na
+ * serialização.</p>
+ *
+ * <p>A posição de cada objeto permite deserializá-lo independentemente dos
+ * demais, ou seja, o segmento pode ser percorrido sem que todos os objetos
+ * sejam deserializados (ver {@link #iterate(Buffer, int, RMObjectCodec)}).
+ * </p>
+ */
+public final class RMObjectBatch {
+
+    private static final int INT = PrimitiveTypeSize.INT.getSize();
+
+    /**
+     * Tamanho do cabeçalho: identificador, variante e quantidade.
+     */
+    private static final int HEADER = 3 * INT;
+
+    private RMObjectBatch() {
+        // Apenas funções.
+    }
+
+    /**
+     * Serializa os valores em um único segmento.
+     *
+     * @param buffer Buffer no qual o segmento é depositado.
+     * @param offset Posição inicial do segmento.
+     * @param codec  Codec do tipo dos valores.
+     * @param values Valores a serem serializados, na ordem da iteração.
+     * @param <T>    Tipo dos valores.
+     * @return Posição seguinte ao último byte do segmento.
+     */
+    public static <T> int serialize(Buffer buffer, int offset,
+                                    RMObjectCodec<T> codec,
+                                    Collection<? extends T> values) {
+        int count = values.size();
+        buffer.writeInteger(offset, codec.id().getValue());
+        buffer.writeInteger(offset + INT, codec.variant());
+        buffer.writeInteger(offset + 2 * INT, count);
+
+        int header = offset + HEADER;
+        int position = header + count * INT;
+        for (T value : values) {
+            buffer.writeInteger(header, position);
+            header += INT;
+            position = codec.serialize(buffer, position, value);
+        }
+
+        return position;
+    }
+
+    /**
+     * Quantidade de objetos do segmento.
+     *
+     * @param buffer Buffer que contém o segmento.
+     * @param offset Posição inicial do segmento.
+     * @return Quantidade de objetos.
+     */
+    public static int count(Buffer buffer, int offset) {
+        return buffer.readInteger(offset + 2 * INT);
+    }
+
+    /**
+     * Deserializa o objeto indicado do segmento, sem que os demais sejam
+     * deserializados.
+     *
+     * @param buffer Buffer que contém o segmento.
+     * @param offset Posição inicial do segmento.
+     * @param codec  Codec do tipo dos objetos.
+     * @param index  Ordem do objeto, a partir de 0.
+     * @param <T>    Tipo dos objetos.
+     * @return Objeto deserializado.
+     * @throws IllegalArgumentException  se o segmento não contém objetos do
+     *                                   tipo (e variante) do codec.
+     * @throws IndexOutOfBoundsException se não existe o objeto.
+     */
+    public static <T> T get(Buffer buffer, int offset, RMObjectCodec<T> codec,
+                            int index) {
+        int count = check(buffer, offset, codec);
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(
+                    "objeto " + index + " de " + count);
+        }
+
+        return element(buffer, offset, codec, index);
+    }
+
+    /**
+     * Deserializa todos os objetos do segmento.
+     *
+     * @param buffer Buffer que contém o segmento.
+     * @param offset Posição inicial do segmento.
+     * @param codec  Codec do tipo dos objetos.
+     * @param <T>    Tipo dos objetos.
+     * @return Objetos deserializados, na ordem em que foram serializados.
+     * @throws IllegalArgumentException se o segmento não contém objetos do
+     *                                  tipo (e variante) do codec.
+     */
+    public static <T> List<T> deserialize(Buffer buffer, int offset,
+                                          RMObjectCodec<T> codec) {
+        int count = check(buffer, offset, codec);
+        List<T> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(element(buffer, offset, codec, i));
+        }
+
+        return values;
+    }
+
+    /**
+     * Percorre os objetos do segmento. Cada objeto é deserializado apenas
+     * quando alcançado pela iteração.
+     *
+     * @param buffer Buffer que contém o segmento.
+     * @param offset Posição inicial do segmento.
+     * @param codec  Codec do tipo dos objetos.
+     * @param <T>    Tipo dos objetos.
+     * @return Objetos do segmento, na ordem em que foram serializados.
+     * @throws IllegalArgumentException se o segmento não contém objetos do
+     *                                  tipo (e variante) do codec.
+     */
+    public static <T> Iterable<T> iterate(Buffer buffer, int offset,
+                                          RMObjectCodec<T> codec) {
+        int count = check(buffer, offset, codec);
+        return () -> new Iterator<T>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public T next() {
+                if (next >= count) {
+                    throw new NoSuchElementException();
+                }
+
+                return element(buffer, offset, codec, next++);
+            }
+        };
+    }
+
+    /**
+     * Verifica se o segmento contém objetos do tipo do codec.
+     *
+     * @return Quantidade de objetos do segmento.
+     */
+    private static int check(Buffer buffer, int offset, RMObjectCodec<?> codec) {
+        int id = buffer.readInteger(offset);
+        if (id != codec.id().getValue()) {
+            throw new IllegalArgumentException("segmento de "
+                    + RMObjectID.fromValue(id) + ", não de " + codec.id());
+        }
+
+        int variant = buffer.readInteger(offset + INT);
+        if (variant != codec.variant()) {
+            throw new IllegalArgumentException("segmento da variante "
+                    + variant + " de " + codec.id() + ", não de "
+                    + codec.type().getSimpleName());
+        }
+
+        return count(buffer, offset);
+    }
+
+    private static <T> T element(Buffer buffer, int offset,
+                                 RMObjectCodec<T> codec, int index) {
+        int position = buffer.readInteger(offset + HEADER + index * INT);
+        return codec.deserialize(buffer, position);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+/**
+ * Serialização e deserialização de um tipo do modelo de referência em
+ * posição arbitrária de um {@link Buffer}. Implementações não possuem
+ * estado e podem ser compartilhadas entre <em>threads</em>.
+ *
+ * @param <T> Tipo do modelo de referência.
+ * @see RMObjectCodecs
+ */
+public interface RMObjectCodec<T> {
+
+    /**
+     * Identificador do tipo. Variantes de um mesmo tipo (por exemplo, as
+     * de Observation) compartilham o identificador.
+     *
+     * @return Identificador do tipo.
+     */
+    RMObjectID id();
+
+    /**
+     * Código da variante do tipo, que distingue, por exemplo, as variantes
+     * de Observation. O código é definido explicitamente para cada codec
+     * (0 para tipos sem variantes) e não depende da ordem de registro, ou
+     * seja, pode ser registrado em serializações.
+     *
+     * @return Código da variante.
+     */
+    int variant();
+
+    /**
+     * Classe do tipo.
+     *
+     * @return Classe cujas instâncias são (de)serializadas.
+     */
+    Class<T> type();
+
+    /**
+     * Serializa o valor a partir da posição indicada.
+     *
+     * @param buffer Buffer no qual a serialização é depositada.
+     * @param offset Posição inicial da serialização.
+     * @param value  Valor a ser serializado.
+     * @return Posição seguinte ao último byte da serialização.
+     */
+    int serialize(Buffer buffer, int offset, T value);
+
+    /**
+     * Deserializa o valor cuja serialização tem início na posição indicada.
+     *
+     * @param buffer Buffer que contém a serialização.
+     * @param offset Posição inicial da serialização.
+     * @return Valor deserializado.
+     */
+    T deserialize(Buffer buffer, int offset);
+
+    /**
+     * Tamanho, em bytes, da serialização do valor, obtido pelo próprio
+     * serializador sobre um buffer que descarta as escritas. O tamanho não
+     * depende da posição inicial da serialização.
+     *
+     * @param value Valor cuja serialização é considerada.
+     * @return Quantidade de bytes produzida pela serialização.
+     */
+    default int sizeOf(T value) {
+        return serialize(Buffer.newSizingInstance(), 0, value);
+    }
+}
@@ -0,0 +1,604 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.*;
+import com.github.kyriosdata.healthcodec.RMObjectSerialization.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registro dos {@link RMObjectCodec} de todos os tipos do modelo de
+ * referência, que podem ser obtidos pela classe ou pelo identificador
+ * ({@link RMObjectID}) do tipo. Os codecs empregam as instâncias únicas
+ * dos serializadores de {@link RMObjectSerialization} e, portanto, nenhum
+ * objeto é criado pela (de)serialização além daqueles deserializados.
+ */
+public final class RMObjectCodecs {
+
+    /**
+     * Serialização de um valor (ver {@link RMObjectCodec#serialize}).
+     */
+    private interface Writer<T> {
+        int serialize(Buffer buffer, int offset, T value);
+    }
+
+    /**
+     * Deserialização de um valor (ver {@link RMObjectCodec#deserialize}).
+     */
+    private interface Reader<T> {
+        T deserialize(Buffer buffer, int offset);
+    }
+
+    /**
+     * Codec definido pelas funções de serialização e deserialização.
+     */
+    private static final class Codec<T> implements RMObjectCodec<T> {
+        private final Class<T> type;
+        private final RMObjectID id;
+        private final int variant;
+        private final Writer<T> writer;
+        private final Reader<T> reader;
+
+        private Codec(Class<T> type, RMObjectID id, int variant,
+                      Writer<T> writer, Reader<T> reader) {
+            this.type = type;
+            this.id = id;
+            this.variant = variant;
+            this.writer = writer;
+            this.reader = reader;
+        }
+
+        @Override
+        public RMObjectID id() {
+            return id;
+        }
+
+        @Override
+        public int variant() {
+            return variant;
+        }
+
+        @Override
+        public Class<T> type() {
+            return type;
+        }
+
+        @Override
+        public int serialize(Buffer buffer, int offset, T value) {
+            return writer.serialize(buffer, offset, value);
+        }
+
+        @Override
+        public T deserialize(Buffer buffer, int offset) {
+            return reader.deserialize(buffer, offset);
+        }
+
+        @Override
+        public String toString() {
+            return id.name() + "(" + type.getSimpleName() + ")";
+        }
+    }
+
+    /**
+     * Codecs indexados pela classe do tipo.
+     */
+    private static final Map<Class<?>, RMObjectCodec<?>> BY_TYPE =
+            new HashMap<>();
+
+    /**
+     * Codecs indexados pelo identificador do tipo.
+     */
+    private static final Map<RMObjectID, List<RMObjectCodec<?>>> BY_ID =
+            new EnumMap<>(RMObjectID.class);
+
+    static {
+        register(DvBoolean.class, RMObjectID.DVBOOLEAN,
+                (b, o, v) -> DvBooleanSerializer.INSTANCE.serialize(b, o, v),
+                DvBooleanSerializer.INSTANCE::deserialize);
+        register(DvIdentifier.class, RMObjectID.DVIDENTIFIER,
+                (b, o, v) -> DvIdentifierSerializer.INSTANCE.serialize(b, o, v),
+                DvIdentifierSerializer.INSTANCE::deserialize);
+        register(UID.class, RMObjectID.UID,
+                (b, o, v) -> UIDSerializer.INSTANCE.serialize(b, o, v),
+                UIDSerializer.INSTANCE::deserialize);
+        register(InternetID.class, RMObjectID.INTERNETID,
+                (b, o, v) -> InternetIDSerializer.INSTANCE.serialize(b, o, v),
+                InternetIDSerializer.INSTANCE::deserialize);
+        register(ISO_OID.class, RMObjectID.ISO_OID,
+                (b, o, v) -> ISOOIDSerialilzer.INSTANCE.serialize(b, o, v),
+                ISOOIDSerialilzer.INSTANCE::deserialize);
+        register(UUID.class, RMObjectID.UUID,
+                (b, o, v) -> UUIDSerializer.INSTANCE.serialize(b, o, v),
+                UUIDSerializer.INSTANCE::deserialize);
+        register(TerminologyID.class, RMObjectID.TERMINOLOGYID,
+                (b, o, v) -> TerminologyIDSerializer.INSTANCE.serialize(b, o, v),
+                TerminologyIDSerializer.INSTANCE::deserialize);
+        register(GenericID.class, RMObjectID.GENERICID,
+                (b, o, v) -> GenericIDSerializer.INSTANCE.serialize(b, o, v),
+                GenericIDSerializer.INSTANCE::deserialize);
+        register(TemplateID.class, RMObjectID.TEMPLATEID,
+                (b, o, v) -> TemplateIDSerializer.INSTANCE.serialize(b, o, v),
+                TemplateIDSerializer.INSTANCE::deserialize);
+        register(CodePhrase.class, RMObjectID.CODEPHRASE,
+                (b, o, v) -> CodePhraseSerializer.INSTANCE.serialize(b, o, v),
+                CodePhraseSerializer.INSTANCE::deserialize);
+        register(DVURI.class, RMObjectID.DVURI,
+                (b, o, v) -> DVURISerializer.INSTANCE.serialize(b, o, v),
+                DVURISerializer.INSTANCE::deserialize);
+        register(DvEHRURI.class, RMObjectID.DvEHRURI,
+                (b, o, v) -> DvEHRURISerializer.INSTANCE.serialize(b, o, v),
+                DvEHRURISerializer.INSTANCE::deserialize);
+        register(VersionTreeID.class, RMObjectID.VERSIONTREEID,
+                (b, o, v) -> VersionTreeIDSerializer.INSTANCE.serialize(b, o, v),
+                VersionTreeIDSerializer.INSTANCE::deserialize);
+        register(ArchetypeID.class, RMObjectID.ARCHETYPEID,
+                (b, o, v) -> ArchetypeIDSerializer.INSTANCE.serialize(b, o, v),
+                ArchetypeIDSerializer.INSTANCE::deserialize);
+        register(ObjectVersionID.class, RMObjectID.OBJECTVERSIONID,
+                (b, o, v) -> ObjectVersionIDSerializer.INSTANCE.serialize(b, o, v),
+                ObjectVersionIDSerializer.INSTANCE::deserialize);
+        register(HierObjectID.class, RMObjectID.HIEROBJECTID,
+                (b, o, v) -> HierObjectIDSerializer.INSTANCE.serialize(b, o, v),
+                HierObjectIDSerializer.INSTANCE::deserialize);
+        register(ObjectID.class, RMObjectID.OBJECTID,
+                (b, o, v) -> ObjectIDSerializer.INSTANCE.serialize(b, o, v),
+                ObjectIDSerializer.INSTANCE::deserialize);
+        register(PartyRef.class, RMObjectID.PARTYREF,
+                (b, o, v) -> PartyRefSerializer.INSTANCE.serialize(b, o, v),
+                PartyRefSerializer.INSTANCE::deserialize);
+        register(ObjectRef.class, RMObjectID.OBJECTREF,
+                (b, o, v) -> ObjectRefSerializer.INSTANCE.serialize(b, o, v),
+                ObjectRefSerializer.INSTANCE::deserialize);
+        register(LocatableRef.class, RMObjectID.LOCATABLEREF,
+                (b, o, v) -> LocatableRefSerializer.INSTANCE.serialize(b, o, v),
+                LocatableRefSerializer.INSTANCE::deserialize);
+        register(ProportionKind.class, RMObjectID.PROPORTIONKIND,
+                (b, o, v) -> ProportionKindSerializer.INSTANCE.serialize(b, o, v),
+                ProportionKindSerializer.INSTANCE::deserialize);
+        register(AccessGroupRef.class, RMObjectID.ACCESSGROUPREF,
+                (b, o, v) -> AccessGroupRefSerializer.INSTANCE.serialize(b, o, v),
+                AccessGroupRefSerializer.INSTANCE::deserialize);
+        register(PartyIdentified.class, RMObjectID.PARTYIDENTIFIED,
+                (b, o, v) -> PartyIdentifiedSerializer.INSTANCE.serialize(b, o, v),
+                PartyIdentifiedSerializer.INSTANCE::deserialize);
+        register(Archetyped.class, RMObjectID.ARCHETYPED,
+                (b, o, v) -> ArchetypedSerializer.INSTANCE.serialize(b, o, v),
+                ArchetypedSerializer.INSTANCE::deserialize);
+        register(DvEncapsulated.class, RMObjectID.DVENCAPSULATED,
+                (b, o, v) -> DvEncapsulatedSerializer.INSTANCE.serialize(b, o, v),
+                DvEncapsulatedSerializer.INSTANCE::deserialize);
+        register(UIDBasedID.class, RMObjectID.UIDBASEDID,
+                (b, o, v) -> UIDBasedIDSerializer.INSTANCE.serialize(b, o, v),
+                UIDBasedIDSerializer.INSTANCE::deserialize);
+        register(DvParsable.class, RMObjectID.DVPARSABLE,
+                (b, o, v) -> DvParsableSerializer.INSTANCE.serialize(b, o, v),
+                DvParsableSerializer.INSTANCE::deserialize);
+        register(DvTimeSpecification.class, RMObjectID.DVTIMESPECIFICATION,
+                (b, o, v) -> DvTimeSpecificationSerializer.INSTANCE.serialize(b, o, v),
+                DvTimeSpecificationSerializer.INSTANCE::deserialize);
+        register(DvMultimedia.class, RMObjectID.DVMULTIMEDIA,
+                (b, o, v) -> DvMultimediaSerializer.INSTANCE.serialize(b, o, v),
+                DvMultimediaSerializer.INSTANCE::deserialize);
+        register(DvText.class, RMObjectID.DVTEXT,
+                (b, o, v) -> DvTextSerializer.INSTANCE.serialize(b, o, v),
+                DvTextSerializer.INSTANCE::deserialize);
+        register(DvCodedText.class, RMObjectID.DVCODEDTEXT,
+                (b, o, v) -> DvCodedTextSerializer.INSTANCE.serialize(b, o, v),
+                DvCodedTextSerializer.INSTANCE::deserialize);
+        register(TermMapping.class, RMObjectID.TERMMAPPING,
+                (b, o, v) -> TermMappingSerializer.INSTANCE.serialize(b, o, v),
+                TermMappingSerializer.INSTANCE::deserialize);
+        register(Link.class, RMObjectID.LINK,
+                (b, o, v) -> LinkSerializer.INSTANCE.serialize(b, o, v),
+                LinkSerializer.INSTANCE::deserialize);
+        register(DvState.class, RMObjectID.DVSTATE,
+                (b, o, v) -> DvStateSerializer.INSTANCE.serialize(b, o, v),
+                DvStateSerializer.INSTANCE::deserialize);
+        register(DvParagraph.class, RMObjectID.DVPARAGRAPH,
+                (b, o, v) -> DvParagraphSerializer.INSTANCE.serialize(b, o, v),
+                DvParagraphSerializer.INSTANCE::deserialize);
+        register(PartyProxy.class, RMObjectID.PARTYPROXY,
+                (b, o, v) -> PartyProxySerializer.INSTANCE.serialize(b, o, v),
+                PartyProxySerializer.INSTANCE::deserialize);
+        register(FeederAuditDetails.class, RMObjectID.FEEDERAUDITDETAILS,
+                (b, o, v) -> FeederAuditDetailsSerializer.INSTANCE.serialize(b, o, v),
+                FeederAuditDetailsSerializer.INSTANCE::deserialize);
+        register(FeederAudit.class, RMObjectID.FEEDERAUDIT,
+                (b, o, v) -> FeederAuditSerializer.INSTANCE.serialize(b, o, v),
+                FeederAuditSerializer.INSTANCE::deserialize);
+        register(Locatable.class, RMObjectID.LOCATABLE,
+                (b, o, v) -> LocatableSerializer.INSTANCE.serialize(b, o, v),
+                LocatableSerializer.INSTANCE::deserialize);
+        register(PartyRelated.class, RMObjectID.PARTYRELATED,
+                (b, o, v) -> PartyRelatedSerializer.INSTANCE.serialize(b, o, v),
+                PartyRelatedSerializer.INSTANCE::deserialize);
+        register(PartySelf.class, RMObjectID.PARTYSELF,
+                (b, o, v) -> PartySelfSerializer.INSTANCE.serialize(b, o, v),
+                PartySelfSerializer.INSTANCE::deserialize);
+        register(ResourceDescriptionItem.class, RMObjectID.RESOURCEDESCRIPTIONITEM,
+                (b, o, v) -> ResourceDescriptionItemSerializer.INSTANCE.serialize(b, o, v),
+                ResourceDescriptionItemSerializer.INSTANCE::deserialize);
+        register(TranslationDetails.class, RMObjectID.TRANSLATIONDETAILS,
+                (b, o, v) -> TranslationDetailsSerializer.INSTANCE.serialize(b, o, v),
+                TranslationDetailsSerializer.INSTANCE::deserialize);
+        register(Item.class, RMObjectID.ITEM,
+                (b, o, v) -> ItemSerializer.INSTANCE.serialize(b, o, v),
+                ItemSerializer.INSTANCE::deserialize);
+        register(Cluster.class, RMObjectID.CLUSTER,
+                (b, o, v) -> ClusterSerializer.INSTANCE.serialize(b, o, v),
+                ClusterSerializer.INSTANCE::deserialize);
+        register(Element.class, RMObjectID.ELEMENT,
+                (b, o, v) -> ElementSerializer.INSTANCE.serialize(b, o, v),
+                ElementSerializer.INSTANCE::deserialize);
+        register(DataStructure.class, RMObjectID.DATASTRUCTURE,
+                (b, o, v) -> DataStructureSerializer.INSTANCE.serialize(b, o, v),
+                DataStructureSerializer.INSTANCE::deserialize);
+        register(ItemList.class, RMObjectID.ITEMLIST,
+                (b, o, v) -> ItemListSerializer.INSTANCE.serialize(b, o, v),
+                ItemListSerializer.INSTANCE::deserialize);
+        register(ItemStructure.class, RMObjectID.ITEMSTRUCTURE,
+                (b, o, v) -> ItemStructureSerializer.INSTANCE.serialize(b, o, v),
+                ItemStructureSerializer.INSTANCE::deserialize);
+        register(ItemSingle.class, RMObjectID.ITEMSINGLE,
+                (b, o, v) -> ItemSingleSerializer.INSTANCE.serialize(b, o, v),
+                ItemSingleSerializer.INSTANCE::deserialize);
+        register(ItemTable.class, RMObjectID.ITEMTABLE,
+                (b, o, v) -> ItemTableSerializer.INSTANCE.serialize(b, o, v),
+                ItemTableSerializer.INSTANCE::deserialize);
+        register(ItemTree.class, RMObjectID.ITEMTREE,
+                (b, o, v) -> ItemTreeSerializer.INSTANCE.serialize(b, o, v),
+                ItemTreeSerializer.INSTANCE::deserialize);
+        register(PartyIdentity.class, RMObjectID.PARTYIDENTITY,
+                (b, o, v) -> PartyIdentitySerializer.INSTANCE.serialize(b, o, v),
+                PartyIdentitySerializer.INSTANCE::deserialize);
+        register(PartyRelationship.class, RMObjectID.PARTYRELATIONSHIP,
+                (b, o, v) -> PartyRelationshipSerializer.INSTANCE.serialize(b, o, v),
+                PartyRelationshipSerializer.INSTANCE::deserialize);
+        register(Address.class, RMObjectID.ADDRESS,
+                (b, o, v) -> AddressSerializer.INSTANCE.serialize(b, o, v),
+                AddressSerializer.INSTANCE::deserialize);
+        register(Contact.class, RMObjectID.CONTACT,
+                (b, o, v) -> ContactSerializer.INSTANCE.serialize(b, o, v),
+                ContactSerializer.INSTANCE::deserialize);
+        register(Party.class, RMObjectID.PARTY,
+                (b, o, v) -> PartySerializer.INSTANCE.serialize(b, o, v),
+                PartySerializer.INSTANCE::deserialize);
+        register(Capability.class, RMObjectID.CAPABILITY,
+                (b, o, v) -> CapabilitySerializer.INSTANCE.serialize(b, o, v),
+                CapabilitySerializer.INSTANCE::deserialize);
+        register(Role.class, RMObjectID.ROLE,
+                (b, o, v) -> RoleSerializer.INSTANCE.serialize(b, o, v),
+                RoleSerializer.INSTANCE::deserialize);
+        register(Actor.class, RMObjectID.ACTOR,
+                (b, o, v) -> ActorSerializer.INSTANCE.serialize(b, o, v),
+                ActorSerializer.INSTANCE::deserialize);
+        register(Agent.class, RMObjectID.AGENT,
+                (b, o, v) -> AgentSerializer.INSTANCE.serialize(b, o, v),
+                AgentSerializer.INSTANCE::deserialize);
+        register(Group.class, RMObjectID.GROUP,
+                (b, o, v) -> GroupSerializer.INSTANCE.serialize(b, o, v),
+                GroupSerializer.INSTANCE::deserialize);
+        register(Organisation.class, RMObjectID.ORGANISATION,
+                (b, o, v) -> OrganisationSerializer.INSTANCE.serialize(b, o, v),
+                OrganisationSerializer.INSTANCE::deserialize);
+        register(Person.class, RMObjectID.PERSON,
+                (b, o, v) -> PersonSerializer.INSTANCE.serialize(b, o, v),
+                PersonSerializer.INSTANCE::deserialize);
+        register(InstructionDetails.class, RMObjectID.INSTRUCTIONDETAILS,
+                (b, o, v) -> InstructionDetailsSerializer.INSTANCE.serialize(b, o, v),
+                InstructionDetailsSerializer.INSTANCE::deserialize);
+        register(ISMTransition.class, RMObjectID.ISMTRANSITION,
+                (b, o, v) -> ISMTransitionSerializer.INSTANCE.serialize(b, o, v),
+                ISMTransitionSerializer.INSTANCE::deserialize);
+        register(Activity.class, RMObjectID.ACTIVITY,
+                (b, o, v) -> ActivitySerializer.INSTANCE.serialize(b, o, v),
+                ActivitySerializer.INSTANCE::deserialize);
+        register(DvOrdered.class, RMObjectID.DVORDERED,
+                (b, o, v) -> DvOrderedSerializer.INSTANCE.serialize(b, o, v),
+                DvOrderedSerializer.INSTANCE::deserialize);
+        register(DvInterval.class, RMObjectID.DVINTERVAL,
+                (b, o, v) -> DvIntervalSerializer.INSTANCE.serialize(b, o, v),
+                DvIntervalSerializer.INSTANCE::deserialize);
+        register(DvQuantified.class, RMObjectID.DVQUANTIFIED,
+                (b, o, v) -> DvQuantifiedSerializer.INSTANCE.serialize(b, o, v),
+                DvQuantifiedSerializer.INSTANCE::deserialize);
+        register(DvAmount.class, RMObjectID.DVAMOUNT,
+                (b, o, v) -> DvAmountSerializer.INSTANCE.serialize(b, o, v),
+                DvAmountSerializer.INSTANCE::deserialize);
+        register(DvOrdinal.class, RMObjectID.DVORDINAL,
+                (b, o, v) -> DvOrdinalSerializer.INSTANCE.serialize(b, o, v),
+                DvOrdinalSerializer.INSTANCE::deserialize);
+        register(DvCount.class, RMObjectID.DVCOUNT,
+                (b, o, v) -> DvCountSerializer.INSTANCE.serialize(b, o, v),
+                DvCountSerializer.INSTANCE::deserialize);
+        register(DvProportion.class, RMObjectID.DVPROPORTION,
+                (b, o, v) -> DvProportionSerializer.INSTANCE.serialize(b, o, v),
+                DvProportionSerializer.INSTANCE::deserialize);
+        register(DvQuantity.class, RMObjectID.DVQUANTITY,
+                (b, o, v) -> DvQuantitySerializer.INSTANCE.serialize(b, o, v),
+                DvQuantitySerializer.INSTANCE::deserialize);
+        register(DvDuration.class, RMObjectID.DVDURATION,
+                (b, o, v) -> DvDurationSerializer.INSTANCE.serialize(b, o, v),
+                DvDurationSerializer.INSTANCE::deserialize);
+        register(DvAbsoluteQuantityWithDvCount.class, RMObjectID.DVABSOLUTEQUANTITY, 1,
+                (b, o, v) -> DvAbsoluteQuantitySerializer.INSTANCE.serialize(b, o, v),
+                DvAbsoluteQuantitySerializer.INSTANCE::deserializeDvCount);
+        register(DvAbsoluteQuantityWithDvDuration.class, RMObjectID.DVABSOLUTEQUANTITY, 2,
+                (b, o, v) -> DvAbsoluteQuantitySerializer.INSTANCE.serialize(b, o, v),
+                DvAbsoluteQuantitySerializer.INSTANCE::deserializeDvDuration);
+        register(DvAbsoluteQuantityWithDvProportion.class, RMObjectID.DVABSOLUTEQUANTITY, 3,
+                (b, o, v) -> DvAbsoluteQuantitySerializer.INSTANCE.serialize(b, o, v),
+                DvAbsoluteQuantitySerializer.INSTANCE::deserializeDvProportion);
+        register(DvAbsoluteQuantityWithDvQuantity.class, RMObjectID.DVABSOLUTEQUANTITY, 4,
+                (b, o, v) -> DvAbsoluteQuantitySerializer.INSTANCE.serialize(b, o, v),
+                DvAbsoluteQuantitySerializer.INSTANCE::deserializeDvQuantity);
+        register(DvDate.class, RMObjectID.DVDATE,
+                (b, o, v) -> DvDateSerializer.INSTANCE.serialize(b, o, v),
+                DvDateSerializer.INSTANCE::deserialize);
+        register(DvTime.class, RMObjectID.DVTIME,
+                (b, o, v) -> DvTimeSerializer.INSTANCE.serialize(b, o, v),
+                DvTimeSerializer.INSTANCE::deserialize);
+        register(DvDateTime.class, RMObjectID.DVDATETIME,
+                (b, o, v) -> DvDateTimeSerializer.INSTANCE.serialize(b, o, v),
+                DvDateTimeSerializer.INSTANCE::deserialize);
+        register(DvTemporal.class, RMObjectID.DVTEMPORAL,
+                (b, o, v) -> DvTemporalSerializer.INSTANCE.serialize(b, o, v),
+                DvTemporalSerializer.INSTANCE::deserialize);
+        register(Participation.class, RMObjectID.PARTICIPATION,
+                (b, o, v) -> ParticipationSerializer.INSTANCE.serialize(b, o, v),
+                ParticipationSerializer.INSTANCE::deserialize);
+        register(AuditDetails.class, RMObjectID.AUDITDETAILS,
+                (b, o, v) -> AuditDetailsSerializer.INSTANCE.serialize(b, o, v),
+                AuditDetailsSerializer.INSTANCE::deserialize);
+        register(Attestation.class, RMObjectID.ATTESTATION,
+                (b, o, v) -> AttestationSerializer.INSTANCE.serialize(b, o, v),
+                AttestationSerializer.INSTANCE::deserialize);
+        register(RevisionHistoryItem.class, RMObjectID.REVISIONHISTORYITEM,
+                (b, o, v) -> RevisionHistoryItemSerializer.INSTANCE.serialize(b, o, v),
+                RevisionHistoryItemSerializer.INSTANCE::deserialize);
+        register(RevisionHistory.class, RMObjectID.REVISIONHISTORY,
+                (b, o, v) -> RevisionHistorySerializer.INSTANCE.serialize(b, o, v),
+                RevisionHistorySerializer.INSTANCE::deserialize);
+        register(Contribution.class, RMObjectID.CONTRIBUTION,
+                (b, o, v) -> ContributionSerializer.INSTANCE.serialize(b, o, v),
+                ContributionSerializer.INSTANCE::deserialize);
+        register(Folder.class, RMObjectID.FOLDER,
+                (b, o, v) -> FolderSerializer.INSTANCE.serialize(b, o, v),
+                FolderSerializer.INSTANCE::deserialize);
+        register(AuthoredResource.class, RMObjectID.AUTHOREDRESOURCE,
+                (b, o, v) -> AuthoredResourceSerializer.INSTANCE.serialize(b, o, v),
+                AuthoredResourceSerializer.INSTANCE::deserialize);
+        register(ResourceDescription.class, RMObjectID.RESOURCEDESCRIPTION,
+                (b, o, v) -> ResourceDescriptionSerializer.INSTANCE.serialize(b, o, v),
+                ResourceDescriptionSerializer.INSTANCE::deserialize);
+        register(EventWithItemTree.class, RMObjectID.EVENT, 1,
+                (b, o, v) -> EventSerializer.INSTANCE.serialize(b, o, v),
+                EventSerializer.INSTANCE::deserializeItemTree);
+        register(EventWithItemSingle.class, RMObjectID.EVENT, 2,
+                (b, o, v) -> EventSerializer.INSTANCE.serialize(b, o, v),
+                EventSerializer.INSTANCE::deserializeItemSingle);
+        register(EventWithItemTable.class, RMObjectID.EVENT, 3,
+                (b, o, v) -> EventSerializer.INSTANCE.serialize(b, o, v),
+                EventSerializer.INSTANCE::deserializeItemTable);
+        register(IntervalEventWithItemTree.class, RMObjectID.INTERVALEVENT, 1,
+                (b, o, v) -> IntervalEventSerializer.INSTANCE.serialize(b, o, v),
+                IntervalEventSerializer.INSTANCE::deserializeItemTree);
+        register(IntervalEventWithItemSingle.class, RMObjectID.INTERVALEVENT, 2,
+                (b, o, v) -> IntervalEventSerializer.INSTANCE.serialize(b, o, v),
+                IntervalEventSerializer.INSTANCE::deserializeItemSingle);
+        register(IntervalEventWithItemTable.class, RMObjectID.INTERVALEVENT, 3,
+                (b, o, v) -> IntervalEventSerializer.INSTANCE.serialize(b, o, v),
+                IntervalEventSerializer.INSTANCE::deserializeItemTable);
+        register(HistoryWithItemTree.class, RMObjectID.HISTORY, 1,
+                (b, o, v) -> HistorySerializer.INSTANCE.serialize(b, o, v),
+                HistorySerializer.INSTANCE::deserializeItemTree);
+        register(HistoryWithItemSingle.class, RMObjectID.HISTORY, 2,
+                (b, o, v) -> HistorySerializer.INSTANCE.serialize(b, o, v),
+                HistorySerializer.INSTANCE::deserializeItemSingle);
+        register(HistoryWithItemTable.class, RMObjectID.HISTORY, 3,
+                (b, o, v) -> HistorySerializer.INSTANCE.serialize(b, o, v),
+                HistorySerializer.INSTANCE::deserializeItemTable);
+        register(PointEventWithItemTree.class, RMObjectID.POINTEVENT, 1,
+                (b, o, v) -> PointEventSerializer.INSTANCE.serialize(b, o, v),
+                PointEventSerializer.INSTANCE::deserializeItemTree);
+        register(PointEventWithItemSingle.class, RMObjectID.POINTEVENT, 2,
+                (b, o, v) -> PointEventSerializer.INSTANCE.serialize(b, o, v),
+                PointEventSerializer.INSTANCE::deserializeItemSingle);
+        register(PointEventWithItemTable.class, RMObjectID.POINTEVENT, 3,
+                (b, o, v) -> PointEventSerializer.INSTANCE.serialize(b, o, v),
+                PointEventSerializer.INSTANCE::deserializeItemTable);
+        register(ContentItem.class, RMObjectID.CONTENTITEM,
+                (b, o, v) -> ContentItemSerializer.INSTANCE.serialize(b, o, v),
+                ContentItemSerializer.INSTANCE::deserialize);
+        register(Entry.class, RMObjectID.ENTRY,
+                (b, o, v) -> EntrySerializer.INSTANCE.serialize(b, o, v),
+                EntrySerializer.INSTANCE::deserialize);
+        register(CareEntry.class, RMObjectID.CAREENTRY,
+                (b, o, v) -> CareEntrySerializer.INSTANCE.serialize(b, o, v),
+                CareEntrySerializer.INSTANCE::deserialize);
+        register(Action.class, RMObjectID.ACTION,
+                (b, o, v) -> ActionSerializer.INSTANCE.serialize(b, o, v),
+                ActionSerializer.INSTANCE::deserialize);
+        register(AdminEntry.class, RMObjectID.ADMINENTRY,
+                (b, o, v) -> AdminEntrySerializer.INSTANCE.serialize(b, o, v),
+                AdminEntrySerializer.INSTANCE::deserialize);
+        register(Evaluation.class, RMObjectID.EVALUATION,
+                (b, o, v) -> EvaluationSerializer.INSTANCE.serialize(b, o, v),
+                EvaluationSerializer.INSTANCE::deserialize);
+        register(Instruction.class, RMObjectID.INSTRUCTION,
+                (b, o, v) -> InstructionSerializer.INSTANCE.serialize(b, o, v),
+                InstructionSerializer.INSTANCE::deserialize);
+        register(ObservationWithItemTreeItemTree.class, RMObjectID.OBSERVATION, 1,
+                (b, o, v) -> ObservationSerializer.INSTANCE.serialize(b, o, v),
+                ObservationSerializer.INSTANCE::deserializeItemTreeItemTree);
+        register(ObservationWithItemTreeItemSingle.class, RMObjectID.OBSERVATION, 2,
+                (b, o, v) -> ObservationSerializer.INSTANCE.serialize(b, o, v),
+                ObservationSerializer.INSTANCE::deserializeItemTreeItemSingle);
+        register(ObservationWithItemTreeItemTable.class, RMObjectID.OBSERVATION, 3,
+                (b, o, v) -> ObservationSerializer.INSTANCE.serialize(b, o, v),
+                ObservationSerializer.INSTANCE::deserializeItemTreeItemTable);
+        register(ObservationWithItemSingleItemTree.class, RMObjectID.OBSERVATION, 4,
+                (b, o, v) -> ObservationSerializer.INSTANCE.serialize(b, o, v),
+                ObservationSerializer.INSTANCE::deserializeItemSingleItemTree);
+        register(ObservationWithItemSingleItemSingle.class, RMObjectID.OBSERVATION, 5,
+                (b, o, v) -> ObservationSerializer.INSTANCE.serialize(b, o, v),
+                ObservationSerializer.INSTANCE::deserializeItemSingleItemSingle);
+        register(ObservationWithItemSingleItemTable.class, RMObjectID.OBSERVATION, 6,
+                (b, o, v) -> ObservationSerializer.INSTANCE.serialize(b, o, v),
+                ObservationSerializer.INSTANCE::deserializeItemSingleItemTable);
+        register(ObservationWithItemTableItemTree.class, RMObjectID.OBSERVATION, 7,
+                (b, o, v) -> ObservationSerializer.INSTANCE.serialize(b, o, v),
+                ObservationSerializer.INSTANCE::deserializeItemTableItemTree);
+        register(ObservationWithItemTableItemSingle.class, RMObjectID.OBSERVATION, 8,
+                (b, o, v) -> ObservationSerializer.INSTANCE.serialize(b, o, v),
+                ObservationSerializer.INSTANCE::deserializeItemTableItemSingle);
+        register(ObservationWithItemTableItemTable.class, RMObjectID.OBSERVATION, 9,
+                (b, o, v) -> ObservationSerializer.INSTANCE.serialize(b, o, v),
+                ObservationSerializer.INSTANCE::deserializeItemTableItemTable);
+        register(Section.class, RMObjectID.SECTION,
+                (b, o, v) -> SectionSerializer.INSTANCE.serialize(b, o, v),
+                SectionSerializer.INSTANCE::deserialize);
+        register(EventContext.class, RMObjectID.EVENTCONTEXT,
+                (b, o, v) -> EventContextSerializer.INSTANCE.serialize(b, o, v),
+                EventContextSerializer.INSTANCE::deserialize);
+        register(Composition.class, RMObjectID.COMPOSITION,
+                (b, o, v) -> CompositionSerializer.INSTANCE.serialize(b, o, v),
+                CompositionSerializer.INSTANCE::deserialize);
+        register(EHR.class, RMObjectID.EHR,
+                (b, o, v) -> EHRSerializer.INSTANCE.serialize(b, o, v),
+                EHRSerializer.INSTANCE::deserialize);
+        register(EHRStatus.class, RMObjectID.EHRSTATUS,
+                (b, o, v) -> EHRStatusSerializer.INSTANCE.serialize(b, o, v),
+                EHRStatusSerializer.INSTANCE::deserialize);
+        register(EHRAccess.class, RMObjectID.EHRACCESS,
+                (b, o, v) -> EHRAccessSerializer.INSTANCE.serialize(b, o, v),
+                EHRAccessSerializer.INSTANCE::deserialize);
+        register(XTerminology.class, RMObjectID.XTERMINOLOGY,
+                (b, o, v) -> XTerminologySerializer.INSTANCE.serialize(b, o, v),
+                XTerminologySerializer.INSTANCE::deserialize);
+        register(XComposition.class, RMObjectID.XCOMPOSITION,
+                (b, o, v) -> XCompositionSerializer.INSTANCE.serialize(b, o, v),
+                XCompositionSerializer.INSTANCE::deserialize);
+        register(XDemographics.class, RMObjectID.XDEMOGRAPHICS,
+                (b, o, v) -> XDemographicsSerializer.INSTANCE.serialize(b, o, v),
+                XDemographicsSerializer.INSTANCE::deserialize);
+        register(XFolder.class, RMObjectID.XFOLDER,
+                (b, o, v) -> XFolderSerializer.INSTANCE.serialize(b, o, v),
+                XFolderSerializer.INSTANCE::deserialize);
+        register(XAccessControl.class, RMObjectID.XACCESSCONTROL,
+                (b, o, v) -> XAccessControlSerializer.INSTANCE.serialize(b, o, v),
+                XAccessControlSerializer.INSTANCE::deserialize);
+        register(EHRExtract.class, RMObjectID.EHREXTRACT,
+                (b, o, v) -> EHRExtractSerializer.INSTANCE.serialize(b, o, v),
+                EHRExtractSerializer.INSTANCE::deserialize);
+        register(GenericEntry.class, RMObjectID.GENERICENTRY,
+                (b, o, v) -> GenericEntrySerializer.INSTANCE.serialize(b, o, v),
+                GenericEntrySerializer.INSTANCE::deserialize);
+        register(MessageContent.class, RMObjectID.MESSAGECONTENT,
+                (b, o, v) -> MessageContentSerializer.INSTANCE.serialize(b, o, v),
+                MessageContentSerializer.INSTANCE::deserialize);
+        register(Message.class, RMObjectID.MESSAGE,
+                (b, o, v) -> MessageSerializer.INSTANCE.serialize(b, o, v),
+                MessageSerializer.INSTANCE::deserialize);
+
+        BY_ID.replaceAll((id, codecs) -> Collections.unmodifiableList(codecs));
+    }
+
+    private RMObjectCodecs() {
+        // Apenas funções.
+    }
+
+    private static <T> void register(Class<T> type, RMObjectID id,
+                                     Writer<T> writer, Reader<T> reader) {
+        register(type, id, 0, writer, reader);
+    }
+
+    /**
+     * Registra o codec de uma variante. O código da variante é registrado
+     * em serializações (por exemplo, {@link RMObjectBatch}) e, portanto,
+     * não pode ser alterado nem reutilizado.
+     */
+    private static <T> void register(Class<T> type, RMObjectID id,
+                                     int variant, Writer<T> writer,
+                                     Reader<T> reader) {
+        List<RMObjectCodec<?>> codecs =
+                BY_ID.computeIfAbsent(id, k -> new ArrayList<>(1));
+        for (RMObjectCodec<?> codec : codecs) {
+            if (codec.variant() == variant) {
+                throw new IllegalStateException(
+                        "variante repetida: " + codec);
+            }
+        }
+
+        RMObjectCodec<T> codec = new Codec<>(type, id, variant, writer,
+                reader);
+        BY_TYPE.put(type, codec);
+        codecs.add(codec);
+    }
+
+    /**
+     * Obtém o codec do tipo indicado.
+     *
+     * @param type Classe do tipo do modelo de referência.
+     * @param <T> Tipo do modelo de referência.
+     * @return Codec do tipo.
+     * @throws IllegalArgumentException se não há codec para o tipo.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> RMObjectCodec<T> of(Class<T> type) {
+        RMObjectCodec<T> codec = (RMObjectCodec<T>) BY_TYPE.get(type);
+        if (codec == null) {
+            throw new IllegalArgumentException("tipo sem codec: " + type);
+        }
+
+        return codec;
+    }
+
+    /**
+     * Obtém os codecs associados ao identificador indicado. Em geral há um
+     * único codec, mas variantes de um tipo (por exemplo, as de Observation)
+     * compartilham o identificador e estão todas incluídas, na ordem em que
+     * são declaradas em {@link Serializer}.
+     *
+     * @param id Identificador do tipo.
+     * @return Codecs do tipo (lista imutável), vazia se não há codec.
+     */
+    public static List<RMObjectCodec<?>> of(RMObjectID id) {
+        return BY_ID.getOrDefault(id, Collections.emptyList());
+    }
+
+    /**
+     * Obtém o codec da variante indicada de um tipo.
+     *
+     * @param id      Identificador do tipo.
+     * @param variant Código da variante ({@link RMObjectCodec#variant()}).
+     * @return Codec da variante ou {@code null}, se não há.
+     */
+    public static RMObjectCodec<?> of(RMObjectID id, int variant) {
+        for (RMObjectCodec<?> codec : of(id)) {
+            if (codec.variant() == variant) {
+                return codec;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,760 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Arquivo (contêiner) de documentos serializados, no qual registros são
+ * apenas acrescentados. Cada registro é formado pelo tamanho do conteúdo,
+ * pelo identificador do objeto raiz do documento, pelo perfil de
+ * serialização e pelo conteúdo propriamente dito:
+ *
+ * <pre>
+ * "HCC2"
+ * [tamanho:int][id:int][variante:byte][perfil:byte][conteúdo] ...
+ *     (um por registro)
+ * [posição:long × n][n:int][posição do índice:long]["HCI1"]
+ * </pre>
+ *
+ * <p>O índice, com a posição de cada registro, é acrescentado ao final do
+ * arquivo quando o contêiner é fechado ({@link #close()}) e removido quando
+ * o arquivo é novamente aberto para acréscimos. Um arquivo sem índice (por
+ * exemplo, contêiner não fechado) tem o índice reconstruído a partir dos
+ * registros, e um registro incompleto ao final é descartado, assim como
+ * os registros a partir do primeiro cujo cabeçalho não é válido (tamanho
+ * não positivo, identificador, variante ou perfil desconhecido).</p>
+ *
+ * <p>A variante é o código estável do codec que produziu o conteúdo
+ * ({@link RMObjectCodec#variant()}), o que distingue, por exemplo, as
+ * variantes de Observation, que compartilham o identificador. Variantes
+ * negativas não correspondem a codec e são reservadas a registros cujo
+ * conteúdo tem formato próprio de quem os acrescenta.</p>
+ *
+ * <p>Acréscimos são acumulados em memória e escritos no arquivo em lotes
+ * ou quando requisitado ({@link #flush()}). A leitura ({@link #map(Path)}
+ * ou {@link #reader()}) emprega mapeamento do arquivo em memória, e o
+ * acesso a um registro qualquer é realizado em tempo constante, sem cópia
+ * do conteúdo. Após acréscimos, {@link #reader()} mapeia apenas a porção
+ * final do arquivo, ainda não mapeada.</p>
+ *
+ * <p>O arquivo, inclusive o índice, não ultrapassa 2 GiB, o que permite
+ * mapeá-lo por inteiro. Um acréscimo que faria o arquivo exceder este
+ * limite é recusado.</p>
+ *
+ * <p>Instâncias desta classe não podem ser compartilhadas entre
+ * <em>threads</em>.</p>
+ */
+public final class RMObjectContainer implements Closeable {
+
+    /**
+     * Início do arquivo de um contêiner ("HCC2").
+     */
+    private static final int MAGIC = 0x48434332;
+
+    /**
+     * Final do índice de um contêiner ("HCI1").
+     */
+    private static final int INDEX_MAGIC = 0x48434931;
+
+    private static final int INT = PrimitiveTypeSize.INT.getSize();
+    private static final int LONG = Long.BYTES;
+
+    /**
+     * Tamanho do cabeçalho de um registro: tamanho, identificador, variante
+     * e perfil.
+     */
+    private static final int RECORD_HEADER = 2 * INT + 2;
+
+    /**
+     * Posições da variante e do perfil no cabeçalho de um registro.
+     */
+    private static final int VARIANT = 2 * INT;
+    private static final int PROFILE = VARIANT + 1;
+
+    /**
+     * Tamanho do final do índice: quantidade, posição do índice e "HCI1".
+     */
+    private static final int TRAILER = INT + LONG + INT;
+
+    /**
+     * Quantidade de bytes acumulados a partir da qual são escritos no
+     * arquivo.
+     */
+    private static final int BATCH = 64 * 1024;
+
+    /**
+     * Maior tamanho do arquivo de um contêiner, inclusive o índice.
+     */
+    private static final long CAPACITY = Integer.MAX_VALUE;
+
+    private static final byte DEFAULT_PROFILE = 0;
+    private static final byte COMPACT_PROFILE = 1;
+
+    private final FileChannel channel;
+
+    /**
+     * Maior tamanho do arquivo, inclusive o índice.
+     */
+    private final long capacity;
+
+    /**
+     * Registros acumulados, ainda não escritos no arquivo.
+     */
+    private final Buffer pending = Buffer.newGrowableInstance(BATCH);
+    private int pendingSize;
+
+    /**
+     * Buffer empregado na serialização de objetos acrescentados por meio
+     * de codec.
+     */
+    private final Buffer scratch = Buffer.newGrowableInstance();
+
+    private long[] offsets;
+    private int count;
+
+    /**
+     * Posição, no arquivo, do primeiro registro acumulado.
+     */
+    private long size;
+
+    /**
+     * Último leitor obtido ({@link #reader()}) ou {@code null}.
+     */
+    private Reader reader;
+
+    private RMObjectContainer(FileChannel channel, long capacity) {
+        this.channel = channel;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Abre (ou cria) o contêiner mantido no arquivo indicado, para
+     * acréscimos. Os registros previamente depositados no arquivo são
+     * preservados.
+     *
+     * @param path Arquivo do contêiner.
+     * @return Contêiner correspondente ao arquivo.
+     * @throws IOException se o arquivo não pode ser lido ou não corresponde
+     *                     a um contêiner.
+     */
+    public static RMObjectContainer open(Path path) throws IOException {
+        return open(path, CAPACITY);
+    }
+
+    /**
+     * Abre (ou cria) o contêiner mantido no arquivo indicado, cujo tamanho
+     * não ultrapassa aquele fornecido.
+     */
+    static RMObjectContainer open(Path path, long capacity)
+            throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            RMObjectContainer container =
+                    new RMObjectContainer(channel, capacity);
+            container.load();
+            return container;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Mapeia em memória o contêiner mantido no arquivo indicado, para
+     * leitura. Registros acrescentados posteriormente não são visíveis.
+     *
+     * @param path Arquivo do contêiner.
+     * @return Leitor do contêiner.
+     * @throws IOException se o arquivo não pode ser lido, não corresponde a
+     *                     um contêiner ou excede 2 GiB.
+     */
+    public static Reader map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("contêiner excede 2 GiB");
+            }
+
+            ByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY,
+                    0, size);
+            return Reader.of(map);
+        }
+    }
+
+    /**
+     * Acrescenta registro cujo conteúdo é a serialização de um documento.
+     *
+     * @param codec   Codec do objeto raiz do documento.
+     * @param payload Serialização do documento (perfil padrão), entre a
+     *                posição corrente e o limite. O estado não é alterado.
+     * @return Ordem do registro no contêiner, a partir de 0.
+     * @throws IllegalArgumentException se não há conteúdo.
+     * @throws IOException              se o arquivo excederia 2 GiB ou se
+     *                                  os registros acumulados não podem
+     *                                  ser escritos.
+     */
+    public int append(RMObjectCodec<?> codec, ByteBuffer payload)
+            throws IOException {
+        return append(codec.id(), codec.variant(), payload, DEFAULT_PROFILE);
+    }
+
+    /**
+     * Acrescenta registro cujo conteúdo são os bytes produzidos pelas
+     * serializações realizadas pelo cliente, no perfil empregado por ele.
+     *
+     * @param codec  Codec do objeto raiz do documento.
+     * @param client Cliente cujas serializações formam o documento.
+     * @return Ordem do registro no contêiner, a partir de 0.
+     * @throws IllegalArgumentException se não há conteúdo.
+     * @throws IOException              se o arquivo excederia 2 GiB ou se
+     *                                  os registros acumulados não podem
+     *                                  ser escritos.
+     */
+    public int append(RMObjectCodec<?> codec,
+                      RMObjectSerializationClient client) throws IOException {
+        return append(codec.id(), codec.variant(), client.asByteBuffer(),
+                client.isCompact() ? COMPACT_PROFILE : DEFAULT_PROFILE);
+    }
+
+    /**
+     * Acrescenta registro cujo conteúdo é a serialização do objeto.
+     *
+     * @param codec Codec do tipo do objeto.
+     * @param value Objeto a ser serializado.
+     * @param <T>   Tipo do objeto.
+     * @return Ordem do registro no contêiner, a partir de 0.
+     * @throws IOException se o arquivo excederia 2 GiB ou se os registros
+     *                     acumulados não podem ser escritos.
+     */
+    public <T> int append(RMObjectCodec<T> codec, T value) throws IOException {
+        int length = codec.serialize(scratch, 0, value);
+        return append(codec.id(), codec.variant(), scratch.slice(0, length),
+                DEFAULT_PROFILE);
+    }
+
+    /**
+     * Acrescenta registro cujo conteúdo tem formato próprio de quem o
+     * acrescenta, identificado por variante negativa, ou seja, que não é
+     * deserializado por codec ({@link Reader#get(int, RMObjectCodec)}).
+     *
+     * @param id      Identificador associado ao registro.
+     * @param variant Variante negativa, própria de quem acrescenta.
+     * @param payload Conteúdo (perfil padrão), entre a posição corrente e o
+     *                limite. O estado não é alterado.
+     * @return Ordem do registro no contêiner, a partir de 0.
+     * @throws IllegalArgumentException se não há conteúdo ou a variante não
+     *                                  é negativa.
+     */
+    int append(RMObjectID id, int variant, ByteBuffer payload)
+            throws IOException {
+        if (variant >= 0) {
+            throw new IllegalArgumentException("variante de codec: "
+                    + variant);
+        }
+
+        return append(id, variant, payload, DEFAULT_PROFILE);
+    }
+
+    /**
+     * Quantidade de registros do contêiner, inclusive os acumulados.
+     *
+     * @return Quantidade de registros.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Obtém leitor dos registros acrescentados até o momento, inclusive os
+     * acumulados, que são escritos no arquivo (mas não necessariamente
+     * gravados no dispositivo). O índice é aquele mantido pelo próprio
+     * contêiner, ou seja, os registros não são percorridos.
+     *
+     * <p>Sem acréscimos desde a obtenção do último leitor, este é
+     * retornado. Caso contrário, apenas a porção do arquivo posterior à
+     * última mapeada é mapeada. Porções consecutivas são combinadas em
+     * um único mapeamento sempre que a anterior não é maior que o dobro
+     * da seguinte, o que limita a quantidade de mapeamentos ao logaritmo
+     * do tamanho do arquivo.</p>
+     *
+     * @return Leitor dos registros acrescentados até o momento.
+     * @throws IOException se a escrita ou o mapeamento falhar.
+     */
+    public Reader reader() throws IOException {
+        write();
+        ByteBuffer[] maps = reader == null
+                ? new ByteBuffer[0] : reader.maps;
+        long[] starts = reader == null ? new long[0] : reader.starts;
+        int n = maps.length;
+        long start = n == 0 ? 0 : starts[n - 1] + maps[n - 1].capacity();
+        if (start == size) {
+            return reader;
+        }
+
+        while (n > 0 && maps[n - 1].capacity() <= 2 * (size - start)) {
+            start = starts[--n];
+        }
+
+        maps = Arrays.copyOf(maps, n + 1);
+        starts = Arrays.copyOf(starts, n + 1);
+        maps[n] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                size - start);
+        starts[n] = start;
+        reader = new Reader(maps, starts, -1, offsets, count);
+        return reader;
+    }
+
+    /**
+     * Escreve no arquivo os registros acumulados e assegura que estão
+     * gravados no dispositivo.
+     *
+     * @throws IOException se a escrita falhar.
+     */
+    public void flush() throws IOException {
+        write();
+        channel.force(false);
+    }
+
+    /**
+     * Escreve os registros acumulados e o índice, e fecha o arquivo.
+     *
+     * @throws IOException se a escrita falhar.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            write();
+            ByteBuffer index = ByteBuffer.allocate(count * LONG + TRAILER);
+            for (int i = 0; i < count; i++) {
+                index.putLong(offsets[i]);
+            }
+
+            index.putInt(count).putLong(size).putInt(INDEX_MAGIC).flip();
+            write(index, size);
+            channel.truncate(size + index.capacity());
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private int append(RMObjectID id, int variant, ByteBuffer payload,
+                       byte profile) throws IOException {
+        int length = payload.remaining();
+        if (length == 0 || (byte) variant != variant
+                || !valid(id.getValue(), (byte) variant, profile)) {
+            throw new IllegalArgumentException("registro sem conteúdo, "
+                    + "identificador ou variante");
+        }
+
+        long end = size + pendingSize + RECORD_HEADER + length
+                + (long) (count + 1) * LONG + TRAILER;
+        if (end > capacity) {
+            throw new IOException("contêiner excederia " + capacity
+                    + " bytes");
+        }
+
+        int position = pendingSize;
+        pending.writeInteger(position, length);
+        pending.writeInteger(position + INT, id.getValue());
+        pending.writeByte(position + VARIANT, (byte) variant);
+        pending.writeByte(position + PROFILE, profile);
+        pending.writeByteBuffer(position + RECORD_HEADER, payload.duplicate());
+        pendingSize += RECORD_HEADER + length;
+
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(16, count * 2));
+        }
+
+        offsets[count] = size + position;
+        if (pendingSize >= BATCH) {
+            write();
+        }
+
+        return count++;
+    }
+
+    /**
+     * Escreve no arquivo os registros acumulados.
+     */
+    private void write() throws IOException {
+        if (pendingSize == 0) {
+            return;
+        }
+
+        write(pending.slice(0, pendingSize), size);
+        size += pendingSize;
+        pendingSize = 0;
+    }
+
+    /**
+     * Obtém o índice do arquivo, removendo-o, ou o reconstrói a partir dos
+     * registros.
+     */
+    private void load() throws IOException {
+        long end = channel.size();
+        if (end == 0) {
+            ByteBuffer magic = ByteBuffer.allocate(INT);
+            magic.putInt(MAGIC).flip();
+            write(magic, 0);
+            offsets = new long[16];
+            size = INT;
+            return;
+        }
+
+        ByteBuffer magic = ByteBuffer.allocate(INT);
+        read(magic, 0);
+        if (magic.getInt(0) != MAGIC) {
+            throw new IOException("arquivo não é contêiner");
+        }
+
+        long indexPosition = indexPosition(channel, end);
+        if (indexPosition > 0) {
+            ByteBuffer index = ByteBuffer.allocate((int) (end - indexPosition));
+            read(index, indexPosition);
+            count = index.getInt(index.capacity() - TRAILER);
+            offsets = new long[Math.max(16, count)];
+            for (int i = 0; i < count; i++) {
+                offsets[i] = index.getLong(i * LONG);
+            }
+
+            size = indexPosition;
+        } else {
+            offsets = new long[16];
+            size = scan(end);
+        }
+
+        channel.truncate(size);
+    }
+
+    /**
+     * Reconstrói o índice a partir dos registros completos do arquivo.
+     *
+     * @return Posição seguinte ao último registro completo.
+     */
+    private long scan(long end) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER);
+        long position = INT;
+        while (position + RECORD_HEADER <= end) {
+            header.clear();
+            read(header, position);
+            long next = next(position, end, header.getInt(0),
+                    header.getInt(INT), header.get(VARIANT),
+                    header.get(PROFILE));
+            if (next < 0) {
+                break;
+            }
+
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+
+            offsets[count++] = position;
+            position = next;
+        }
+
+        return position;
+    }
+
+    /**
+     * Verifica o cabeçalho do registro na posição indicada.
+     *
+     * @return Posição seguinte ao registro ou -1, se o cabeçalho não é
+     * válido (tamanho não positivo, identificador, variante ou perfil
+     * desconhecido) ou o registro ultrapassa o final do arquivo.
+     */
+    private static long next(long position, long end, int length, int id,
+                             byte variant, byte profile) {
+        if (length <= 0 || !valid(id, variant, profile)) {
+            return -1;
+        }
+
+        long next = position + RECORD_HEADER + length;
+        return next <= end ? next : -1;
+    }
+
+    /**
+     * Verifica se o identificador é conhecido, se a variante é negativa
+     * (formato próprio) ou corresponde a codec do identificador, e se o
+     * perfil é conhecido.
+     */
+    private static boolean valid(int id, byte variant, byte profile) {
+        RMObjectID rmId = RMObjectID.fromValue(id);
+        return rmId != RMObjectID.UNKNOWN
+                && (variant < 0 || RMObjectCodecs.of(rmId, variant) != null)
+                && (profile == DEFAULT_PROFILE || profile == COMPACT_PROFILE);
+    }
+
+    /**
+     * Posição do índice ao final do arquivo.
+     *
+     * @return Posição do índice ou -1, se o arquivo não termina com um
+     * índice válido.
+     */
+    private static long indexPosition(FileChannel channel, long end)
+            throws IOException {
+        if (end < INT + TRAILER) {
+            return -1;
+        }
+
+        ByteBuffer trailer = ByteBuffer.allocate(TRAILER);
+        while (trailer.hasRemaining()) {
+            if (channel.read(trailer, end - TRAILER + trailer.position()) < 0) {
+                return -1;
+            }
+        }
+
+        return indexPosition(trailer, 0, end);
+    }
+
+    /**
+     * Interpreta o final do índice que inicia na posição indicada.
+     *
+     * @return Posição do índice ou -1, se inválido.
+     */
+    private static long indexPosition(ByteBuffer bytes, int trailer, long end) {
+        int count = bytes.getInt(trailer);
+        long position = bytes.getLong(trailer + INT);
+        if (bytes.getInt(trailer + INT + LONG) != INDEX_MAGIC || count < 0
+                || position < INT
+                || position + (long) count * LONG + TRAILER != end) {
+            return -1;
+        }
+
+        return position;
+    }
+
+    private void write(ByteBuffer bytes, long position) throws IOException {
+        while (bytes.hasRemaining()) {
+            position += channel.write(bytes, position);
+        }
+    }
+
+    private void read(ByteBuffer bytes, long position) throws IOException {
+        while (bytes.hasRemaining()) {
+            int lidos = channel.read(bytes, position);
+            if (lidos < 0) {
+                throw new IOException("contêiner incompleto");
+            }
+
+            position += lidos;
+        }
+    }
+
+    /**
+     * Leitor de um contêiner mapeado em memória. O acesso a um registro
+     * qualquer é realizado em tempo constante e o conteúdo obtido não é
+     * copiado, ou seja, reside no próprio mapeamento.
+     *
+     * <p>Instâncias desta classe podem ser compartilhadas entre
+     * <em>threads</em>.</p>
+     */
+    public static final class Reader {
+
+        /**
+         * Porções consecutivas do arquivo mapeadas em memória e a posição,
+         * no arquivo, do início de cada uma delas. Um registro não é
+         * dividido entre porções.
+         */
+        private final ByteBuffer[] maps;
+        private final long[] starts;
+
+        /**
+         * Posição do índice no (único) mapeamento ou -1, se o índice foi
+         * reconstruído a partir dos registros ({@link #offsets}).
+         */
+        private final int index;
+        private final long[] offsets;
+        private final int count;
+
+        /**
+         * Leitor cujos registros estão nas posições indicadas. Posições
+         * posteriores a {@code count} não são consultadas e, portanto,
+         * podem ser alteradas.
+         */
+        private Reader(ByteBuffer[] maps, long[] starts, int index,
+                       long[] offsets, int count) {
+            this.maps = maps;
+            this.starts = starts;
+            this.index = index;
+            this.offsets = offsets;
+            this.count = count;
+        }
+
+        private static Reader of(ByteBuffer map) throws IOException {
+            int end = map.capacity();
+            if (end < INT || map.getInt(0) != MAGIC) {
+                throw new IOException("arquivo não é contêiner");
+            }
+
+            long position = end < INT + TRAILER ? -1
+                    : indexPosition(map, end - TRAILER, end);
+            ByteBuffer[] maps = {map};
+            long[] starts = {0};
+            if (position > 0) {
+                return new Reader(maps, starts, (int) position, null,
+                        map.getInt(end - TRAILER));
+            }
+
+            long[] offsets = scan(map, end);
+            return new Reader(maps, starts, -1, offsets, offsets.length);
+        }
+
+        /**
+         * Quantidade de registros do contêiner.
+         *
+         * @return Quantidade de registros.
+         */
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Identificador do objeto raiz do documento do registro.
+         *
+         * @param record Ordem do registro, a partir de 0.
+         * @return Identificador do objeto raiz.
+         * @throws IndexOutOfBoundsException se não existe o registro.
+         */
+        public RMObjectID id(int record) {
+            long offset = offset(record);
+            int region = region(offset);
+            return RMObjectID.fromValue(maps[region].getInt(
+                    (int) (offset - starts[region]) + INT));
+        }
+
+        /**
+         * Variante do codec que produziu o conteúdo do registro
+         * ({@link RMObjectCodec#variant()}) ou valor negativo, se o
+         * conteúdo tem formato próprio de quem o acrescentou.
+         *
+         * @param record Ordem do registro, a partir de 0.
+         * @return Variante do registro.
+         * @throws IndexOutOfBoundsException se não existe o registro.
+         */
+        public int variant(int record) {
+            long offset = offset(record);
+            int region = region(offset);
+            return maps[region].get(
+                    (int) (offset - starts[region]) + VARIANT);
+        }
+
+        /**
+         * Obtém buffer, sem cópia, sobre o conteúdo do registro. O perfil
+         * de serialização do buffer é aquele do registro.
+         *
+         * @param record Ordem do registro, a partir de 0.
+         * @return Buffer cuja posição 0 corresponde ao início do conteúdo.
+         * @throws IndexOutOfBoundsException se não existe o registro.
+         */
+        public Buffer buffer(int record) {
+            long offset = offset(record);
+            int region = region(offset);
+            ByteBuffer map = maps[region];
+            int position = (int) (offset - starts[region]);
+            int start = position + RECORD_HEADER;
+            ByteBuffer payload = map.duplicate();
+            payload.limit(start + map.getInt(position)).position(start);
+
+            Buffer buffer = Buffer.newInstance(payload);
+            buffer.setCompact(map.get(position + PROFILE) == COMPACT_PROFILE);
+            return buffer;
+        }
+
+        /**
+         * Deserializa o objeto raiz do documento do registro.
+         *
+         * @param record Ordem do registro, a partir de 0.
+         * @param codec  Codec do tipo do objeto.
+         * @param <T>    Tipo do objeto.
+         * @return Objeto deserializado.
+         * @throws IllegalArgumentException  se o registro não contém objeto
+         *                                   do tipo (e variante) do codec.
+         * @throws IndexOutOfBoundsException se não existe o registro.
+         */
+        public <T> T get(int record, RMObjectCodec<T> codec) {
+            RMObjectID id = id(record);
+            int variant = variant(record);
+            if (id != codec.id() || variant != codec.variant()) {
+                throw new IllegalArgumentException("registro de " + id
+                        + " (variante " + variant + "), não de " + codec.id()
+                        + " (variante " + codec.variant() + ")");
+            }
+
+            return codec.deserialize(buffer(record), 0);
+        }
+
+        /**
+         * Quantidade de porções do arquivo mapeadas em memória.
+         */
+        int regions() {
+            return maps.length;
+        }
+
+        /**
+         * Posição do registro no arquivo.
+         */
+        private long offset(int record) {
+            if (record < 0 || record >= count) {
+                throw new IndexOutOfBoundsException(
+                        "registro " + record + " de " + count);
+            }
+
+            return offsets != null ? offsets[record]
+                    : maps[0].getLong(index + record * LONG);
+        }
+
+        /**
+         * Porção mapeada que contém a posição indicada do arquivo.
+         */
+        private int region(long offset) {
+            int i = Arrays.binarySearch(starts, offset);
+            return i >= 0 ? i : -i - 2;
+        }
+
+        private static long[] scan(ByteBuffer map, int end) {
+            long[] offsets = new long[16];
+            int count = 0;
+            int position = INT;
+            while (position + RECORD_HEADER <= end) {
+                long next = next(position, end, map.getInt(position),
+                        map.getInt(position + INT),
+                        map.get(position + VARIANT),
+                        map.get(position + PROFILE));
+                if (next < 0) {
+                    break;
+                }
+
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, count * 2);
+                }
+
+                offsets[count++] = position;
+                position = (int) next;
+            }
+
+            return Arrays.copyOf(offsets, count);
+        }
+    }
+}
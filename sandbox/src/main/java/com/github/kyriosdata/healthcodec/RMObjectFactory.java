@@ -16,6 +16,7 @@ package com.github.kyriosdata.healthcodec;
 
 import com.github.kyriosdata.healthcodec.RMObject.*;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -167,6 +168,46 @@ public class RMObjectFactory {
                 thumbnail, uri, data);
     }
 
+    /**
+     * Cria DvMultimedia cujos dados não são copiados, mas mantidos como
+     * visão somente leitura da região fornecida.
+     */
+    public static DvMultimedia newDvMultimediaView(
+            DvEncapsulated dvMultimediaDvEncapsulated,
+            String alternateText,
+            CodePhrase mediaType,
+            CodePhrase compressionAlgorithm,
+            byte[] integrityCheck,
+            CodePhrase integrityCheckAlgorithm,
+            DvMultimedia thumbnail,
+            DVURI uri,
+            ByteBuffer data) {
+        return new DvMultimedia(
+                dvMultimediaDvEncapsulated, alternateText, mediaType,
+                compressionAlgorithm, integrityCheck, integrityCheckAlgorithm,
+                thumbnail, uri, data);
+    }
+
+    /**
+     * Cria DvMultimedia cujos dados são mantidos em segmento de conteúdos
+     * e obtidos apenas quando requisitados.
+     */
+    public static DvMultimedia newDvMultimediaBlob(
+            DvEncapsulated dvMultimediaDvEncapsulated,
+            String alternateText,
+            CodePhrase mediaType,
+            CodePhrase compressionAlgorithm,
+            byte[] integrityCheck,
+            CodePhrase integrityCheckAlgorithm,
+            DvMultimedia thumbnail,
+            DVURI uri,
+            BlobSegment.Reference data) {
+        return new DvMultimedia(
+                dvMultimediaDvEncapsulated, alternateText, mediaType,
+                compressionAlgorithm, integrityCheck, integrityCheckAlgorithm,
+                thumbnail, uri, data);
+    }
+
     public static DvText newDvText(String value,
             List<TermMapping> mappings,
             String formatting,
@@ -150,7 +150,7 @@ public enum RMObjectID {
     }
 
     public static RMObjectID fromValue(int value) {
-        if (value >  0) {
+        if (value >= 0) {
             for (RMObjectID id : values()) {
                 if(id.getValue() == value){
                     return id;
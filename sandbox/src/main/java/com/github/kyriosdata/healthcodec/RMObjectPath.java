@@ -0,0 +1,594 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caminho, por exemplo {@code /data/events[3]/data/items[1]/name}, até um
+ * atributo de objeto serializado em um {@link Buffer}. O caminho é
+ * percorrido por meio dos cabeçalhos de posições dos objetos, ou seja,
+ * apenas o atributo alcançado é deserializado. O custo é proporcional à
+ * profundidade do caminho, e não ao tamanho do objeto.
+ *
+ * <p>Cada passo é o nome de um atributo (conforme o openEHR, por exemplo,
+ * {@code archetype_node_id}), opcionalmente seguido da ordem, a partir de
+ * 0, de um elemento quando o atributo é uma lista. Atributos herdados são
+ * alcançados diretamente, por exemplo, {@code /name} em uma Composition
+ * corresponde ao atributo {@code name} de seu Locatable.</p>
+ *
+ * <p>Itens de conteúdo (ContentItem), bem como os itens (Item) de
+ * estruturas de dados, são serializados apenas como Locatable. Ou seja,
+ * {@code /content[0]} de uma Composition oferece apenas os atributos de
+ * Locatable. Uma Observation deve ser percorrida a partir do tipo
+ * correspondente, por exemplo, {@link Type#OBSERVATION_ITEM_TREE_ITEM_TREE}.</p>
+ *
+ * <p>Instâncias são imutáveis e podem ser compartilhadas entre
+ * <em>threads</em>.</p>
+ */
+public final class RMObjectPath {
+
+    private static final int INT = PrimitiveTypeSize.INT.getSize();
+
+    /**
+     * Passo do caminho.
+     */
+    private static final class Step {
+        private final String name;
+        private final int index;
+
+        private Step(String name, int index) {
+            this.name = name;
+            this.index = index;
+        }
+    }
+
+    private final String path;
+    private final Step[] steps;
+
+    private RMObjectPath(String path, Step[] steps) {
+        this.path = path;
+        this.steps = steps;
+    }
+
+    /**
+     * Cria caminho a partir da representação textual.
+     *
+     * @param path Caminho, por exemplo, {@code /content[0]/name}.
+     * @return Caminho correspondente.
+     * @throws IllegalArgumentException se o caminho não é válido.
+     */
+    public static RMObjectPath compile(String path) {
+        if (path == null || !path.startsWith("/")) {
+            throw new IllegalArgumentException("caminho inválido: " + path);
+        }
+
+        List<Step> steps = new ArrayList<>();
+        for (String step : path.substring(1).split("/", -1)) {
+            if (step.isEmpty() && path.length() == 1) {
+                break;
+            }
+
+            steps.add(step(path, step));
+        }
+
+        return new RMObjectPath(path, steps.toArray(new Step[0]));
+    }
+
+    private static Step step(String path, String step) {
+        int open = step.indexOf('[');
+        if (open < 0) {
+            if (step.isEmpty()) {
+                throw new IllegalArgumentException("caminho inválido: " + path);
+            }
+
+            return new Step(step, -1);
+        }
+
+        if (open == 0 || !step.endsWith("]")) {
+            throw new IllegalArgumentException("caminho inválido: " + path);
+        }
+
+        try {
+            int index = Integer.parseInt(step.substring(open + 1,
+                    step.length() - 1));
+            if (index < 0) {
+                throw new IllegalArgumentException(
+                        "caminho inválido: " + path);
+            }
+
+            return new Step(step.substring(0, open), index);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("caminho inválido: " + path, e);
+        }
+    }
+
+    /**
+     * Localiza o atributo designado pelo caminho.
+     *
+     * @param buffer Buffer que contém a serialização.
+     * @param offset Posição inicial do objeto (raiz do caminho).
+     * @param root   Tipo do objeto.
+     * @return Atributo alcançado ou {@code null} se algum atributo opcional
+     * do caminho está ausente.
+     * @throws IllegalArgumentException se o caminho não é válido para o
+     * tipo.
+     * @throws IndexOutOfBoundsException se algum elemento do caminho não
+     * existe.
+     */
+    public Node resolve(Buffer buffer, int offset, Type root) {
+        Node node = new Node(buffer, offset, root, false);
+        for (Step step : steps) {
+            if (node.list) {
+                throw new IllegalArgumentException(
+                        "elemento de lista não indicado: " + path);
+            }
+
+            node = node.attribute(step.name, path);
+            if (node == null) {
+                return null;
+            }
+
+            if (step.index >= 0) {
+                if (!node.list) {
+                    throw new IllegalArgumentException(
+                            step.name + " não é lista: " + path);
+                }
+
+                node = node.element(step.index);
+            }
+        }
+
+        return node;
+    }
+
+    /**
+     * Localiza e deserializa o atributo designado pelo caminho.
+     *
+     * @param buffer Buffer que contém a serialização.
+     * @param offset Posição inicial do objeto (raiz do caminho).
+     * @param root   Tipo do objeto.
+     * @return Valor do atributo ou {@code null} se algum atributo opcional
+     * do caminho está ausente.
+     * @see #resolve(Buffer, int, Type)
+     * @see Node#decode()
+     */
+    public Object decode(Buffer buffer, int offset, Type root) {
+        Node node = resolve(buffer, offset, root);
+        return node == null ? null : node.decode();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    /**
+     * Atributo alcançado por um caminho: tipo e posição no buffer. Quando
+     * o atributo é uma lista, a posição é a da lista.
+     */
+    public static final class Node {
+        private final Buffer buffer;
+        private final int offset;
+        private final Type type;
+        private final boolean list;
+
+        private Node(Buffer buffer, int offset, Type type, boolean list) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.type = type;
+            this.list = list;
+        }
+
+        /**
+         * Tipo do atributo ou, se lista, dos elementos da lista.
+         *
+         * @return Tipo do atributo.
+         */
+        public Type type() {
+            return type;
+        }
+
+        public int offset() {
+            return offset;
+        }
+
+        public boolean isList() {
+            return list;
+        }
+
+        /**
+         * Quantidade de elementos da lista.
+         *
+         * @return Quantidade de elementos.
+         * @throws IllegalStateException se o atributo não é lista.
+         */
+        public int size() {
+            if (!list) {
+                throw new IllegalStateException("não é lista");
+            }
+
+            return buffer.readInteger(offset);
+        }
+
+        /**
+         * Elemento da lista.
+         *
+         * @param index Ordem do elemento, a partir de 0.
+         * @return Elemento indicado.
+         * @throws IllegalStateException se o atributo não é lista.
+         * @throws IndexOutOfBoundsException se não existe o elemento.
+         */
+        public Node element(int index) {
+            int size = size();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException(
+                        "elemento " + index + " de " + size);
+            }
+
+            int position = buffer.readInteger(offset + INT + index * INT);
+            return new Node(buffer, position, type, false);
+        }
+
+        /**
+         * Deserializa o atributo (ou todos os elementos, se lista).
+         *
+         * @return Valor do atributo, ou lista de valores.
+         */
+        public Object decode() {
+            if (!list) {
+                return type.decode(buffer, offset);
+            }
+
+            int size = size();
+            List<Object> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(element(i).decode());
+            }
+
+            return values;
+        }
+
+        private Node attribute(String name, String path) {
+            Type current = type;
+            int position = offset;
+            Attribute attribute = current.attributes.get(name);
+            while (attribute == null) {
+                Attribute delegate =
+                        current.attributes.get(current.layout.delegate);
+                if (delegate == null) {
+                    throw new IllegalArgumentException(
+                            current + " não possui " + name + ": " + path);
+                }
+
+                position = RMObjectView.field(buffer, position,
+                        current.layout.optional, delegate.field,
+                        current.layout.packed);
+                current = delegate.target;
+                attribute = current.attributes.get(name);
+            }
+
+            int target = RMObjectView.field(buffer, position,
+                    current.layout.optional, attribute.field,
+                    current.layout.packed);
+            return target < 0 ? null
+                    : new Node(buffer, target, attribute.target, attribute.list);
+        }
+    }
+
+    /**
+     * Atributo de um tipo: ordem no cabeçalho e tipo do valor.
+     */
+    private static final class Attribute {
+        private final int field;
+        private final Type target;
+        private final boolean list;
+
+        private Attribute(int field, Type target, boolean list) {
+            this.field = field;
+            this.target = target;
+            this.list = list;
+        }
+    }
+
+    /**
+     * Tipo cujo cabeçalho de posições é conhecido, o que permite
+     * percorrê-lo por meio de caminho.
+     */
+    public static final class Type {
+        private final String name;
+        private final Class<?> type;
+
+        /**
+         * Tipo que define o cabeçalho (o próprio ou outro de cabeçalho
+         * idêntico).
+         */
+        private final Type layout;
+        private final Map<String, Attribute> attributes;
+        private int optional;
+        private String delegate;
+
+        /**
+         * Indica se o tipo admite o cabeçalho compacto (mapa de presença).
+         */
+        private boolean packed;
+
+        private Type(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+            this.layout = this;
+            this.attributes = new HashMap<>();
+        }
+
+        /**
+         * Tipo cujo cabeçalho é idêntico ao do tipo indicado.
+         */
+        private Type(String name, Class<?> type, Type layout) {
+            this.name = name;
+            this.type = type;
+            this.layout = layout;
+            this.attributes = layout.attributes;
+        }
+
+        public static final Type STRING = new Type("STRING", String.class);
+        public static final Type DV_TEXT = new Type("DV_TEXT", DvText.class);
+        public static final Type DV_CODED_TEXT =
+                new Type("DV_CODED_TEXT", DvCodedText.class);
+        public static final Type CODE_PHRASE =
+                new Type("CODE_PHRASE", CodePhrase.class);
+        public static final Type DV_DATE_TIME =
+                new Type("DV_DATE_TIME", DvDateTime.class);
+        public static final Type DV_DURATION =
+                new Type("DV_DURATION", DvDuration.class);
+        public static final Type UID_BASED_ID =
+                new Type("UID_BASED_ID", UIDBasedID.class);
+        public static final Type HIER_OBJECT_ID =
+                new Type("HIER_OBJECT_ID", HierObjectID.class);
+        public static final Type OBJECT_REF =
+                new Type("OBJECT_REF", ObjectRef.class);
+        public static final Type ARCHETYPED =
+                new Type("ARCHETYPED", Archetyped.class);
+        public static final Type FEEDER_AUDIT =
+                new Type("FEEDER_AUDIT", FeederAudit.class);
+        public static final Type LINK = new Type("LINK", Link.class);
+        public static final Type PARTY_PROXY =
+                new Type("PARTY_PROXY", PartyProxy.class);
+        public static final Type EVENT_CONTEXT =
+                new Type("EVENT_CONTEXT", EventContext.class);
+
+        public static final Type LOCATABLE =
+                new Type("LOCATABLE", Locatable.class);
+        public static final Type CONTENT_ITEM =
+                new Type("CONTENT_ITEM", ContentItem.class, LOCATABLE);
+        public static final Type ITEM = new Type("ITEM", Item.class, LOCATABLE);
+        public static final Type ITEM_STRUCTURE =
+                new Type("ITEM_STRUCTURE", ItemStructure.class, LOCATABLE);
+        public static final Type DATA_STRUCTURE =
+                new Type("DATA_STRUCTURE", DataStructure.class, LOCATABLE);
+
+        public static final Type ELEMENT = new Type("ELEMENT", Element.class);
+        public static final Type CLUSTER = new Type("CLUSTER", Cluster.class);
+        public static final Type ITEM_TREE =
+                new Type("ITEM_TREE", ItemTree.class);
+        public static final Type ITEM_SINGLE =
+                new Type("ITEM_SINGLE", ItemSingle.class);
+        public static final Type ITEM_TABLE =
+                new Type("ITEM_TABLE", ItemTable.class);
+
+        public static final Type EVENT_ITEM_TREE =
+                new Type("EVENT_ITEM_TREE", EventWithItemTree.class);
+        public static final Type EVENT_ITEM_SINGLE =
+                new Type("EVENT_ITEM_SINGLE", EventWithItemSingle.class);
+        public static final Type EVENT_ITEM_TABLE =
+                new Type("EVENT_ITEM_TABLE", EventWithItemTable.class);
+        public static final Type HISTORY_ITEM_TREE =
+                new Type("HISTORY_ITEM_TREE", HistoryWithItemTree.class);
+        public static final Type HISTORY_ITEM_SINGLE =
+                new Type("HISTORY_ITEM_SINGLE", HistoryWithItemSingle.class);
+        public static final Type HISTORY_ITEM_TABLE =
+                new Type("HISTORY_ITEM_TABLE", HistoryWithItemTable.class);
+
+        public static final Type ENTRY = new Type("ENTRY", Entry.class);
+        public static final Type CARE_ENTRY =
+                new Type("CARE_ENTRY", CareEntry.class);
+        public static final Type OBSERVATION_ITEM_TREE_ITEM_TREE = new Type(
+                "OBSERVATION_ITEM_TREE_ITEM_TREE",
+                ObservationWithItemTreeItemTree.class);
+        public static final Type OBSERVATION_ITEM_TREE_ITEM_SINGLE = new Type(
+                "OBSERVATION_ITEM_TREE_ITEM_SINGLE",
+                ObservationWithItemTreeItemSingle.class);
+        public static final Type OBSERVATION_ITEM_TREE_ITEM_TABLE = new Type(
+                "OBSERVATION_ITEM_TREE_ITEM_TABLE",
+                ObservationWithItemTreeItemTable.class);
+        public static final Type OBSERVATION_ITEM_SINGLE_ITEM_TREE = new Type(
+                "OBSERVATION_ITEM_SINGLE_ITEM_TREE",
+                ObservationWithItemSingleItemTree.class);
+        public static final Type OBSERVATION_ITEM_SINGLE_ITEM_SINGLE = new Type(
+                "OBSERVATION_ITEM_SINGLE_ITEM_SINGLE",
+                ObservationWithItemSingleItemSingle.class);
+        public static final Type OBSERVATION_ITEM_SINGLE_ITEM_TABLE = new Type(
+                "OBSERVATION_ITEM_SINGLE_ITEM_TABLE",
+                ObservationWithItemSingleItemTable.class);
+        public static final Type OBSERVATION_ITEM_TABLE_ITEM_TREE = new Type(
+                "OBSERVATION_ITEM_TABLE_ITEM_TREE",
+                ObservationWithItemTableItemTree.class);
+        public static final Type OBSERVATION_ITEM_TABLE_ITEM_SINGLE = new Type(
+                "OBSERVATION_ITEM_TABLE_ITEM_SINGLE",
+                ObservationWithItemTableItemSingle.class);
+        public static final Type OBSERVATION_ITEM_TABLE_ITEM_TABLE = new Type(
+                "OBSERVATION_ITEM_TABLE_ITEM_TABLE",
+                ObservationWithItemTableItemTable.class);
+
+        public static final Type COMPOSITION =
+                new Type("COMPOSITION", Composition.class);
+        public static final Type EHR = new Type("EHR", RMObject.EHR.class);
+
+        static {
+            LOCATABLE.optional(0, "uid", UID_BASED_ID);
+            LOCATABLE.field(1, "archetype_node_id", STRING);
+            LOCATABLE.field(2, "name", DV_TEXT);
+            LOCATABLE.optional(3, "archetype_details", ARCHETYPED);
+            LOCATABLE.optional(4, "feeder_audit", FEEDER_AUDIT);
+            LOCATABLE.optionalList(5, "links", LINK);
+
+            ELEMENT.field(0, "item", ITEM);
+            ELEMENT.field(1, "null_flavour", DV_CODED_TEXT);
+            ELEMENT.delegate = "item";
+
+            CLUSTER.field(0, "item", ITEM);
+            CLUSTER.list(1, "items", ITEM);
+            CLUSTER.delegate = "item";
+
+            ITEM_TREE.field(0, "item_structure", ITEM_STRUCTURE);
+            ITEM_TREE.optionalList(1, "items", ITEM);
+            ITEM_TREE.delegate = "item_structure";
+
+            ITEM_SINGLE.field(0, "item_structure", ITEM_STRUCTURE);
+            ITEM_SINGLE.field(1, "item", ELEMENT);
+            ITEM_SINGLE.delegate = "item_structure";
+
+            ITEM_TABLE.field(0, "item_structure", ITEM_STRUCTURE);
+            ITEM_TABLE.list(1, "rows", CLUSTER);
+            ITEM_TABLE.delegate = "item_structure";
+
+            event(EVENT_ITEM_TREE, ITEM_TREE);
+            event(EVENT_ITEM_SINGLE, ITEM_SINGLE);
+            event(EVENT_ITEM_TABLE, ITEM_TABLE);
+
+            history(HISTORY_ITEM_TREE, EVENT_ITEM_TREE);
+            history(HISTORY_ITEM_SINGLE, EVENT_ITEM_SINGLE);
+            history(HISTORY_ITEM_TABLE, EVENT_ITEM_TABLE);
+
+            ENTRY.field(0, "content_item", CONTENT_ITEM);
+            ENTRY.field(1, "language", CODE_PHRASE);
+            ENTRY.field(2, "encoding", CODE_PHRASE);
+            ENTRY.field(3, "subject", PARTY_PROXY);
+            ENTRY.optional(4, "provider", PARTY_PROXY);
+            ENTRY.optional(5, "workflow_id", OBJECT_REF);
+            ENTRY.delegate = "content_item";
+
+            CARE_ENTRY.field(0, "entry", ENTRY);
+            CARE_ENTRY.optional(1, "protocol", ITEM_STRUCTURE);
+            CARE_ENTRY.optional(2, "guideline_id", OBJECT_REF);
+            CARE_ENTRY.delegate = "entry";
+
+            observation(OBSERVATION_ITEM_TREE_ITEM_TREE,
+                    HISTORY_ITEM_TREE, HISTORY_ITEM_TREE);
+            observation(OBSERVATION_ITEM_TREE_ITEM_SINGLE,
+                    HISTORY_ITEM_TREE, HISTORY_ITEM_SINGLE);
+            observation(OBSERVATION_ITEM_TREE_ITEM_TABLE,
+                    HISTORY_ITEM_TREE, HISTORY_ITEM_TABLE);
+            observation(OBSERVATION_ITEM_SINGLE_ITEM_TREE,
+                    HISTORY_ITEM_SINGLE, HISTORY_ITEM_TREE);
+            observation(OBSERVATION_ITEM_SINGLE_ITEM_SINGLE,
+                    HISTORY_ITEM_SINGLE, HISTORY_ITEM_SINGLE);
+            observation(OBSERVATION_ITEM_SINGLE_ITEM_TABLE,
+                    HISTORY_ITEM_SINGLE, HISTORY_ITEM_TABLE);
+            observation(OBSERVATION_ITEM_TABLE_ITEM_TREE,
+                    HISTORY_ITEM_TABLE, HISTORY_ITEM_TREE);
+            observation(OBSERVATION_ITEM_TABLE_ITEM_SINGLE,
+                    HISTORY_ITEM_TABLE, HISTORY_ITEM_SINGLE);
+            observation(OBSERVATION_ITEM_TABLE_ITEM_TABLE,
+                    HISTORY_ITEM_TABLE, HISTORY_ITEM_TABLE);
+
+            COMPOSITION.field(0, "locatable", LOCATABLE);
+            COMPOSITION.optionalList(1, "content", CONTENT_ITEM);
+            COMPOSITION.field(2, "language", CODE_PHRASE);
+            COMPOSITION.optional(3, "context", EVENT_CONTEXT);
+            COMPOSITION.field(4, "composer", PARTY_PROXY);
+            COMPOSITION.field(5, "category", DV_CODED_TEXT);
+            COMPOSITION.field(6, "territory", CODE_PHRASE);
+            COMPOSITION.delegate = "locatable";
+
+            LOCATABLE.packed = true;
+            EVENT_CONTEXT.packed = true;
+            COMPOSITION.packed = true;
+
+            EHR.field(0, "system_id", HIER_OBJECT_ID);
+            EHR.field(1, "ehr_id", HIER_OBJECT_ID);
+            EHR.field(2, "time_created", DV_DATE_TIME);
+            EHR.list(3, "contributions", OBJECT_REF);
+            EHR.field(4, "ehr_status", OBJECT_REF);
+            EHR.field(5, "directory", OBJECT_REF);
+            EHR.list(6, "compositions", OBJECT_REF);
+        }
+
+        private static void event(Type event, Type data) {
+            event.field(0, "locatable", LOCATABLE);
+            event.field(1, "time", DV_DATE_TIME);
+            event.field(2, "data", data);
+            event.field(3, "state", ITEM_STRUCTURE);
+            event.delegate = "locatable";
+        }
+
+        private static void history(Type history, Type event) {
+            history.field(0, "data_structure", DATA_STRUCTURE);
+            history.field(1, "origin", DV_DATE_TIME);
+            history.optionalList(2, "events", event);
+            history.optional(3, "period", DV_DURATION);
+            history.optional(4, "duration", DV_DURATION);
+            history.optional(5, "summary", ITEM_STRUCTURE);
+            history.delegate = "data_structure";
+        }
+
+        private static void observation(Type observation, Type data,
+                                        Type state) {
+            observation.field(0, "care_entry", CARE_ENTRY);
+            observation.field(1, "data", data);
+            observation.optional(2, "state", state);
+            observation.delegate = "care_entry";
+        }
+
+        private void field(int field, String name, Type target) {
+            attributes.put(name, new Attribute(field, target, false));
+        }
+
+        private void list(int field, String name, Type target) {
+            attributes.put(name, new Attribute(field, target, true));
+        }
+
+        private void optional(int field, String name, Type target) {
+            field(field, name, target);
+            optional |= 1 << field;
+        }
+
+        private void optionalList(int field, String name, Type target) {
+            list(field, name, target);
+            optional |= 1 << field;
+        }
+
+        /**
+         * Deserializa valor deste tipo na posição indicada.
+         */
+        private Object decode(Buffer buffer, int offset) {
+            if (this == STRING) {
+                return RMObjectSerialization.stringDeserialization(buffer,
+                        offset);
+            }
+
+            return RMObjectCodecs.of(type).deserialize(buffer, offset);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -17,7 +17,13 @@ package com.github.kyriosdata.healthcodec;
 import com.github.kyriosdata.healthcodec.RMObject.*;
 import com.github.kyriosdata.healthcodec.RMObject.UUID;
 
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
 
 import static com.github.kyriosdata.healthcodec.PrimitiveTypeSize.BOOLEAN;
 
@@ -49,11 +55,24 @@ import static com.github.kyriosdata.healthcodec.PrimitiveTypeSize.BOOLEAN;
  * em cada classe de forma direta a partir da posição indicada. E fazer o
  * processo inverso apenas lendo as informações do cabeçalho e acessando a
  * posição de cada classe, reconstruindo ao fim o objeto criado no {@link RMObjectFactory}
- * 
+ *
+ * Os serializadores não possuem estado. Cada um deles possui uma única
+ * instância, {@code INSTANCE}, empregada tanto pelos clientes quanto pelos
+ * demais serializadores, e o construtor é privado.
  */
 public class RMObjectSerialization {
 
+    /**
+     * Maior posição que pode ser referenciada por uma String repetida (ver
+     * {@link StringTable}) no perfil compacto.
+     */
+    private static final int MAX_REFERENCE = Integer.MAX_VALUE >> 1;
+
     static class DvBooleanSerializer {
+        static final DvBooleanSerializer INSTANCE = new DvBooleanSerializer();
+
+        private DvBooleanSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, boolean value){
             buffer.writeBoolean(offset, value);
@@ -62,8 +81,7 @@ public class RMObjectSerialization {
         
         protected int serialize(Buffer buffer, int offset, DvBoolean d){
             int position = offset;
-            DvBooleanSerializer dbs = new DvBooleanSerializer();
-            position = dbs.serialize(buffer, position, d.getValue());
+            position = this.serialize(buffer, position, d.getValue());
             
             return position;
         }
@@ -76,6 +94,10 @@ public class RMObjectSerialization {
     }
 
     static class DvIdentifierSerializer {
+        static final DvIdentifierSerializer INSTANCE = new DvIdentifierSerializer();
+
+        private DvIdentifierSerializer() {
+        }
 
         protected int serialize(Buffer buffer,
                 int offset, String issuer, String assigner, String id,
@@ -100,10 +122,9 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset,
                 DvIdentifier dvi) {
-            DvIdentifierSerializer dis = new DvIdentifierSerializer();
             int position = offset;
 
-            position = dis.serialize(
+            position = this.serialize(
                     buffer,
                     position,
                     dvi.getIssuer(),
@@ -147,11 +168,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            DvIdentifierSerializer dis = new DvIdentifierSerializer();
 
             for (DvIdentifier d : items){
                 header = writeHeader(buffer, header, position);
-                position = dis.serialize(buffer, position, d);
+                position = this.serialize(buffer, position, d);
             }
 
             return position;
@@ -163,12 +183,11 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
 
             List<DvIdentifier> list = new ArrayList<>();
-            DvIdentifierSerializer dis = new DvIdentifierSerializer();
 
             for (int i = 0; i < listSize; i++){
                 int dvIdentifierPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
-                DvIdentifier t = dis.deserialize(buffer, dvIdentifierPosition);
+                DvIdentifier t = this.deserialize(buffer, dvIdentifierPosition);
                 list.add(t);
             }
 
@@ -177,6 +196,11 @@ public class RMObjectSerialization {
     }
     
     static class UIDSerializer {
+        static final UIDSerializer INSTANCE = new UIDSerializer();
+
+        private UIDSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, 
                 String value) {
             int position = offset;
@@ -188,8 +212,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 UID u) {
             int position = offset;
-            UIDSerializer us = new UIDSerializer();
-            position = us.serialize(buffer, position, u.getValue());
+            position = this.serialize(buffer, position, u.getValue());
             
             return position;
         }
@@ -203,6 +226,10 @@ public class RMObjectSerialization {
     }
     
     static class InternetIDSerializer {
+        static final InternetIDSerializer INSTANCE = new InternetIDSerializer();
+
+        private InternetIDSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -215,9 +242,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 InternetID id) {
             int position = offset;
-            InternetIDSerializer s = new InternetIDSerializer();
             
-            position = s.serialize(buffer, position, id.getUid().getValue());
+            position = this.serialize(buffer, position, id.getUid().getValue());
             
             return position;
         }
@@ -231,6 +257,10 @@ public class RMObjectSerialization {
     }
 
     static class ISOOIDSerialilzer {
+        static final ISOOIDSerialilzer INSTANCE = new ISOOIDSerialilzer();
+
+        private ISOOIDSerialilzer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -243,9 +273,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 ISO_OID iso) {
             int position = offset;
-            ISOOIDSerialilzer isos = new ISOOIDSerialilzer();
             
-            position = isos.serialize(buffer, position, 
+            position = this.serialize(buffer, position, 
                     iso.getUid().getValue());
             
             return position;
@@ -260,6 +289,10 @@ public class RMObjectSerialization {
     }
 
     static class UUIDSerializer {
+        static final UUIDSerializer INSTANCE = new UUIDSerializer();
+
+        private UUIDSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -272,8 +305,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 UUID uuid){
             int position = offset;
-            UUIDSerializer us = new UUIDSerializer();
-            position = us.serialize(buffer, position, uuid.getUid().getValue());
+            position = this.serialize(buffer, position, uuid.getUid().getValue());
             
             return position;
         }
@@ -287,6 +319,10 @@ public class RMObjectSerialization {
     }
 
     static class GenericIDSerializer {
+        static final GenericIDSerializer INSTANCE = new GenericIDSerializer();
+
+        private GenericIDSerializer() {
+        }
 
         protected int serialize(
                 Buffer buffer, int offset, String value, String scheme)
@@ -306,8 +342,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 GenericID gid) {
             int position = offset;
-            GenericIDSerializer gids = new GenericIDSerializer();
-            position = gids.serialize(buffer, position, 
+            position = this.serialize(buffer, position, 
                     gid.getObjectID().getValue(), gid.getScheme());
             
             return position;
@@ -328,6 +363,10 @@ public class RMObjectSerialization {
     }
 
     static class TemplateIDSerializer {
+        static final TemplateIDSerializer INSTANCE = new TemplateIDSerializer();
+
+        private TemplateIDSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -340,8 +379,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 TemplateID tid) {
             int position = offset;
-            TemplateIDSerializer ts = new TemplateIDSerializer();
-            position = ts.serialize(buffer, position, 
+            position = this.serialize(buffer, position, 
                     tid.getObjectID().getValue());
             
             return position;
@@ -356,6 +394,10 @@ public class RMObjectSerialization {
     }
 
     static class TerminologyIDSerializer {
+        static final TerminologyIDSerializer INSTANCE = new TerminologyIDSerializer();
+
+        private TerminologyIDSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String name, 
                 String version) {
@@ -374,8 +416,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, TerminologyID tid)
                  {
             int position = offset;
-            TerminologyIDSerializer tids = new TerminologyIDSerializer();
-            position = tids.serialize(buffer, position, 
+            position = this.serialize(buffer, position, 
                     tid.getName(), tid.getVersion());
             
             return position;
@@ -397,6 +438,10 @@ public class RMObjectSerialization {
     }
 
     static class CodePhraseSerializer {
+        static final CodePhraseSerializer INSTANCE = new CodePhraseSerializer();
+
+        private CodePhraseSerializer() {
+        }
 
         protected int serialize(
                 Buffer buffer, int offset,
@@ -405,7 +450,7 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
             
-            TerminologyIDSerializer ts = new TerminologyIDSerializer();
+            TerminologyIDSerializer ts = TerminologyIDSerializer.INSTANCE;
             
             header = writeHeader(buffer, header, position);
             position = ts.serialize(buffer, position, terminologyId);
@@ -419,8 +464,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 CodePhrase cp) {
             int position = offset;
-            CodePhraseSerializer cps = new CodePhraseSerializer();
-            position = cps.serialize(buffer,
+            position = this.serialize(buffer,
                     position, cp.getTerminologyID(), cp.getCodeString());
 
             return position;
@@ -429,7 +473,7 @@ public class RMObjectSerialization {
         protected CodePhrase deserialize(
                 Buffer buffer, int offset){
             int position = offset;
-            TerminologyIDSerializer ts = new TerminologyIDSerializer();
+            TerminologyIDSerializer ts = TerminologyIDSerializer.INSTANCE;
             
             int terminologyIDPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -445,6 +489,10 @@ public class RMObjectSerialization {
     }
 
     static class DVURISerializer {
+        static final DVURISerializer INSTANCE = new DVURISerializer();
+
+        private DVURISerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -455,8 +503,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 DVURI d){
             int position = offset;
-            DVURISerializer ds = new DVURISerializer();
-            position = ds.serialize(buffer, position, d.getValue());
+            position = this.serialize(buffer, position, d.getValue());
             
             return position;
         }
@@ -470,6 +517,10 @@ public class RMObjectSerialization {
     }
 
     static class DvEHRURISerializer {
+        static final DvEHRURISerializer INSTANCE = new DvEHRURISerializer();
+
+        private DvEHRURISerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -479,10 +530,9 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset,
                 DvEHRURI DvEHRURI) {
-            DvEHRURISerializer des = new DvEHRURISerializer();
             int position = offset;
 
-            position = des.serialize(buffer, position, 
+            position = this.serialize(buffer, position, 
                     DvEHRURI.getDvuri().getValue());
 
             return position;
@@ -502,7 +552,6 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            DvEHRURISerializer des = new DvEHRURISerializer();
 
             header = writeHeader(buffer, header, setSize);
             Iterator<DvEHRURI> it = items.iterator();
@@ -511,7 +560,7 @@ public class RMObjectSerialization {
                 DvEHRURI d = it.next();
                 int dvPosition = position;
                 header = writeHeader(buffer, header, dvPosition);
-                position = des.serialize(buffer, position, d);
+                position = this.serialize(buffer, position, d);
             }
 
             return position;
@@ -522,14 +571,13 @@ public class RMObjectSerialization {
             int listSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            DvEHRURISerializer des = new DvEHRURISerializer();
             Set<DvEHRURI> dves = new HashSet<>();
 
             for (int i = 0; i < listSize; i++){
                 int dvPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
 
-                DvEHRURI dv = des.deserialize(buffer, dvPosition);
+                DvEHRURI dv = this.deserialize(buffer, dvPosition);
                 dves.add(dv);
             }
 
@@ -538,6 +586,10 @@ public class RMObjectSerialization {
     }
 
     static class VersionTreeIDSerializer {
+        static final VersionTreeIDSerializer INSTANCE = new VersionTreeIDSerializer();
+
+        private VersionTreeIDSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -548,8 +600,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, VersionTreeID vti)
                  {
             int position = offset;
-            VersionTreeIDSerializer vs = new VersionTreeIDSerializer();
-            position = vs.serialize(buffer, position, vti.getValue());
+            position = this.serialize(buffer, position, vti.getValue());
             
             return position;
         }
@@ -563,6 +614,10 @@ public class RMObjectSerialization {
     }
 
     static class ArchetypeIDSerializer {
+        static final ArchetypeIDSerializer INSTANCE = new ArchetypeIDSerializer();
+
+        private ArchetypeIDSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -575,8 +630,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, ArchetypeID a)
                  {
             int position = offset;
-            ArchetypeIDSerializer as = new ArchetypeIDSerializer();
-            position = as.serialize(buffer, position, 
+            position = this.serialize(buffer, position, 
                     a.getObjectID().getValue());
             
             return position;
@@ -591,6 +645,10 @@ public class RMObjectSerialization {
     }
 
     static class ObjectVersionIDSerializer {
+        static final ObjectVersionIDSerializer INSTANCE = new ObjectVersionIDSerializer();
+
+        private ObjectVersionIDSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -601,8 +659,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, ObjectVersionID o)
                  {
             int position = offset;
-            ObjectVersionIDSerializer os = new ObjectVersionIDSerializer();
-            position = os.serialize(buffer, position, 
+            position = this.serialize(buffer, position, 
                     o.getUIDBasedID().getValue());
             
             return position;
@@ -617,6 +674,10 @@ public class RMObjectSerialization {
     }
 
     static class HierObjectIDSerializer {
+        static final HierObjectIDSerializer INSTANCE = new HierObjectIDSerializer();
+
+        private HierObjectIDSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -627,8 +688,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, HierObjectID h)
                  {
             int position = offset;
-            HierObjectIDSerializer os = new HierObjectIDSerializer();
-            position = os.serialize(buffer, position, 
+            position = this.serialize(buffer, position, 
                     h.getUIDBasedID().getValue());
             
             return position;
@@ -643,6 +703,10 @@ public class RMObjectSerialization {
     }
 
     static class ObjectIDSerializer {
+        static final ObjectIDSerializer INSTANCE = new ObjectIDSerializer();
+
+        private ObjectIDSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -653,8 +717,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, ObjectID o)
                  {
             int position = offset;
-            ObjectIDSerializer os = new ObjectIDSerializer();
-            position = os.serialize(buffer, position, o.getValue());
+            position = this.serialize(buffer, position, o.getValue());
             
             return position;
         }
@@ -674,8 +737,7 @@ public class RMObjectSerialization {
             int position = offset
                     + mapSize * (2 * PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
-            ObjectIDSerializer ois = new ObjectIDSerializer();
-            PartySerializer ps = new PartySerializer();
+            PartySerializer ps = PartySerializer.INSTANCE;
 
             header = writeHeader(buffer, header, mapSize);
             if (mapSize == 0){
@@ -687,7 +749,7 @@ public class RMObjectSerialization {
                 Party value = entry.getValue();
 
                 header = writeHeader(buffer, header, position);
-                position = ois.serialize(buffer, position, key);
+                position = this.serialize(buffer, position, key);
                 header = writeHeader(buffer, header, position);
                 position = ps.serialize(buffer, position, value);
             }
@@ -701,8 +763,7 @@ public class RMObjectSerialization {
             int mapSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            ObjectIDSerializer ois = new ObjectIDSerializer();
-            PartySerializer ps = new PartySerializer();
+            PartySerializer ps = PartySerializer.INSTANCE;
             Map<ObjectID, Party> map = new HashMap<>();
             if (mapSize == 0){
                 return map;
@@ -713,7 +774,7 @@ public class RMObjectSerialization {
                 position += PrimitiveTypeSize.INT.getSize();
                 int valuePosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
-                ObjectID key = ois.deserialize(buffer, keyPosition);
+                ObjectID key = this.deserialize(buffer, keyPosition);
                 Party value = ps.deserialize(buffer, valuePosition);
 
                 map.put(key, value);
@@ -724,6 +785,10 @@ public class RMObjectSerialization {
     }
 
     static class PartyRefSerializer {
+        static final PartyRefSerializer INSTANCE = new PartyRefSerializer();
+
+        private PartyRefSerializer() {
+        }
 
         protected int serialize(
                 Buffer buffer,
@@ -732,7 +797,7 @@ public class RMObjectSerialization {
                 String value) {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
-            ObjectIDSerializer os = new ObjectIDSerializer();
+            ObjectIDSerializer os = ObjectIDSerializer.INSTANCE;
             
             header = writeHeader(buffer, header, position);
             position = os.serialize(buffer, position, id);
@@ -746,10 +811,9 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 PartyRef pr) {
             int position = offset;
-            PartyRefSerializer prs = new PartyRefSerializer();
 
             position
-                    = prs.serialize(buffer, position,
+                    = this.serialize(buffer, position,
                             pr.getObjectRef().getId(), 
                             pr.getObjectRef().getType());
 
@@ -758,7 +822,7 @@ public class RMObjectSerialization {
 
         protected PartyRef deserialize(Buffer buffer, int offset){
             int position = offset;
-            ObjectIDSerializer os = new ObjectIDSerializer();
+            ObjectIDSerializer os = ObjectIDSerializer.INSTANCE;
             
             int idPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -772,6 +836,10 @@ public class RMObjectSerialization {
     }
 
     static class ObjectRefSerializer {
+        static final ObjectRefSerializer INSTANCE = new ObjectRefSerializer();
+
+        private ObjectRefSerializer() {
+        }
 
         protected int serialize(
                 Buffer buffer,
@@ -782,7 +850,7 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize();
             
-            ObjectIDSerializer os = new ObjectIDSerializer();
+            ObjectIDSerializer os = ObjectIDSerializer.INSTANCE;
             
             header = writeHeader(buffer, header, position);
             position = os.serialize(buffer, position, id);
@@ -799,8 +867,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                                 ObjectRef or) {
             int position = offset;
-            ObjectRefSerializer ors = new ObjectRefSerializer();
-            position = ors.serialize(buffer, position, or.getId(),
+            position = this.serialize(buffer, position, or.getId(),
                     or.getNamespace(), or.getType());
 
             return position;
@@ -808,7 +875,7 @@ public class RMObjectSerialization {
 
         protected ObjectRef deserialize(Buffer buffer, int offset){
             int position = offset;
-            ObjectIDSerializer os = new ObjectIDSerializer();
+            ObjectIDSerializer os = ObjectIDSerializer.INSTANCE;
             
             int idPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -832,7 +899,6 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            ObjectRefSerializer ors = new ObjectRefSerializer();
 
             header = writeHeader(buffer, header, setSize);
             Iterator<ObjectRef> it = items.iterator();
@@ -841,7 +907,7 @@ public class RMObjectSerialization {
                 ObjectRef or = it.next();
                 int objectRefPosition = position;
                 header = writeHeader(buffer, header, objectRefPosition);
-                position = ors.serialize(buffer, position, or);
+                position = this.serialize(buffer, position, or);
             }
 
             return position;
@@ -852,14 +918,13 @@ public class RMObjectSerialization {
             int listSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            ObjectRefSerializer ors = new ObjectRefSerializer();
             Set<ObjectRef> items = new HashSet<>();
 
             for (int i = 0; i < listSize; i++){
                 int orPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
 
-                ObjectRef or = ors.deserialize(buffer, orPosition);
+                ObjectRef or = this.deserialize(buffer, orPosition);
                 items.add(or);
             }
 
@@ -876,38 +941,28 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            ObjectRefSerializer dis = new ObjectRefSerializer();
 
             for (ObjectRef o : items){
                 header = writeHeader(buffer, header, position);
-                position = dis.serialize(buffer, position, o);
+                position = this.serialize(buffer, position, o);
             }
 
             return position;
         }
 
         protected List<ObjectRef> deserializeList(Buffer buffer, int offset){
-            int position = offset;
-            int listSize = buffer.readInteger(position);
-            position += PrimitiveTypeSize.INT.getSize();
-
-            List<ObjectRef> list = new ArrayList<>();
-            ObjectRefSerializer dis = new ObjectRefSerializer();
-
-            for (int i = 0; i < listSize; i++){
-                int objectRefPosition = buffer.readInteger(position);
-                position += PrimitiveTypeSize.INT.getSize();
-                ObjectRef o = dis.deserialize(buffer, objectRefPosition);
-                list.add(o);
-            }
-
-            return list;
+            return deserializeElements(buffer, offset,
+                    p -> this.deserialize(buffer, p));
         }
 
 
     }
 
     static class LocatableRefSerializer {
+        static final LocatableRefSerializer INSTANCE = new LocatableRefSerializer();
+
+        private LocatableRefSerializer() {
+        }
 
         protected int serialize(
                 Buffer buffer,
@@ -920,7 +975,7 @@ public class RMObjectSerialization {
             int position = offset + 4 * PrimitiveTypeSize.INT.getSize()+
                     BOOLEAN.getSize();
             
-            ObjectVersionIDSerializer os = new ObjectVersionIDSerializer();
+            ObjectVersionIDSerializer os = ObjectVersionIDSerializer.INSTANCE;
             
             header = writeHeader(buffer, header, position);
             position = os.serialize(buffer, position, id);
@@ -945,9 +1000,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 LocatableRef lr) {
             int position = offset;
-            LocatableRefSerializer lrs = new LocatableRefSerializer();
 
-            position = lrs.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     RMObjectFactory.newObjectVersionID(
                             lr.getObjectRef().getId().getValue()), 
                     lr.getObjectRef().getNamespace(), 
@@ -958,7 +1012,7 @@ public class RMObjectSerialization {
 
         protected LocatableRef deserialize(Buffer buffer, int offset){
             int position = offset;
-            ObjectVersionIDSerializer os = new ObjectVersionIDSerializer();
+            ObjectVersionIDSerializer os = ObjectVersionIDSerializer.INSTANCE;
             
             int idPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -991,7 +1045,6 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            LocatableRefSerializer lrs = new LocatableRefSerializer();
 
             header = writeHeader(buffer, header, setSize);
             Iterator<LocatableRef> it = lrefs.iterator();
@@ -1000,7 +1053,7 @@ public class RMObjectSerialization {
                 LocatableRef lr = it.next();
                 int linkPosition = position;
                 header = writeHeader(buffer, header, linkPosition);
-                position = lrs.serialize(buffer, position, lr);
+                position = this.serialize(buffer, position, lr);
             }
 
             return position;
@@ -1011,14 +1064,13 @@ public class RMObjectSerialization {
             int listSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            LocatableRefSerializer lrs = new LocatableRefSerializer();
             Set<LocatableRef> lrefs = new HashSet<>();
 
             for (int i = 0; i < listSize; i++){
                 int prPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
 
-                LocatableRef lr = lrs.deserialize(buffer, prPosition);
+                LocatableRef lr = this.deserialize(buffer, prPosition);
                 lrefs.add(lr);
             }
 
@@ -1028,6 +1080,10 @@ public class RMObjectSerialization {
     }
 
     static class ProportionKindSerializer {
+        static final ProportionKindSerializer INSTANCE = new ProportionKindSerializer();
+
+        private ProportionKindSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, ProportionKind p){
             int position = offset;
@@ -1048,12 +1104,16 @@ public class RMObjectSerialization {
     }
 
     static class AccessGroupRefSerializer {
+        static final AccessGroupRefSerializer INSTANCE = new AccessGroupRefSerializer();
+
+        private AccessGroupRefSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, 
                 ObjectID id) {
             int position = offset;
             
-            ObjectIDSerializer os = new ObjectIDSerializer();
+            ObjectIDSerializer os = ObjectIDSerializer.INSTANCE;
             
             position = os.serialize(buffer, position, id);
             
@@ -1064,9 +1124,8 @@ public class RMObjectSerialization {
                 AccessGroupRef agr) {
             int position = offset;
             
-            AccessGroupRefSerializer agrs = new AccessGroupRefSerializer();
             
-            position = agrs.serialize(
+            position = this.serialize(
                     buffer, position, agr.getObjectRef().getId());
             
             return position;
@@ -1075,7 +1134,7 @@ public class RMObjectSerialization {
         protected AccessGroupRef deserialize(Buffer buffer, int offset){
             int position = offset;
             
-            ObjectIDSerializer os = new ObjectIDSerializer();
+            ObjectIDSerializer os = ObjectIDSerializer.INSTANCE;
             ObjectID id = os.deserialize(buffer, position);
 
             return RMObjectFactory.newAccessGroupRef(id);
@@ -1083,6 +1142,10 @@ public class RMObjectSerialization {
     }
 
     static class PartyIdentifiedSerializer {
+        static final PartyIdentifiedSerializer INSTANCE = new PartyIdentifiedSerializer();
+
+        private PartyIdentifiedSerializer() {
+        }
 
         protected int serialize(Buffer buffer,
                 int offset,
@@ -1092,8 +1155,8 @@ public class RMObjectSerialization {
                  {
             int header = offset;
             int position = offset + (3 * PrimitiveTypeSize.INT.getSize());
-            PartyRefSerializer prs = new PartyRefSerializer();
-            DvIdentifierSerializer dis = new DvIdentifierSerializer();
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
+            DvIdentifierSerializer dis = DvIdentifierSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = prs.serialize(buffer, position, externalRef);
@@ -1109,10 +1172,9 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, PartyIdentified pi)
                  {
-            PartyIdentifiedSerializer pis = new PartyIdentifiedSerializer();
             int position = offset;
 
-            position = pis.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     pi.getExternalRef(), pi.getName(), pi.getIdentifiers());
 
             return position;
@@ -1120,8 +1182,8 @@ public class RMObjectSerialization {
 
         protected PartyIdentified deserialize(Buffer buffer, int offset){
             int position = offset;
-            PartyRefSerializer prs = new PartyRefSerializer();
-            DvIdentifierSerializer dis = new DvIdentifierSerializer();
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
+            DvIdentifierSerializer dis = DvIdentifierSerializer.INSTANCE;
 
             int externalRefPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -1142,6 +1204,10 @@ public class RMObjectSerialization {
     }
 
     static class ArchetypedSerializer {
+        static final ArchetypedSerializer INSTANCE = new ArchetypedSerializer();
+
+        private ArchetypedSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 ArchetypeID archetypeId,TemplateID templateId,
@@ -1150,8 +1216,8 @@ public class RMObjectSerialization {
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize() +
                     BOOLEAN.getSize();
             
-            ArchetypeIDSerializer ais = new ArchetypeIDSerializer();
-            TemplateIDSerializer tis = new TemplateIDSerializer();
+            ArchetypeIDSerializer ais = ArchetypeIDSerializer.INSTANCE;
+            TemplateIDSerializer tis = TemplateIDSerializer.INSTANCE;
             
             header = writeHeader(buffer, header, position);
             position = ais.serialize(buffer, position, archetypeId);
@@ -1173,9 +1239,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 Archetyped a) {
             int position = offset;
-            ArchetypedSerializer as = new ArchetypedSerializer();
 
-            position = as.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     a.getArchetypeId(), a.getTemplateId(), a.getRmVersion());
 
             return position;
@@ -1183,8 +1248,8 @@ public class RMObjectSerialization {
 
         protected Archetyped deserialize(Buffer buffer, int offset){
             int position = offset;
-            ArchetypeIDSerializer ais = new ArchetypeIDSerializer();
-            TemplateIDSerializer tis = new TemplateIDSerializer();
+            ArchetypeIDSerializer ais = ArchetypeIDSerializer.INSTANCE;
+            TemplateIDSerializer tis = TemplateIDSerializer.INSTANCE;
             
             int archetypeIdPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -1209,13 +1274,17 @@ public class RMObjectSerialization {
     }
 
     public static class DvEncapsulatedSerializer {
+        public static final DvEncapsulatedSerializer INSTANCE = new DvEncapsulatedSerializer();
+
+        private DvEncapsulatedSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, CodePhrase charset, 
                 CodePhrase language) {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
             
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
             
             header = writeHeader(buffer, header, position);
             position = cps.serialize(buffer, position, charset);
@@ -1229,8 +1298,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 DvEncapsulated de) {
             int position = offset;
-            DvEncapsulatedSerializer des = new DvEncapsulatedSerializer();
-            position = des.serialize(
+            position = this.serialize(
                     buffer, position, de.getCharset(), de.getLanguage());
 
             return position;
@@ -1238,7 +1306,7 @@ public class RMObjectSerialization {
 
         protected DvEncapsulated deserialize(Buffer buffer, int offset){
             int position = offset;
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
             
             int charsetPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -1252,6 +1320,10 @@ public class RMObjectSerialization {
     }
 
     public static class UIDBasedIDSerializer {
+        public static final UIDBasedIDSerializer INSTANCE = new UIDBasedIDSerializer();
+
+        private UIDBasedIDSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String value)
                  {
@@ -1264,9 +1336,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 UIDBasedID uid) {
             int position = offset;
-            UIDBasedIDSerializer us = new UIDBasedIDSerializer();
 
-            position = us.serialize(buffer, position, uid.getValue());
+            position = this.serialize(buffer, position, uid.getValue());
 
             return position;
         }
@@ -1280,6 +1351,10 @@ public class RMObjectSerialization {
     }
 
     public static class DvParsableSerializer {
+        public static final DvParsableSerializer INSTANCE = new DvParsableSerializer();
+
+        private DvParsableSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, 
                 DvEncapsulated dvEncapsulated, String value,
@@ -1287,7 +1362,7 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 4 * PrimitiveTypeSize.INT.getSize();
             
-            DvEncapsulatedSerializer des = new DvEncapsulatedSerializer();
+            DvEncapsulatedSerializer des = DvEncapsulatedSerializer.INSTANCE;
             
             header = writeHeader(buffer, header, position);
             position = des.serialize(buffer, position, dvEncapsulated);
@@ -1304,9 +1379,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 DvParsable dp){
             int position = offset;
-            DvParsableSerializer dps = new DvParsableSerializer();
             
-            position = dps.serialize(buffer, position, 
+            position = this.serialize(buffer, position, 
                     dp.getDvEncapsulated(), dp.getValue(), dp.getFormalism());
             
             return position;
@@ -1315,7 +1389,7 @@ public class RMObjectSerialization {
         protected DvParsable deserialize(Buffer buffer, int offset){
             int position = offset;
             
-            DvEncapsulatedSerializer des = new DvEncapsulatedSerializer();
+            DvEncapsulatedSerializer des = DvEncapsulatedSerializer.INSTANCE;
             
             int dvEncapsulatedPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -1335,11 +1409,15 @@ public class RMObjectSerialization {
     }
 
     public static class DvTimeSpecificationSerializer {
+        public static final DvTimeSpecificationSerializer INSTANCE = new DvTimeSpecificationSerializer();
+
+        private DvTimeSpecificationSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 DvParsable value) {
             int position = offset;
-            DvParsableSerializer s = new DvParsableSerializer();
+            DvParsableSerializer s = DvParsableSerializer.INSTANCE;
             position = s.serialize(buffer, position, value.getDvEncapsulated(), 
                     value.getValue(), value.getFormalism());
 
@@ -1350,7 +1428,7 @@ public class RMObjectSerialization {
                 DvTimeSpecification d) {
             int position = offset;
             DvTimeSpecificationSerializer dtss = 
-                    new DvTimeSpecificationSerializer();
+                    DvTimeSpecificationSerializer.INSTANCE;
             position = dtss.serialize(buffer, position, d.getValue());
             
             return position;
@@ -1359,7 +1437,7 @@ public class RMObjectSerialization {
         protected DvTimeSpecification deserialize(Buffer buffer, int offset){
             int position = offset;
             
-            DvParsableSerializer dps = new DvParsableSerializer();
+            DvParsableSerializer dps = DvParsableSerializer.INSTANCE;
             DvParsable value = dps.deserialize(buffer, position);
 
             return RMObjectFactory.newDvTimeSpecification(value);
@@ -1367,13 +1445,35 @@ public class RMObjectSerialization {
     }
 
     public static class DvMultimediaSerializer {
+        public static final DvMultimediaSerializer INSTANCE = new DvMultimediaSerializer();
+
+        private DvMultimediaSerializer() {
+        }
+
+        /**
+         * Tamanho registrado para os dados quando estes são mantidos em
+         * segmento de conteúdos. Neste caso, a posição dos dados indica a
+         * referência a eles (tamanho e hash).
+         */
+        private static final int EXTERNAL = -1;
 
         protected int serialize(Buffer buffer, int offset,
                 DvEncapsulated dvEncapsulated, String alternateText,
                 CodePhrase mediaType, CodePhrase compressionAlgorithm,
                 byte[] integrityCheck, CodePhrase integrityCheckAlgorithm,
-                DvMultimedia thumbnail, DVURI uri, 
-                byte[] data) {
+                DvMultimedia thumbnail, DVURI uri,
+                ByteBuffer data) {
+            return serialize(buffer, offset, dvEncapsulated, alternateText,
+                    mediaType, compressionAlgorithm, integrityCheck,
+                    integrityCheckAlgorithm, thumbnail, uri, data, null);
+        }
+
+        private int serialize(Buffer buffer, int offset,
+                DvEncapsulated dvEncapsulated, String alternateText,
+                CodePhrase mediaType, CodePhrase compressionAlgorithm,
+                byte[] integrityCheck, CodePhrase integrityCheckAlgorithm,
+                DvMultimedia thumbnail, DVURI uri,
+                ByteBuffer data, BlobSegment.Reference blob) {
 
             boolean hasCompressionAlgorithm = compressionAlgorithm != null;
             boolean hasIntegrityCheck = integrityCheck != null;
@@ -1381,13 +1481,21 @@ public class RMObjectSerialization {
                     = integrityCheckAlgorithm != null;
             boolean hasThumbnail = thumbnail != null;
 
-            DvEncapsulatedSerializer dve = new DvEncapsulatedSerializer();
-            CodePhraseSerializer cps = new CodePhraseSerializer();
-            DVURISerializer dvu = new DVURISerializer();
-            DvMultimediaSerializer dvm = new DvMultimediaSerializer();
+            DvEncapsulatedSerializer dve = DvEncapsulatedSerializer.INSTANCE;
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
+            DVURISerializer dvu = DVURISerializer.INSTANCE;
 
             int position = offset + 56;
             int header = offset;
+            int presence = presence(buffer, bit(hasCompressionAlgorithm, 3)
+                    | bit(hasIntegrityCheck, 4)
+                    | bit(hasIntegrityCheckAlgorithm, 5)
+                    | bit(hasThumbnail, 6));
+            if (presence >= 0) {
+                header = writePresence(buffer, offset, presence);
+                position = offset + packedHeaderSize(6, presence)
+                        + (hasIntegrityCheck ? PrimitiveTypeSize.INT.getSize() : 0);
+            }
 
             header = writeHeader(buffer, header, position);
             position = dve.serialize(buffer, position,
@@ -1401,26 +1509,25 @@ public class RMObjectSerialization {
             position = cps.serialize(buffer, position,
                     mediaType.getTerminologyID(), mediaType.getCodeString());
 
+            header = writeHeader(buffer, header, presence,
+                    hasCompressionAlgorithm, position);
             if (hasCompressionAlgorithm){
-                header = writeHeader(
-                        buffer, header, hasCompressionAlgorithm, position);
                 position = cps.serialize(
                         buffer,
                         position,
                         compressionAlgorithm.getTerminologyID(),
                         compressionAlgorithm.getCodeString());
-            } else {
-                header = writeHeader(buffer, header, false);
             }
 
             if (hasIntegrityCheck && hasIntegrityCheckAlgorithm){
-                header = writeHeader(buffer, header, hasIntegrityCheck, position);
+                header = writeHeader(buffer, header, presence,
+                        hasIntegrityCheck, position);
                 header = writeHeader(buffer, header, integrityCheck.length);
                 buffer.writeByteArray(position, integrityCheck);
                 position += integrityCheck.length;
 
-                header = writeHeader(
-                        buffer, header, hasIntegrityCheckAlgorithm, position);
+                header = writeHeader(buffer, header, presence,
+                        hasIntegrityCheckAlgorithm, position);
                 position = cps.serialize(
                         buffer,
                         position,
@@ -1429,31 +1536,44 @@ public class RMObjectSerialization {
                 throw new IllegalArgumentException("Integrity Check fails!");
             }
 
+            header = writeHeader(buffer, header, presence, hasThumbnail,
+                    position);
             if (hasThumbnail){
-                header = writeHeader(buffer, header, hasThumbnail, position);
-                position = dvm.serialize(
-                        buffer,
-                        position,
-                        thumbnail.getDvEncapsulated(),
-                        thumbnail.getAlternateText(),
-                        thumbnail.getMediaType(),
-                        thumbnail.getCompressionAlgorithm(),
-                        thumbnail.getIntegrityCheck(),
-                        thumbnail.getIntegrityCheckAlgorithm(),
-                        thumbnail.getThumbnail(),
-                        thumbnail.getUri(),
-                        thumbnail.getData());
-            } else {
-                header = writeHeader(buffer, header, hasThumbnail);
+                position = this.serialize(buffer, position, thumbnail);
             }
 
             header = writeHeader(buffer, header, position);
             position = dvu.serialize(buffer, position, uri.getValue());
 
             header = writeHeader(buffer, header, position);
-            writeHeader(buffer, header, data.length);
-            buffer.writeByteArray(position, data);
-            position += data.length;
+            BlobSegment segment = buffer.getBlobSegment();
+            if (blob != null && blob.segment() != segment) {
+                if (buffer.discardsWrites()) {
+                    // Apenas o tamanho é necessário, os dados não são obtidos.
+                    writeHeader(buffer, header, blob.getLength());
+                    return position + blob.getLength();
+                }
+
+                data = blob.data();
+                blob = null;
+            }
+
+            if (blob == null && segment != null
+                    && data.remaining() > buffer.getBlobThreshold()) {
+                blob = segment.put(data);
+            }
+
+            if (blob != null) {
+                writeHeader(buffer, header, EXTERNAL);
+                buffer.writeInteger(position, blob.getLength());
+                position += PrimitiveTypeSize.INT.getSize();
+                buffer.writeByteArray(position, blob.hash());
+                return position + BlobSegment.HASH;
+            }
+
+            writeHeader(buffer, header, data.remaining());
+            buffer.writeByteBuffer(position, data);
+            position += data.remaining();
 
             return position;
         }
@@ -1461,25 +1581,46 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 DvMultimedia d) {
             int position = offset;
-            DvMultimediaSerializer dms = new DvMultimediaSerializer();
             
-            position = dms.serialize(buffer, position, 
+            BlobSegment.Reference blob = d.getBlobReference();
+            position = this.serialize(buffer, position,
                     d.getDvEncapsulated(), d.getAlternateText(),
                     d.getMediaType(), d.getCompressionAlgorithm(),
                     d.getIntegrityCheck(), d.getIntegrityCheckAlgorithm(),
-                    d.getThumbnail(), d.getUri(), d.getData());
+                    d.getThumbnail(), d.getUri(),
+                    blob == null ? d.getDataBuffer() : null, blob);
             
             return position;
         }
 
         protected DvMultimedia deserialize(Buffer buffer, int offset){
+            return deserialize(buffer, offset, false);
+        }
 
-            DvEncapsulatedSerializer dve = new DvEncapsulatedSerializer();;
-            CodePhraseSerializer cps = new CodePhraseSerializer();
-            DVURISerializer dvu = new DVURISerializer();
-            DvMultimediaSerializer dvm = new DvMultimediaSerializer();
+        /**
+         * Deserializa DvMultimedia cujos dados (inclusive os da miniatura)
+         * não são copiados, mas obtidos como visão somente leitura da região
+         * correspondente do buffer. A visão reflete o conteúdo do buffer e,
+         * portanto, é válida enquanto este não for alterado.
+         *
+         * @param buffer Buffer que contém a serialização.
+         * @param offset Posição inicial da serialização.
+         * @return DvMultimedia cujos dados são visão do buffer.
+         * @see DvMultimedia#getDataBuffer()
+         */
+        protected DvMultimedia deserializeView(Buffer buffer, int offset){
+            return deserialize(buffer, offset, true);
+        }
 
-            int header = offset;
+        private DvMultimedia deserialize(Buffer buffer, int offset,
+                                         boolean view){
+
+            DvEncapsulatedSerializer dve = DvEncapsulatedSerializer.INSTANCE;
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
+            DVURISerializer dvu = DVURISerializer.INSTANCE;
+
+            int presence = readPresence(buffer, offset);
+            int header = headerStart(offset, presence);
             int dvEncapsulatedPosition = buffer.readInteger(header);
             DvEncapsulated dvMultimediaDvEncapsulated
                     = dve.deserialize(buffer, dvEncapsulatedPosition);
@@ -1494,24 +1635,23 @@ public class RMObjectSerialization {
             CodePhrase mediaType = cps.deserialize(buffer, mediaTypePosition);
             header += PrimitiveTypeSize.INT.getSize();
 
-            boolean hasCompressionAlgorithm = buffer.readBoolean(header);
+            boolean hasCompressionAlgorithm
+                    = exists(buffer, header, presence, 3);
+            header += flagSize(presence);
             int compressionAlgorithmPosition = 0;
             CodePhrase compressionAlgorithm = null;
             if (hasCompressionAlgorithm){
-                header += BOOLEAN.getSize();
                 compressionAlgorithmPosition = buffer.readInteger(header);
                 compressionAlgorithm
                         = cps.deserialize(buffer, compressionAlgorithmPosition);
                 header += PrimitiveTypeSize.INT.getSize();
-            } else {
-                header += BOOLEAN.getSize();
             }
-            boolean hasIntegrityCheck = buffer.readBoolean(header);
+            boolean hasIntegrityCheck = exists(buffer, header, presence, 4);
+            header += flagSize(presence);
             int integrityCheckPosition = 0;
             int integrityCheckLength = 0;
             byte[] integrityCheck = null;
             if (hasIntegrityCheck){
-                header += BOOLEAN.getSize();
                 integrityCheckPosition = buffer.readInteger(header);
                 header += PrimitiveTypeSize.INT.getSize();
                 integrityCheckLength = buffer.readInteger(header);
@@ -1519,33 +1659,28 @@ public class RMObjectSerialization {
 
                 integrityCheck = buffer.readByteArray(integrityCheckPosition,
                         integrityCheckLength);
-            } else {
-                header += BOOLEAN.getSize();
             }
 
-            boolean hasIntegrityCheckAlgorithm = buffer.readBoolean(header);
+            boolean hasIntegrityCheckAlgorithm
+                    = exists(buffer, header, presence, 5);
+            header += flagSize(presence);
             int integrityCheckAlgorithmPosition = 0;
             CodePhrase integrityCheckAlgorithm = null;
             if (hasIntegrityCheckAlgorithm){
-                header += BOOLEAN.getSize();
                 integrityCheckAlgorithmPosition = buffer.readInteger(header);
                 header += PrimitiveTypeSize.INT.getSize();
                 integrityCheckAlgorithm = cps.deserialize(buffer,
                         integrityCheckAlgorithmPosition);
-            } else {
-                header += BOOLEAN.getSize();
             }
 
-            boolean hasThumbnail = buffer.readBoolean(header);
+            boolean hasThumbnail = exists(buffer, header, presence, 6);
+            header += flagSize(presence);
             int thumbnailPosition = 0;
             DvMultimedia thumbnail = null;
             if (hasThumbnail){
-                header += BOOLEAN.getSize();
                 thumbnailPosition = buffer.readInteger(header);
                 header += PrimitiveTypeSize.INT.getSize();
-                thumbnail = dvm.deserialize(buffer, thumbnailPosition);
-            } else {
-                header += BOOLEAN.getSize();
+                thumbnail = this.deserialize(buffer, thumbnailPosition, view);
             }
 
             int uriPosition = buffer.readInteger(header);
@@ -1555,6 +1690,27 @@ public class RMObjectSerialization {
             int dataPosition = buffer.readInteger(header);
             header += PrimitiveTypeSize.INT.getSize();
             int dataLength = buffer.readInteger(header);
+            if (dataLength == EXTERNAL) {
+                int length = buffer.readInteger(dataPosition);
+                byte[] hash = buffer.readByteArray(
+                        dataPosition + PrimitiveTypeSize.INT.getSize(),
+                        BlobSegment.HASH);
+                return RMObjectFactory.newDvMultimediaBlob(
+                        dvMultimediaDvEncapsulated, alternateText, mediaType,
+                        compressionAlgorithm, integrityCheck,
+                        integrityCheckAlgorithm, thumbnail, uri,
+                        new BlobSegment.Reference(hash, length,
+                                buffer.getBlobSegment()));
+            }
+
+            if (view) {
+                return RMObjectFactory.newDvMultimediaView(
+                        dvMultimediaDvEncapsulated, alternateText, mediaType,
+                        compressionAlgorithm, integrityCheck,
+                        integrityCheckAlgorithm, thumbnail, uri,
+                        buffer.slice(dataPosition, dataLength));
+            }
+
             byte[] data = buffer.readByteArray(dataPosition, dataLength);
 
             return RMObjectFactory.newDvMultimedia(dvMultimediaDvEncapsulated,
@@ -1565,6 +1721,10 @@ public class RMObjectSerialization {
     }
 
     public static class DvTextSerializer {
+        public static final DvTextSerializer INSTANCE = new DvTextSerializer();
+
+        private DvTextSerializer() {
+        }
 
         protected int serialize(Buffer buffer,
                 int offset,
@@ -1578,9 +1738,9 @@ public class RMObjectSerialization {
             boolean hasFormatting = formatting != null;
             boolean hasHyperlink = hyperlink != null;
 
-            CodePhraseSerializer cps = new CodePhraseSerializer();
-            TermMappingSerializer tms = new TermMappingSerializer();
-            DVURISerializer dvu = new DVURISerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
+            TermMappingSerializer tms = TermMappingSerializer.INSTANCE;
+            DVURISerializer dvu = DVURISerializer.INSTANCE;
 
             int header = offset;
             int position = offset + 6 * PrimitiveTypeSize.INT.getSize()+
@@ -1623,9 +1783,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, DvText dvText)
                  {
-            DvTextSerializer dts = new DvTextSerializer();
             int position = offset;
-            position = dts.serialize(
+            position = this.serialize(
                     buffer,
                     position,
                     dvText.getValue(),
@@ -1640,9 +1799,9 @@ public class RMObjectSerialization {
 
         protected DvText deserialize(Buffer buffer, int offset){
             int position = offset;
-            CodePhraseSerializer cps = new CodePhraseSerializer();
-            TermMappingSerializer tms = new TermMappingSerializer();
-            DVURISerializer dvu = new DVURISerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
+            TermMappingSerializer tms = TermMappingSerializer.INSTANCE;
+            DVURISerializer dvu = DVURISerializer.INSTANCE;
 
             int valuePosition = buffer.readInteger(position);
             String value = stringDeserialization(buffer, valuePosition);
@@ -1698,11 +1857,10 @@ public class RMObjectSerialization {
                     + PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            DvTextSerializer tms = new DvTextSerializer();
 
             for (DvText d : items){
                 header = writeHeader(buffer, header, position);
-                position = tms.serialize(buffer, position, d);
+                position = this.serialize(buffer, position, d);
             }
 
             return position;
@@ -1714,12 +1872,11 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
 
             List<DvText> list = new ArrayList<>();
-            DvTextSerializer dts = new DvTextSerializer();
 
             for (int i = 0; i < listSize; i++){
                 int dvTextPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
-                DvText t = dts.deserialize(buffer, dvTextPosition);
+                DvText t = this.deserialize(buffer, dvTextPosition);
                 list.add(t);
             }
 
@@ -1733,7 +1890,6 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize())+
                     PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            DvTextSerializer dts = new DvTextSerializer();
 
             header = writeHeader(buffer, header, setSize);
             Iterator<DvText> it = items.iterator();
@@ -1742,7 +1898,7 @@ public class RMObjectSerialization {
                 DvText d = it.next();
                 int linkPosition = position;
                 header = writeHeader(buffer, header, linkPosition);
-                position = dts.serialize(buffer, position, d);
+                position = this.serialize(buffer, position, d);
             }
 
             return position;
@@ -1753,14 +1909,13 @@ public class RMObjectSerialization {
             int setSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            DvTextSerializer dts = new DvTextSerializer();
             Set<DvText> items = new HashSet<>();
 
             for (int i = 0; i < setSize; i++){
                 int dPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
 
-                DvText d = dts.deserialize(buffer, dPosition);
+                DvText d = this.deserialize(buffer, dPosition);
                 items.add(d);
             }
 
@@ -1769,14 +1924,18 @@ public class RMObjectSerialization {
     }
 
     public static class DvCodedTextSerializer {
+        public static final DvCodedTextSerializer INSTANCE = new DvCodedTextSerializer();
+
+        private DvCodedTextSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 DvText dvText, CodePhrase definingCode)
                  {
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            DvTextSerializer dvt = new DvTextSerializer();
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            DvTextSerializer dvt = DvTextSerializer.INSTANCE;
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             if(dvText != null){
@@ -1799,10 +1958,9 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset,
                 DvCodedText dct) {
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
             int position = offset;
 
-            position = dcs.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     dct.getDvText(), dct.getDefiningCode());
 
             return position;
@@ -1813,8 +1971,8 @@ public class RMObjectSerialization {
             int dvTextPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
             int definingCodePosition = buffer.readInteger(position);
-            DvTextSerializer dvt = new DvTextSerializer();
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            DvTextSerializer dvt = DvTextSerializer.INSTANCE;
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
 
             DvText dvText = dvt.deserialize(buffer, dvTextPosition);
             CodePhrase definingCode
@@ -1825,6 +1983,10 @@ public class RMObjectSerialization {
     }
 
     public static class MatchSerializer {
+        public static final MatchSerializer INSTANCE = new MatchSerializer();
+
+        private MatchSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, Match match)
                  {
@@ -1846,6 +2008,10 @@ public class RMObjectSerialization {
     }
 
     public static class TermMappingSerializer {
+        public static final TermMappingSerializer INSTANCE = new TermMappingSerializer();
+
+        private TermMappingSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, CodePhrase target,
                 Match match, 
@@ -1854,9 +2020,9 @@ public class RMObjectSerialization {
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize() +
                     BOOLEAN.getSize();
             boolean hasPurpose = purpose != null;
-            CodePhraseSerializer cps = new CodePhraseSerializer();
-            MatchSerializer ms = new MatchSerializer();
-            DvCodedTextSerializer dct = new DvCodedTextSerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
+            MatchSerializer ms = MatchSerializer.INSTANCE;
+            DvCodedTextSerializer dct = DvCodedTextSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = cps.serialize(buffer, position, target);
@@ -1875,9 +2041,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 TermMapping t) {
             int position = offset;
-            TermMappingSerializer tms = new TermMappingSerializer();
             
-            position = tms.serialize(buffer, position, 
+            position = this.serialize(buffer, position, 
                     t.getTarget(), t.getMatch(), t.getPurpose());
             
             return position;
@@ -1885,9 +2050,9 @@ public class RMObjectSerialization {
         
         protected TermMapping deserialize(Buffer buffer, int offset){
             int position = offset;
-            CodePhraseSerializer cps = new CodePhraseSerializer();
-            MatchSerializer ms = new MatchSerializer();
-            DvCodedTextSerializer dct = new DvCodedTextSerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
+            MatchSerializer ms = MatchSerializer.INSTANCE;
+            DvCodedTextSerializer dct = DvCodedTextSerializer.INSTANCE;
 
             int targetPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -1920,11 +2085,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            TermMappingSerializer tms = new TermMappingSerializer();
 
             for (TermMapping t : mappings){
                 header = writeHeader(buffer, header, position);
-                position = tms.serialize(buffer, position,
+                position = this.serialize(buffer, position,
                         t.getTarget(), t.getMatch(), t.getPurpose());
             }
 
@@ -1937,12 +2101,11 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
 
             List<TermMapping> list = new ArrayList<>();
-            TermMappingSerializer tms = new TermMappingSerializer();
 
             for (int i = 0; i < listSize; i++){
                 int termMappingPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
-                TermMapping t = tms.deserialize(buffer, termMappingPosition);
+                TermMapping t = this.deserialize(buffer, termMappingPosition);
                 list.add(t);
             }
 
@@ -1951,6 +2114,10 @@ public class RMObjectSerialization {
     }
 
     public static class LinkSerializer {
+        public static final LinkSerializer INSTANCE = new LinkSerializer();
+
+        private LinkSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 DvText meaning,
@@ -1960,8 +2127,8 @@ public class RMObjectSerialization {
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize();
             int header = offset;
 
-            DvTextSerializer dts = new DvTextSerializer();
-            DvEHRURISerializer des = new DvEHRURISerializer();
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            DvEHRURISerializer des = DvEHRURISerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dts.serialize(buffer, position, meaning);
@@ -1975,10 +2142,9 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset,
                 Link link) {
-            LinkSerializer ls = new LinkSerializer();
             int position = offset;
 
-            position = ls.serialize(
+            position = this.serialize(
                     buffer,
                     position,
                     link.getMeaning(),
@@ -1990,8 +2156,8 @@ public class RMObjectSerialization {
 
         protected Link deserialize(Buffer buffer, int offset){
             int position = offset;
-            DvTextSerializer dts = new DvTextSerializer();
-            DvEHRURISerializer des = new DvEHRURISerializer();
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            DvEHRURISerializer des = DvEHRURISerializer.INSTANCE;
 
             int meaningPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -2014,7 +2180,6 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            LinkSerializer ls = new LinkSerializer();
 
             header = writeHeader(buffer, header, setSize);
             Iterator<Link> it = links.iterator();
@@ -2023,7 +2188,7 @@ public class RMObjectSerialization {
                 Link link = it.next();
                 int linkPosition = position;
                 header = writeHeader(buffer, header, linkPosition);
-                position = ls.serialize(buffer, position, link);
+                position = this.serialize(buffer, position, link);
             }
 
             return position;
@@ -2034,14 +2199,13 @@ public class RMObjectSerialization {
             int listSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            LinkSerializer ls = new LinkSerializer();
             Set<Link> links = new HashSet<>();
 
             for (int i = 0; i < listSize; i++){
                 int linkPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
 
-                Link link = ls.deserialize(buffer, linkPosition);
+                Link link = this.deserialize(buffer, linkPosition);
                 links.add(link);
             }
 
@@ -2050,6 +2214,10 @@ public class RMObjectSerialization {
     }
 
     public static class DvStateSerializer {
+        public static final DvStateSerializer INSTANCE = new DvStateSerializer();
+
+        private DvStateSerializer() {
+        }
 
         protected int serialize(
                 Buffer buffer,
@@ -2061,7 +2229,7 @@ public class RMObjectSerialization {
                     BOOLEAN.getSize();
             boolean hasTerminal = terminal != null;
 
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
             header = writeHeader(buffer, header, position);
             position = dcs.serialize(buffer, position, value);
 
@@ -2079,8 +2247,7 @@ public class RMObjectSerialization {
                 int offset,
                 DvState dvState) {
             int position = offset;
-            DvStateSerializer dss = new DvStateSerializer();
-            position = dss.serialize(
+            position = this.serialize(
                     buffer, position, dvState.getValue(), dvState.getTerminal());
 
             return position;
@@ -2088,7 +2255,7 @@ public class RMObjectSerialization {
 
         protected DvState deserialize(Buffer buffer, int offset){
             int position = offset;
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
 
             int valuePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -2108,11 +2275,15 @@ public class RMObjectSerialization {
     }
 
     public static class DvParagraphSerializer {
+        public static final DvParagraphSerializer INSTANCE = new DvParagraphSerializer();
+
+        private DvParagraphSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 List<DvText> items) {
             int position = offset;
-            DvTextSerializer dts = new DvTextSerializer();
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
             position = dts.listSerialize(buffer, position, items);
 
             return position;
@@ -2121,15 +2292,14 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 DvParagraph dvParagraph) {
             int position = offset;
-            DvParagraphSerializer dps = new DvParagraphSerializer();
-            position = dps.serialize(buffer, position, dvParagraph.getItems());
+            position = this.serialize(buffer, position, dvParagraph.getItems());
 
             return position;
         }
 
         protected DvParagraph deserialize(Buffer buffer, int offset){
             int position = offset;
-            DvTextSerializer dts = new DvTextSerializer();
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
             List<DvText> items = dts.deserializeList(buffer, position);
 
             DvParagraph dvParagraph = RMObjectFactory.newDvParagraph(items);
@@ -2139,11 +2309,15 @@ public class RMObjectSerialization {
     }
 
     public static class PartyProxySerializer {
+        public static final PartyProxySerializer INSTANCE = new PartyProxySerializer();
+
+        private PartyProxySerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 PartyRef externalRef) {
             int position = offset;
-            PartyRefSerializer prs = new PartyRefSerializer();
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
             position = prs.serialize(buffer, position, externalRef);
 
             return position;
@@ -2152,10 +2326,9 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 PartyProxy partyProxy) {
             int position = offset;
-            PartyProxySerializer prs = new PartyProxySerializer();
 
             position
-                    = prs.serialize(
+                    = this.serialize(
                             buffer, position, partyProxy.getExternalRef());
 
             return position;
@@ -2163,7 +2336,7 @@ public class RMObjectSerialization {
 
         protected PartyProxy deserialize(Buffer buffer, int offset){
             int position = offset;
-            PartyRefSerializer prs = new PartyRefSerializer();
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
             PartyRef externalRef = prs.deserialize(buffer, position);
 
             return RMObjectFactory.newPartyProxy(externalRef);
@@ -2171,14 +2344,18 @@ public class RMObjectSerialization {
     }
 
     public static class FeederAuditDetailsSerializer {
+        public static final FeederAuditDetailsSerializer INSTANCE = new FeederAuditDetailsSerializer();
+
+        private FeederAuditDetailsSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, String systemID,
                 PartyIdentified provider, PartyIdentified location,
                                 PartyProxy subject, String versionID) {
             int header = offset;
             int position = offset + (6 * PrimitiveTypeSize.INT.getSize()) + 5 * PrimitiveTypeSize.BOOLEAN.getSize();
-            PartyIdentifiedSerializer pis = new PartyIdentifiedSerializer();
-            PartyProxySerializer pps = new PartyProxySerializer();
+            PartyIdentifiedSerializer pis = PartyIdentifiedSerializer.INSTANCE;
+            PartyProxySerializer pps = PartyProxySerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = stringSerialization(buffer, position, systemID);
@@ -2228,7 +2405,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 FeederAuditDetails fad) {
             FeederAuditDetailsSerializer fas
-                    = new FeederAuditDetailsSerializer();
+                    = FeederAuditDetailsSerializer.INSTANCE;
             int position = offset;
 
             position = fas.serialize(
@@ -2245,9 +2422,9 @@ public class RMObjectSerialization {
 
         protected FeederAuditDetails deserialize(Buffer buffer, int offset){
             int position = offset;
-            PartyIdentifiedSerializer pis = new PartyIdentifiedSerializer();
-            PartyProxySerializer pps = new PartyProxySerializer();
-            //DvDateTimeSerializer dds = new DvDateTimeSerializer();
+            PartyIdentifiedSerializer pis = PartyIdentifiedSerializer.INSTANCE;
+            PartyProxySerializer pps = PartyProxySerializer.INSTANCE;
+            //DvDateTimeSerializer dds = DvDateTimeSerializer.INSTANCE;
             int systemIDPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
             String systemID
@@ -2302,6 +2479,10 @@ public class RMObjectSerialization {
     }
 
     public static class FeederAuditSerializer {
+        public static final FeederAuditSerializer INSTANCE = new FeederAuditSerializer();
+
+        private FeederAuditSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 FeederAuditDetails originatingSystemAudit,
@@ -2314,13 +2495,13 @@ public class RMObjectSerialization {
             int position = offset + (4 * PrimitiveTypeSize.INT.getSize()) +
                     4 * BOOLEAN.getSize();
             FeederAuditDetailsSerializer fas
-                    = new FeederAuditDetailsSerializer();
+                    = FeederAuditDetailsSerializer.INSTANCE;
             header = writeHeader(buffer, header, position);
             position = fas.serialize(buffer, position, originatingSystemAudit);
 
             boolean hasOriginatingSystemItemIDs
                     = originatingSystemItemIDs != null;
-            DvIdentifierSerializer dis = new DvIdentifierSerializer();
+            DvIdentifierSerializer dis = DvIdentifierSerializer.INSTANCE;
             if (hasOriginatingSystemItemIDs){
                 header = writeHeader(
                         buffer, header, hasOriginatingSystemItemIDs, position);
@@ -2349,7 +2530,7 @@ public class RMObjectSerialization {
             }
 
             boolean hasOriginalContent = originalContent != null;
-            DvEncapsulatedSerializer des = new DvEncapsulatedSerializer();
+            DvEncapsulatedSerializer des = DvEncapsulatedSerializer.INSTANCE;
             if (hasOriginalContent){
                 writeHeader(buffer, header, hasOriginalContent, position);
                 position = des.serialize(buffer, position, originalContent);
@@ -2363,9 +2544,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 FeederAudit fa) {
             int position = offset;
-            FeederAuditSerializer fas = new FeederAuditSerializer();
 
-            position = fas.serialize(
+            position = this.serialize(
                     buffer,
                     position,
                     fa.getOriginatingSystemAudit(),
@@ -2379,9 +2559,9 @@ public class RMObjectSerialization {
 
         protected FeederAudit deserialize(Buffer buffer, int offset){
             int position = offset;
-            DvIdentifierSerializer dis = new DvIdentifierSerializer();
-            FeederAuditDetailsSerializer f = new FeederAuditDetailsSerializer();
-            DvEncapsulatedSerializer des = new DvEncapsulatedSerializer();
+            DvIdentifierSerializer dis = DvIdentifierSerializer.INSTANCE;
+            FeederAuditDetailsSerializer f = FeederAuditDetailsSerializer.INSTANCE;
+            DvEncapsulatedSerializer des = DvEncapsulatedSerializer.INSTANCE;
             int OriginatingSystemAuditPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
@@ -2431,27 +2611,40 @@ public class RMObjectSerialization {
     }
 
     public static class LocatableSerializer {
+        public static final LocatableSerializer INSTANCE = new LocatableSerializer();
+
+        private LocatableSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, UIDBasedID uid,
                 String archetypeNodeId, DvText name, Archetyped archetypeDetails,
                 FeederAudit feederAudit, Set<Link> links) {
 
+            boolean hasUid = uid != null;
+            boolean hasArchetypeDetails = archetypeDetails != null;
+            boolean hasFeederAudit = feederAudit != null;
+            boolean hasLinks = links != null;
+            int presence = presence(buffer, bit(hasUid, 0)
+                    | bit(hasArchetypeDetails, 3) | bit(hasFeederAudit, 4)
+                    | bit(hasLinks, 5));
+
             int position = offset + (6 * PrimitiveTypeSize.INT.getSize())+ 5 *
                     BOOLEAN.getSize();
             int header = offset;
+            if (presence >= 0) {
+                header = writePresence(buffer, offset, presence);
+                position = offset + packedHeaderSize(2, presence);
+            }
 
-            UIDBasedIDSerializer uids = new UIDBasedIDSerializer();
-            DvTextSerializer dts = new DvTextSerializer();
-            ArchetypedSerializer as = new ArchetypedSerializer();
-            FeederAuditSerializer fas = new FeederAuditSerializer();
-            LinkSerializer ls = new LinkSerializer();
+            UIDBasedIDSerializer uids = UIDBasedIDSerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            ArchetypedSerializer as = ArchetypedSerializer.INSTANCE;
+            FeederAuditSerializer fas = FeederAuditSerializer.INSTANCE;
+            LinkSerializer ls = LinkSerializer.INSTANCE;
 
-            boolean hasUid = uid != null;
+            header = writeHeader(buffer, header, presence, hasUid, position);
             if (hasUid){
-                header = writeHeader(buffer, header, hasUid, position);
                 position = uids.serialize(buffer, position, uid);
-            } else {
-                header = writeHeader(buffer, header, hasUid);
             }
 
             header = writeHeader(buffer, header, position);
@@ -2460,28 +2653,21 @@ public class RMObjectSerialization {
             header = writeHeader(buffer, header, position);
             position = dts.serialize(buffer, position, name);
 
-            boolean hasArchetypeDetails = archetypeDetails != null;
+            header = writeHeader(buffer, header, presence,
+                    hasArchetypeDetails, position);
             if (hasArchetypeDetails){
-                header = writeHeader(buffer, header, hasArchetypeDetails, position);
                 position = as.serialize(buffer, position, archetypeDetails);
-            } else {
-                header = writeHeader(buffer, header, hasArchetypeDetails);
             }
 
-            boolean hasFeederAudit = feederAudit != null;
+            header = writeHeader(buffer, header, presence, hasFeederAudit,
+                    position);
             if (hasFeederAudit){
-                header = writeHeader(buffer, header, hasFeederAudit, position);
                 position = fas.serialize(buffer, position, feederAudit);
-            } else {
-                header = writeHeader(buffer, header, hasFeederAudit);
             }
 
-            boolean hasLinks = links != null;
+            writeHeader(buffer, header, presence, hasLinks, position);
             if (hasLinks){
-                writeHeader(buffer, header, hasLinks, position);
                 position = ls.setSerializer(buffer, position, links);
-            } else {
-                writeHeader(buffer, header, hasLinks);
             }
 
             return position;
@@ -2490,8 +2676,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 Locatable locatable) {
             int position = offset;
-            LocatableSerializer ls = new LocatableSerializer();
-            position = ls.serialize(buffer, position, locatable.getUid(),
+            position = this.serialize(buffer, position, locatable.getUid(),
                     locatable.getArchetypeNodeId(), locatable.getName(),
                     locatable.getArchetypeDetails(), locatable.getFeederAudit(),
                     locatable.getLinks());
@@ -2500,16 +2685,17 @@ public class RMObjectSerialization {
         }
 
         protected Locatable deserialize(Buffer buffer, int offset){
-            int position = offset;
+            int presence = readPresence(buffer, offset);
+            int position = headerStart(offset, presence);
 
-            UIDBasedIDSerializer uids = new UIDBasedIDSerializer();
-            DvTextSerializer dts = new DvTextSerializer();
-            ArchetypedSerializer as = new ArchetypedSerializer();
-            FeederAuditSerializer fas = new FeederAuditSerializer();
-            LinkSerializer ls = new LinkSerializer();
+            UIDBasedIDSerializer uids = UIDBasedIDSerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            ArchetypedSerializer as = ArchetypedSerializer.INSTANCE;
+            FeederAuditSerializer fas = FeederAuditSerializer.INSTANCE;
+            LinkSerializer ls = LinkSerializer.INSTANCE;
 
-            boolean hasUid = buffer.readBoolean(position);
-            position += BOOLEAN.getSize();
+            boolean hasUid = exists(buffer, position, presence, 0);
+            position += flagSize(presence);
             UIDBasedID uid = null;
             if (hasUid){
                 int uidPosition = buffer.readInteger(position);
@@ -2526,8 +2712,8 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
             DvText name = dts.deserialize(buffer, namePosition);
 
-            boolean hasArchetypeDetails = buffer.readBoolean(position);
-            position += BOOLEAN.getSize();
+            boolean hasArchetypeDetails = exists(buffer, position, presence, 3);
+            position += flagSize(presence);
             Archetyped archetypeDetails = null;
             if (hasArchetypeDetails){
                 int archetypeDetailsPosition = buffer.readInteger(position);
@@ -2536,8 +2722,8 @@ public class RMObjectSerialization {
                         buffer, archetypeDetailsPosition);
             }
 
-            boolean hasFeederAudit = buffer.readBoolean(position);
-            position += BOOLEAN.getSize();
+            boolean hasFeederAudit = exists(buffer, position, presence, 4);
+            position += flagSize(presence);
             FeederAudit feederAudit = null;
             if (hasFeederAudit){
                 int hasFeederAuditPosition = buffer.readInteger(position);
@@ -2545,8 +2731,8 @@ public class RMObjectSerialization {
                 feederAudit = fas.deserialize(buffer, hasFeederAuditPosition);
             }
 
-            boolean hasLinks = buffer.readBoolean(position);
-            position += BOOLEAN.getSize();
+            boolean hasLinks = exists(buffer, position, presence, 5);
+            position += flagSize(presence);
             Set<Link> links = null;
             if (hasLinks){
                 int linksPosition = buffer.readInteger(position);
@@ -2560,14 +2746,18 @@ public class RMObjectSerialization {
     }
 
     public static class PartyRelatedSerializer {
+        public static final PartyRelatedSerializer INSTANCE = new PartyRelatedSerializer();
+
+        private PartyRelatedSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, PartyIdentified pi,
                 DvCodedText relationship) {
             int header = offset;
             int position = offset + (2 * PrimitiveTypeSize.INT.getSize())
                     + BOOLEAN.getSize();
-            PartyIdentifiedSerializer pis = new PartyIdentifiedSerializer();
-            DvCodedTextSerializer dts = new DvCodedTextSerializer();
+            PartyIdentifiedSerializer pis = PartyIdentifiedSerializer.INSTANCE;
+            DvCodedTextSerializer dts = DvCodedTextSerializer.INSTANCE;
 
             if (relationship == null){
                 throw new IllegalArgumentException(
@@ -2590,8 +2780,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 PartyRelated pr) {
             int position = offset;
-            PartyRelatedSerializer prs = new PartyRelatedSerializer();
-            position = prs.serialize(
+            position = this.serialize(
                     buffer, position, pr.getPi(), pr.getRelationship());
 
             return position;
@@ -2599,8 +2788,8 @@ public class RMObjectSerialization {
 
         protected PartyRelated deserialize(Buffer buffer, int offset){
             int position = offset;
-            PartyIdentifiedSerializer pis = new PartyIdentifiedSerializer();
-            DvCodedTextSerializer dts = new DvCodedTextSerializer();
+            PartyIdentifiedSerializer pis = PartyIdentifiedSerializer.INSTANCE;
+            DvCodedTextSerializer dts = DvCodedTextSerializer.INSTANCE;
 
             boolean hasPi = buffer.readBoolean(position);
             position += BOOLEAN.getSize();
@@ -2620,13 +2809,17 @@ public class RMObjectSerialization {
     }
 
     public static class PartySelfSerializer {
+        public static final PartySelfSerializer INSTANCE = new PartySelfSerializer();
+
+        private PartySelfSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 PartyRef externalRef) {
             int position = offset + PrimitiveTypeSize.INT.getSize()
                     + BOOLEAN.getSize();
             int header = offset;
-            PartyRefSerializer prs = new PartyRefSerializer();
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
 
             boolean hasExternalRef = externalRef != null;
             if (hasExternalRef){
@@ -2642,8 +2835,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 PartySelf ps) {
             int position = offset;
-            PartySelfSerializer pss = new PartySelfSerializer();
-            position = pss.serialize(buffer, position, ps.getExternalRef());
+            position = this.serialize(buffer, position, ps.getExternalRef());
 
             return position;
         }
@@ -2653,7 +2845,7 @@ public class RMObjectSerialization {
             boolean hasExternalRef = buffer.readBoolean(position);
             position += BOOLEAN.getSize();
 
-            PartyRefSerializer prs = new PartyRefSerializer();
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
 
             PartyRef externalRef = null;
             if (hasExternalRef){
@@ -2666,6 +2858,10 @@ public class RMObjectSerialization {
     }
 
     public static class ResourceDescriptionItemSerializer {
+        public static final ResourceDescriptionItemSerializer INSTANCE = new ResourceDescriptionItemSerializer();
+
+        private ResourceDescriptionItemSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 CodePhrase language, String purpose, List<String> keywords,
@@ -2677,7 +2873,7 @@ public class RMObjectSerialization {
                     3 * BOOLEAN.getSize();
 
             int header = offset;
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = cps.serialize(buffer, position, language);
@@ -2729,7 +2925,7 @@ public class RMObjectSerialization {
                 ResourceDescriptionItem rdi)
                  {
             ResourceDescriptionItemSerializer rdis
-                    = new ResourceDescriptionItemSerializer();
+                    = ResourceDescriptionItemSerializer.INSTANCE;
             int position = offset;
 
             position = rdis.serialize(buffer, position, rdi.getLanguage(),
@@ -2746,7 +2942,7 @@ public class RMObjectSerialization {
 
             int languagePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
             CodePhrase language = cps.deserialize(buffer, languagePosition);
 
             int purposePosition = buffer.readInteger(position);
@@ -2812,7 +3008,7 @@ public class RMObjectSerialization {
 
             header = writeHeader(buffer, header, listSize);
             ResourceDescriptionItemSerializer rdis
-                    = new ResourceDescriptionItemSerializer();
+                    = ResourceDescriptionItemSerializer.INSTANCE;
 
             for (ResourceDescriptionItem d : items){
                 header = writeHeader(buffer, header, position);
@@ -2830,7 +3026,7 @@ public class RMObjectSerialization {
 
             List<ResourceDescriptionItem> list = new ArrayList<>();
             ResourceDescriptionItemSerializer rdis
-                    = new ResourceDescriptionItemSerializer();
+                    = ResourceDescriptionItemSerializer.INSTANCE;
 
             for (int i = 0; i < listSize; i++){
                 int resourceDescriptionItemPosition
@@ -2846,6 +3042,10 @@ public class RMObjectSerialization {
     }
 
     public static class TranslationDetailsSerializer {
+        public static final TranslationDetailsSerializer INSTANCE = new TranslationDetailsSerializer();
+
+        private TranslationDetailsSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, CodePhrase language,
                 Map<String, String> author, String accreditation,
@@ -2854,7 +3054,7 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 4 * PrimitiveTypeSize.INT.getSize() +
                     2 * BOOLEAN.getSize();
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
 
             if (language == null){
                 throw new IllegalArgumentException("null language");
@@ -2893,7 +3093,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 TranslationDetails td) {
             TranslationDetailsSerializer tdss
-                    = new TranslationDetailsSerializer();
+                    = TranslationDetailsSerializer.INSTANCE;
 
             int position = offset;
             position = tdss.serialize(
@@ -2905,7 +3105,7 @@ public class RMObjectSerialization {
 
         protected TranslationDetails deserialize(Buffer buffer, int offset){
             int position = offset;
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
 
             int languagePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -2950,7 +3150,7 @@ public class RMObjectSerialization {
                     + mapSize * (2 * PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
             TranslationDetailsSerializer tdss
-                    = new TranslationDetailsSerializer();
+                    = TranslationDetailsSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, mapSize);
             if (mapSize == 0){
@@ -2977,7 +3177,7 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
 
             TranslationDetailsSerializer tdss
-                    = new TranslationDetailsSerializer();
+                    = TranslationDetailsSerializer.INSTANCE;
             Map<String, TranslationDetails> map = new HashMap<>();
             if (mapSize == 0){
                 return map;
@@ -3000,11 +3200,15 @@ public class RMObjectSerialization {
     }
 
     public static class ItemSerializer {
+        public static final ItemSerializer INSTANCE = new ItemSerializer();
+
+        private ItemSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 Locatable locatable) {
             int position = offset;
-            LocatableSerializer ls = new LocatableSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
 
             position = ls.serialize(buffer, position, locatable);
 
@@ -3014,16 +3218,15 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 Item item) {
             int position = offset;
-            ItemSerializer is = new ItemSerializer();
 
-            position = is.serialize(buffer, position, item.getLocatable());
+            position = this.serialize(buffer, position, item.getLocatable());
 
             return position;
         }
 
         protected Item deserialize(Buffer buffer, int offset){
             int position = offset;
-            LocatableSerializer ls = new LocatableSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
 
             Locatable locatable = ls.deserialize(buffer, position);
 
@@ -3040,42 +3243,32 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            ItemSerializer is = new ItemSerializer();
 
             for (Item d : items){
                 header = writeHeader(buffer, header, position);
-                position = is.serialize(buffer, position, d);
+                position = this.serialize(buffer, position, d);
             }
 
             return position;
         }
 
         protected List<Item> deserializeList(Buffer buffer, int offset){
-            int position = offset;
-            int listSize = buffer.readInteger(position);
-            position += PrimitiveTypeSize.INT.getSize();
-
-            List<Item> list = new ArrayList<>();
-            ItemSerializer is = new ItemSerializer();
-
-            for (int i = 0; i < listSize; i++){
-                int dvItemPosition = buffer.readInteger(position);
-                position += PrimitiveTypeSize.INT.getSize();
-                Item t = is.deserialize(buffer, dvItemPosition);
-                list.add(t);
-            }
-
-            return list;
+            return deserializeElements(buffer, offset,
+                    p -> this.deserialize(buffer, p));
         }
     }
 
     public static class ClusterSerializer {
+        public static final ClusterSerializer INSTANCE = new ClusterSerializer();
+
+        private ClusterSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, Item item,
                 List<Item> items) {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
-            ItemSerializer is = new ItemSerializer();
+            ItemSerializer is = ItemSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = is.serialize(buffer, position, item);
@@ -3089,9 +3282,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 Cluster cluster) {
             int position = offset;
-            ClusterSerializer cs = new ClusterSerializer();
 
-            position = cs.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     cluster.getItem(), cluster.getItems());
 
             return position;
@@ -3099,7 +3291,7 @@ public class RMObjectSerialization {
 
         protected Cluster deserialize(Buffer buffer, int offset){
             int position = offset;
-            ItemSerializer is = new ItemSerializer();
+            ItemSerializer is = ItemSerializer.INSTANCE;
 
             int itemPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -3124,43 +3316,33 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            ClusterSerializer cs = new ClusterSerializer();
 
             for (Cluster d : items){
                 header = writeHeader(buffer, header, position);
-                position = cs.serialize(buffer, position, d);
+                position = this.serialize(buffer, position, d);
             }
 
             return position;
         }
 
         protected List<Cluster> deserializeList(Buffer buffer, int offset){
-            int position = offset;
-            int listSize = buffer.readInteger(position);
-            position += PrimitiveTypeSize.INT.getSize();
-
-            List<Cluster> list = new ArrayList<>();
-            ClusterSerializer es = new ClusterSerializer();
-
-            for (int i = 0; i < listSize; i++){
-                int clusterPosition = buffer.readInteger(position);
-                position += PrimitiveTypeSize.INT.getSize();
-                Cluster t = es.deserialize(buffer, clusterPosition);
-                list.add(t);
-            }
-
-            return list;
+            return deserializeElements(buffer, offset,
+                    p -> this.deserialize(buffer, p));
         }
     }
 
     public static class ElementSerializer {
+        public static final ElementSerializer INSTANCE = new ElementSerializer();
+
+        private ElementSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, Item item,
                 DvCodedText nullFlavour) {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
-            ItemSerializer is = new ItemSerializer();
-            DvCodedTextSerializer dts = new DvCodedTextSerializer();
+            ItemSerializer is = ItemSerializer.INSTANCE;
+            DvCodedTextSerializer dts = DvCodedTextSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = is.serialize(buffer, position, item);
@@ -3174,9 +3356,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 Element element) {
             int position = offset;
-            ElementSerializer es = new ElementSerializer();
 
-            position = es.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     element.getItem(), element.getNullFlavour());
 
             return position;
@@ -3184,8 +3365,8 @@ public class RMObjectSerialization {
 
         protected Element deserialize(Buffer buffer, int offset){
             int position = offset;
-            ItemSerializer is = new ItemSerializer();
-            DvCodedTextSerializer dts = new DvCodedTextSerializer();
+            ItemSerializer is = ItemSerializer.INSTANCE;
+            DvCodedTextSerializer dts = DvCodedTextSerializer.INSTANCE;
 
             int itemPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -3208,41 +3389,31 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            ElementSerializer is = new ElementSerializer();
 
             for (Element d : items){
                 header = writeHeader(buffer, header, position);
-                position = is.serialize(buffer, position, d);
+                position = this.serialize(buffer, position, d);
             }
 
             return position;
         }
 
         protected List<Element> deserializeList(Buffer buffer, int offset){
-            int position = offset;
-            int listSize = buffer.readInteger(position);
-            position += PrimitiveTypeSize.INT.getSize();
-
-            List<Element> list = new ArrayList<>();
-            ElementSerializer es = new ElementSerializer();
-
-            for (int i = 0; i < listSize; i++){
-                int elementPosition = buffer.readInteger(position);
-                position += PrimitiveTypeSize.INT.getSize();
-                Element t = es.deserialize(buffer, elementPosition);
-                list.add(t);
-            }
-
-            return list;
+            return deserializeElements(buffer, offset,
+                    p -> this.deserialize(buffer, p));
         }
     }
 
     public static class DataStructureSerializer {
+        public static final DataStructureSerializer INSTANCE = new DataStructureSerializer();
+
+        private DataStructureSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 Locatable locatable) {
             int position = offset;
-            LocatableSerializer ls = new LocatableSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
 
             position = ls.serialize(buffer, position, locatable);
 
@@ -3252,16 +3423,15 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 DataStructure ds) {
             int position = offset;
-            DataStructureSerializer dss = new DataStructureSerializer();
 
-            position = dss.serialize(buffer, position, ds.getLocatable());
+            position = this.serialize(buffer, position, ds.getLocatable());
 
             return position;
         }
 
         protected DataStructure deserialize(Buffer buffer, int offset){
             int position = offset;
-            LocatableSerializer ls = new LocatableSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
 
             Locatable locatable = ls.deserialize(buffer, position);
 
@@ -3270,6 +3440,10 @@ public class RMObjectSerialization {
     }
 
     public static class ItemListSerializer {
+        public static final ItemListSerializer INSTANCE = new ItemListSerializer();
+
+        private ItemListSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, UIDBasedID uid,
                 String archetypeNodeId, DvText name,
@@ -3280,12 +3454,12 @@ public class RMObjectSerialization {
             int position = offset + (7 * PrimitiveTypeSize.INT.getSize()) +
                     5 * BOOLEAN.getSize();
 
-            UIDBasedIDSerializer us = new UIDBasedIDSerializer();
-            DvTextSerializer dts = new DvTextSerializer();
-            FeederAuditSerializer fas = new FeederAuditSerializer();
-            ArchetypedSerializer as = new ArchetypedSerializer();
-            LinkSerializer ls = new LinkSerializer();
-            ElementSerializer es = new ElementSerializer();
+            UIDBasedIDSerializer us = UIDBasedIDSerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            FeederAuditSerializer fas = FeederAuditSerializer.INSTANCE;
+            ArchetypedSerializer as = ArchetypedSerializer.INSTANCE;
+            LinkSerializer ls = LinkSerializer.INSTANCE;
+            ElementSerializer es = ElementSerializer.INSTANCE;
 
             boolean hasUid = uid != null;
             if (hasUid){
@@ -3339,10 +3513,9 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset,
                 ItemList il) {
-            ItemListSerializer is = new ItemListSerializer();
             int position = offset;
 
-            position = is.serialize(buffer, position, il.getUid(),
+            position = this.serialize(buffer, position, il.getUid(),
                     il.getArchetypeNodeId(), il.getName(),
                     il.getArchetypeDetails(), il.getFeederAudit(),
                     il.getLinks(), il.getItems());
@@ -3353,12 +3526,12 @@ public class RMObjectSerialization {
         protected ItemList deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            UIDBasedIDSerializer us = new UIDBasedIDSerializer();
-            DvTextSerializer dts = new DvTextSerializer();
-            FeederAuditSerializer fas = new FeederAuditSerializer();
-            ArchetypedSerializer as = new ArchetypedSerializer();
-            LinkSerializer ls = new LinkSerializer();
-            ElementSerializer es = new ElementSerializer();
+            UIDBasedIDSerializer us = UIDBasedIDSerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            FeederAuditSerializer fas = FeederAuditSerializer.INSTANCE;
+            ArchetypedSerializer as = ArchetypedSerializer.INSTANCE;
+            LinkSerializer ls = LinkSerializer.INSTANCE;
+            ElementSerializer es = ElementSerializer.INSTANCE;
 
             boolean hasUId = buffer.readBoolean(position);
             position += BOOLEAN.getSize();
@@ -3421,11 +3594,15 @@ public class RMObjectSerialization {
     }
 
     public static class ItemStructureSerializer {
+        public static final ItemStructureSerializer INSTANCE = new ItemStructureSerializer();
+
+        private ItemStructureSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset,
                 DataStructure ds) {
             int position = offset;
-            DataStructureSerializer dss = new DataStructureSerializer();
+            DataStructureSerializer dss = DataStructureSerializer.INSTANCE;
             position = dss.serialize(buffer, position, ds);
 
             return position;
@@ -3434,15 +3611,14 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 ItemStructure is) {
             int position = offset;
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            position = iss.serialize(buffer, position, is.getDataStructure());
+            position = this.serialize(buffer, position, is.getDataStructure());
 
             return position;
         }
 
         protected ItemStructure deserialize(Buffer buffer, int offset){
             int position = offset;
-            DataStructureSerializer dss = new DataStructureSerializer();
+            DataStructureSerializer dss = DataStructureSerializer.INSTANCE;
 
             DataStructure ds = dss.deserialize(buffer, position);
             return RMObjectFactory.newItemStructure(ds);
@@ -3450,14 +3626,18 @@ public class RMObjectSerialization {
     }
 
     public static class ItemSingleSerializer {
+        public static final ItemSingleSerializer INSTANCE = new ItemSingleSerializer();
+
+        private ItemSingleSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, ItemStructure is,
                 Element item) {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ElementSerializer es = new ElementSerializer();
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ElementSerializer es = ElementSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = iss.serialize(buffer, position, is);
@@ -3471,9 +3651,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 ItemSingle is) {
             int position = offset;
-            ItemSingleSerializer iss = new ItemSingleSerializer();
 
-            position = iss.serialize(buffer, position, is.getItemStructure(),
+            position = this.serialize(buffer, position, is.getItemStructure(),
                     is.getItem());
 
             return position;
@@ -3482,8 +3661,8 @@ public class RMObjectSerialization {
         protected ItemSingle deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ElementSerializer es = new ElementSerializer();
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ElementSerializer es = ElementSerializer.INSTANCE;
 
             int itemStructurePosition = buffer.readInteger(position);
             ItemStructure is = iss.deserialize(buffer, itemStructurePosition);
@@ -3498,13 +3677,17 @@ public class RMObjectSerialization {
     }
 
     public static class ItemTableSerializer {
+        public static final ItemTableSerializer INSTANCE = new ItemTableSerializer();
+
+        private ItemTableSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, ItemStructure is,
                 List<Cluster> rows) {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ClusterSerializer cs = new ClusterSerializer();
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ClusterSerializer cs = ClusterSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = iss.serialize(buffer, position, is);
@@ -3518,9 +3701,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 ItemTable it) {
             int position = offset;
-            ItemTableSerializer its = new ItemTableSerializer();
 
-            position = its.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     it.getItemStructure(), it.getRows());
 
             return position;
@@ -3528,8 +3710,8 @@ public class RMObjectSerialization {
 
         protected ItemTable deserialize(Buffer buffer, int offset){
             int position = offset;
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ClusterSerializer cs = new ClusterSerializer();
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ClusterSerializer cs = ClusterSerializer.INSTANCE;
 
             int itemStructurePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -3544,14 +3726,18 @@ public class RMObjectSerialization {
     }
 
     public static class ItemTreeSerializer {
+        public static final ItemTreeSerializer INSTANCE = new ItemTreeSerializer();
+
+        private ItemTreeSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, ItemStructure is,
                 List<Item> items) {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize() +
                     BOOLEAN.getSize();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ItemSerializer isr = new ItemSerializer();
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ItemSerializer isr = ItemSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = iss.serialize(buffer, position, is);
@@ -3570,9 +3756,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 ItemTree it) {
             int position = offset;
-            ItemTreeSerializer its = new ItemTreeSerializer();
 
-            position = its.serialize(buffer, position, it.getItemStructure(),
+            position = this.serialize(buffer, position, it.getItemStructure(),
                     it.getItems());
 
             return position;
@@ -3580,8 +3765,8 @@ public class RMObjectSerialization {
 
         protected ItemTree deserialize(Buffer buffer, int offset){
             int position = offset;
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ItemSerializer isr = new ItemSerializer();
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ItemSerializer isr = ItemSerializer.INSTANCE;
 
             int itemStructurePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -3600,14 +3785,18 @@ public class RMObjectSerialization {
     }
 
     public static class PartyIdentitySerializer {
+        public static final PartyIdentitySerializer INSTANCE = new PartyIdentitySerializer();
+
+        private PartyIdentitySerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, Locatable locatable,
                 ItemStructure details) {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            LocatableSerializer ls = new LocatableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
@@ -3621,9 +3810,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 PartyIdentity pi) {
             int position = offset;
-            PartyIdentitySerializer pis = new PartyIdentitySerializer();
 
-            position = pis.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     pi.getLocatable(), pi.getDetails());
 
             return position;
@@ -3631,8 +3819,8 @@ public class RMObjectSerialization {
 
         protected PartyIdentity deserialize(Buffer buffer, int offset){
             int position = offset;
-            LocatableSerializer ls = new LocatableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -3652,7 +3840,6 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            PartyIdentitySerializer pis = new PartyIdentitySerializer();
 
             header = writeHeader(buffer, header, setSize);
             Iterator<PartyIdentity> it = piSet.iterator();
@@ -3661,7 +3848,7 @@ public class RMObjectSerialization {
                 PartyIdentity pi = it.next();
                 int linkPosition = position;
                 header = writeHeader(buffer, header, linkPosition);
-                position = pis.serialize(buffer, position, pi);
+                position = this.serialize(buffer, position, pi);
             }
 
             return position;
@@ -3673,14 +3860,13 @@ public class RMObjectSerialization {
             int listSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            PartyIdentitySerializer pis = new PartyIdentitySerializer();
             Set<PartyIdentity> piSet = new HashSet<>();
 
             for (int i = 0; i < listSize; i++){
                 int piPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
 
-                PartyIdentity pi = pis.deserialize(buffer, piPosition);
+                PartyIdentity pi = this.deserialize(buffer, piPosition);
                 piSet.add(pi);
             }
 
@@ -3689,6 +3875,10 @@ public class RMObjectSerialization {
     }
 
     public static class PartyRelationshipSerializer {
+        public static final PartyRelationshipSerializer INSTANCE = new PartyRelationshipSerializer();
+
+        private PartyRelationshipSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, Locatable locatable,
                                 ItemStructure details, ObjectRef source,
@@ -3696,9 +3886,9 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 5 * PrimitiveTypeSize.INT.getSize();
 
-            LocatableSerializer ls = new LocatableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
@@ -3717,9 +3907,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset,
                 PartyRelationship pr) {
-            PartyRelationshipSerializer prs = new PartyRelationshipSerializer();
             int position = offset;
-            position = prs.serialize(buffer, position, pr.getLocatable(),
+            position = this.serialize(buffer, position, pr.getLocatable(),
                     pr.getDetails(), pr.getSource(), pr.getTarget());
 
             return position;
@@ -3729,9 +3918,9 @@ public class RMObjectSerialization {
 
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -3762,7 +3951,6 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            PartyRelationshipSerializer pis = new PartyRelationshipSerializer();
 
             header = writeHeader(buffer, header, setSize);
             Iterator<PartyRelationship> it = prSet.iterator();
@@ -3771,7 +3959,7 @@ public class RMObjectSerialization {
                 PartyRelationship pr = it.next();
                 int linkPosition = position;
                 header = writeHeader(buffer, header, linkPosition);
-                position = pis.serialize(buffer, position, pr);
+                position = this.serialize(buffer, position, pr);
             }
 
             return position;
@@ -3783,14 +3971,13 @@ public class RMObjectSerialization {
             int listSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            PartyRelationshipSerializer prs = new PartyRelationshipSerializer();
             Set<PartyRelationship> prSet = new HashSet<>();
 
             for (int i = 0; i < listSize; i++){
                 int prPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
 
-                PartyRelationship pr = prs.deserialize(buffer, prPosition);
+                PartyRelationship pr = this.deserialize(buffer, prPosition);
                 prSet.add(pr);
             }
 
@@ -3799,14 +3986,18 @@ public class RMObjectSerialization {
     }
 
     public static class AddressSerializer {
+        public static final AddressSerializer INSTANCE = new AddressSerializer();
+
+        private AddressSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, Locatable locatable,
                 ItemStructure details) {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            LocatableSerializer ls = new LocatableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
@@ -3820,9 +4011,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 Address a) {
             int position = offset;
-            AddressSerializer as = new AddressSerializer();
 
-            position = as.serialize(buffer, position, a.getLocatable(),
+            position = this.serialize(buffer, position, a.getLocatable(),
                     a.getDetails());
 
             return position;
@@ -3831,8 +4021,8 @@ public class RMObjectSerialization {
         protected Address deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -3855,11 +4045,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            AddressSerializer dis = new AddressSerializer();
 
             for (Address d : items){
                 header = writeHeader(buffer, header, position);
-                position = dis.serialize(buffer, position, d);
+                position = this.serialize(buffer, position, d);
             }
 
             return position;
@@ -3871,12 +4060,11 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
 
             List<Address> list = new ArrayList<>();
-            AddressSerializer as = new AddressSerializer();
 
             for (int i = 0; i < listSize; i++){
                 int addressPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
-                Address a = as.deserialize(buffer, addressPosition);
+                Address a = this.deserialize(buffer, addressPosition);
                 list.add(a);
             }
 
@@ -3885,14 +4073,18 @@ public class RMObjectSerialization {
     }
 
     public static class ContactSerializer {
+        public static final ContactSerializer INSTANCE = new ContactSerializer();
+
+        private ContactSerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, Locatable locatable,
                                 List<Address> addresses) {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            LocatableSerializer ls = new LocatableSerializer();
-            AddressSerializer as = new AddressSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            AddressSerializer as = AddressSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
@@ -3907,17 +4099,16 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 Contact c) {
             int position = offset;
-            ContactSerializer cs = new ContactSerializer();
 
-            position = cs.serialize(buffer, position, c.getLocatable(), c.getAddresses());
+            position = this.serialize(buffer, position, c.getLocatable(), c.getAddresses());
 
             return position;
         }
 
         protected Contact deserialize(Buffer buffer, int offset){
             int position = offset;
-            LocatableSerializer ls = new LocatableSerializer();
-            AddressSerializer as = new AddressSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            AddressSerializer as = AddressSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -3938,7 +4129,6 @@ public class RMObjectSerialization {
             int position = offset + (setSize * PrimitiveTypeSize.INT.getSize())
                     + PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            ContactSerializer cs = new ContactSerializer();
 
             header = writeHeader(buffer, header, setSize);
             Iterator<Contact> it = contacts.iterator();
@@ -3947,7 +4137,7 @@ public class RMObjectSerialization {
                 Contact c = it.next();
                 int contactPosition = position;
                 header = writeHeader(buffer, header, contactPosition);
-                position = cs.serialize(buffer, position, c);
+                position = this.serialize(buffer, position, c);
             }
 
             return position;
@@ -3958,14 +4148,13 @@ public class RMObjectSerialization {
             int listSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            ContactSerializer cs = new ContactSerializer();
             Set<Contact> contacts = new HashSet<>();
 
             for (int i = 0; i < listSize; i++){
                 int prPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
 
-                Contact c = cs.deserialize(buffer, prPosition);
+                Contact c = this.deserialize(buffer, prPosition);
                 contacts.add(c);
             }
 
@@ -3974,6 +4163,10 @@ public class RMObjectSerialization {
     }
 
     public static class PartySerializer {
+        public static final PartySerializer INSTANCE = new PartySerializer();
+
+        private PartySerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, Locatable locatable,
                 Set<PartyIdentity> identities, Set<Contact> contacts,
@@ -3985,12 +4178,12 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize()+
                     BOOLEAN.getSize();
 
-            LocatableSerializer ls = new LocatableSerializer();
-            ContactSerializer cs = new ContactSerializer();
-            PartyIdentitySerializer pis = new PartyIdentitySerializer();
-            LocatableRefSerializer lrs = new LocatableRefSerializer();
-            PartyRelationshipSerializer prs = new PartyRelationshipSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ContactSerializer cs = ContactSerializer.INSTANCE;
+            PartyIdentitySerializer pis = PartyIdentitySerializer.INSTANCE;
+            LocatableRefSerializer lrs = LocatableRefSerializer.INSTANCE;
+            PartyRelationshipSerializer prs = PartyRelationshipSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
@@ -4022,9 +4215,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 Party p) {
             int position = offset;
-            PartySerializer ps = new PartySerializer();
 
-            position = ps.serialize(buffer, position, p.getLocatable(),
+            position = this.serialize(buffer, position, p.getLocatable(),
                     p.getIdentities(), p.getContacts(), p.getRelationships(),
                     p.getReverseRelationships(), p.getDetails());
 
@@ -4033,12 +4225,12 @@ public class RMObjectSerialization {
 
         protected Party deserialize(Buffer buffer, int offset){
             int position = offset;
-            LocatableSerializer ls = new LocatableSerializer();
-            ContactSerializer cs = new ContactSerializer();
-            PartyIdentitySerializer pis = new PartyIdentitySerializer();
-            LocatableRefSerializer lrs = new LocatableRefSerializer();
-            PartyRelationshipSerializer prs = new PartyRelationshipSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ContactSerializer cs = ContactSerializer.INSTANCE;
+            PartyIdentitySerializer pis = PartyIdentitySerializer.INSTANCE;
+            LocatableRefSerializer lrs = LocatableRefSerializer.INSTANCE;
+            PartyRelationshipSerializer prs = PartyRelationshipSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
             
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -4083,7 +4275,6 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            PartySerializer ps = new PartySerializer();
 
             header = writeHeader(buffer, header, setSize);
             Iterator<Party> it = items.iterator();
@@ -4092,7 +4283,7 @@ public class RMObjectSerialization {
                 Party p = it.next();
                 int partyPosition = position;
                 header = writeHeader(buffer, header, partyPosition);
-                position = ps.serialize(buffer, position, p);
+                position = this.serialize(buffer, position, p);
             }
 
             return position;
@@ -4103,14 +4294,13 @@ public class RMObjectSerialization {
             int listSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            PartySerializer des = new PartySerializer();
             Set<Party> parties = new HashSet<>();
 
             for (int i = 0; i < listSize; i++){
                 int partyPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
 
-                Party p = des.deserialize(buffer, partyPosition);
+                Party p = this.deserialize(buffer, partyPosition);
                 parties.add(p);
             }
 
@@ -4119,14 +4309,18 @@ public class RMObjectSerialization {
     }
     
     public static class CapabilitySerializer {
+        public static final CapabilitySerializer INSTANCE = new CapabilitySerializer();
+
+        private CapabilitySerializer() {
+        }
 
         protected int serialize(Buffer buffer, int offset, Locatable credentials,
                 ItemStructure details) {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            LocatableSerializer ls = new LocatableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, credentials);
@@ -4140,9 +4334,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset,
                 Capability c) {
             int position = offset;
-            CapabilitySerializer cs = new CapabilitySerializer();
 
-            position = cs.serialize(buffer, position, c.getLocatable(),
+            position = this.serialize(buffer, position, c.getLocatable(),
                     c.getCredentials());
 
             return position;
@@ -4151,8 +4344,8 @@ public class RMObjectSerialization {
         protected Capability deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -4176,11 +4369,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            CapabilitySerializer cs = new CapabilitySerializer();
 
             for (Capability c : items){
                 header = writeHeader(buffer, header, position);
-                position = cs.serialize(buffer, position, c);
+                position = this.serialize(buffer, position, c);
             }
 
             return position;
@@ -4192,12 +4384,11 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
 
             List<Capability> list = new ArrayList<>();
-            CapabilitySerializer cs = new CapabilitySerializer();
 
             for (int i = 0; i < listSize; i++){
                 int capabilityPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
-                Capability c = cs.deserialize(buffer, capabilityPosition);
+                Capability c = this.deserialize(buffer, capabilityPosition);
                 list.add(c);
             }
 
@@ -4206,6 +4397,11 @@ public class RMObjectSerialization {
     }
     
     public static class RoleSerializer {
+        public static final RoleSerializer INSTANCE = new RoleSerializer();
+
+        private RoleSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Party party,
                                 List<Capability> capabilities,
                                 PartyRef performer) {
@@ -4213,9 +4409,9 @@ public class RMObjectSerialization {
             int position = offset + 4 * PrimitiveTypeSize.INT.getSize() +
                     2 * PrimitiveTypeSize.BOOLEAN.getSize();
 
-            PartySerializer ps = new PartySerializer();
-            CapabilitySerializer cs = new CapabilitySerializer();
-            PartyRefSerializer prs = new PartyRefSerializer();
+            PartySerializer ps = PartySerializer.INSTANCE;
+            CapabilitySerializer cs = CapabilitySerializer.INSTANCE;
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ps.serialize(buffer, position, party);
@@ -4238,9 +4434,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, Role r) {
             int position = offset;
-            RoleSerializer rs = new RoleSerializer();
 
-            position = rs.serialize(buffer, position, r.getParty(),
+            position = this.serialize(buffer, position, r.getParty(),
                     r.getCapabilities(), r.getPerformer());
 
             return position;
@@ -4248,9 +4443,9 @@ public class RMObjectSerialization {
 
         protected Role deserialize(Buffer buffer, int offset){
             int position = offset;
-            PartySerializer ps = new PartySerializer();
-            CapabilitySerializer cs = new CapabilitySerializer();
-            PartyRefSerializer prs = new PartyRefSerializer();
+            PartySerializer ps = PartySerializer.INSTANCE;
+            CapabilitySerializer cs = CapabilitySerializer.INSTANCE;
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
 
             int partyPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -4282,7 +4477,6 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            RoleSerializer rs = new RoleSerializer();
 
             header = writeHeader(buffer, header, setSize);
             Iterator<Role> it = roles.iterator();
@@ -4291,7 +4485,7 @@ public class RMObjectSerialization {
                 Role role = it.next();
                 int linkPosition = position;
                 header = writeHeader(buffer, header, linkPosition);
-                position = rs.serialize(buffer, position, role);
+                position = this.serialize(buffer, position, role);
             }
 
             return position;
@@ -4302,14 +4496,13 @@ public class RMObjectSerialization {
             int listSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            RoleSerializer rs = new RoleSerializer();
             Set<Role> roles = new HashSet<>();
 
             for (int i = 0; i < listSize; i++){
                 int rPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
 
-                Role role = rs.deserialize(buffer, rPosition);
+                Role role = this.deserialize(buffer, rPosition);
                 roles.add(role);
             }
 
@@ -4318,15 +4511,20 @@ public class RMObjectSerialization {
     }
     
     public static class ActorSerializer {
+        public static final ActorSerializer INSTANCE = new ActorSerializer();
+
+        private ActorSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Party party, 
                 Set<Role> roles, 
                 Set<DvText> languages){
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize();
             
-            PartySerializer ps = new PartySerializer();
-            RoleSerializer rs = new RoleSerializer();
-            DvTextSerializer dts = new DvTextSerializer();
+            PartySerializer ps = PartySerializer.INSTANCE;
+            RoleSerializer rs = RoleSerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
             
             header = writeHeader(buffer, header, position);
             position = ps.serialize(buffer, position, party);
@@ -4343,9 +4541,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 Actor a) {
             int position = offset;
-            ActorSerializer as = new ActorSerializer();
             
-            position = as.serialize(buffer, position, a.getParty(),
+            position = this.serialize(buffer, position, a.getParty(),
                     a.getRoles(), a.getLanguages());
             
             return position;
@@ -4354,9 +4551,9 @@ public class RMObjectSerialization {
         protected Actor deserialize(Buffer buffer, int offset){
             int position = offset;
             
-            PartySerializer ps = new PartySerializer();
-            RoleSerializer rs = new RoleSerializer();
-            DvTextSerializer dts = new DvTextSerializer();
+            PartySerializer ps = PartySerializer.INSTANCE;
+            RoleSerializer rs = RoleSerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
             
             int partyPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -4376,10 +4573,15 @@ public class RMObjectSerialization {
     }
     
     public static class AgentSerializer {
+        public static final AgentSerializer INSTANCE = new AgentSerializer();
+
+        private AgentSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, 
                 Actor actor) {
             int position = offset;
-            ActorSerializer as = new ActorSerializer();
+            ActorSerializer as = ActorSerializer.INSTANCE;
             
             position = as.serialize(buffer, position, actor);
             
@@ -4389,16 +4591,15 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 Agent agent) {
             int position = offset;
-            AgentSerializer as = new AgentSerializer();
             
-            position = as.serialize(buffer, position, agent.getActor());
+            position = this.serialize(buffer, position, agent.getActor());
             
             return position;
         }
         
         protected Agent deserialize(Buffer buffer, int offset){
             int position = offset;
-            ActorSerializer as = new ActorSerializer();
+            ActorSerializer as = ActorSerializer.INSTANCE;
             
             Actor actor = as.deserialize(buffer, position);
             
@@ -4407,10 +4608,15 @@ public class RMObjectSerialization {
     }
     
     public static class GroupSerializer {
+        public static final GroupSerializer INSTANCE = new GroupSerializer();
+
+        private GroupSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, 
                 Actor actor) {
             int position = offset;
-            ActorSerializer as = new ActorSerializer();
+            ActorSerializer as = ActorSerializer.INSTANCE;
             
             position = as.serialize(buffer, position, actor);
             
@@ -4420,16 +4626,15 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 Group group) {
             int position = offset;
-            GroupSerializer gs = new GroupSerializer();
             
-            position = gs.serialize(buffer, position, group.getActor());
+            position = this.serialize(buffer, position, group.getActor());
             
             return position;
         }
         
         protected Group deserialize(Buffer buffer, int offset){
             int position = offset;
-            ActorSerializer as = new ActorSerializer();
+            ActorSerializer as = ActorSerializer.INSTANCE;
             
             Actor a = as.deserialize(buffer, position);
             
@@ -4438,10 +4643,15 @@ public class RMObjectSerialization {
     }
     
     public static class OrganisationSerializer {
+        public static final OrganisationSerializer INSTANCE = new OrganisationSerializer();
+
+        private OrganisationSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, 
                 Actor actor) {
             int position = offset;
-            ActorSerializer as = new ActorSerializer();
+            ActorSerializer as = ActorSerializer.INSTANCE;
             
             position = as.serialize(buffer, position, actor);
             
@@ -4451,16 +4661,15 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 Organisation organisation) {
             int position = offset;
-            OrganisationSerializer os = new OrganisationSerializer();
             
-            position = os.serialize(buffer, position, organisation.getActor());
+            position = this.serialize(buffer, position, organisation.getActor());
             
             return position;
         }
         
         protected Organisation deserialize(Buffer buffer, int offset){
             int position = offset;
-            ActorSerializer as = new ActorSerializer();
+            ActorSerializer as = ActorSerializer.INSTANCE;
             
             Actor actor = as.deserialize(buffer, position);
             
@@ -4469,10 +4678,15 @@ public class RMObjectSerialization {
     }
     
     public static class PersonSerializer {
+        public static final PersonSerializer INSTANCE = new PersonSerializer();
+
+        private PersonSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, 
                 Actor a) {
             int position = offset;
-            ActorSerializer as = new ActorSerializer();
+            ActorSerializer as = ActorSerializer.INSTANCE;
             
             position = as.serialize(buffer, position, a);
             
@@ -4482,16 +4696,15 @@ public class RMObjectSerialization {
          protected int serialize(Buffer buffer, int offset, 
                 Person p) {
             int position = offset;
-            PersonSerializer ps = new PersonSerializer();
             
-            position = ps.serialize(buffer, position, p.getActor());
+            position = this.serialize(buffer, position, p.getActor());
             
             return position;
         }
          
          protected Person deserialize(Buffer buffer, int offset){
              int position = offset;
-             ActorSerializer as = new ActorSerializer();
+             ActorSerializer as = ActorSerializer.INSTANCE;
 
              Actor actor = as.deserialize(buffer, position);
 
@@ -4500,6 +4713,11 @@ public class RMObjectSerialization {
     }
     
     public static class InstructionDetailsSerializer {
+        public static final InstructionDetailsSerializer INSTANCE = new InstructionDetailsSerializer();
+
+        private InstructionDetailsSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, 
                 LocatableRef instructionId, String activityId, 
                 ItemStructure wfDetails) {
@@ -4507,8 +4725,8 @@ public class RMObjectSerialization {
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize() +
                     BOOLEAN.getSize();
             
-            LocatableRefSerializer lrs = new LocatableRefSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableRefSerializer lrs = LocatableRefSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
             
             header = writeHeader(buffer, header, position);
             position = lrs.serialize(buffer, position, instructionId);
@@ -4531,7 +4749,7 @@ public class RMObjectSerialization {
                 InstructionDetails id) {
             int position = offset;
             InstructionDetailsSerializer ids = 
-                    new InstructionDetailsSerializer();
+                    InstructionDetailsSerializer.INSTANCE;
             
             position = ids.serialize(buffer, position, 
                     id.getInstructionId(), id.getActivityId(), 
@@ -4542,8 +4760,8 @@ public class RMObjectSerialization {
         
         protected InstructionDetails deserialize(Buffer buffer, int offset){
             int position = offset;
-            LocatableRefSerializer lrs = new LocatableRefSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableRefSerializer lrs = LocatableRefSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
             
             int instructionIdPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -4569,14 +4787,19 @@ public class RMObjectSerialization {
     }
     
     public static class ISMTransitionSerializer {
-        protected int serialize(Buffer buffer, int offset, 
-                DvCodedText currentState, DvCodedText transition, 
+        public static final ISMTransitionSerializer INSTANCE = new ISMTransitionSerializer();
+
+        private ISMTransitionSerializer() {
+        }
+
+        protected int serialize(Buffer buffer, int offset, 
+                DvCodedText currentState, DvCodedText transition, 
                 DvCodedText careflowStep){
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize() +
                     2 * BOOLEAN.getSize();
             
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
             
             header = writeHeader(buffer, header, position);
             position = dcs.serialize(buffer, position, currentState);
@@ -4603,9 +4826,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 ISMTransition ism){
             int position = offset;
-            ISMTransitionSerializer is = new ISMTransitionSerializer();
             
-            position = is.serialize(buffer, position, ism.getCurrentState(), 
+            position = this.serialize(buffer, position, ism.getCurrentState(), 
                     ism.getTransition(), ism.getCareflowStep());
             
             return position;
@@ -4613,7 +4835,7 @@ public class RMObjectSerialization {
         
         protected ISMTransition deserialize(Buffer buffer, int offset){
             int position = offset;
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
             
             int currentStatePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -4644,15 +4866,20 @@ public class RMObjectSerialization {
     }
     
     public static class ActivitySerializer {
+        public static final ActivitySerializer INSTANCE = new ActivitySerializer();
+
+        private ActivitySerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Locatable locatable, 
                 ItemStructure description, DvParsable timing, 
                 String actionArchetypeId){
             int header = offset;
             int position = offset + 4 * PrimitiveTypeSize.INT.getSize();
             
-            LocatableSerializer ls = new LocatableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            DvParsableSerializer dps = new DvParsableSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            DvParsableSerializer dps = DvParsableSerializer.INSTANCE;
             
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
@@ -4673,9 +4900,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, 
                 Activity a){
             int position = offset;
-            ActivitySerializer as = new ActivitySerializer();
             
-            position = as.serialize(buffer, position, a.getLocatable(),
+            position = this.serialize(buffer, position, a.getLocatable(),
                     a.getDescription(), a.getTiming(), a.getActionArchetypeId());
             
             return position;
@@ -4683,9 +4909,9 @@ public class RMObjectSerialization {
         
         protected Activity deserialize(Buffer buffer, int offset){
             int position = offset;
-            LocatableSerializer ls = new LocatableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            DvParsableSerializer dps = new DvParsableSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            DvParsableSerializer dps = DvParsableSerializer.INSTANCE;
             
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -4718,11 +4944,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            ActivitySerializer as = new ActivitySerializer();
 
             for (Activity a : items){
                 header = writeHeader(buffer, header, position);
-                position = as.serialize(buffer, position, a);
+                position = this.serialize(buffer, position, a);
             }
 
             return position;
@@ -4734,12 +4959,11 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
 
             List<Activity> list = new ArrayList<>();
-            ActivitySerializer dis = new ActivitySerializer();
 
             for (int i = 0; i < listSize; i++){
                 int activityPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
-                Activity a = dis.deserialize(buffer, activityPosition);
+                Activity a = this.deserialize(buffer, activityPosition);
                 list.add(a);
             }
 
@@ -4748,6 +4972,11 @@ public class RMObjectSerialization {
     }
 
     public static class IntervalSerializer {
+        public static final IntervalSerializer INSTANCE = new IntervalSerializer();
+
+        private IntervalSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, DvOrdered lower,
                                 DvOrdered upper){
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize() +
@@ -4757,7 +4986,7 @@ public class RMObjectSerialization {
             boolean hasLower = lower != null;
             boolean hasUpper = upper != null;
 
-            DvOrderedSerializer ds = new DvOrderedSerializer();
+            DvOrderedSerializer ds = DvOrderedSerializer.INSTANCE;
             header = writeHeader(buffer, header, hasLower, position);
             position = ds.serialize(buffer, position, lower);
 
@@ -4770,8 +4999,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, Interval interval){
             int position = offset;
 
-            IntervalSerializer is = new IntervalSerializer();
-            position = is.serialize(buffer, position, interval.getLower(),
+            position = this.serialize(buffer, position, interval.getLower(),
                     interval.getUpper());
 
             return position;
@@ -4780,7 +5008,7 @@ public class RMObjectSerialization {
         protected Interval deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            DvOrderedSerializer dos = new DvOrderedSerializer();
+            DvOrderedSerializer dos = DvOrderedSerializer.INSTANCE;
 
             boolean hasLower = buffer.readBoolean(offset);
             position += PrimitiveTypeSize.BOOLEAN.getSize();
@@ -4804,6 +5032,11 @@ public class RMObjectSerialization {
     }
 
     public static class DvIntervalSerializer {
+        public static final DvIntervalSerializer INSTANCE = new DvIntervalSerializer();
+
+        private DvIntervalSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, DvOrdered lower,
                                 DvOrdered upper){
             int header = offset;
@@ -4812,31 +5045,26 @@ public class RMObjectSerialization {
             boolean hasLower = lower != null;
             boolean hasUpper = upper != null;
 
-            if(lower == null && upper == null){
-                return offset;
-            }
-
-            DvOrderedSerializer dos = new DvOrderedSerializer();
+            DvOrderedSerializer dos = DvOrderedSerializer.INSTANCE;
             header = writeHeader(buffer, header, hasLower, position);
-            position = dos.serialize(buffer, position, lower);
+            if(hasLower){
+                position = dos.serialize(buffer, position, lower);
+            }
 
             writeHeader(buffer, header, hasUpper, position);
-            position = dos.serialize(buffer, position, upper);
+            if(hasUpper){
+                position = dos.serialize(buffer, position, upper);
+            }
 
             return position;
         }
 
         protected int serialize(Buffer buffer, int offset, DvInterval dvInterval){
             int position = offset;
-            DvIntervalSerializer dis = new DvIntervalSerializer();
             if(dvInterval == null){
-                return offset;
+                return this.serialize(buffer, position, null, null);
             }
-            if(dvInterval.getInterval().getLower() == null ||
-                    dvInterval.getInterval().getUpper() == null){
-                return position;
-            }
-            position = dis.serialize(buffer, position, dvInterval.getInterval().
+            position = this.serialize(buffer, position, dvInterval.getInterval().
                     getLower(), dvInterval.getInterval().getUpper());
 
             return position;
@@ -4845,7 +5073,7 @@ public class RMObjectSerialization {
         protected DvInterval deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            DvOrderedSerializer dos = new DvOrderedSerializer();
+            DvOrderedSerializer dos = DvOrderedSerializer.INSTANCE;
             boolean hasLower = buffer.readBoolean(position);
             position += PrimitiveTypeSize.BOOLEAN.getSize();
 
@@ -4869,12 +5097,17 @@ public class RMObjectSerialization {
     }
 
     public static class ReferenceRangeSerializer {
+        public static final ReferenceRangeSerializer INSTANCE = new ReferenceRangeSerializer();
+
+        private ReferenceRangeSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, DvText meaning,
                                 DvInterval range){
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
-            DvIntervalSerializer dis = new DvIntervalSerializer();
-            DvTextSerializer dts = new DvTextSerializer();
+            DvIntervalSerializer dis = DvIntervalSerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dts.serialize(buffer, position, meaning);
@@ -4887,13 +5120,12 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, ReferenceRange range){
             int position = offset;
-            ReferenceRangeSerializer rrs = new ReferenceRangeSerializer();
 
             if(range == null){
                 return position;
             }
 
-            position = rrs.serialize(buffer, position, range.getMeaning(),
+            position = this.serialize(buffer, position, range.getMeaning(),
                     range.getRange());
 
             return position;
@@ -4901,8 +5133,8 @@ public class RMObjectSerialization {
 
         protected ReferenceRange deserialize(Buffer buffer, int offset){
             int position = offset;
-            DvIntervalSerializer dis = new DvIntervalSerializer();
-            DvTextSerializer dts = new DvTextSerializer();
+            DvIntervalSerializer dis = DvIntervalSerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
 
             int meaningPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -4916,11 +5148,6 @@ public class RMObjectSerialization {
 
         protected int listSerialize(
                 Buffer buffer, int offset, List<ReferenceRange> items) {
-            if(items.size() > 0 && (!items.get(0).getRange().getInterval().
-                    isUpperIncluded() && !items.get(0).getRange().getInterval().
-                    isLowerIncluded())){
-                return offset;
-            }
             int header = offset;
             int listSize = items.size();
             int position = offset + (listSize *
@@ -4928,11 +5155,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            ReferenceRangeSerializer rrs = new ReferenceRangeSerializer();
 
             for (ReferenceRange r : items){
                 header = writeHeader(buffer, header, position);
-                position = rrs.serialize(buffer, position, r);
+                position = this.serialize(buffer, position, r);
             }
 
             return position;
@@ -4944,12 +5170,11 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
 
             List<ReferenceRange> list = new ArrayList<>();
-            ReferenceRangeSerializer rrs = new ReferenceRangeSerializer();
 
             for (int i = 0; i < listSize; i++){
                 int referenceRangePosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
-                ReferenceRange r = rrs.deserialize(buffer, referenceRangePosition);
+                ReferenceRange r = this.deserialize(buffer, referenceRangePosition);
                 list.add(r);
             }
 
@@ -4958,6 +5183,11 @@ public class RMObjectSerialization {
     }
 
     public static class DvOrderedSerializer {
+        public static final DvOrderedSerializer INSTANCE = new DvOrderedSerializer();
+
+        private DvOrderedSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 List<ReferenceRange> otherReferenceRanges,
                                 DvInterval normalRange,
@@ -4970,9 +5200,9 @@ public class RMObjectSerialization {
             boolean hasNormalRange = normalRange != null;
             boolean hasNormalStatus = normalStatus != null;
 
-            ReferenceRangeSerializer rrs = new ReferenceRangeSerializer();
-            DvIntervalSerializer dis = new DvIntervalSerializer();
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            ReferenceRangeSerializer rrs = ReferenceRangeSerializer.INSTANCE;
+            DvIntervalSerializer dis = DvIntervalSerializer.INSTANCE;
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, hasOtherReferenceRanges, position);
             if(hasOtherReferenceRanges){
@@ -4994,9 +5224,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, DvOrdered dvOrdered){
             int position = offset;
-            DvOrderedSerializer dos = new DvOrderedSerializer();
 
-            position = dos.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     dvOrdered.getOtherReferenceRanges(),
                     dvOrdered.getNormalRange(),
                     dvOrdered.getNormalStatus());
@@ -5007,9 +5236,9 @@ public class RMObjectSerialization {
         protected DvOrdered deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            ReferenceRangeSerializer rrs = new ReferenceRangeSerializer();
-            DvIntervalSerializer dis = new DvIntervalSerializer();
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            ReferenceRangeSerializer rrs = ReferenceRangeSerializer.INSTANCE;
+            DvIntervalSerializer dis = DvIntervalSerializer.INSTANCE;
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
 
             boolean hasOtherReferenceRanges = buffer.readBoolean(position);
             position += PrimitiveTypeSize.BOOLEAN.getSize();
@@ -5045,14 +5274,19 @@ public class RMObjectSerialization {
     }
 
     public static class DvProportionSerializer {
+        public static final DvProportionSerializer INSTANCE = new DvProportionSerializer();
+
+        private DvProportionSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, DvAmount dvAmount,
                                 double numerator, double denominator,
                                 ProportionKind type, int precision){
             int header = offset;
             int position = offset + 5 * PrimitiveTypeSize.INT.getSize();
 
-            DvAmountSerializer das = new DvAmountSerializer();
-            ProportionKindSerializer pks = new ProportionKindSerializer();
+            DvAmountSerializer das = DvAmountSerializer.INSTANCE;
+            ProportionKindSerializer pks = ProportionKindSerializer.INSTANCE;
 
             header = writeHeader(buffer, header ,position);
             position = das.serialize(buffer, position, dvAmount);
@@ -5077,9 +5311,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, DvProportion d){
             int position = offset;
-            DvProportionSerializer dps = new DvProportionSerializer();
 
-            position = dps.serialize(buffer, position, d.getDvAmount(),
+            position = this.serialize(buffer, position, d.getDvAmount(),
                     d.getNumerator(), d.getDenominator(), d.getType(),
                     d.getPrecision());
 
@@ -5087,8 +5320,8 @@ public class RMObjectSerialization {
         }
 
         protected DvProportion deserialize(Buffer buffer, int position){
-            DvAmountSerializer das = new DvAmountSerializer();
-            ProportionKindSerializer pks = new ProportionKindSerializer();
+            DvAmountSerializer das = DvAmountSerializer.INSTANCE;
+            ProportionKindSerializer pks = ProportionKindSerializer.INSTANCE;
 
             int dvAmountPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5115,12 +5348,17 @@ public class RMObjectSerialization {
     }
 
     public static class DvQuantitySerializer {
+        public static final DvQuantitySerializer INSTANCE = new DvQuantitySerializer();
+
+        private DvQuantitySerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, DvAmount dvAmount,
                                 String units, double magnitude, int precision){
             int header = offset;
             int position = offset + 4 * PrimitiveTypeSize.INT.getSize();
 
-            DvAmountSerializer das = new DvAmountSerializer();
+            DvAmountSerializer das = DvAmountSerializer.INSTANCE;
             header = writeHeader(buffer, header, position);
             position = das.serialize(buffer, position, dvAmount);
 
@@ -5140,8 +5378,7 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, DvQuantity d){
             int position = offset;
-            DvQuantitySerializer dqs = new DvQuantitySerializer();
-            position = dqs.serialize(buffer, position, d.getDvAmount(),
+            position = this.serialize(buffer, position, d.getDvAmount(),
                     d.getUnits(), d.getMagnitude(), d.getPrecision());
 
             return position;
@@ -5149,7 +5386,7 @@ public class RMObjectSerialization {
 
         protected DvQuantity deserialize(Buffer buffer, int offset){
             int position = offset;
-            DvAmountSerializer das = new DvAmountSerializer();
+            DvAmountSerializer das = DvAmountSerializer.INSTANCE;
 
             int dvAmountSerialize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5172,12 +5409,17 @@ public class RMObjectSerialization {
     }
 
     public static class DvDurationSerializer {
+        public static final DvDurationSerializer INSTANCE = new DvDurationSerializer();
+
+        private DvDurationSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, DvAmount dvAmount,
                                 String value){
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            DvAmountSerializer das = new DvAmountSerializer();
+            DvAmountSerializer das = DvAmountSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = das.serialize(buffer, position, dvAmount);
@@ -5191,9 +5433,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, DvDuration d){
             int position = offset;
 
-            DvDurationSerializer dds = new DvDurationSerializer();
 
-            position = dds.serialize(buffer, position, d.getDvAmount(),
+            position = this.serialize(buffer, position, d.getDvAmount(),
                     d.getValue());
 
             return position;
@@ -5202,7 +5443,7 @@ public class RMObjectSerialization {
         protected DvDuration deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            DvAmountSerializer das = new DvAmountSerializer();
+            DvAmountSerializer das = DvAmountSerializer.INSTANCE;
 
             int dvAmountPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5217,12 +5458,17 @@ public class RMObjectSerialization {
     }
 
     public static class DvAbsoluteQuantitySerializer {
+        public static final DvAbsoluteQuantitySerializer INSTANCE = new DvAbsoluteQuantitySerializer();
+
+        private DvAbsoluteQuantitySerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 DvAbsoluteQuantityWithDvCount d){
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
-            DvQuantifiedSerializer dqs = new DvQuantifiedSerializer();
-            DvCountSerializer dcs = new DvCountSerializer();
+            DvQuantifiedSerializer dqs = DvQuantifiedSerializer.INSTANCE;
+            DvCountSerializer dcs = DvCountSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dqs.serialize(buffer, position, d.getDvQuantified());
@@ -5238,8 +5484,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            DvQuantifiedSerializer dfs = new DvQuantifiedSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
+            DvQuantifiedSerializer dfs = DvQuantifiedSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dfs.serialize(buffer, position, d.getDvQuantified());
@@ -5255,8 +5501,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            DvQuantifiedSerializer dfs = new DvQuantifiedSerializer();
-            DvProportionSerializer dps = new DvProportionSerializer();
+            DvQuantifiedSerializer dfs = DvQuantifiedSerializer.INSTANCE;
+            DvProportionSerializer dps = DvProportionSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dfs.serialize(buffer, position, d.getDvQuantified());
@@ -5272,8 +5518,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            DvQuantifiedSerializer dfs = new DvQuantifiedSerializer();
-            DvQuantitySerializer dqs = new DvQuantitySerializer();
+            DvQuantifiedSerializer dfs = DvQuantifiedSerializer.INSTANCE;
+            DvQuantitySerializer dqs = DvQuantitySerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dfs.serialize(buffer, position, d.getDvQuantified());
@@ -5288,8 +5534,8 @@ public class RMObjectSerialization {
                                                             int offset){
             int position = offset;
 
-            DvQuantifiedSerializer dfs = new DvQuantifiedSerializer();
-            DvCountSerializer dcs = new DvCountSerializer();
+            DvQuantifiedSerializer dfs = DvQuantifiedSerializer.INSTANCE;
+            DvCountSerializer dcs = DvCountSerializer.INSTANCE;
 
             int dvQuantifiedPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5306,8 +5552,8 @@ public class RMObjectSerialization {
                 Buffer buffer, int offset){
             int position = offset;
 
-            DvQuantifiedSerializer dfs = new DvQuantifiedSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
+            DvQuantifiedSerializer dfs = DvQuantifiedSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
 
             int dvQuantifiedPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5325,8 +5571,8 @@ public class RMObjectSerialization {
                 Buffer buffer, int offset){
             int position = offset;
 
-            DvQuantifiedSerializer dfs = new DvQuantifiedSerializer();
-            DvProportionSerializer dps = new DvProportionSerializer();
+            DvQuantifiedSerializer dfs = DvQuantifiedSerializer.INSTANCE;
+            DvProportionSerializer dps = DvProportionSerializer.INSTANCE;
 
             int dvQuantifiedPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5344,8 +5590,8 @@ public class RMObjectSerialization {
                 Buffer buffer, int offset){
             int position = offset;
 
-            DvQuantifiedSerializer dfs = new DvQuantifiedSerializer();
-            DvQuantitySerializer dqs = new DvQuantitySerializer();
+            DvQuantifiedSerializer dfs = DvQuantifiedSerializer.INSTANCE;
+            DvQuantitySerializer dqs = DvQuantitySerializer.INSTANCE;
 
             int dvQuantifiedPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5361,11 +5607,16 @@ public class RMObjectSerialization {
     }
 
     public static class DvDateSerializer {
+        public static final DvDateSerializer INSTANCE = new DvDateSerializer();
+
+        private DvDateSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, boolean dayKnown,
                                 boolean monthKnown, boolean isPartial,
                                 DvTemporal dvTemporal){
             int position = offset;
-            DvTemporalSerializer dts = new DvTemporalSerializer();
+            DvTemporalSerializer dts = DvTemporalSerializer.INSTANCE;
 
             buffer.writeBoolean(position, dayKnown);
             position += PrimitiveTypeSize.BOOLEAN.getSize();
@@ -5384,9 +5635,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, DvDate dvDate){
             int position = offset;
 
-            DvDateSerializer dds = new DvDateSerializer();
 
-            position = dds.serialize(buffer, position, dvDate.isDayKnown(),
+            position = this.serialize(buffer, position, dvDate.isDayKnown(),
                     dvDate.isMonthKnown(), dvDate.isPartial(),
                     dvDate.getDvTemporal());
 
@@ -5396,7 +5646,7 @@ public class RMObjectSerialization {
         protected DvDate deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            DvTemporalSerializer dts = new DvTemporalSerializer();
+            DvTemporalSerializer dts = DvTemporalSerializer.INSTANCE;
 
             boolean dayKnown = buffer.readBoolean(position);
             position += PrimitiveTypeSize.BOOLEAN.getSize();
@@ -5414,12 +5664,17 @@ public class RMObjectSerialization {
     }
 
     public static class DvTemporalSerializer {
+        public static final DvTemporalSerializer INSTANCE = new DvTemporalSerializer();
+
+        private DvTemporalSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 DvAbsoluteQuantityWithDvDuration dvAbsoluteQuantity,
                                 String value){
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
-            DvAbsoluteQuantitySerializer das = new DvAbsoluteQuantitySerializer();
+            DvAbsoluteQuantitySerializer das = DvAbsoluteQuantitySerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = das.serialize(buffer, position, dvAbsoluteQuantity);
@@ -5433,9 +5688,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, DvTemporal dvTemporal){
            int position = offset;
 
-            DvTemporalSerializer das = new DvTemporalSerializer();
 
-            position = das.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     dvTemporal.getDvAbsoluteQuantity(), dvTemporal.getValue());
 
             return position;
@@ -5446,7 +5700,7 @@ public class RMObjectSerialization {
 
             int dvAbsoluteQuantityPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
-            DvAbsoluteQuantitySerializer das = new DvAbsoluteQuantitySerializer();
+            DvAbsoluteQuantitySerializer das = DvAbsoluteQuantitySerializer.INSTANCE;
 
             DvAbsoluteQuantityWithDvDuration d = das.deserializeDvDuration(buffer,
                     dvAbsoluteQuantityPosition);
@@ -5461,13 +5715,18 @@ public class RMObjectSerialization {
 
 
     public static class DvTimeSerializer {
+        public static final DvTimeSerializer INSTANCE = new DvTimeSerializer();
+
+        private DvTimeSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, boolean isPartial,
                                 boolean minuteKnown, boolean secondKnown,
                                 boolean fractionalSecKnown,
                                 DvTemporal dvTemporal){
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
-            DvTemporalSerializer dts = new DvTemporalSerializer();
+            DvTemporalSerializer dts = DvTemporalSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dts.serialize(buffer, position, dvTemporal);
@@ -5491,9 +5750,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, DvTime dvTime){
             int position = offset;
-            DvTimeSerializer dds = new DvTimeSerializer();
 
-            position = dds.serialize(buffer, position, dvTime.isPartial(),
+            position = this.serialize(buffer, position, dvTime.isPartial(),
                     dvTime.isMinuteKnown(), dvTime.isSecondKnown(),
                     dvTime.isFractionalSecKnown(), dvTime.getDvTemporal());
 
@@ -5503,8 +5761,8 @@ public class RMObjectSerialization {
         protected DvTime deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            DvTemporalSerializer dts = new DvTemporalSerializer();
-            DvDateSerializer dds = new DvDateSerializer();
+            DvTemporalSerializer dts = DvTemporalSerializer.INSTANCE;
+            DvDateSerializer dds = DvDateSerializer.INSTANCE;
 
             int dvTemporalPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5530,14 +5788,19 @@ public class RMObjectSerialization {
     }
 
     public static class DvDateTimeSerializer {
+        public static final DvDateTimeSerializer INSTANCE = new DvDateTimeSerializer();
+
+        private DvDateTimeSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, boolean isPartial,
                                 boolean minuteKnown, boolean secondKnown,
                                 boolean fractionalSecKnown,
                                 DvTemporal dvTemporal, DvDate dateTime){
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize();
-            DvTemporalSerializer dts = new DvTemporalSerializer();
-            DvDateSerializer dds = new DvDateSerializer();
+            DvTemporalSerializer dts = DvTemporalSerializer.INSTANCE;
+            DvDateSerializer dds = DvDateSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dts.serialize(buffer, position, dvTemporal);
@@ -5564,9 +5827,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, DvDateTime dvDateTime){
             int position = offset;
-            DvDateTimeSerializer dds = new DvDateTimeSerializer();
 
-            position = dds.serialize(buffer, position, dvDateTime.isPartial(),
+            position = this.serialize(buffer, position, dvDateTime.isPartial(),
                     dvDateTime.isMinuteKnown(), dvDateTime.isSecondKnown(),
                     dvDateTime.isFractionalSecKnown(), dvDateTime.getDvTemporal(),
                     dvDateTime.getDateTime());
@@ -5577,8 +5839,8 @@ public class RMObjectSerialization {
         protected DvDateTime deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            DvTemporalSerializer dts = new DvTemporalSerializer();
-            DvDateSerializer dds = new DvDateSerializer();
+            DvTemporalSerializer dts = DvTemporalSerializer.INSTANCE;
+            DvDateSerializer dds = DvDateSerializer.INSTANCE;
 
             int dvTemporalPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5607,7 +5869,16 @@ public class RMObjectSerialization {
     }
     
     /**
-     * Serializa uma única String value
+     * Serializa uma única String value. O prefixo de tamanho registra a
+     * quantidade de bytes da codificação UTF-8 (e não a quantidade de
+     * caracteres), o que permite textos com acentuação. No perfil compacto
+     * (ver {@link Buffer#setCompact(boolean)}), o prefixo é um varint cujo
+     * bit menos significativo é zero.
+     *
+     * <p>Se o buffer está associado a uma {@link StringTable} e o valor já
+     * foi serializado no documento, apenas uma referência à primeira
+     * ocorrência é registrada: o prefixo -(posição + 1) ou, no perfil
+     * compacto, o varint (posição &lt;&lt; 1) | 1.</p>
      *
      * @param buffer
      * @param offset
@@ -5617,28 +5888,80 @@ public class RMObjectSerialization {
     private static int stringSerialization(
             Buffer buffer,
             int offset, String value) {
-        int valueLength = value.length();
+        StringTable table = buffer.getStringTable();
+        if (table != null) {
+            int first = table.positionOf(value);
+            if (first < 0) {
+                table.written(value, offset);
+            } else if (first <= MAX_REFERENCE) {
+                int length = Buffer.sizeOf(value);
+                if (buffer.isCompact()) {
+                    int reference = first << 1 | 1;
+                    if (Buffer.sizeOfVarInt(reference)
+                            < Buffer.sizeOfVarInt(length << 1) + length) {
+                        return offset + buffer.writeVarInt(offset, reference);
+                    }
+                } else if (length > 0) {
+                    buffer.writeInteger(offset, -first - 1);
+                    return offset + PrimitiveTypeSize.INT.getSize();
+                }
+            }
+        }
+
+        if (buffer.isCompact()) {
+            int prefix = buffer.writeVarInt(offset, Buffer.sizeOf(value) << 1);
+            return offset + prefix + buffer.writeString(offset + prefix, value);
+        }
+
+        int valueLength = buffer.writeString(
+                offset + PrimitiveTypeSize.INT.getSize(), value);
         buffer.writeInteger(offset, valueLength);
-        buffer.writeString(offset + PrimitiveTypeSize.INT.getSize(),
-                value);
 
         return offset + PrimitiveTypeSize.INT.getSize()+ valueLength;
     }
 
     /**
-     * Deserializa uma string dado um determinado offset
+     * Deserializa uma string dado um determinado offset. Se o buffer está
+     * associado a uma {@link StringTable}, ocorrências do mesmo valor
+     * produzem a mesma instância.
      *
      * @param buffer
      * @param offset
      * @return String deserializada
      */
-    private static String stringDeserialization(Buffer buffer,
+    static String stringDeserialization(Buffer buffer,
             int offset){
         int position = offset;
-        int length = buffer.readInteger(position);
-        position += PrimitiveTypeSize.INT.getSize();
+        int length;
+        if (buffer.isCompact()) {
+            int prefix = buffer.readVarInt(position);
+            if ((prefix & 1) != 0) {
+                return stringDeserialization(buffer, prefix >>> 1);
+            }
+
+            length = prefix >>> 1;
+            position += Buffer.sizeOfVarInt(prefix);
+        } else {
+            length = buffer.readInteger(position);
+            if (length < 0) {
+                return stringDeserialization(buffer, -length - 1);
+            }
+
+            position += PrimitiveTypeSize.INT.getSize();
+        }
+
+        StringTable table = buffer.getStringTable();
+        if (table == null) {
+            return buffer.readString(position, length);
+        }
+
+        String value = table.read(offset);
+        if (value == null) {
+            value = buffer.readString(position, length);
+            table.read(offset, value);
+        }
 
-        return buffer.readString(position, length);
+        return value;
     }
 
     /**
@@ -5738,12 +6061,17 @@ public class RMObjectSerialization {
     }
 
     public static class DvQuantifiedSerializer {
+        public static final DvQuantifiedSerializer INSTANCE = new DvQuantifiedSerializer();
+
+        private DvQuantifiedSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, DvOrdered dvOrdered,
                                 String magnitudeStatus){
             int header = offset;
             int position = offset +  2 * PrimitiveTypeSize.INT.getSize() +
                     PrimitiveTypeSize.BOOLEAN.getSize();
-            DvOrderedSerializer dos = new DvOrderedSerializer();
+            DvOrderedSerializer dos = DvOrderedSerializer.INSTANCE;
             boolean hasMagnitudeStatus = magnitudeStatus != null;
 
             header = writeHeader(buffer, header, position);
@@ -5756,8 +6084,7 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, DvQuantified d){
             int position = offset;
-            DvQuantifiedSerializer dqs = new DvQuantifiedSerializer();
-            position = dqs.serialize(buffer, position, d.getDvOrdered(),
+            position = this.serialize(buffer, position, d.getDvOrdered(),
                     d.getMagnitudeStatus());
 
             return position;
@@ -5765,7 +6092,7 @@ public class RMObjectSerialization {
 
         protected DvQuantified deserialize(Buffer buffer, int offset){
             int position = offset;
-            DvOrderedSerializer dos = new DvOrderedSerializer();
+            DvOrderedSerializer dos = DvOrderedSerializer.INSTANCE;
 
             int dvOrderedPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5785,12 +6112,17 @@ public class RMObjectSerialization {
     }
 
     public static class DvAmountSerializer {
+        public static final DvAmountSerializer INSTANCE = new DvAmountSerializer();
+
+        private DvAmountSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, DvOrdered dvOrdered,
                                 double accuracy, boolean accuracyPercent){
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize();
 
-            DvOrderedSerializer dos = new DvOrderedSerializer();
+            DvOrderedSerializer dos = DvOrderedSerializer.INSTANCE;
             header = writeHeader(buffer, header, position);
             position = dos.serialize(buffer, position, dvOrdered);
 
@@ -5807,9 +6139,8 @@ public class RMObjectSerialization {
 
         protected  int serialize(Buffer buffer, int offset, DvAmount dvAmount){
             int position = offset;
-            DvAmountSerializer das = new DvAmountSerializer();
 
-            position = das.serialize(buffer, position, dvAmount.getDvOrdered(),
+            position = this.serialize(buffer, position, dvAmount.getDvOrdered(),
                     dvAmount.getAccuracy(), dvAmount.isAccuracyPercent());
 
             return position;
@@ -5818,7 +6149,7 @@ public class RMObjectSerialization {
         protected DvAmount deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            DvOrderedSerializer dos = new DvOrderedSerializer();
+            DvOrderedSerializer dos = DvOrderedSerializer.INSTANCE;
             int dvOrderedPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
             DvOrdered dvOrdered = dos.deserialize(buffer, dvOrderedPosition);
@@ -5837,6 +6168,11 @@ public class RMObjectSerialization {
     }
 
     public static class DvOrdinalSerializer {
+        public static final DvOrdinalSerializer INSTANCE = new DvOrdinalSerializer();
+
+        private DvOrdinalSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 List<ReferenceRange> otherReferenceRanges,
                                 DvInterval normalRange, int value,
@@ -5844,9 +6180,9 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 4 * PrimitiveTypeSize.INT.getSize();
 
-            ReferenceRangeSerializer rrs = new ReferenceRangeSerializer();
-            DvIntervalSerializer dis = new DvIntervalSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            ReferenceRangeSerializer rrs = ReferenceRangeSerializer.INSTANCE;
+            DvIntervalSerializer dis = DvIntervalSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = rrs.listSerialize(buffer, position, otherReferenceRanges);
@@ -5866,8 +6202,7 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, DvOrdinal dvOrdinal){
             int position = offset;
-            DvOrdinalSerializer dos = new DvOrdinalSerializer();
-            position = dos.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     dvOrdinal.getOtherReferenceRanges(),
                     dvOrdinal.getNormalRange(), dvOrdinal.getValue(),
                     dvOrdinal.getSymbol());
@@ -5878,9 +6213,9 @@ public class RMObjectSerialization {
         protected DvOrdinal deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            ReferenceRangeSerializer rrs = new ReferenceRangeSerializer();
-            DvIntervalSerializer dis = new DvIntervalSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            ReferenceRangeSerializer rrs = ReferenceRangeSerializer.INSTANCE;
+            DvIntervalSerializer dis = DvIntervalSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
 
             int otherReferencesPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5904,12 +6239,17 @@ public class RMObjectSerialization {
     }
 
     public static class DvCountSerializer {
+        public static final DvCountSerializer INSTANCE = new DvCountSerializer();
+
+        private DvCountSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, DvAmount dvAmount,
                                 int magnitude){
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            DvAmountSerializer das = new DvAmountSerializer();
+            DvAmountSerializer das = DvAmountSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = das.serialize(buffer, position, dvAmount);
@@ -5923,9 +6263,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, DvCount d){
             int position = offset;
-            DvCountSerializer dcs = new DvCountSerializer();
 
-            position = dcs.serialize(buffer, position, d.getDvAmount(),
+            position = this.serialize(buffer, position, d.getDvAmount(),
                     d.getMagnitude());
 
             return position;
@@ -5933,7 +6272,7 @@ public class RMObjectSerialization {
 
         protected DvCount deserialize(Buffer buffer, int offset){
             int position = offset;
-            DvAmountSerializer das = new DvAmountSerializer();
+            DvAmountSerializer das = DvAmountSerializer.INSTANCE;
 
             int dvAmountPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -5947,6 +6286,11 @@ public class RMObjectSerialization {
     }
 
     public static class ParticipationSerializer {
+        public static final ParticipationSerializer INSTANCE = new ParticipationSerializer();
+
+        private ParticipationSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, PartyProxy performer,
                                 DvText function, DvCodedText mode,
                                 DvInterval time){
@@ -5956,10 +6300,10 @@ public class RMObjectSerialization {
 
             boolean hasTime = time != null;
 
-            PartyProxySerializer pps = new PartyProxySerializer();
-            DvTextSerializer dts = new DvTextSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
-            DvIntervalSerializer dis = new DvIntervalSerializer();
+            PartyProxySerializer pps = PartyProxySerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
+            DvIntervalSerializer dis = DvIntervalSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = pps.serialize(buffer, position, performer);
@@ -5979,9 +6323,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, Participation p){
             int position = offset;
 
-            ParticipationSerializer ps = new ParticipationSerializer();
 
-            position = ps.serialize(buffer, position, p.getPerformer(),
+            position = this.serialize(buffer, position, p.getPerformer(),
                     p.getFunction(), p.getMode(), p.getTime());
 
             return position;
@@ -5990,10 +6333,10 @@ public class RMObjectSerialization {
         protected Participation deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            PartyProxySerializer pps = new PartyProxySerializer();
-            DvTextSerializer dts = new DvTextSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
-            DvIntervalSerializer dis = new DvIntervalSerializer();
+            PartyProxySerializer pps = PartyProxySerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
+            DvIntervalSerializer dis = DvIntervalSerializer.INSTANCE;
 
             int performerPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -6029,11 +6372,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            ParticipationSerializer dis = new ParticipationSerializer();
 
             for (Participation p : items){
                 header = writeHeader(buffer, header, position);
-                position = dis.serialize(buffer, position, p);
+                position = this.serialize(buffer, position, p);
             }
 
             return position;
@@ -6046,12 +6388,11 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
 
             List<Participation> list = new ArrayList<>();
-            ParticipationSerializer dis = new ParticipationSerializer();
 
             for (int i = 0; i < listSize; i++){
                 int participationPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
-                Participation p = dis.deserialize(buffer,
+                Participation p = this.deserialize(buffer,
                         participationPosition);
                 list.add(p);
             }
@@ -6066,7 +6407,6 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
             int header = offset;
-            ParticipationSerializer des = new ParticipationSerializer();
 
             header = writeHeader(buffer, header, setSize);
             Iterator<Participation> it = items.iterator();
@@ -6075,7 +6415,7 @@ public class RMObjectSerialization {
                 Participation p = it.next();
                 int participationPosition = position;
                 header = writeHeader(buffer, header, participationPosition);
-                position = des.serialize(buffer, position, p);
+                position = this.serialize(buffer, position, p);
             }
 
             return position;
@@ -6086,14 +6426,13 @@ public class RMObjectSerialization {
             int listSize = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
 
-            ParticipationSerializer des = new ParticipationSerializer();
             Set<Participation> participations = new HashSet<>();
 
             for (int i = 0; i < listSize; i++){
                 int participationPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
 
-                Participation dv = des.deserialize(buffer,
+                Participation dv = this.deserialize(buffer,
                         participationPosition);
                 participations.add(dv);
             }
@@ -6103,6 +6442,11 @@ public class RMObjectSerialization {
     }
 
     public static class AuditDetailsSerializer {
+        public static final AuditDetailsSerializer INSTANCE = new AuditDetailsSerializer();
+
+        private AuditDetailsSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 String timePosition, PartyProxy committer,
                                 DvDateTime timeCommitted,
@@ -6110,10 +6454,10 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 5 * PrimitiveTypeSize.INT.getSize();
 
-            PartyProxySerializer pps = new PartyProxySerializer();
-            DvTextSerializer dts = new DvTextSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
-            DvDateTimeSerializer dds = new DvDateTimeSerializer();
+            PartyProxySerializer pps = PartyProxySerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
+            DvDateTimeSerializer dds = DvDateTimeSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = stringSerialization(buffer, position, timePosition);
@@ -6137,9 +6481,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, AuditDetails a){
             int position = offset;
 
-            AuditDetailsSerializer ads = new AuditDetailsSerializer();
 
-            position = ads.serialize(buffer, position, a.getTimePosition(),
+            position = this.serialize(buffer, position, a.getTimePosition(),
                     a.getCommitter(), a.getTimeCommitted(),
                     a.getChangeType(), a.getDescription());
 
@@ -6149,10 +6492,10 @@ public class RMObjectSerialization {
         protected AuditDetails deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            PartyProxySerializer pps = new PartyProxySerializer();
-            DvTextSerializer dts = new DvTextSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
-            DvDateTimeSerializer dds = new DvDateTimeSerializer();
+            PartyProxySerializer pps = PartyProxySerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
+            DvDateTimeSerializer dds = DvDateTimeSerializer.INSTANCE;
 
             int timePositionPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -6192,11 +6535,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            AuditDetailsSerializer dis = new AuditDetailsSerializer();
 
             for (AuditDetails a : items){
                 header = writeHeader(buffer, header, position);
-                position = dis.serialize(buffer, position, a);
+                position = this.serialize(buffer, position, a);
             }
 
             return position;
@@ -6208,12 +6550,11 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
 
             List<AuditDetails> list = new ArrayList<>();
-            AuditDetailsSerializer dis = new AuditDetailsSerializer();
 
             for (int i = 0; i < listSize; i++){
                 int auditDetailsPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
-                AuditDetails a = dis.deserialize(buffer, auditDetailsPosition);
+                AuditDetails a = this.deserialize(buffer, auditDetailsPosition);
                 list.add(a);
             }
 
@@ -6222,6 +6563,11 @@ public class RMObjectSerialization {
     }
 
     public static class AttestationSerializer {
+        public static final AttestationSerializer INSTANCE = new AttestationSerializer();
+
+        private AttestationSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 AuditDetails auditDetails,
                                 DvMultimedia attestedView, String proof,
@@ -6230,10 +6576,10 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 6 * PrimitiveTypeSize.INT.getSize();
 
-            AuditDetailsSerializer ads = new AuditDetailsSerializer();
-            DvMultimediaSerializer dms = new DvMultimediaSerializer();
-            DvEHRURISerializer des = new DvEHRURISerializer();
-            DvTextSerializer dts = new DvTextSerializer();
+            AuditDetailsSerializer ads = AuditDetailsSerializer.INSTANCE;
+            DvMultimediaSerializer dms = DvMultimediaSerializer.INSTANCE;
+            DvEHRURISerializer des = DvEHRURISerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ads.serialize(buffer, position, auditDetails);
@@ -6260,9 +6606,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, Attestation a){
             int position = offset;
 
-            AttestationSerializer as = new AttestationSerializer();
 
-            position = as.serialize(buffer, position, a.getAuditDetails(),
+            position = this.serialize(buffer, position, a.getAuditDetails(),
                     a.getAttestedView(), a.getProof(), a.getItems(),
                     a.getReason(), a.isPending());
 
@@ -6272,10 +6617,10 @@ public class RMObjectSerialization {
         protected Attestation deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            AuditDetailsSerializer ads = new AuditDetailsSerializer();
-            DvMultimediaSerializer dms = new DvMultimediaSerializer();
-            DvEHRURISerializer des = new DvEHRURISerializer();
-            DvTextSerializer dts = new DvTextSerializer();
+            AuditDetailsSerializer ads = AuditDetailsSerializer.INSTANCE;
+            DvMultimediaSerializer dms = DvMultimediaSerializer.INSTANCE;
+            DvEHRURISerializer des = DvEHRURISerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
 
             int auditDetailsPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -6308,14 +6653,19 @@ public class RMObjectSerialization {
     }
 
     public static class RevisionHistoryItemSerializer {
+        public static final RevisionHistoryItemSerializer INSTANCE = new RevisionHistoryItemSerializer();
+
+        private RevisionHistoryItemSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 List<AuditDetails> audits,
                                 ObjectVersionID versionID){
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            AuditDetailsSerializer ads = new AuditDetailsSerializer();
-            ObjectVersionIDSerializer ovs = new ObjectVersionIDSerializer();
+            AuditDetailsSerializer ads = AuditDetailsSerializer.INSTANCE;
+            ObjectVersionIDSerializer ovs = ObjectVersionIDSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ads.listSerialize(buffer, position, audits);
@@ -6328,9 +6678,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, RevisionHistoryItem r){
             int position = offset;
-            RevisionHistoryItemSerializer rhs = new RevisionHistoryItemSerializer();
 
-            position = rhs.serialize(buffer, position, r.getAudits(),
+            position = this.serialize(buffer, position, r.getAudits(),
                     r.getVersionID());
 
             return position;
@@ -6339,8 +6688,8 @@ public class RMObjectSerialization {
         protected RevisionHistoryItem deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            AuditDetailsSerializer ads = new AuditDetailsSerializer();
-            ObjectVersionIDSerializer ovs = new ObjectVersionIDSerializer();
+            AuditDetailsSerializer ads = AuditDetailsSerializer.INSTANCE;
+            ObjectVersionIDSerializer ovs = ObjectVersionIDSerializer.INSTANCE;
 
             int auditsPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -6365,7 +6714,7 @@ public class RMObjectSerialization {
 
             header = writeHeader(buffer, header, listSize);
             RevisionHistoryItemSerializer rhs =
-                    new RevisionHistoryItemSerializer();
+                    RevisionHistoryItemSerializer.INSTANCE;
 
             for (RevisionHistoryItem r : items){
                 header = writeHeader(buffer, header, position);
@@ -6383,7 +6732,7 @@ public class RMObjectSerialization {
 
             List<RevisionHistoryItem> list = new ArrayList<>();
             RevisionHistoryItemSerializer dis =
-                    new RevisionHistoryItemSerializer();
+                    RevisionHistoryItemSerializer.INSTANCE;
 
             for (int i = 0; i < listSize; i++){
                 int revisionHistoryItemPosition = buffer.readInteger(position);
@@ -6398,11 +6747,16 @@ public class RMObjectSerialization {
     }
 
     public static class RevisionHistorySerializer {
+        public static final RevisionHistorySerializer INSTANCE = new RevisionHistorySerializer();
+
+        private RevisionHistorySerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 List<RevisionHistoryItem> items){
             int position = offset;
             RevisionHistoryItemSerializer rhs =
-                    new RevisionHistoryItemSerializer();
+                    RevisionHistoryItemSerializer.INSTANCE;
 
             position = rhs.listSerialize(buffer, position, items);
 
@@ -6412,9 +6766,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, RevisionHistory r){
             int position = offset;
 
-            RevisionHistorySerializer rhs = new RevisionHistorySerializer();
 
-            position = rhs.serialize(buffer, position, r.getItems());
+            position = this.serialize(buffer, position, r.getItems());
 
             return position;
         }
@@ -6423,7 +6776,7 @@ public class RMObjectSerialization {
             int position = offset;
 
             RevisionHistoryItemSerializer rhs =
-                    new RevisionHistoryItemSerializer();
+                    RevisionHistoryItemSerializer.INSTANCE;
 
             List<RevisionHistoryItem> items = rhs.deserializeList(buffer,
                     position);
@@ -6433,14 +6786,19 @@ public class RMObjectSerialization {
     }
 
     public static class ContributionSerializer {
+        public static final ContributionSerializer INSTANCE = new ContributionSerializer();
+
+        private ContributionSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, ObjectID uid,
                                 Set<ObjectRef> versions, AuditDetails audit){
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize();
 
-            ObjectIDSerializer ois = new ObjectIDSerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
-            AuditDetailsSerializer ads = new AuditDetailsSerializer();
+            ObjectIDSerializer ois = ObjectIDSerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
+            AuditDetailsSerializer ads = AuditDetailsSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ois.serialize(buffer, position, uid);
@@ -6457,9 +6815,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, Contribution c){
             int position = offset;
 
-            ContributionSerializer cs = new ContributionSerializer();
 
-            position = cs.serialize(buffer, position, c.getUid(),
+            position = this.serialize(buffer, position, c.getUid(),
                     c.getVersions(), c.getAudit());
 
             return position;
@@ -6468,9 +6825,9 @@ public class RMObjectSerialization {
         protected Contribution deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            ObjectIDSerializer ois = new ObjectIDSerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
-            AuditDetailsSerializer ads = new AuditDetailsSerializer();
+            ObjectIDSerializer ois = ObjectIDSerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
+            AuditDetailsSerializer ads = AuditDetailsSerializer.INSTANCE;
 
             int uidPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -6489,20 +6846,24 @@ public class RMObjectSerialization {
     }
 
     public static class FolderSerializer {
+        public static final FolderSerializer INSTANCE = new FolderSerializer();
+
+        private FolderSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Locatable locatable,
                                 List<Folder> folders, List<ObjectRef> items){
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize();
 
-            LocatableSerializer ls = new LocatableSerializer();
-            FolderSerializer fs = new FolderSerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
 
             header = writeHeader(buffer, header, position);
-            position = fs.listSerialize(buffer, position, folders);
+            position = this.listSerialize(buffer, position, folders);
 
             writeHeader(buffer, header, position);
             position = ors.listSerialize(buffer, position, items);
@@ -6513,9 +6874,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, Folder f){
             int position = offset;
 
-            FolderSerializer fs = new FolderSerializer();
 
-            position = fs.serialize(buffer, position, f.getLocatable(),
+            position = this.serialize(buffer, position, f.getLocatable(),
                     f.getFolders(), f.getItems());
 
             return position;
@@ -6524,9 +6884,8 @@ public class RMObjectSerialization {
         protected Folder deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
-            FolderSerializer fs = new FolderSerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -6534,7 +6893,7 @@ public class RMObjectSerialization {
 
             int foldersPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
-            List<Folder> folders = fs.deserializeList(buffer, foldersPosition);
+            List<Folder> folders = this.deserializeList(buffer, foldersPosition);
 
             int itemsPosition = buffer.readInteger(position);
             List<ObjectRef> items = ors.deserializeList(buffer, itemsPosition);
@@ -6559,11 +6918,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            FolderSerializer dis = new FolderSerializer();
 
             for (Folder f : folders){
                 header = writeHeader(buffer, header, position);
-                position = dis.serialize(buffer, position, f);
+                position = this.serialize(buffer, position, f);
             }
 
             return position;
@@ -6575,7 +6933,6 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
 
             List<Folder> folders = new ArrayList<>();
-            FolderSerializer fs = new FolderSerializer();
 
             for (int i = 0; i < listSize; i++){
                 int folderPosition = buffer.readInteger(position);
@@ -6583,7 +6940,7 @@ public class RMObjectSerialization {
                     break;
                 }
                 position += PrimitiveTypeSize.INT.getSize();
-                Folder f = fs.deserialize(buffer, folderPosition);
+                Folder f = this.deserialize(buffer, folderPosition);
                 folders.add(f);
             }
 
@@ -6624,6 +6981,11 @@ public class RMObjectSerialization {
     }
 
     public static class AuthoredResourceSerializer {
+        public static final AuthoredResourceSerializer INSTANCE = new AuthoredResourceSerializer();
+
+        private AuthoredResourceSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 CodePhrase originalLanguage,
                                 Map<String, TranslationDetails> translations,
@@ -6634,12 +6996,12 @@ public class RMObjectSerialization {
             int position = offset + 5 * PrimitiveTypeSize.INT.getSize() +
                     2 * PrimitiveTypeSize.BOOLEAN.getSize();
 
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
             TranslationDetailsSerializer tds =
-                    new TranslationDetailsSerializer();
+                    TranslationDetailsSerializer.INSTANCE;
             ResourceDescriptionSerializer rds =
-                    new ResourceDescriptionSerializer();
-            RevisionHistorySerializer rhs = new RevisionHistorySerializer();
+                    ResourceDescriptionSerializer.INSTANCE;
+            RevisionHistorySerializer rhs = RevisionHistorySerializer.INSTANCE;
 
             boolean hasDescription = description != null;
             boolean hasRevisionHistory = revisionHistory != null;
@@ -6669,9 +7031,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, AuthoredResource a){
             int position = offset;
-            AuthoredResourceSerializer ars = new AuthoredResourceSerializer();
 
-            position = ars.serialize(buffer, position, a.getOriginalLanguage(),
+            position = this.serialize(buffer, position, a.getOriginalLanguage(),
                     a.getTranslations(), a.getDescription(),
                     a.getRevisionHistory(), a.isControlled());
 
@@ -6681,12 +7042,12 @@ public class RMObjectSerialization {
         protected AuthoredResource deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            CodePhraseSerializer cps = new CodePhraseSerializer();
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
             TranslationDetailsSerializer tds =
-                    new TranslationDetailsSerializer();
+                    TranslationDetailsSerializer.INSTANCE;
             ResourceDescriptionSerializer rds =
-                    new ResourceDescriptionSerializer();
-            RevisionHistorySerializer rhs = new RevisionHistorySerializer();
+                    ResourceDescriptionSerializer.INSTANCE;
+            RevisionHistorySerializer rhs = RevisionHistorySerializer.INSTANCE;
 
 
             int originalLanguagePosition = buffer.readInteger(position);
@@ -6727,6 +7088,11 @@ public class RMObjectSerialization {
     }
 
     public static class ResourceDescriptionSerializer {
+        public static final ResourceDescriptionSerializer INSTANCE = new ResourceDescriptionSerializer();
+
+        private ResourceDescriptionSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 Map<String, String> originalAuthor,
                                 List<String> otherContributors,
@@ -6745,8 +7111,8 @@ public class RMObjectSerialization {
             boolean hasParentResource = parentResource != null;
 
             ResourceDescriptionItemSerializer rds =
-                    new ResourceDescriptionItemSerializer();
-            AuthoredResourceSerializer ars = new AuthoredResourceSerializer();
+                    ResourceDescriptionItemSerializer.INSTANCE;
+            AuthoredResourceSerializer ars = AuthoredResourceSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = mapStringSerialization(buffer, position, originalAuthor);
@@ -6785,7 +7151,7 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, ResourceDescription r){
             int position = offset;
             ResourceDescriptionSerializer ars =
-                    new ResourceDescriptionSerializer();
+                    ResourceDescriptionSerializer.INSTANCE;
 
             position = ars.serialize(buffer, position, r.getOriginalAuthor(),
                     r.getOtherContributors(), r.getLifecycleState(),
@@ -6799,8 +7165,8 @@ public class RMObjectSerialization {
             int position = offset;
 
             ResourceDescriptionItemSerializer rds =
-                    new ResourceDescriptionItemSerializer();
-            AuthoredResourceSerializer ars = new AuthoredResourceSerializer();
+                    ResourceDescriptionItemSerializer.INSTANCE;
+            AuthoredResourceSerializer ars = AuthoredResourceSerializer.INSTANCE;
 
             int originalAuthorPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -6863,16 +7229,21 @@ public class RMObjectSerialization {
     }
 
     public static class EventSerializer {
+        public static final EventSerializer INSTANCE = new EventSerializer();
+
+        private EventSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                         Locatable locatable, DvDateTime time,
                                         ItemTree data, ItemStructure state){
             int header = offset;
             int position = offset + 4 * PrimitiveTypeSize.INT.getSize();
 
-            LocatableSerializer ls = new LocatableSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ItemTreeSerializer its = new ItemTreeSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ItemTreeSerializer its = ItemTreeSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
@@ -6891,9 +7262,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, EventWithItemTree e){
             int position = offset;
-            EventSerializer es = new EventSerializer();
 
-            position = es.serialize(buffer, position, e.getLocatable(),
+            position = this.serialize(buffer, position, e.getLocatable(),
                     e.getTime(), e.getData(), e.getState());
 
             return position;
@@ -6903,10 +7273,10 @@ public class RMObjectSerialization {
                                                         int offset){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ItemTreeSerializer its = new ItemTreeSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ItemTreeSerializer its = ItemTreeSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -6933,10 +7303,10 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 4 * PrimitiveTypeSize.INT.getSize();
 
-            LocatableSerializer ls = new LocatableSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ItemSingleSerializer its = new ItemSingleSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ItemSingleSerializer its = ItemSingleSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
@@ -6955,9 +7325,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, EventWithItemSingle e){
             int position = offset;
-            EventSerializer es = new EventSerializer();
 
-            position = es.serialize(buffer, position, e.getLocatable(),
+            position = this.serialize(buffer, position, e.getLocatable(),
                     e.getTime(), e.getData(), e.getState());
 
             return position;
@@ -6967,10 +7336,10 @@ public class RMObjectSerialization {
                                                             int offset){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ItemSingleSerializer its = new ItemSingleSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ItemSingleSerializer its = ItemSingleSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -6997,10 +7366,10 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 4 * PrimitiveTypeSize.INT.getSize();
 
-            LocatableSerializer ls = new LocatableSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ItemTableSerializer its = new ItemTableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ItemTableSerializer its = ItemTableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
@@ -7019,9 +7388,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, EventWithItemTable e){
             int position = offset;
-            EventSerializer es = new EventSerializer();
 
-            position = es.serialize(buffer, position, e.getLocatable(),
+            position = this.serialize(buffer, position, e.getLocatable(),
                     e.getTime(), e.getData(), e.getState());
 
             return position;
@@ -7031,10 +7399,10 @@ public class RMObjectSerialization {
                                                           int offset){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ItemTableSerializer its = new ItemTableSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ItemTableSerializer its = ItemTableSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -7066,11 +7434,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            EventSerializer es = new EventSerializer();
 
             for (EventWithItemTree e : items){
                 header = writeHeader(buffer, header, position);
-                position = es.serialize(buffer, position, e);
+                position = this.serialize(buffer, position, e);
             }
 
             return position;
@@ -7078,22 +7445,8 @@ public class RMObjectSerialization {
 
         protected List<EventWithItemTree> deserializeListOfItemTree(
                 Buffer buffer, int offset){
-            int position = offset;
-            int listSize = buffer.readInteger(position);
-            position += PrimitiveTypeSize.INT.getSize();
-
-            List<EventWithItemTree> list = new ArrayList<>();
-            EventSerializer es = new EventSerializer();
-
-            for (int i = 0; i < listSize; i++){
-                int eventPosition = buffer.readInteger(position);
-                position += PrimitiveTypeSize.INT.getSize();
-                EventWithItemTree e = es.deserializeItemTree(buffer,
-                        eventPosition);
-                list.add(e);
-            }
-
-            return list;
+            return deserializeElements(buffer, offset,
+                    p -> this.deserializeItemTree(buffer, p));
         }
 
         protected int listSerializeItemSingle(
@@ -7106,11 +7459,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            EventSerializer es = new EventSerializer();
 
             for (EventWithItemSingle e : items){
                 header = writeHeader(buffer, header, position);
-                position = es.serialize(buffer, position, e);
+                position = this.serialize(buffer, position, e);
             }
 
             return position;
@@ -7118,22 +7470,8 @@ public class RMObjectSerialization {
 
         protected List<EventWithItemSingle> deserializeListOfItemSingle(Buffer buffer,
                                                             int offset){
-            int position = offset;
-            int listSize = buffer.readInteger(position);
-            position += PrimitiveTypeSize.INT.getSize();
-
-            List<EventWithItemSingle> list = new ArrayList<>();
-            EventSerializer es = new EventSerializer();
-
-            for (int i = 0; i < listSize; i++){
-                int eventPosition = buffer.readInteger(position);
-                position += PrimitiveTypeSize.INT.getSize();
-                EventWithItemSingle e = es.deserializeItemSingle(buffer,
-                        eventPosition);
-                list.add(e);
-            }
-
-            return list;
+            return deserializeElements(buffer, offset,
+                    p -> this.deserializeItemSingle(buffer, p));
         }
 
         protected int listSerializeItemTable(
@@ -7146,11 +7484,10 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            EventSerializer es = new EventSerializer();
 
             for (EventWithItemTable e : items){
                 header = writeHeader(buffer, header, position);
-                position = es.serialize(buffer, position, e);
+                position = this.serialize(buffer, position, e);
             }
 
             return position;
@@ -7158,26 +7495,17 @@ public class RMObjectSerialization {
 
         protected List<EventWithItemTable> deserializeListOfItemTable(Buffer buffer,
                                                            int offset){
-            int position = offset;
-            int listSize = buffer.readInteger(position);
-            position += PrimitiveTypeSize.INT.getSize();
-
-            List<EventWithItemTable> list = new ArrayList<>();
-            EventSerializer es = new EventSerializer();
-
-            for (int i = 0; i < listSize; i++){
-                int eventPosition = buffer.readInteger(position);
-                position += PrimitiveTypeSize.INT.getSize();
-                EventWithItemTable e = es.deserializeItemTable(buffer,
-                        eventPosition);
-                list.add(e);
-            }
-
-            return list;
+            return deserializeElements(buffer, offset,
+                    p -> this.deserializeItemTable(buffer, p));
         }
     }
 
     public static class HistorySerializer {
+        public static final HistorySerializer INSTANCE = new HistorySerializer();
+
+        private HistorySerializer() {
+        }
+
         protected int serializeItemTree(Buffer buffer, int offset,
                                 DataStructure dataStructure, DvDateTime origin,
                                 List<EventWithItemTree> events,
@@ -7192,11 +7520,11 @@ public class RMObjectSerialization {
             boolean hasDuration = duration != null;
             boolean hasSummary = summary != null;
 
-            DataStructureSerializer dss = new DataStructureSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            DataStructureSerializer dss = DataStructureSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dss.serialize(buffer, position, dataStructure);
@@ -7229,9 +7557,8 @@ public class RMObjectSerialization {
 
         int serialize(Buffer buffer, int offset, HistoryWithItemTree h){
             int position = offset;
-            HistorySerializer hs = new HistorySerializer();
 
-            position = hs.serializeItemTree(buffer, position, h.getDataStructure(),
+            position = this.serializeItemTree(buffer, position, h.getDataStructure(),
                     h.getOrigin(), h.getEvents(), h.getPeriod(), h.getDuration(),
                     h.getSummary());
 
@@ -7241,11 +7568,11 @@ public class RMObjectSerialization {
         HistoryWithItemTree deserializeItemTree(Buffer buffer, int offset){
             int position = offset;
 
-            DataStructureSerializer dss = new DataStructureSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            DataStructureSerializer dss = DataStructureSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int dataStructurePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -7310,11 +7637,11 @@ public class RMObjectSerialization {
             boolean hasDuration = duration != null;
             boolean hasSummary = summary != null;
 
-            DataStructureSerializer dss = new DataStructureSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            DataStructureSerializer dss = DataStructureSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dss.serialize(buffer, position, dataStructure);
@@ -7347,9 +7674,8 @@ public class RMObjectSerialization {
 
         int serialize(Buffer buffer, int offset, HistoryWithItemSingle h){
             int position = offset;
-            HistorySerializer hs = new HistorySerializer();
 
-            position = hs.serializeItemSingle(buffer, position, h.getDataStructure(),
+            position = this.serializeItemSingle(buffer, position, h.getDataStructure(),
                     h.getOrigin(), h.getEvents(), h.getPeriod(), h.getDuration(),
                     h.getSummary());
 
@@ -7359,11 +7685,11 @@ public class RMObjectSerialization {
         HistoryWithItemSingle deserializeItemSingle(Buffer buffer, int offset){
             int position = offset;
 
-            DataStructureSerializer dss = new DataStructureSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            DataStructureSerializer dss = DataStructureSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int dataStructurePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -7426,11 +7752,11 @@ public class RMObjectSerialization {
             boolean hasDuration = duration != null;
             boolean hasSummary = summary != null;
 
-            DataStructureSerializer dss = new DataStructureSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            DataStructureSerializer dss = DataStructureSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dss.serialize(buffer, position, dataStructure);
@@ -7463,9 +7789,8 @@ public class RMObjectSerialization {
 
         int serialize(Buffer buffer, int offset, HistoryWithItemTable h){
             int position = offset;
-            HistorySerializer hs = new HistorySerializer();
 
-            position = hs.serializeItemTable(buffer, position, h.getDataStructure(),
+            position = this.serializeItemTable(buffer, position, h.getDataStructure(),
                     h.getOrigin(), h.getEvents(), h.getPeriod(), h.getDuration(),
                     h.getSummary());
 
@@ -7475,11 +7800,11 @@ public class RMObjectSerialization {
         HistoryWithItemTable deserializeItemTable(Buffer buffer, int offset){
             int position = offset;
 
-            DataStructureSerializer dss = new DataStructureSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            DataStructureSerializer dss = DataStructureSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int dataStructurePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -7530,6 +7855,11 @@ public class RMObjectSerialization {
     }
 
     public static class IntervalEventSerializer {
+        public static final IntervalEventSerializer INSTANCE = new IntervalEventSerializer();
+
+        private IntervalEventSerializer() {
+        }
+
         protected int serializeItemTree(Buffer buffer, int offset,
                                 EventWithItemTree event, DvDuration width,
                                 DvCodedText mathFunction, int sampleCount){
@@ -7540,9 +7870,9 @@ public class RMObjectSerialization {
             boolean hasWidth = width != null;
             boolean hasMathFunction = mathFunction != null;
 
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = es.serialize(buffer, position, event);
@@ -7568,9 +7898,8 @@ public class RMObjectSerialization {
                                 IntervalEventWithItemTree i){
             int position = offset;
 
-            IntervalEventSerializer ies = new IntervalEventSerializer();
 
-            position = ies.serializeItemTree(buffer, position, i.getEvent(),
+            position = this.serializeItemTree(buffer, position, i.getEvent(),
                     i.getWidth(), i.getMathFunction(), i.getSampleCount());
 
             return position;
@@ -7580,9 +7909,9 @@ public class RMObjectSerialization {
                                                         int offset){
             int position = offset;
 
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
 
             int eventPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -7626,9 +7955,9 @@ public class RMObjectSerialization {
             boolean hasWidth = width != null;
             boolean hasMathFunction = mathFunction != null;
 
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = es.serialize(buffer, position, event);
@@ -7654,9 +7983,8 @@ public class RMObjectSerialization {
                                 IntervalEventWithItemSingle i){
             int position = offset;
 
-            IntervalEventSerializer ies = new IntervalEventSerializer();
 
-            position = ies.serializeItemSingle(buffer, position, i.getEvent(),
+            position = this.serializeItemSingle(buffer, position, i.getEvent(),
                     i.getWidth(), i.getMathFunction(), i.getSampleCount());
 
             return position;
@@ -7666,9 +7994,9 @@ public class RMObjectSerialization {
                 Buffer buffer, int offset){
             int position = offset;
 
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
 
             int eventPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -7712,9 +8040,9 @@ public class RMObjectSerialization {
             boolean hasWidth = width != null;
             boolean hasMathFunction = mathFunction != null;
 
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = es.serialize(buffer, position, event);
@@ -7740,9 +8068,8 @@ public class RMObjectSerialization {
                                 IntervalEventWithItemTable i){
             int position = offset;
 
-            IntervalEventSerializer ies = new IntervalEventSerializer();
 
-            position = ies.serializeItemTable(buffer, position, i.getEvent(),
+            position = this.serializeItemTable(buffer, position, i.getEvent(),
                     i.getWidth(), i.getMathFunction(), i.getSampleCount());
 
             return position;
@@ -7752,9 +8079,9 @@ public class RMObjectSerialization {
                                                                   int offset){
             int position = offset;
 
-            EventSerializer es = new EventSerializer();
-            DvDurationSerializer dds = new DvDurationSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
+            DvDurationSerializer dds = DvDurationSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
 
             int eventPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -7788,11 +8115,16 @@ public class RMObjectSerialization {
     }
 
     public static class PointEventSerializer {
+        public static final PointEventSerializer INSTANCE = new PointEventSerializer();
+
+        private PointEventSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                         EventWithItemTree event){
             int position = offset;
 
-            EventSerializer es = new EventSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
 
             position = es.serialize(buffer, position, event);
 
@@ -7803,9 +8135,8 @@ public class RMObjectSerialization {
                                 PointEventWithItemTree p){
             int position = offset;
 
-            PointEventSerializer pes = new PointEventSerializer();
 
-            position = pes.serialize(buffer, position, p.getEvent());
+            position = this.serialize(buffer, position, p.getEvent());
 
             return position;
         }
@@ -7814,7 +8145,7 @@ public class RMObjectSerialization {
                                                              int offset){
             int position = offset;
 
-            EventSerializer es = new EventSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
 
             EventWithItemTree event = es.deserializeItemTree(buffer, position);
 
@@ -7825,7 +8156,7 @@ public class RMObjectSerialization {
                                 EventWithItemSingle event){
             int position = offset;
 
-            EventSerializer es = new EventSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
 
             position = es.serialize(buffer, position, event);
 
@@ -7836,9 +8167,8 @@ public class RMObjectSerialization {
                                 PointEventWithItemSingle p){
             int position = offset;
 
-            PointEventSerializer pes = new PointEventSerializer();
 
-            position = pes.serialize(buffer, position, p.getEvent());
+            position = this.serialize(buffer, position, p.getEvent());
 
             return position;
         }
@@ -7847,7 +8177,7 @@ public class RMObjectSerialization {
                                                                  int offset){
             int position = offset;
 
-            EventSerializer es = new EventSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
 
             EventWithItemSingle event = es.deserializeItemSingle(buffer, position);
 
@@ -7858,7 +8188,7 @@ public class RMObjectSerialization {
                                 EventWithItemTable event){
             int position = offset;
 
-            EventSerializer es = new EventSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
 
             position = es.serialize(buffer, position, event);
 
@@ -7869,9 +8199,8 @@ public class RMObjectSerialization {
                                 PointEventWithItemTable p){
             int position = offset;
 
-            PointEventSerializer pes = new PointEventSerializer();
 
-            position = pes.serialize(buffer, position, p.getEvent());
+            position = this.serialize(buffer, position, p.getEvent());
 
             return position;
         }
@@ -7880,7 +8209,7 @@ public class RMObjectSerialization {
                                                                int offset){
             int position = offset;
 
-            EventSerializer es = new EventSerializer();
+            EventSerializer es = EventSerializer.INSTANCE;
 
             EventWithItemTable event = es.deserializeItemTable(buffer, position);
 
@@ -7889,10 +8218,15 @@ public class RMObjectSerialization {
     }
 
     public static class ContentItemSerializer {
+        public static final ContentItemSerializer INSTANCE = new ContentItemSerializer();
+
+        private ContentItemSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Locatable locatable){
             int position = offset;
 
-            LocatableSerializer l = new LocatableSerializer();
+            LocatableSerializer l = LocatableSerializer.INSTANCE;
 
             position = l.serialize(buffer, position, locatable);
 
@@ -7902,9 +8236,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, ContentItem c){
             int position = offset;
 
-            ContentItemSerializer cis = new ContentItemSerializer();
 
-            position = cis.serialize(buffer, position, c.getLocatable());
+            position = this.serialize(buffer, position, c.getLocatable());
 
             return position;
         }
@@ -7912,7 +8245,7 @@ public class RMObjectSerialization {
         protected ContentItem deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            LocatableSerializer l = new LocatableSerializer();
+            LocatableSerializer l = LocatableSerializer.INSTANCE;
 
             Locatable locatable = l.deserialize(buffer, position);
 
@@ -7929,36 +8262,190 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            ContentItemSerializer dis = new ContentItemSerializer();
+
+            if (parallel(buffer, listSize) && !buffer.isCompact()
+                    && buffer.getStringTable() == null
+                    && buffer.getBlobSegment() == null) {
+                return parallelListSerialize(buffer, header, position, items,
+                        buffer.getForkJoinPool());
+            }
 
             for (ContentItem c : items){
                 header = writeHeader(buffer, header, position);
-                position = dis.serialize(buffer, position, c);
-            }
+                position = this.serialize(buffer, position, c);
+            }
+
+            return position;
+        }
+
+        /**
+         * Serializa os itens em paralelo. Como as posições registradas são
+         * absolutas, o tamanho de cada item é obtido previamente (sobre
+         * buffer que descarta as escritas), também em paralelo, o que
+         * define a posição de cada um deles, e a região correspondente do
+         * buffer é reservada. Em seguida, cada item é escrito na
+         * respectiva região.
+         */
+        private int parallelListSerialize(Buffer buffer, int header,
+                int position, List<ContentItem> items, ForkJoinPool pool) {
+            ContentItem[] values = items.toArray(new ContentItem[0]);
+            int[] positions = new int[values.length + 1];
+            int grain = grain(pool, values.length);
+            Buffer sizing = Buffer.newSizingInstance();
+            invoke(pool, new Partition(0, values.length, grain,
+                    i -> positions[i + 1] = this.serialize(sizing, 0,
+                            values[i])));
+
+            positions[0] = position;
+            for (int i = 0; i < values.length; i++) {
+                header = writeHeader(buffer, header, positions[i]);
+                positions[i + 1] += positions[i];
+            }
+
+            buffer.ensureCapacity(positions[values.length]);
+            invoke(pool, new Partition(0, values.length, grain, i -> {
+                int end = this.serialize(buffer, positions[i], values[i]);
+                if (end != positions[i + 1]) {
+                    throw new IllegalStateException(
+                            "tamanho divergente do item " + i);
+                }
+            }));
 
-            return position;
+            return positions[values.length];
         }
 
         protected List<ContentItem> deserializeList(Buffer buffer, int offset){
-            int position = offset;
-            int listSize = buffer.readInteger(position);
-            position += PrimitiveTypeSize.INT.getSize();
+            return deserializeElements(buffer, offset,
+                    p -> this.deserialize(buffer, p));
+        }
+    }
+
+    /**
+     * Menor quantidade de elementos tratados sequencialmente por uma tarefa
+     * da execução paralela. Listas com até esta quantidade de elementos são
+     * sempre tratadas sequencialmente.
+     */
+    private static final int MIN_PARTITION = 32;
+
+    /**
+     * Indica se a lista deve ser tratada em paralelo, conforme o pool e o
+     * limite definidos para o buffer.
+     */
+    private static boolean parallel(Buffer buffer, int listSize) {
+        return buffer.getForkJoinPool() != null
+                && listSize >= buffer.getParallelThreshold()
+                && listSize > MIN_PARTITION;
+    }
+
+    /**
+     * Quantidade de elementos tratados sequencialmente por tarefa: cerca
+     * de 4 tarefas por <em>thread</em> do pool, mas nunca menos que
+     * {@link #MIN_PARTITION} elementos.
+     */
+    private static int grain(ForkJoinPool pool, int listSize) {
+        return Math.max(MIN_PARTITION,
+                listSize / (4 * pool.getParallelism()));
+    }
+
+    /**
+     * Tarefa que executa uma ação para cada índice do intervalo
+     * [from, to), dividindo-o entre as <em>threads</em> do pool até que
+     * cada parte tenha no máximo {@code grain} índices, tratados
+     * sequencialmente.
+     */
+    private static final class Partition extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final IntConsumer action;
+
+        private Partition(int from, int to, int grain, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+
+                return;
+            }
 
-            List<ContentItem> list = new ArrayList<>();
-            ContentItemSerializer dis = new ContentItemSerializer();
+            int middle = (from + to) >>> 1;
+            invokeAll(new Partition(from, middle, grain, action),
+                    new Partition(middle, to, grain, action));
+        }
+    }
+
+    /**
+     * Executa a tarefa no pool. Se a thread corrente já pertence ao pool
+     * (lista contida em elemento de outra lista), a tarefa é executada
+     * diretamente, sem nova submissão.
+     */
+    private static void invoke(ForkJoinPool pool, Partition task) {
+        if (ForkJoinTask.getPool() == pool) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
 
+    /**
+     * Deserializa lista cujo header contém a quantidade de elementos
+     * seguida da posição de cada um deles. Como cada elemento pode ser
+     * deserializado independentemente dos demais, listas com pelo menos
+     * {@link Buffer#getParallelThreshold()} (e mais que
+     * {@link #MIN_PARTITION}) elementos são deserializadas em paralelo no
+     * pool do buffer (ver {@link Buffer#setParallelism(ForkJoinPool, int)}),
+     * exceto quando há associação com {@link StringTable}.
+     *
+     * @param buffer
+     * @param offset
+     * @param decoder deserializa o elemento na posição indicada
+     * @return lista original que foi serializada
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> deserializeElements(Buffer buffer, int offset,
+            IntFunction<T> decoder) {
+        int listSize = buffer.readInteger(offset);
+        int header = offset + PrimitiveTypeSize.INT.getSize();
+
+        if (!parallel(buffer, listSize) || buffer.getStringTable() != null) {
+            List<T> list = new ArrayList<>(listSize);
             for (int i = 0; i < listSize; i++){
-                int contentItemPosition = buffer.readInteger(position);
-                position += PrimitiveTypeSize.INT.getSize();
-                ContentItem c = dis.deserialize(buffer, contentItemPosition);
-                list.add(c);
+                list.add(decoder.apply(buffer.readInteger(header)));
+                header += PrimitiveTypeSize.INT.getSize();
             }
 
             return list;
         }
+
+        ForkJoinPool pool = buffer.getForkJoinPool();
+        Object[] values = new Object[listSize];
+        int positions = header;
+        invoke(pool, new Partition(0, listSize, grain(pool, listSize),
+                i -> values[i] = decoder.apply(buffer.readInteger(
+                        positions + i * PrimitiveTypeSize.INT.getSize()))));
+
+        List<T> list = new ArrayList<>(listSize);
+        for (Object value : values) {
+            list.add((T) value);
+        }
+
+        return list;
     }
 
     public static class EntrySerializer {
+        public static final EntrySerializer INSTANCE = new EntrySerializer();
+
+        private EntrySerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 ContentItem contentItem, CodePhrase language,
                                 CodePhrase encoding, PartyProxy subject,
@@ -7972,11 +8459,11 @@ public class RMObjectSerialization {
             boolean hasWorkflowId = workflowId != null;
             boolean hasOtherParticipations = otherParticipations != null;
 
-            ContentItemSerializer cis = new ContentItemSerializer();
-            CodePhraseSerializer cps = new CodePhraseSerializer();
-            PartyProxySerializer pps = new PartyProxySerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
-            ParticipationSerializer ps = new ParticipationSerializer();
+            ContentItemSerializer cis = ContentItemSerializer.INSTANCE;
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
+            PartyProxySerializer pps = PartyProxySerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
+            ParticipationSerializer ps = ParticipationSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = cis.serialize(buffer, position, contentItem);
@@ -8011,9 +8498,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, Entry e){
             int position = offset;
 
-            EntrySerializer es = new EntrySerializer();
 
-            position = es.serialize(buffer, position, e.getContentItem(),
+            position = this.serialize(buffer, position, e.getContentItem(),
                     e.getLanguage(), e.getEncoding(), e.getSubject(),
                     e.getProvider(), e.getWorkflowId(),
                     e.getOtherParticipations());
@@ -8024,11 +8510,11 @@ public class RMObjectSerialization {
         protected Entry deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            ContentItemSerializer cis = new ContentItemSerializer();
-            CodePhraseSerializer cps = new CodePhraseSerializer();
-            PartyProxySerializer pps = new PartyProxySerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
-            ParticipationSerializer ps = new ParticipationSerializer();
+            ContentItemSerializer cis = ContentItemSerializer.INSTANCE;
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
+            PartyProxySerializer pps = PartyProxySerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
+            ParticipationSerializer ps = ParticipationSerializer.INSTANCE;
 
             int contentItemPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8081,6 +8567,11 @@ public class RMObjectSerialization {
     }
 
     public static class CareEntrySerializer {
+        public static final CareEntrySerializer INSTANCE = new CareEntrySerializer();
+
+        private CareEntrySerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Entry entry,
                                 ItemStructure protocol, ObjectRef guidelineId){
             int header = offset;
@@ -8090,9 +8581,9 @@ public class RMObjectSerialization {
             boolean hasProtocol = protocol != null;
             boolean hasGuidelineId = guidelineId != null;
 
-            EntrySerializer es = new EntrySerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
+            EntrySerializer es = EntrySerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = es.serialize(buffer, position, entry);
@@ -8113,9 +8604,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, CareEntry c){
             int position = offset;
 
-            CareEntrySerializer ces = new CareEntrySerializer();
 
-            position = ces.serialize(buffer, position, c.getEntry(),
+            position = this.serialize(buffer, position, c.getEntry(),
                     c.getProtocol(), c.getGuidelineId());
 
             return position;
@@ -8124,9 +8614,9 @@ public class RMObjectSerialization {
         protected CareEntry deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            EntrySerializer es = new EntrySerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
+            EntrySerializer es = EntrySerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
 
             int entryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8154,6 +8644,11 @@ public class RMObjectSerialization {
     }
 
     public static class ActionSerializer {
+        public static final ActionSerializer INSTANCE = new ActionSerializer();
+
+        private ActionSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, DvDateTime time,
                                 ItemStructure description,
                                 ISMTransition ismTransition,
@@ -8163,9 +8658,9 @@ public class RMObjectSerialization {
                 + PrimitiveTypeSize.BOOLEAN.getSize();
             boolean hasInstructionDetails = instructionDetails != null;
 
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ISMTransitionSerializer its = new ISMTransitionSerializer();
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ISMTransitionSerializer its = ISMTransitionSerializer.INSTANCE;
             InstructionDetailsSerializer ids = new
                     InstructionDetailsSerializer();
 
@@ -8189,9 +8684,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, Action a){
             int position = offset;
 
-            ActionSerializer as = new ActionSerializer();
 
-            position = as.serialize(buffer, position, a.getTime(),
+            position = this.serialize(buffer, position, a.getTime(),
                     a.getDescription(), a.getIsmTransition(),
                     a.getInstructionDetails());
 
@@ -8201,9 +8695,9 @@ public class RMObjectSerialization {
         protected Action deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-            ISMTransitionSerializer its = new ISMTransitionSerializer();
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+            ISMTransitionSerializer its = ISMTransitionSerializer.INSTANCE;
             InstructionDetailsSerializer ids = new
                     InstructionDetailsSerializer();
 
@@ -8236,12 +8730,17 @@ public class RMObjectSerialization {
     }
 
     public static class AdminEntrySerializer {
+        public static final AdminEntrySerializer INSTANCE = new AdminEntrySerializer();
+
+        private AdminEntrySerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Entry entry,
                                 ItemStructure data){
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
-            EntrySerializer es = new EntrySerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            EntrySerializer es = EntrySerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = es.serialize(buffer, position, entry);
@@ -8255,9 +8754,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, AdminEntry a){
             int position = offset;
-            AdminEntrySerializer aes = new AdminEntrySerializer();
 
-            position = aes.serialize(buffer, position, a.getEntry(),
+            position = this.serialize(buffer, position, a.getEntry(),
                     a.getData());
 
             return position;
@@ -8265,8 +8763,8 @@ public class RMObjectSerialization {
 
         protected AdminEntry deserialize(Buffer buffer, int offset){
             int position = offset;
-            EntrySerializer es = new EntrySerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            EntrySerializer es = EntrySerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int entryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8280,12 +8778,17 @@ public class RMObjectSerialization {
     }
 
     public static class EvaluationSerializer {
+        public static final EvaluationSerializer INSTANCE = new EvaluationSerializer();
+
+        private EvaluationSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, CareEntry careEntry,
                                 ItemStructure data){
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
-            CareEntrySerializer es = new CareEntrySerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            CareEntrySerializer es = CareEntrySerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = es.serialize(buffer, position, careEntry);
@@ -8299,9 +8802,8 @@ public class RMObjectSerialization {
 
         protected int serialize(Buffer buffer, int offset, Evaluation e){
             int position = offset;
-            EvaluationSerializer es = new EvaluationSerializer();
 
-            position = es.serialize(buffer, position, e.getCareEntry(),
+            position = this.serialize(buffer, position, e.getCareEntry(),
                     e.getData());
 
             return position;
@@ -8309,8 +8811,8 @@ public class RMObjectSerialization {
 
         protected Evaluation deserialize(Buffer buffer, int offset){
             int position = offset;
-            CareEntrySerializer ces = new CareEntrySerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int careEntryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8325,6 +8827,11 @@ public class RMObjectSerialization {
     }
 
     public static class InstructionSerializer {
+        public static final InstructionSerializer INSTANCE = new InstructionSerializer();
+
+        private InstructionSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, CareEntry careEntry,
                                 DvText narrative, List<Activity> activities,
                                 DvDateTime expiryTime,DvParsable wfDefinition){
@@ -8336,11 +8843,11 @@ public class RMObjectSerialization {
             boolean hasExpiryTime = expiryTime != null;
             boolean hasWfDefinition = wfDefinition != null;
 
-            CareEntrySerializer ces = new CareEntrySerializer();
-            DvTextSerializer dts = new DvTextSerializer();
-            ActivitySerializer as = new ActivitySerializer();
-            DvDateTimeSerializer ddts = new DvDateTimeSerializer();
-            DvParsableSerializer dps = new DvParsableSerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            ActivitySerializer as = ActivitySerializer.INSTANCE;
+            DvDateTimeSerializer ddts = DvDateTimeSerializer.INSTANCE;
+            DvParsableSerializer dps = DvParsableSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ces.serialize(buffer, position, careEntry);
@@ -8369,9 +8876,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, Instruction i){
             int position = offset;
 
-            InstructionSerializer is = new InstructionSerializer();
 
-            position = is.serialize(buffer, position, i.getCareEntry(),
+            position = this.serialize(buffer, position, i.getCareEntry(),
                     i.getNarrative(), i.getActivities(), i.getExpiryTime(),
                     i.getWfDefinition());
 
@@ -8381,11 +8887,11 @@ public class RMObjectSerialization {
         protected Instruction deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            CareEntrySerializer ces = new CareEntrySerializer();
-            DvTextSerializer dts = new DvTextSerializer();
-            ActivitySerializer as = new ActivitySerializer();
-            DvDateTimeSerializer ddts = new DvDateTimeSerializer();
-            DvParsableSerializer dps = new DvParsableSerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            DvTextSerializer dts = DvTextSerializer.INSTANCE;
+            ActivitySerializer as = ActivitySerializer.INSTANCE;
+            DvDateTimeSerializer ddts = DvDateTimeSerializer.INSTANCE;
+            DvParsableSerializer dps = DvParsableSerializer.INSTANCE;
 
             int careEntryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8427,6 +8933,11 @@ public class RMObjectSerialization {
     }
 
     public static class ObservationSerializer {
+        public static final ObservationSerializer INSTANCE = new ObservationSerializer();
+
+        private ObservationSerializer() {
+        }
+
         protected int serializeItemTreeItemTree(Buffer buffer, int offset,
                                 CareEntry careEntry,
                                 HistoryWithItemTree data,
@@ -8434,8 +8945,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize()
                     + PrimitiveTypeSize.BOOLEAN.getSize();
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             boolean hasState = state != null;
 
@@ -8445,6 +8956,11 @@ public class RMObjectSerialization {
             header = writeHeader(buffer, header, position);
             position = hs.serialize(buffer, position, data);
 
+            writeHeader(buffer, header, hasState, position);
+            if(hasState){
+                position = hs.serialize(buffer, position, state);
+            }
+
             return position;
         }
 
@@ -8452,9 +8968,8 @@ public class RMObjectSerialization {
                                 ObservationWithItemTreeItemTree o){
             int position = offset;
 
-            ObservationSerializer os = new ObservationSerializer();
 
-            position = os.serializeItemTreeItemTree(buffer, position,
+            position = this.serializeItemTreeItemTree(buffer, position,
                     o.getCareEntry(), o.getData(), o.getState());
 
             return position;
@@ -8463,8 +8978,8 @@ public class RMObjectSerialization {
         protected ObservationWithItemTreeItemTree
             deserializeItemTreeItemTree(Buffer buffer, int offset){
             int position = offset;
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             int careEntryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8486,8 +9001,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize()
                     + PrimitiveTypeSize.BOOLEAN.getSize();
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             boolean hasState = state != null;
 
@@ -8509,9 +9024,8 @@ public class RMObjectSerialization {
                                 ObservationWithItemTreeItemSingle o){
             int position = offset;
 
-            ObservationSerializer os = new ObservationSerializer();
 
-            position = os.serializeItemTreeItemSingle(buffer, position,
+            position = this.serializeItemTreeItemSingle(buffer, position,
                     o.getCareEntry(), o.getData(), o.getState());
 
             return position;
@@ -8520,8 +9034,8 @@ public class RMObjectSerialization {
         protected ObservationWithItemTreeItemSingle
             deserializeItemTreeItemSingle(Buffer buffer, int offset){
             int position = offset;
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             int careEntryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8551,8 +9065,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize()
                     + PrimitiveTypeSize.BOOLEAN.getSize();
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             boolean hasState = state != null;
 
@@ -8574,9 +9088,8 @@ public class RMObjectSerialization {
                                 ObservationWithItemTreeItemTable o){
             int position = offset;
 
-            ObservationSerializer os = new ObservationSerializer();
 
-            position = os.serializeItemTreeItemTable(buffer, position,
+            position = this.serializeItemTreeItemTable(buffer, position,
                     o.getCareEntry(), o.getData(), o.getState());
 
             return position;
@@ -8585,8 +9098,8 @@ public class RMObjectSerialization {
         protected ObservationWithItemTreeItemTable
             deserializeItemTreeItemTable(Buffer buffer, int offset){
             int position = offset;
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             int careEntryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8616,8 +9129,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize()
                     + PrimitiveTypeSize.BOOLEAN.getSize();
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             boolean hasState = state != null;
 
@@ -8639,9 +9152,8 @@ public class RMObjectSerialization {
                                 ObservationWithItemSingleItemTree o){
             int position = offset;
 
-            ObservationSerializer os = new ObservationSerializer();
 
-            position = os.serializeItemSingleItemTree(buffer, position,
+            position = this.serializeItemSingleItemTree(buffer, position,
                     o.getCareEntry(), o.getData(), o.getState());
 
             return position;
@@ -8650,8 +9162,8 @@ public class RMObjectSerialization {
         protected ObservationWithItemSingleItemTree
         deserializeItemSingleItemTree(Buffer buffer, int offset){
             int position = offset;
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             int careEntryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8681,8 +9193,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize()
                     + PrimitiveTypeSize.BOOLEAN.getSize();
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             boolean hasState = state != null;
 
@@ -8704,9 +9216,8 @@ public class RMObjectSerialization {
                                 ObservationWithItemSingleItemSingle o){
             int position = offset;
 
-            ObservationSerializer os = new ObservationSerializer();
 
-            position = os.serializeItemSingleItemSingle(buffer, position,
+            position = this.serializeItemSingleItemSingle(buffer, position,
                     o.getCareEntry(), o.getData(), o.getState());
 
             return position;
@@ -8715,8 +9226,8 @@ public class RMObjectSerialization {
         protected ObservationWithItemSingleItemSingle
         deserializeItemSingleItemSingle(Buffer buffer, int offset){
             int position = offset;
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             int careEntryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8746,8 +9257,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize()
                     + PrimitiveTypeSize.BOOLEAN.getSize();
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             boolean hasState = state != null;
 
@@ -8769,9 +9280,8 @@ public class RMObjectSerialization {
                                 ObservationWithItemSingleItemTable o){
             int position = offset;
 
-            ObservationSerializer os = new ObservationSerializer();
 
-            position = os.serializeItemSingleItemTable(buffer, position,
+            position = this.serializeItemSingleItemTable(buffer, position,
                     o.getCareEntry(), o.getData(), o.getState());
 
             return position;
@@ -8780,8 +9290,8 @@ public class RMObjectSerialization {
         protected ObservationWithItemSingleItemTable
         deserializeItemSingleItemTable(Buffer buffer, int offset){
             int position = offset;
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             int careEntryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8811,8 +9321,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize()
                     + PrimitiveTypeSize.BOOLEAN.getSize();
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             boolean hasState = state != null;
 
@@ -8834,9 +9344,8 @@ public class RMObjectSerialization {
                                 ObservationWithItemTableItemTree o){
             int position = offset;
 
-            ObservationSerializer os = new ObservationSerializer();
 
-            position = os.serializeItemTableItemTree(buffer, position,
+            position = this.serializeItemTableItemTree(buffer, position,
                     o.getCareEntry(), o.getData(), o.getState());
 
             return position;
@@ -8845,8 +9354,8 @@ public class RMObjectSerialization {
         protected ObservationWithItemTableItemTree
         deserializeItemTableItemTree(Buffer buffer, int offset){
             int position = offset;
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             int careEntryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8876,8 +9385,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize()
                     + PrimitiveTypeSize.BOOLEAN.getSize();
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             boolean hasState = state != null;
 
@@ -8899,9 +9408,8 @@ public class RMObjectSerialization {
                                 ObservationWithItemTableItemSingle o){
             int position = offset;
 
-            ObservationSerializer os = new ObservationSerializer();
 
-            position = os.serializeItemTableItemSingle(buffer, position,
+            position = this.serializeItemTableItemSingle(buffer, position,
                     o.getCareEntry(), o.getData(), o.getState());
 
             return position;
@@ -8910,8 +9418,8 @@ public class RMObjectSerialization {
         protected ObservationWithItemTableItemSingle
         deserializeItemTableItemSingle(Buffer buffer, int offset){
             int position = offset;
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             int careEntryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -8941,8 +9449,8 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize()
                     + PrimitiveTypeSize.BOOLEAN.getSize();
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             boolean hasState = state != null;
 
@@ -8964,9 +9472,8 @@ public class RMObjectSerialization {
                                 ObservationWithItemTableItemTable o){
             int position = offset;
 
-            ObservationSerializer os = new ObservationSerializer();
 
-            position = os.serializeItemTableItemTable(buffer, position,
+            position = this.serializeItemTableItemTable(buffer, position,
                     o.getCareEntry(), o.getData(), o.getState());
 
             return position;
@@ -8975,8 +9482,8 @@ public class RMObjectSerialization {
         protected ObservationWithItemTableItemTable
         deserializeItemTableItemTable(Buffer buffer, int offset){
             int position = offset;
-            CareEntrySerializer ces = new CareEntrySerializer();
-            HistorySerializer hs = new HistorySerializer();
+            CareEntrySerializer ces = CareEntrySerializer.INSTANCE;
+            HistorySerializer hs = HistorySerializer.INSTANCE;
 
             int careEntryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -9001,6 +9508,11 @@ public class RMObjectSerialization {
     }
 
     public static class SectionSerializer {
+        public static final SectionSerializer INSTANCE = new SectionSerializer();
+
+        private SectionSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 ContentItem contentItem, List<ContentItem> items){
             int header = offset;
@@ -9008,7 +9520,7 @@ public class RMObjectSerialization {
                     + PrimitiveTypeSize.BOOLEAN.getSize();
             boolean hasItems = items != null;
 
-            ContentItemSerializer cis = new ContentItemSerializer();
+            ContentItemSerializer cis = ContentItemSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = cis.serialize(buffer, position, contentItem);
@@ -9024,9 +9536,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, Section s){
             int position = offset;
 
-            SectionSerializer ss = new SectionSerializer();
 
-            position = ss.serialize(buffer, position, s.getContentItem(),
+            position = this.serialize(buffer, position, s.getContentItem(),
                     s.getItems());
 
             return position;
@@ -9035,7 +9546,7 @@ public class RMObjectSerialization {
         protected Section deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            ContentItemSerializer cs = new ContentItemSerializer();
+            ContentItemSerializer cs = ContentItemSerializer.INSTANCE;
 
             int contentItemPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -9054,6 +9565,11 @@ public class RMObjectSerialization {
     }
 
     public static class EventContextSerializer {
+        public static final EventContextSerializer INSTANCE = new EventContextSerializer();
+
+        private EventContextSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 PartyIdentified healthCareFacility,
                                 DvDateTime startTime, DvDateTime endTime,
@@ -9069,14 +9585,22 @@ public class RMObjectSerialization {
             boolean hasParticipations = participations != null;
             boolean hasLocation = location != null;
             boolean hasOtherContext = otherContext != null;
-
-            PartyIdentifiedSerializer pis = new PartyIdentifiedSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ParticipationSerializer ps = new ParticipationSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
-
-            header = writeHeader(buffer, header, hasHealthCareFacility, position);
+            int presence = presence(buffer, bit(hasHealthCareFacility, 0)
+                    | bit(hasEndTime, 2) | bit(hasParticipations, 3)
+                    | bit(hasLocation, 4) | bit(hasOtherContext, 6));
+            if (presence >= 0) {
+                header = writePresence(buffer, offset, presence);
+                position = offset + packedHeaderSize(2, presence);
+            }
+
+            PartyIdentifiedSerializer pis = PartyIdentifiedSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ParticipationSerializer ps = ParticipationSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
+
+            header = writeHeader(buffer, header, presence,
+                    hasHealthCareFacility, position);
             if(hasHealthCareFacility){
                 position = pis.serialize(buffer, position, healthCareFacility);
             }
@@ -9084,17 +9608,20 @@ public class RMObjectSerialization {
             header = writeHeader(buffer, header, position);
             position = dts.serialize(buffer, position, startTime);
 
-            header = writeHeader(buffer, header, hasEndTime, position);
+            header = writeHeader(buffer, header, presence, hasEndTime,
+                    position);
             if(hasEndTime){
                 position = dts.serialize(buffer, position, endTime);
             }
 
-            header = writeHeader(buffer, header, hasParticipations, position);
+            header = writeHeader(buffer, header, presence, hasParticipations,
+                    position);
             if(hasParticipations){
                 position = ps.listSerialize(buffer, position, participations);
             }
 
-            header = writeHeader(buffer, header, hasLocation, position);
+            header = writeHeader(buffer, header, presence, hasLocation,
+                    position);
             if(hasLocation){
                 position = stringSerialization(buffer, position, location);
             }
@@ -9102,7 +9629,8 @@ public class RMObjectSerialization {
             header = writeHeader(buffer, header, position);
             position = dcs.serialize(buffer, position, setting);
 
-            header = writeHeader(buffer, header, hasOtherContext, position);
+            header = writeHeader(buffer, header, presence, hasOtherContext,
+                    position);
             position = iss.serialize(buffer, position, otherContext);
 
             return position;
@@ -9111,9 +9639,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, EventContext e){
             int position = offset;
 
-            EventContextSerializer ecs = new EventContextSerializer();
 
-            position = ecs.serialize(buffer, position, e.getHealthCareFacility(),
+            position = this.serialize(buffer, position, e.getHealthCareFacility(),
                     e.getStartTime(), e.getEndTime(), e.getParticipations(),
                     e.getLocation(), e.getSetting(), e.getOtherContext());
 
@@ -9121,16 +9648,17 @@ public class RMObjectSerialization {
         }
 
         protected EventContext deserialize(Buffer buffer, int offset){
-            int position = offset;
+            int presence = readPresence(buffer, offset);
+            int position = headerStart(offset, presence);
 
-            PartyIdentifiedSerializer pis = new PartyIdentifiedSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ParticipationSerializer ps = new ParticipationSerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            PartyIdentifiedSerializer pis = PartyIdentifiedSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ParticipationSerializer ps = ParticipationSerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
-            boolean hasHealthCareFacility = buffer.readBoolean(position);
-            position += PrimitiveTypeSize.BOOLEAN.getSize();
+            boolean hasHealthCareFacility = exists(buffer, position, presence, 0);
+            position += flagSize(presence);
             PartyIdentified healthCareFacility = null;
             if(hasHealthCareFacility){
                 int healthCareFacilityPosition = buffer.readInteger(position);
@@ -9142,8 +9670,8 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
             DvDateTime startTime = dts.deserialize(buffer, startTimePosition);
 
-            boolean hasEndTime = buffer.readBoolean(position);
-            position += PrimitiveTypeSize.BOOLEAN.getSize();
+            boolean hasEndTime = exists(buffer, position, presence, 2);
+            position += flagSize(presence);
             DvDateTime endTime = null;
             if(hasEndTime){
                 int endTimePosition = buffer.readInteger(position);
@@ -9151,8 +9679,8 @@ public class RMObjectSerialization {
                 endTime = dts.deserialize(buffer, endTimePosition);
             }
 
-            boolean hasParticipations = buffer.readBoolean(position);
-            position += PrimitiveTypeSize.BOOLEAN.getSize();
+            boolean hasParticipations = exists(buffer, position, presence, 3);
+            position += flagSize(presence);
             List<Participation> participations = null;
             if(hasParticipations){
                 int participationPosition = buffer.readInteger(position);
@@ -9161,8 +9689,8 @@ public class RMObjectSerialization {
                         participationPosition);
             }
 
-            boolean hasLocation = buffer.readBoolean(position);
-            position += PrimitiveTypeSize.BOOLEAN.getSize();
+            boolean hasLocation = exists(buffer, position, presence, 4);
+            position += flagSize(presence);
             String location = null;
             if(hasLocation){
                 int locationPosition = buffer.readInteger(position);
@@ -9175,8 +9703,8 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
             DvCodedText setting = dcs.deserialize(buffer, settingPosition);
 
-            boolean hasOtherContext = buffer.readBoolean(position);
-            position += PrimitiveTypeSize.BOOLEAN.getSize();
+            boolean hasOtherContext = exists(buffer, position, presence, 6);
+            position += flagSize(presence);
             ItemStructure otherContext = null;
             if(hasOtherContext){
                 int otherContextPosition = buffer.readInteger(position);
@@ -9192,6 +9720,11 @@ public class RMObjectSerialization {
     }
 
     public static class CompositionSerializer {
+        public static final CompositionSerializer INSTANCE = new CompositionSerializer();
+
+        private CompositionSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Locatable locatable,
                                 List<ContentItem> content, CodePhrase language,
                                 EventContext context, PartyProxy composer,
@@ -9202,18 +9735,25 @@ public class RMObjectSerialization {
 
             boolean hasContent = content != null;
             boolean hasContext = context != null;
+            int presence = presence(buffer,
+                    bit(hasContent, 1) | bit(hasContext, 3));
+            if (presence >= 0) {
+                header = writePresence(buffer, offset, presence);
+                position = offset + packedHeaderSize(5, presence);
+            }
 
-            LocatableSerializer ls = new LocatableSerializer();
-            ContentItemSerializer cis = new ContentItemSerializer();
-            CodePhraseSerializer cps = new CodePhraseSerializer();
-            EventContextSerializer ecs = new EventContextSerializer();
-            PartyProxySerializer pps = new PartyProxySerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ContentItemSerializer cis = ContentItemSerializer.INSTANCE;
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
+            EventContextSerializer ecs = EventContextSerializer.INSTANCE;
+            PartyProxySerializer pps = PartyProxySerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
 
-            header = writeHeader(buffer, header, hasContent, position);
+            header = writeHeader(buffer, header, presence, hasContent,
+                    position);
             if(hasContent){
                 position = cis.listSerialize(buffer, position, content);
             }
@@ -9221,7 +9761,8 @@ public class RMObjectSerialization {
             header = writeHeader(buffer, header, position);
             position = cps.serialize(buffer, position, language);
 
-            header = writeHeader(buffer, header, hasContext, position);
+            header = writeHeader(buffer, header, presence, hasContext,
+                    position);
             if(hasContext){
                 position = ecs.serialize(buffer, position, context);
             }
@@ -9241,9 +9782,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, Composition c){
             int position = offset;
 
-            CompositionSerializer cps = new CompositionSerializer();
 
-            position = cps.serialize(buffer, position, c.getLocatable(),
+            position = this.serialize(buffer, position, c.getLocatable(),
                     c.getContent(), c.getLanguage(), c.getContext(),
                     c.getComposer(), c.getCategory(), c.getTerritory());
 
@@ -9251,21 +9791,22 @@ public class RMObjectSerialization {
         }
 
         protected Composition deserialize(Buffer buffer, int offset){
-            int position = offset;
+            int presence = readPresence(buffer, offset);
+            int position = headerStart(offset, presence);
 
-            LocatableSerializer ls = new LocatableSerializer();
-            ContentItemSerializer cis = new ContentItemSerializer();
-            CodePhraseSerializer cps = new CodePhraseSerializer();
-            EventContextSerializer ecs = new EventContextSerializer();
-            PartyProxySerializer pps = new PartyProxySerializer();
-            DvCodedTextSerializer dcs = new DvCodedTextSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            ContentItemSerializer cis = ContentItemSerializer.INSTANCE;
+            CodePhraseSerializer cps = CodePhraseSerializer.INSTANCE;
+            EventContextSerializer ecs = EventContextSerializer.INSTANCE;
+            PartyProxySerializer pps = PartyProxySerializer.INSTANCE;
+            DvCodedTextSerializer dcs = DvCodedTextSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
             Locatable locatable = ls.deserialize(buffer, locatablePosition);
 
-            boolean hasContent = buffer.readBoolean(position);
-            position += PrimitiveTypeSize.BOOLEAN.getSize();
+            boolean hasContent = exists(buffer, position, presence, 1);
+            position += flagSize(presence);
             List<ContentItem> content = null;
             if(hasContent){
                 int contentPosition = buffer.readInteger(position);
@@ -9277,8 +9818,8 @@ public class RMObjectSerialization {
             position += PrimitiveTypeSize.INT.getSize();
             CodePhrase language = cps.deserialize(buffer, languagePosition);
 
-            boolean hasContext = buffer.readBoolean(position);
-            position += PrimitiveTypeSize.BOOLEAN.getSize();
+            boolean hasContext = exists(buffer, position, presence, 3);
+            position += flagSize(presence);
             EventContext context = null;
             if(hasContext){
                 int contextPosition = buffer.readInteger(position);
@@ -9303,6 +9844,11 @@ public class RMObjectSerialization {
     }
 
     public static class EHRSerializer {
+        public static final EHRSerializer INSTANCE = new EHRSerializer();
+
+        private EHRSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, HierObjectID systemID,
                                 HierObjectID ehrID, DvDateTime timeCreated,
                                 List<ObjectRef> contributions,
@@ -9311,9 +9857,9 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 7 * PrimitiveTypeSize.INT.getSize();
 
-            HierObjectIDSerializer hs = new HierObjectIDSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
+            HierObjectIDSerializer hs = HierObjectIDSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = hs.serialize(buffer, position, systemID);
@@ -9342,9 +9888,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, EHR e){
             int position = offset;
 
-            EHRSerializer es = new EHRSerializer();
 
-            position = es.serialize(buffer, position, e.getSystemID(),
+            position = this.serialize(buffer, position, e.getSystemID(),
                     e.getEhrID(), e.getTimeCreated(), e.getContributions(),
                     e.getEhrStatus(), e.getDirectory(), e.getCompositions());
 
@@ -9353,9 +9898,9 @@ public class RMObjectSerialization {
 
         protected EHR deserialize(Buffer buffer, int offset){
             int position = offset;
-            HierObjectIDSerializer hs = new HierObjectIDSerializer();
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            ObjectRefSerializer ors = new ObjectRefSerializer();
+            HierObjectIDSerializer hs = HierObjectIDSerializer.INSTANCE;
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            ObjectRefSerializer ors = ObjectRefSerializer.INSTANCE;
 
             int systemIDposition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -9393,6 +9938,11 @@ public class RMObjectSerialization {
     }
 
     public static class EHRStatusSerializer {
+        public static final EHRStatusSerializer INSTANCE = new EHRStatusSerializer();
+
+        private EHRStatusSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Locatable locatable,
                                 PartySelf subject, boolean isQueryable,
                                 boolean isModifiable,ItemStructure otherDetails){
@@ -9403,9 +9953,9 @@ public class RMObjectSerialization {
             boolean hasSubject = subject != null;
             boolean hasOtherDetails = otherDetails != null;
 
-            LocatableSerializer ls = new LocatableSerializer();
-            PartySelfSerializer pss = new PartySelfSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            PartySelfSerializer pss = PartySelfSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
@@ -9432,9 +9982,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, EHRStatus e){
             int position = offset;
 
-            EHRStatusSerializer ess = new EHRStatusSerializer();
 
-            position = ess.serialize(buffer, position, e.getLocatable(),
+            position = this.serialize(buffer, position, e.getLocatable(),
                     e.getSubject(), e.isQueryable(), e.isModifiable(),
                     e.getOtherDetails());
 
@@ -9444,9 +9993,9 @@ public class RMObjectSerialization {
         protected EHRStatus deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
-            PartySelfSerializer pss = new PartySelfSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            PartySelfSerializer pss = PartySelfSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -9483,10 +10032,15 @@ public class RMObjectSerialization {
     }
 
     public static class EHRAccessSerializer {
+        public static final EHRAccessSerializer INSTANCE = new EHRAccessSerializer();
+
+        private EHRAccessSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Locatable locatable){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
 
             position = ls.serialize(buffer, position, locatable);
 
@@ -9496,9 +10050,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, EHRAccess e){
             int position = offset;
 
-            EHRAccessSerializer es = new EHRAccessSerializer();
 
-            position = es.serialize(buffer, position, e.getLocatable());
+            position = this.serialize(buffer, position, e.getLocatable());
 
             return position;
         }
@@ -9506,7 +10059,7 @@ public class RMObjectSerialization {
         protected EHRAccess deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
 
             Locatable locatable = ls.deserialize(buffer, position);
 
@@ -9515,11 +10068,16 @@ public class RMObjectSerialization {
     }
 
     public static class XTerminologySerializer {
+        public static final XTerminologySerializer INSTANCE = new XTerminologySerializer();
+
+        private XTerminologySerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 ItemStructure itemStructure){
             int position = offset;
 
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             position = iss.serialize(buffer, position, itemStructure);
 
@@ -9529,9 +10087,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, XTerminology t){
             int position = offset;
 
-            XTerminologySerializer xts = new XTerminologySerializer();
 
-            position = xts.serialize(buffer, position, t.getItemStructure());
+            position = this.serialize(buffer, position, t.getItemStructure());
 
             return position;
         }
@@ -9539,7 +10096,7 @@ public class RMObjectSerialization {
         protected XTerminology deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             ItemStructure itemStructure = iss.deserialize(buffer, position);
 
@@ -9548,13 +10105,18 @@ public class RMObjectSerialization {
     }
 
     public static class XCompositionSerializer {
+        public static final XCompositionSerializer INSTANCE = new XCompositionSerializer();
+
+        private XCompositionSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, boolean primary,
                                 DvEHRURI originalPath, Composition composition){
             int header = offset;
             int position = offset + 3 * PrimitiveTypeSize.INT.getSize();
 
-            DvEHRURISerializer ds = new DvEHRURISerializer();
-            CompositionSerializer cs = new CompositionSerializer();
+            DvEHRURISerializer ds = DvEHRURISerializer.INSTANCE;
+            CompositionSerializer cs = CompositionSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             buffer.writeBoolean(position, primary);
@@ -9572,9 +10134,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, XComposition c){
             int position = offset;
 
-            XCompositionSerializer xcs = new XCompositionSerializer();
 
-            position = xcs.serialize(buffer, position, c.isPrimary(),
+            position = this.serialize(buffer, position, c.isPrimary(),
                     c.getOriginalPath(), c.getComposition());
 
             return position;
@@ -9583,8 +10144,8 @@ public class RMObjectSerialization {
         protected XComposition deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            DvEHRURISerializer ds = new DvEHRURISerializer();
-            CompositionSerializer cs = new CompositionSerializer();
+            DvEHRURISerializer ds = DvEHRURISerializer.INSTANCE;
+            CompositionSerializer cs = CompositionSerializer.INSTANCE;
 
             int primaryPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -9605,48 +10166,33 @@ public class RMObjectSerialization {
         protected int listSerialize(
                 Buffer buffer, int offset, List<XComposition> items){
             int header = offset;
-            if(items.size() == 0){
-                return offset;
-            }
             int listSize = items.size();
             int position = offset + (listSize *
                     PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
 
             header = writeHeader(buffer, header, listSize);
-            XCompositionSerializer xcs = new XCompositionSerializer();
 
             for (XComposition c : items){
                 header = writeHeader(buffer, header, position);
-                position = xcs.serialize(buffer, position, c);
+                position = this.serialize(buffer, position, c);
             }
 
             return position;
         }
 
         protected List<XComposition> deserializeList(Buffer buffer, int offset){
-            int position = offset;
-            int listSize = buffer.readInteger(position);
-            position += PrimitiveTypeSize.INT.getSize();
-            if(listSize == 0){
-                List<XComposition> list = new ArrayList<>();
-                return list;
-            }
-            List<XComposition> list = new ArrayList<>();
-            XCompositionSerializer dis = new XCompositionSerializer();
-
-            for (int i = 0; i < listSize; i++){
-                int xCompositionPosition = buffer.readInteger(position);
-                position += PrimitiveTypeSize.INT.getSize();
-                XComposition c = dis.deserialize(buffer, xCompositionPosition);
-                list.add(c);
-            }
-
-            return list;
+            return deserializeElements(buffer, offset,
+                    p -> this.deserialize(buffer, p));
         }
     }
 
     public static class XDemographicsSerializer {
+        public static final XDemographicsSerializer INSTANCE = new XDemographicsSerializer();
+
+        private XDemographicsSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 Map<ObjectID, Party> parties,
                                 ItemStructure details){
@@ -9657,8 +10203,8 @@ public class RMObjectSerialization {
             boolean hasParties = parties != null;
             boolean hasDetails = details != null;
 
-            ObjectIDSerializer ois = new ObjectIDSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            ObjectIDSerializer ois = ObjectIDSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, hasParties, position);
             if(hasParties){
@@ -9676,9 +10222,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, XDemographics d){
             int position = offset;
 
-            XDemographicsSerializer xds = new XDemographicsSerializer();
 
-            position = xds.serialize(buffer, position, d.getParties(),
+            position = this.serialize(buffer, position, d.getParties(),
                     d.getDetails());
 
             return position;
@@ -9687,8 +10232,8 @@ public class RMObjectSerialization {
         protected XDemographics deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            ObjectIDSerializer ois = new ObjectIDSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            ObjectIDSerializer ois = ObjectIDSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             boolean hasParties = buffer.readBoolean(position);
             position += PrimitiveTypeSize.BOOLEAN.getSize();
@@ -9713,6 +10258,11 @@ public class RMObjectSerialization {
     }
 
     public static class XFolderSerializer {
+        public static final XFolderSerializer INSTANCE = new XFolderSerializer();
+
+        private XFolderSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Locatable locatable,
                                 List<XFolder> folders,
                                 List<XComposition> compositions){
@@ -9723,16 +10273,15 @@ public class RMObjectSerialization {
             boolean hasFolders = folders != null;
             boolean hasCompositions = compositions != null;
 
-            LocatableSerializer ls = new LocatableSerializer();
-            XFolderSerializer xfs = new XFolderSerializer();
-            XCompositionSerializer xcs = new XCompositionSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            XCompositionSerializer xcs = XCompositionSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = ls.serialize(buffer, position, locatable);
 
             header = writeHeader(buffer, header, hasFolders, position);
             if(hasFolders){
-                position = xfs.listSerialize(buffer, position, folders);
+                position = this.listSerialize(buffer, position, folders);
             }
 
             writeHeader(buffer, header, hasCompositions, position);
@@ -9746,9 +10295,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, XFolder f){
             int position = offset;
 
-            XFolderSerializer xfs = new XFolderSerializer();
 
-            position = xfs.serialize(buffer, position, f.getLocatable(),
+            position = this.serialize(buffer, position, f.getLocatable(),
                     f.getFolders(), f.getCompositions());
 
             return position;
@@ -9757,9 +10305,8 @@ public class RMObjectSerialization {
         protected XFolder deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
-            XFolderSerializer xfs = new XFolderSerializer();
-            XCompositionSerializer xcs = new XCompositionSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
+            XCompositionSerializer xcs = XCompositionSerializer.INSTANCE;
 
             int locatablePosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -9771,7 +10318,7 @@ public class RMObjectSerialization {
             if(hasFolders){
                 int xFoldersPosition = buffer.readInteger(position);
                 position += PrimitiveTypeSize.INT.getSize();
-                folders = xfs.deserializeList(buffer,
+                folders = this.deserializeList(buffer,
                         xFoldersPosition);
             }
 
@@ -9796,36 +10343,27 @@ public class RMObjectSerialization {
                     PrimitiveTypeSize.INT.getSize()) +
                     PrimitiveTypeSize.INT.getSize();
             header = writeHeader(buffer, header, listSize);
-            XFolderSerializer xfs = new XFolderSerializer();
 
             for (XFolder f : items){
                 header = writeHeader(buffer, header, position);
-                position = xfs.serialize(buffer, position, f);
+                position = this.serialize(buffer, position, f);
             }
 
             return position;
         }
 
         protected List<XFolder> deserializeList(Buffer buffer, int offset){
-            int position = offset;
-            int listSize = buffer.readInteger(position);
-            position += PrimitiveTypeSize.INT.getSize();
-
-            List<XFolder> list = new ArrayList<>();
-            XFolderSerializer dis = new XFolderSerializer();
-
-            for (int i = 0; i < listSize; i++){
-                int xFolderPosition = buffer.readInteger(position);
-                position += PrimitiveTypeSize.INT.getSize();
-                XFolder f = dis.deserialize(buffer, xFolderPosition);
-                list.add(f);
-            }
-
-            return list;
+            return deserializeElements(buffer, offset,
+                    p -> this.deserialize(buffer, p));
         }
     }
 
     public static class XAccessControlSerializer {
+        public static final XAccessControlSerializer INSTANCE = new XAccessControlSerializer();
+
+        private XAccessControlSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 Map<ObjectID, Party> groups,
                                 ItemStructure details){
@@ -9836,8 +10374,8 @@ public class RMObjectSerialization {
             boolean hasParties = groups != null;
             boolean hasDetails = details != null;
 
-            ObjectIDSerializer ois = new ObjectIDSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            ObjectIDSerializer ois = ObjectIDSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, hasParties, position);
             if(hasParties){
@@ -9855,9 +10393,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, XAccessControl d){
             int position = offset;
 
-            XAccessControlSerializer xds = new XAccessControlSerializer();
 
-            position = xds.serialize(buffer, position, d.getGroups(),
+            position = this.serialize(buffer, position, d.getGroups(),
                     d.getDetails());
 
             return position;
@@ -9866,8 +10403,8 @@ public class RMObjectSerialization {
         protected XAccessControl deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            ObjectIDSerializer ois = new ObjectIDSerializer();
-            ItemStructureSerializer iss = new ItemStructureSerializer();
+            ObjectIDSerializer ois = ObjectIDSerializer.INSTANCE;
+            ItemStructureSerializer iss = ItemStructureSerializer.INSTANCE;
 
             boolean hasParties = buffer.readBoolean(position);
             position += PrimitiveTypeSize.BOOLEAN.getSize();
@@ -9892,6 +10429,11 @@ public class RMObjectSerialization {
     }
 
     public static class EHRExtractSerializer {
+        public static final EHRExtractSerializer INSTANCE = new EHRExtractSerializer();
+
+        private EHRExtractSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 DvDateTime timeCreated, String ehrId,
                                 PartyRef subjectOfCare, PartyRef originator,
@@ -9914,13 +10456,13 @@ public class RMObjectSerialization {
             boolean hasDemographics = demographics != null;
             boolean hasAccessControl = accessControl != null;
 
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            PartyRefSerializer prs = new PartyRefSerializer();
-            ParticipationSerializer ps = new ParticipationSerializer();
-            XFolderSerializer xfs = new XFolderSerializer();
-            XTerminologySerializer xts = new XTerminologySerializer();
-            XDemographicsSerializer xds = new XDemographicsSerializer();
-            XAccessControlSerializer xas = new XAccessControlSerializer();
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
+            ParticipationSerializer ps = ParticipationSerializer.INSTANCE;
+            XFolderSerializer xfs = XFolderSerializer.INSTANCE;
+            XTerminologySerializer xts = XTerminologySerializer.INSTANCE;
+            XDemographicsSerializer xds = XDemographicsSerializer.INSTANCE;
+            XAccessControlSerializer xas = XAccessControlSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, hasTimeCreated, position);
             if(hasTimeCreated){
@@ -9982,9 +10524,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, EHRExtract e){
             int position = offset;
 
-            EHRExtractSerializer es = new EHRExtractSerializer();
 
-            position = es.serialize(buffer, position, e.getTimeCreated(),
+            position = this.serialize(buffer, position, e.getTimeCreated(),
                     e.getEhrId(), e.getSubjectOfCare(), e.getOriginator(),
                     e.getOtherParticipations(), e.isIncludeMultimedia(),
                     e.getFollowLinks(), e.getDirectory(), e.getTerminology(),
@@ -9996,13 +10537,13 @@ public class RMObjectSerialization {
         protected EHRExtract deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            PartyRefSerializer prs = new PartyRefSerializer();
-            ParticipationSerializer ps = new ParticipationSerializer();
-            XFolderSerializer xfs = new XFolderSerializer();
-            XTerminologySerializer xts = new XTerminologySerializer();
-            XDemographicsSerializer xds = new XDemographicsSerializer();
-            XAccessControlSerializer xas = new XAccessControlSerializer();
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
+            ParticipationSerializer ps = ParticipationSerializer.INSTANCE;
+            XFolderSerializer xfs = XFolderSerializer.INSTANCE;
+            XTerminologySerializer xts = XTerminologySerializer.INSTANCE;
+            XDemographicsSerializer xds = XDemographicsSerializer.INSTANCE;
+            XAccessControlSerializer xas = XAccessControlSerializer.INSTANCE;
 
             boolean hasTimeCreated = buffer.readBoolean(position);
             position += PrimitiveTypeSize.BOOLEAN.getSize();
@@ -10103,13 +10644,18 @@ public class RMObjectSerialization {
     }
 
     public static class GenericEntrySerializer {
+        public static final GenericEntrySerializer INSTANCE = new GenericEntrySerializer();
+
+        private GenericEntrySerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 ContentItem contentItem, ItemTree data){
             int header = offset;
             int position = offset + 2 * PrimitiveTypeSize.INT.getSize();
 
-            ContentItemSerializer cis = new ContentItemSerializer();
-            ItemTreeSerializer its = new ItemTreeSerializer();
+            ContentItemSerializer cis = ContentItemSerializer.INSTANCE;
+            ItemTreeSerializer its = ItemTreeSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = cis.serialize(buffer, position, contentItem);
@@ -10123,9 +10669,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, GenericEntry g){
             int position = offset;
 
-            GenericEntrySerializer ges = new GenericEntrySerializer();
 
-            position = ges.serialize(buffer, position, g.getContentItem(),
+            position = this.serialize(buffer, position, g.getContentItem(),
                     g.getData());
 
             return position;
@@ -10133,8 +10678,8 @@ public class RMObjectSerialization {
 
         protected GenericEntry deserialize(Buffer buffer, int offset){
             int position = offset;
-            ContentItemSerializer cis = new ContentItemSerializer();
-            ItemTreeSerializer its = new ItemTreeSerializer();
+            ContentItemSerializer cis = ContentItemSerializer.INSTANCE;
+            ItemTreeSerializer its = ItemTreeSerializer.INSTANCE;
 
             int contentItemPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -10149,10 +10694,15 @@ public class RMObjectSerialization {
     }
 
     public static class MessageContentSerializer {
+        public static final MessageContentSerializer INSTANCE = new MessageContentSerializer();
+
+        private MessageContentSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset, Locatable locatable){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
 
             position = ls.serialize(buffer, position, locatable);
 
@@ -10163,9 +10713,8 @@ public class RMObjectSerialization {
                                 MessageContent messageContent){
             int position = offset;
 
-            MessageContentSerializer mcs = new MessageContentSerializer();
 
-            position = mcs.serialize(buffer, position,
+            position = this.serialize(buffer, position,
                     messageContent.getLocatable());
 
             return position;
@@ -10174,7 +10723,7 @@ public class RMObjectSerialization {
         protected MessageContent deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            LocatableSerializer ls = new LocatableSerializer();
+            LocatableSerializer ls = LocatableSerializer.INSTANCE;
 
             Locatable locatable = ls.deserialize(buffer, position);
 
@@ -10183,6 +10732,11 @@ public class RMObjectSerialization {
     }
 
     public static class MessageSerializer {
+        public static final MessageSerializer INSTANCE = new MessageSerializer();
+
+        private MessageSerializer() {
+        }
+
         protected int serialize(Buffer buffer, int offset,
                                 DvDateTime timeSent, PartyRef sender,
                                 PartyRef receiver,PartyRef senderNode,
@@ -10193,12 +10747,12 @@ public class RMObjectSerialization {
             int header = offset;
             int position = offset + 11 * PrimitiveTypeSize.INT.getSize();
 
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            PartyRefSerializer prs = new PartyRefSerializer();
-            DvOrdinalSerializer dos = new DvOrdinalSerializer();
-            AttestationSerializer as = new AttestationSerializer();
-            PartySerializer ps = new PartySerializer();
-            MessageContentSerializer mcs = new MessageContentSerializer();
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
+            DvOrdinalSerializer dos = DvOrdinalSerializer.INSTANCE;
+            AttestationSerializer as = AttestationSerializer.INSTANCE;
+            PartySerializer ps = PartySerializer.INSTANCE;
+            MessageContentSerializer mcs = MessageContentSerializer.INSTANCE;
 
             header = writeHeader(buffer, header, position);
             position = dts.serialize(buffer, position, timeSent);
@@ -10240,9 +10794,8 @@ public class RMObjectSerialization {
         protected int serialize(Buffer buffer, int offset, Message m){
             int position = offset;
 
-            MessageSerializer ms = new MessageSerializer();
 
-            position = ms.serialize(buffer, position, m.getTimeSent(),
+            position = this.serialize(buffer, position, m.getTimeSent(),
                     m.getSender(), m.getReceiver(), m.getSenderNode(),
                     m.getReceiverNode(), m.getSendersReference(),
                     m.isInitiator(), m.getUrgency(), m.getSignature(),
@@ -10254,12 +10807,12 @@ public class RMObjectSerialization {
         protected Message deserialize(Buffer buffer, int offset){
             int position = offset;
 
-            DvDateTimeSerializer dts = new DvDateTimeSerializer();
-            PartyRefSerializer prs = new PartyRefSerializer();
-            DvOrdinalSerializer dos = new DvOrdinalSerializer();
-            AttestationSerializer as = new AttestationSerializer();
-            PartySerializer ps = new PartySerializer();
-            MessageContentSerializer mcs = new MessageContentSerializer();
+            DvDateTimeSerializer dts = DvDateTimeSerializer.INSTANCE;
+            PartyRefSerializer prs = PartyRefSerializer.INSTANCE;
+            DvOrdinalSerializer dos = DvOrdinalSerializer.INSTANCE;
+            AttestationSerializer as = AttestationSerializer.INSTANCE;
+            PartySerializer ps = PartySerializer.INSTANCE;
+            MessageContentSerializer mcs = MessageContentSerializer.INSTANCE;
 
             int timeSentPosition = buffer.readInteger(position);
             position += PrimitiveTypeSize.INT.getSize();
@@ -10353,6 +10906,27 @@ public class RMObjectSerialization {
      */
     private static int writeHeader(Buffer buffer, int offset,
             boolean exists, int value){
+        return writeHeader(buffer, offset, -1, exists, value);
+    }
+
+    /**
+     * Escreve o header de um parâmetro opcional. No cabeçalho compacto
+     * (mapa de presença não negativo), a existência é registrada apenas no
+     * mapa, e um parâmetro ausente não ocupa espaço no header.
+     *
+     * @param buffer
+     * @param offset
+     * @param presence mapa de presença, ou -1 para o cabeçalho padrão
+     * @param exists
+     * @param value
+     * @return posição final após a escrita do valor do header
+     */
+    private static int writeHeader(Buffer buffer, int offset, int presence,
+            boolean exists, int value){
+        if (presence >= 0) {
+            return exists ? writeHeader(buffer, offset, value) : offset;
+        }
+
         int position = offset;
         if (exists){
             buffer.writeBoolean(position, exists);
@@ -10366,4 +10940,84 @@ public class RMObjectSerialization {
         }
         return position;
     }
+
+    /**
+     * Bit do mapa de presença correspondente ao parâmetro de ordem
+     * {@code field} no header.
+     */
+    private static int bit(boolean exists, int field) {
+        return exists ? 1 << field : 0;
+    }
+
+    /**
+     * Obtém o mapa de presença a ser empregado pelo cabeçalho compacto.
+     * No perfil compacto (ver {@link Buffer#setCompact(boolean)}), o header
+     * de Locatable, Composition, EventContext e DvMultimedia é iniciado por
+     * um byte no qual o bit {@code i} indica a presença do parâmetro
+     * opcional {@code i}. Seguem-se as posições apenas dos parâmetros
+     * obrigatórios e dos opcionais presentes.
+     *
+     * @param buffer
+     * @param bits mapa de presença dos parâmetros opcionais
+     * @return mapa de presença, ou -1 se o cabeçalho padrão é empregado
+     */
+    private static int presence(Buffer buffer, int bits) {
+        return buffer.isCompact() ? bits : -1;
+    }
+
+    /**
+     * Escreve o mapa de presença no início do header.
+     *
+     * @return posição da primeira posição do header
+     */
+    private static int writePresence(Buffer buffer, int offset, int presence) {
+        buffer.writeByte(offset, (byte) presence);
+        return offset + PrimitiveTypeSize.BYTE.getSize();
+    }
+
+    /**
+     * Lê o mapa de presença de um header compacto.
+     *
+     * @return mapa de presença, ou -1 se o cabeçalho padrão é empregado
+     */
+    private static int readPresence(Buffer buffer, int offset) {
+        return buffer.isCompact() ? buffer.readByte(offset) & 0xFF : -1;
+    }
+
+    /**
+     * Posição do primeiro valor do header (após o mapa de presença, se
+     * houver).
+     */
+    private static int headerStart(int offset, int presence) {
+        return presence < 0 ? offset
+                : offset + PrimitiveTypeSize.BYTE.getSize();
+    }
+
+    /**
+     * Tamanho do header compacto: mapa de presença e posições dos
+     * parâmetros obrigatórios e dos opcionais presentes.
+     */
+    private static int packedHeaderSize(int mandatory, int presence) {
+        return PrimitiveTypeSize.BYTE.getSize() + (mandatory
+                + Integer.bitCount(presence)) * PrimitiveTypeSize.INT.getSize();
+    }
+
+    /**
+     * Verifica a existência do parâmetro opcional de ordem {@code field},
+     * registrada no mapa de presença ou, no cabeçalho padrão, no boolean
+     * que precede a posição do parâmetro.
+     */
+    private static boolean exists(Buffer buffer, int header, int presence,
+                                  int field) {
+        return presence < 0 ? buffer.readBoolean(header)
+                : (presence & 1 << field) != 0;
+    }
+
+    /**
+     * Espaço ocupado no header pelo indicador de existência de um parâmetro
+     * opcional (nenhum, no cabeçalho compacto).
+     */
+    private static int flagSize(int presence) {
+        return presence < 0 ? BOOLEAN.getSize() : 0;
+    }
 }
@@ -22,6 +22,11 @@ import com.github.kyriosdata.healthcodec.RMObject.UID;
 import com.github.kyriosdata.healthcodec.RMObject.UUID;
 import com.github.kyriosdata.healthcodec.RMObjectSerialization.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
 import java.util.List;
 
 import static com.github.kyriosdata.healthcodec.RMObjectID.*;
@@ -42,18 +47,29 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
 
     //Índice utilizado para armazenar a posição de cada objeto serializado
     private final Index index = new Index();
-    //Array auxiliar que auxilia na identificação da ordem de cada objeto
-    private final int[] order;
-    //Instância do buffer para a utilização das operações de W/R
-    private final Buffer buffer = Buffer.newInstance();
+    //Instância do buffer (expansível) para a utilização das operações de W/R
+    private final Buffer buffer;
     //Posição atual para leitura e escrita no buffer
     private int offset;
+    //Instância a ser obtida pela próxima deserialização (-1 para a última)
+    private int selected = -1;
+
+    //Instância mantida para cada thread, ver #local()
+    private static final ThreadLocal<RMObjectSerializationClient> LOCAL =
+            ThreadLocal.withInitial(RMObjectSerializationClient::new);
 
     /*
     * Construtor privado para ser utilizado na função #link{create}
      */
     RMObjectSerializationClient() {
-        this.order = new int[RMObjectID.values().length];
+        this(Buffer.newGrowableInstance());
+    }
+
+    /*
+    * Construtor privado para ser utilizado na função #link{create(Buffer)}
+     */
+    RMObjectSerializationClient(Buffer buffer) {
+        this.buffer = buffer;
         offset = 0;
     }
 
@@ -68,6 +84,72 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
         return new RMObjectSerializationClient();
     }
 
+    /**
+     * Cria uma instância de RMObjectSerializationClient que emprega o
+     * buffer fornecido, por exemplo, obtido de um {@link BufferPool}. A
+     * serialização tem início na posição 0 do buffer. Um buffer que não é
+     * expansível limita a quantidade de bytes que pode ser serializada.
+     *
+     * <p>O conteúdo do buffer é apagado, pois regiões reservadas para
+     * atributos ausentes não são escritas pelos serializadores. Desta forma
+     * os bytes produzidos não dependem do uso anterior do buffer. Apenas a
+     * região já escrita por meio do buffer é apagada, e não a capacidade
+     * inteira, que pode chegar a vários megabytes para um buffer obtido de
+     * um {@link BufferPool}.</p>
+     *
+     * @param buffer Buffer a ser empregado.
+     * @return nova instância de RMObjectSerializationClient
+     */
+    public static RMObjectSerializationClient create(Buffer buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("buffer não fornecido");
+        }
+
+        buffer.clearWritten();
+        return new RMObjectSerializationClient(buffer);
+    }
+
+    /**
+     * Obtém a instância de RMObjectSerializationClient associada à thread
+     * corrente, já reiniciada (ver {@link #reset()}). Desta forma, o
+     * tratamento de sucessivas requisições por uma mesma thread reutiliza
+     * o mesmo buffer e índice, sem novas alocações.
+     *
+     * <p>A instância retornada é a mesma em chamadas sucessivas de uma
+     * mesma thread e, portanto, reiniciada a cada chamada. Os bytes
+     * produzidos devem ser consumidos (ver {@link #writeTo(OutputStream)})
+     * antes de nova chamada. A instância não deve ser compartilhada com
+     * outras threads.</p>
+     *
+     * @return instância de RMObjectSerializationClient da thread corrente
+     */
+    public static RMObjectSerializationClient local() {
+        return LOCAL.get().reset();
+    }
+
+    /**
+     * Descarta todas as serializações realizadas, o que permite reutilizar
+     * esta instância (buffer e índice) para novas serializações, que têm
+     * início na posição 0. Apenas a região empregada pelas serializações
+     * descartadas é apagada e a tabela de sequências de caracteres
+     * associada ao buffer, se houver, é esvaziada, de forma que uma nova
+     * serialização produz exatamente os mesmos bytes que produziria uma
+     * nova instância.
+     *
+     * @return Instância de RMObjectSerializationClient para chaining.
+     */
+    public RMObjectSerializationClient reset() {
+        buffer.clear(0, offset);
+        if (buffer.getStringTable() != null) {
+            buffer.getStringTable().clear();
+        }
+
+        index.reset();
+        offset = 0;
+        selected = -1;
+        return this;
+    }
+
     /**
      * Serializador de DvBoolean
      *
@@ -76,7 +158,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvBoolean(DvBoolean d) {
-        DvBooleanSerializer s = new DvBooleanSerializer();
+        DvBooleanSerializer s = DvBooleanSerializer.INSTANCE;
         register(DVBOOLEAN, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -90,7 +172,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvBoolean deserializeDvBoolean() {
-        DvBooleanSerializer d = new DvBooleanSerializer();
+        DvBooleanSerializer d = DvBooleanSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVBOOLEAN));
     }
 
@@ -103,7 +185,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvIdentifier(
             DvIdentifier d)  {
-        DvIdentifierSerializer s = new DvIdentifierSerializer();
+        DvIdentifierSerializer s = DvIdentifierSerializer.INSTANCE;
         register(DVIDENTIFIER, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -117,7 +199,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvIdentifier deserializeDvIdentifier() {
-        DvIdentifierSerializer d = new DvIdentifierSerializer();
+        DvIdentifierSerializer d = DvIdentifierSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVIDENTIFIER));
     }
     
@@ -131,7 +213,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeUID(
             UID u)  {
-        UIDSerializer s = new UIDSerializer();
+        UIDSerializer s = UIDSerializer.INSTANCE;
         register(UID, offset);
         setOffset(s.serialize(buffer, offset, u));
         
@@ -145,7 +227,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public UID deserializeUID() {
-        UIDSerializer d = new UIDSerializer();
+        UIDSerializer d = UIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(UID));
     }
     
@@ -159,7 +241,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     public RMObjectSerializationClient serializeInternetID(
             InternetID i)  {
 
-        InternetIDSerializer s = new InternetIDSerializer();
+        InternetIDSerializer s = InternetIDSerializer.INSTANCE;
         register(INTERNETID, offset);
         setOffset(s.serialize(buffer, offset, i));
         return this;
@@ -172,7 +254,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public InternetID deserializeInternetID() {
-        InternetIDSerializer d = new InternetIDSerializer();
+        InternetIDSerializer d = InternetIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(INTERNETID));
     }
 
@@ -185,7 +267,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeISOOID(ISO_OID i)
              {
-        ISOOIDSerialilzer s = new ISOOIDSerialilzer();
+        ISOOIDSerialilzer s = ISOOIDSerialilzer.INSTANCE;
         register(ISO_OID, offset);
         setOffset(s.serialize(buffer, offset, i));
 
@@ -199,7 +281,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ISO_OID deserializeISOOID() {
-        ISOOIDSerialilzer d = new ISOOIDSerialilzer();
+        ISOOIDSerialilzer d = ISOOIDSerialilzer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ISO_OID));
     }
 
@@ -213,7 +295,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeUUID(UUID u)
              {
-        UUIDSerializer s = new UUIDSerializer();
+        UUIDSerializer s = UUIDSerializer.INSTANCE;
         register(UUID, offset);
         setOffset(s.serialize(buffer, offset, u));
 
@@ -227,7 +309,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public UUID deserializeUUID() {
-        UUIDSerializer d = new UUIDSerializer();
+        UUIDSerializer d = UUIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(UUID));
     }
 
@@ -241,7 +323,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeTerminologyID(
             TerminologyID t)  {
-        TerminologyIDSerializer s = new TerminologyIDSerializer();
+        TerminologyIDSerializer s = TerminologyIDSerializer.INSTANCE;
         register(TERMINOLOGYID, offset);
         setOffset(s.serialize(buffer, offset, t));
 
@@ -255,7 +337,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public TerminologyID deserializeTerminologyID() {
-        TerminologyIDSerializer d = new TerminologyIDSerializer();
+        TerminologyIDSerializer d = TerminologyIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(TERMINOLOGYID));
     }
 
@@ -269,7 +351,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeGenericID(
             GenericID g)  {
-        GenericIDSerializer s = new GenericIDSerializer();
+        GenericIDSerializer s = GenericIDSerializer.INSTANCE;
         register(GENERICID, offset);
         setOffset(s.serialize(buffer, offset, g));
 
@@ -283,7 +365,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public GenericID deserializeGenericID() {
-        GenericIDSerializer d = new GenericIDSerializer();
+        GenericIDSerializer d = GenericIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(GENERICID));
     }
 
@@ -297,7 +379,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeTemplateID(
             TemplateID t)  {
-        TemplateIDSerializer s = new TemplateIDSerializer();
+        TemplateIDSerializer s = TemplateIDSerializer.INSTANCE;
         register(TEMPLATEID, offset);
         setOffset(s.serialize(buffer, offset, t));
 
@@ -311,7 +393,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public TemplateID deserializeTemplateID() {
-        TemplateIDSerializer d = new TemplateIDSerializer();
+        TemplateIDSerializer d = TemplateIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(TEMPLATEID));
     }
 
@@ -325,7 +407,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeCodePhrase(
             CodePhrase c)  {
-        CodePhraseSerializer s = new CodePhraseSerializer();
+        CodePhraseSerializer s = CodePhraseSerializer.INSTANCE;
         register(CODEPHRASE, offset);
         setOffset(s.serialize(buffer, offset, c));
 
@@ -339,7 +421,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public CodePhrase deserializeCodePhrase() {
-        CodePhraseSerializer d = new CodePhraseSerializer();
+        CodePhraseSerializer d = CodePhraseSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(CODEPHRASE));
     }
 
@@ -353,7 +435,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDVURI(
             DVURI d)  {
-        DVURISerializer s = new DVURISerializer();
+        DVURISerializer s = DVURISerializer.INSTANCE;
         register(DVURI, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -367,7 +449,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DVURI deserializeDVURI() {
-        DVURISerializer d = new DVURISerializer();
+        DVURISerializer d = DVURISerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVURI));
     }
 
@@ -381,9 +463,9 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvEHRURI(
             DvEHRURI d)  {
-        DvEHRURISerializer s = new DvEHRURISerializer();
+        DvEHRURISerializer s = DvEHRURISerializer.INSTANCE;
         register(DvEHRURI, offset);
-        s.serialize(buffer, offset, d);
+        setOffset(s.serialize(buffer, offset, d));
 
         return this;
     }
@@ -395,7 +477,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvEHRURI deserializeDvEHRURI() {
-        DvEHRURISerializer d = new DvEHRURISerializer();
+        DvEHRURISerializer d = DvEHRURISerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DvEHRURI));
     }
 
@@ -409,9 +491,9 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeVersionTreeID(
             VersionTreeID v)  {
-        VersionTreeIDSerializer s = new VersionTreeIDSerializer();
+        VersionTreeIDSerializer s = VersionTreeIDSerializer.INSTANCE;
         register(VERSIONTREEID, offset);
-        s.serialize(buffer, offset, v);
+        setOffset(s.serialize(buffer, offset, v));
 
         return this;
     }
@@ -423,7 +505,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public VersionTreeID deserializeVersionTreeID() {
-        VersionTreeIDSerializer d = new VersionTreeIDSerializer();
+        VersionTreeIDSerializer d = VersionTreeIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(VERSIONTREEID));
     }
 
@@ -437,9 +519,9 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeArchetypeID(
             ArchetypeID a)  {
-        ArchetypeIDSerializer s = new ArchetypeIDSerializer();
+        ArchetypeIDSerializer s = ArchetypeIDSerializer.INSTANCE;
         register(ARCHETYPEID, offset);
-        s.serialize(buffer, offset, a);
+        setOffset(s.serialize(buffer, offset, a));
 
         return this;
     }
@@ -451,7 +533,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ArchetypeID deserializeArchetypeID() {
-        ArchetypeIDSerializer d = new ArchetypeIDSerializer();
+        ArchetypeIDSerializer d = ArchetypeIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ARCHETYPEID));
     }
 
@@ -465,7 +547,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeObjectVersionID(
             ObjectVersionID o)  {
-        ObjectVersionIDSerializer s = new ObjectVersionIDSerializer();
+        ObjectVersionIDSerializer s = ObjectVersionIDSerializer.INSTANCE;
         register(OBJECTVERSIONID, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -479,7 +561,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObjectVersionID deserializeObjectVersionID() {
-        ObjectVersionIDSerializer d = new ObjectVersionIDSerializer();
+        ObjectVersionIDSerializer d = ObjectVersionIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(OBJECTVERSIONID));
     }
 
@@ -493,7 +575,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeHierObjectID(
             HierObjectID h)  {
-        HierObjectIDSerializer s = new HierObjectIDSerializer();
+        HierObjectIDSerializer s = HierObjectIDSerializer.INSTANCE;
         register(HIEROBJECTID, offset);
         setOffset(s.serialize(buffer, offset, h));
 
@@ -507,7 +589,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public HierObjectID deserializeHierObjectID() {
-        HierObjectIDSerializer d = new HierObjectIDSerializer();
+        HierObjectIDSerializer d = HierObjectIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(HIEROBJECTID));
     }
 
@@ -521,7 +603,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeObjectID(ObjectID o)
              {
-        ObjectIDSerializer s = new ObjectIDSerializer();
+        ObjectIDSerializer s = ObjectIDSerializer.INSTANCE;
         register(OBJECTID, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -535,7 +617,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObjectID deserializeObjectID() {
-        ObjectIDSerializer d = new ObjectIDSerializer();
+        ObjectIDSerializer d = ObjectIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(OBJECTID));
     }
 
@@ -549,7 +631,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializePartyRef(
             PartyRef p)  {
-        PartyRefSerializer s = new PartyRefSerializer();
+        PartyRefSerializer s = PartyRefSerializer.INSTANCE;
         register(PARTYREF, offset);
         setOffset(s.serialize(buffer, offset, p));
 
@@ -563,7 +645,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public PartyRef deserializePartyRef() {
-        PartyRefSerializer d = new PartyRefSerializer();
+        PartyRefSerializer d = PartyRefSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(PARTYREF));
     }
 
@@ -577,7 +659,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeObjectRef(
             ObjectRef o)  {
-        ObjectRefSerializer s = new ObjectRefSerializer();
+        ObjectRefSerializer s = ObjectRefSerializer.INSTANCE;
         register(OBJECTREF, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -591,7 +673,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObjectRef deserializeObjectRef() {
-        ObjectRefSerializer d = new ObjectRefSerializer();
+        ObjectRefSerializer d = ObjectRefSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(OBJECTREF));
     }
 
@@ -605,7 +687,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeLocatableRef(
             LocatableRef l)  {
-        LocatableRefSerializer s = new LocatableRefSerializer();
+        LocatableRefSerializer s = LocatableRefSerializer.INSTANCE;
         register(LOCATABLEREF, offset);
         setOffset(s.serialize(buffer, offset, l));
 
@@ -619,7 +701,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public LocatableRef deserializeLocatableRef() {
-        LocatableRefSerializer d = new LocatableRefSerializer();
+        LocatableRefSerializer d = LocatableRefSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(LOCATABLEREF));
     }
 
@@ -632,7 +714,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeProportionKind(
             ProportionKind p) {
-        ProportionKindSerializer s = new ProportionKindSerializer();
+        ProportionKindSerializer s = ProportionKindSerializer.INSTANCE;
         register(PROPORTIONKIND, offset);
         setOffset(s.serialize(buffer, offset, p));
 
@@ -646,7 +728,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ProportionKind deserializeProportionKind() {
-        ProportionKindSerializer d = new ProportionKindSerializer();
+        ProportionKindSerializer d = ProportionKindSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(PROPORTIONKIND));
     }
 
@@ -660,7 +742,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeAccessGroupRef(
             AccessGroupRef a) {
-        AccessGroupRefSerializer s = new AccessGroupRefSerializer();
+        AccessGroupRefSerializer s = AccessGroupRefSerializer.INSTANCE;
         register(ACCESSGROUPREF, offset);
         setOffset(s.serialize(buffer, offset, a));
 
@@ -674,7 +756,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public AccessGroupRef deserializeAccessGroupRef() {
-        AccessGroupRefSerializer d = new AccessGroupRefSerializer();
+        AccessGroupRefSerializer d = AccessGroupRefSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ACCESSGROUPREF));
     }
 
@@ -688,7 +770,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializePartyIdentified(
             PartyIdentified p)  {
-        PartyIdentifiedSerializer s = new PartyIdentifiedSerializer();
+        PartyIdentifiedSerializer s = PartyIdentifiedSerializer.INSTANCE;
         register(PARTYIDENTIFIED, offset);
         setOffset(s.serialize(buffer, offset, p));
 
@@ -702,7 +784,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public PartyIdentified deserializePartyIdentified() {
-        PartyIdentifiedSerializer d = new PartyIdentifiedSerializer();
+        PartyIdentifiedSerializer d = PartyIdentifiedSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(PARTYIDENTIFIED));
     }
 
@@ -716,7 +798,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeArchetyped(
             Archetyped a)  {
-        ArchetypedSerializer s = new ArchetypedSerializer();
+        ArchetypedSerializer s = ArchetypedSerializer.INSTANCE;
         register(ARCHETYPED, offset);
         setOffset(s.serialize(buffer, offset, a));
 
@@ -730,7 +812,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Archetyped deserializeArchetyped() {
-        ArchetypedSerializer d = new ArchetypedSerializer();
+        ArchetypedSerializer d = ArchetypedSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ARCHETYPED));
     }
 
@@ -744,7 +826,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvEncapsulated(
             DvEncapsulated d)  {
-        DvEncapsulatedSerializer s = new DvEncapsulatedSerializer();
+        DvEncapsulatedSerializer s = DvEncapsulatedSerializer.INSTANCE;
         register(DVENCAPSULATED, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -758,7 +840,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvEncapsulated deserializeDvEncapsulated() {
-        DvEncapsulatedSerializer d = new DvEncapsulatedSerializer();
+        DvEncapsulatedSerializer d = DvEncapsulatedSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVENCAPSULATED));
     }
 
@@ -772,7 +854,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeUIDBasedID(
             UIDBasedID u)  {
-        UIDBasedIDSerializer s = new UIDBasedIDSerializer();
+        UIDBasedIDSerializer s = UIDBasedIDSerializer.INSTANCE;
         register(UIDBASEDID, offset);
         setOffset(s.serialize(buffer, offset, u));
 
@@ -786,7 +868,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public UIDBasedID deserializeUIDBasedID() {
-        UIDBasedIDSerializer d = new UIDBasedIDSerializer();
+        UIDBasedIDSerializer d = UIDBasedIDSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(UIDBASEDID));
     }
 
@@ -800,7 +882,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvParsable(
             DvParsable d)  {
-        DvParsableSerializer s = new DvParsableSerializer();
+        DvParsableSerializer s = DvParsableSerializer.INSTANCE;
         register(DVPARSABLE, offset);
         setOffset(s.serialize(buffer,offset, d));
 
@@ -814,7 +896,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvParsable deserializeDvParsable() {
-        DvParsableSerializer d = new DvParsableSerializer();
+        DvParsableSerializer d = DvParsableSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVPARSABLE));
     }
 
@@ -828,7 +910,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvTimeSpecification(
             DvTimeSpecification d)  {
-        DvTimeSpecificationSerializer s = new DvTimeSpecificationSerializer();
+        DvTimeSpecificationSerializer s = DvTimeSpecificationSerializer.INSTANCE;
         register(DVTIMESPECIFICATION, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -842,7 +924,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvTimeSpecification deserializeDvTimeSpecification() {
-        DvTimeSpecificationSerializer d = new DvTimeSpecificationSerializer();
+        DvTimeSpecificationSerializer d = DvTimeSpecificationSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVTIMESPECIFICATION));
     }
 
@@ -856,7 +938,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvMultimedia(
             DvMultimedia d)  {
-        DvMultimediaSerializer s = new DvMultimediaSerializer();
+        DvMultimediaSerializer s = DvMultimediaSerializer.INSTANCE;
         register(DVMULTIMEDIA, offset);
         setOffset(s.serialize(buffer,offset, d));
 
@@ -870,10 +952,23 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvMultimedia deserializeDvMultimedia() {
-        DvMultimediaSerializer d = new DvMultimediaSerializer();
+        DvMultimediaSerializer d = DvMultimediaSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVMULTIMEDIA));
     }
 
+    /**
+     * Deserializador de DvMultimedia cujos dados não são copiados, mas
+     * obtidos como visão somente leitura do buffer desta instância (ver
+     * {@link DvMultimedia#getDataBuffer()}). A visão é válida apenas até a
+     * reutilização desta instância ({@link #reset()}).
+     *
+     * @return nova instância de DvMultimedia
+     */
+    public DvMultimedia deserializeDvMultimediaView() {
+        DvMultimediaSerializer d = DvMultimediaSerializer.INSTANCE;
+        return d.deserializeView(buffer, getOffsetFromID(DVMULTIMEDIA));
+    }
+
     /**
      * Serializador de DvText
      *
@@ -885,7 +980,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     public RMObjectSerializationClient serializeDvText(
             DvText d)  {
 
-        DvTextSerializer s = new DvTextSerializer();
+        DvTextSerializer s = DvTextSerializer.INSTANCE;
         register(DVTEXT, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -899,7 +994,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvText deserializeDvText() {
-        DvTextSerializer d = new DvTextSerializer();
+        DvTextSerializer d = DvTextSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVTEXT));
     }
 
@@ -913,7 +1008,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvCodedText(
             DvCodedText d)  {
-        DvCodedTextSerializer s = new DvCodedTextSerializer();
+        DvCodedTextSerializer s = DvCodedTextSerializer.INSTANCE;
         register(DVCODEDTEXT, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -927,7 +1022,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvCodedText deserializeDvCodedText() {
-        DvCodedTextSerializer d = new DvCodedTextSerializer();
+        DvCodedTextSerializer d = DvCodedTextSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVCODEDTEXT));
     }
 
@@ -942,7 +1037,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     public RMObjectSerializationClient serializeTermMapping(
             TermMapping t)  {
 
-        TermMappingSerializer s = new TermMappingSerializer();
+        TermMappingSerializer s = TermMappingSerializer.INSTANCE;
         register(TERMMAPPING, offset);
         setOffset(s.serialize(buffer, offset, t));
 
@@ -956,7 +1051,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public TermMapping deserializeTermMapping() {
-        TermMappingSerializer d = new TermMappingSerializer();
+        TermMappingSerializer d = TermMappingSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(TERMMAPPING));
     }
 
@@ -970,7 +1065,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeLink(
             Link l)  {
-        LinkSerializer s = new LinkSerializer();
+        LinkSerializer s = LinkSerializer.INSTANCE;
         register(LINK, offset);
         setOffset(s.serialize(buffer, offset, l));
 
@@ -984,7 +1079,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Link deserializeLink() {
-        LinkSerializer d = new LinkSerializer();
+        LinkSerializer d = LinkSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(LINK));
     }
 
@@ -998,7 +1093,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvState(
             DvState d)  {
-        DvStateSerializer s = new DvStateSerializer();
+        DvStateSerializer s = DvStateSerializer.INSTANCE;
         register(DVSTATE, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -1012,7 +1107,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvState deserializaDvState() {
-        DvStateSerializer d = new DvStateSerializer();
+        DvStateSerializer d = DvStateSerializer.INSTANCE;
 
         return d.deserialize(buffer, getOffsetFromID(DVSTATE));
     }
@@ -1027,7 +1122,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvParagraph(
             DvParagraph d)  {
-        DvParagraphSerializer s = new DvParagraphSerializer();
+        DvParagraphSerializer s = DvParagraphSerializer.INSTANCE;
         register(DVPARAGRAPH, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -1041,7 +1136,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvParagraph deserializeDvParagraph() {
-        DvParagraphSerializer d = new DvParagraphSerializer();
+        DvParagraphSerializer d = DvParagraphSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVPARAGRAPH));
     }
 
@@ -1055,7 +1150,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializePartyProxy(
             PartyProxy p)  {
-        PartyProxySerializer s = new PartyProxySerializer();
+        PartyProxySerializer s = PartyProxySerializer.INSTANCE;
         register(PARTYPROXY, offset);
         setOffset(s.serialize(buffer, offset, p));
 
@@ -1069,7 +1164,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public PartyProxy deserializePartyProxy() {
-        PartyProxySerializer d = new PartyProxySerializer();
+        PartyProxySerializer d = PartyProxySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(PARTYPROXY));
     }
 
@@ -1083,7 +1178,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeFeederAuditDetails(
             FeederAuditDetails f)  {
-        FeederAuditDetailsSerializer s = new FeederAuditDetailsSerializer();
+        FeederAuditDetailsSerializer s = FeederAuditDetailsSerializer.INSTANCE;
         register(FEEDERAUDITDETAILS, offset);
         setOffset(s.serialize(buffer, offset, f));
 
@@ -1097,7 +1192,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public FeederAuditDetails deserializeFeederAuditDetails() {
-        FeederAuditDetailsSerializer d = new FeederAuditDetailsSerializer();
+        FeederAuditDetailsSerializer d = FeederAuditDetailsSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(FEEDERAUDITDETAILS));
     }
         
@@ -1111,7 +1206,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeFeederAudit(
             FeederAudit f)  {
-        FeederAuditSerializer s = new FeederAuditSerializer();
+        FeederAuditSerializer s = FeederAuditSerializer.INSTANCE;
         register(FEEDERAUDIT, offset);
         setOffset(s.serialize(buffer, offset, f));
         
@@ -1125,7 +1220,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public FeederAudit deserializeFeederAudit() {
-        FeederAuditSerializer d = new FeederAuditSerializer();
+        FeederAuditSerializer d = FeederAuditSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(FEEDERAUDIT));
     }
     
@@ -1139,7 +1234,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeLocatable(
             Locatable l)  {
-       LocatableSerializer s = new LocatableSerializer();
+       LocatableSerializer s = LocatableSerializer.INSTANCE;
        register(LOCATABLE, offset);
        setOffset(s.serialize(buffer, offset, l));
        
@@ -1153,7 +1248,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Locatable deserializeLocatable() {
-       LocatableSerializer d = new LocatableSerializer();
+       LocatableSerializer d = LocatableSerializer.INSTANCE;
        return d.deserialize(buffer, getOffsetFromID(LOCATABLE));
     }
     
@@ -1167,7 +1262,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializePartyRelated(
             PartyRelated p)  {
-        PartyRelatedSerializer s = new PartyRelatedSerializer();
+        PartyRelatedSerializer s = PartyRelatedSerializer.INSTANCE;
         register(PARTYRELATED, offset);
         setOffset(s.serialize(buffer, offset, p));
         
@@ -1181,7 +1276,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public PartyRelated deserializePartyRelated() {
-        PartyRelatedSerializer d = new PartyRelatedSerializer();
+        PartyRelatedSerializer d = PartyRelatedSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(PARTYRELATED));
     }
     
@@ -1195,7 +1290,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializePartySelf(
             PartySelf p)  {
-        PartySelfSerializer s = new PartySelfSerializer();
+        PartySelfSerializer s = PartySelfSerializer.INSTANCE;
         register(PARTYSELF, offset);
         setOffset(s.serialize(buffer, offset, p));
         
@@ -1209,7 +1304,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public PartySelf deserializePartySelf() {
-        PartySelfSerializer d = new PartySelfSerializer();
+        PartySelfSerializer d = PartySelfSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(PARTYSELF));
     }
     
@@ -1225,7 +1320,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     public RMObjectSerializationClient serializeResourceDescriptionItem(
             ResourceDescriptionItem r)  {
         ResourceDescriptionItemSerializer s = 
-                new ResourceDescriptionItemSerializer();
+                ResourceDescriptionItemSerializer.INSTANCE;
         register(RESOURCEDESCRIPTIONITEM, offset);
         setOffset(s.serialize(buffer, offset, r));
         
@@ -1240,7 +1335,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public ResourceDescriptionItem deserializeResourceDescriptionItem() {
         ResourceDescriptionItemSerializer d = 
-                new ResourceDescriptionItemSerializer();
+                ResourceDescriptionItemSerializer.INSTANCE;
         
         return d.deserialize(buffer, getOffsetFromID(RESOURCEDESCRIPTIONITEM));
     }
@@ -1256,7 +1351,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     public RMObjectSerializationClient serializeTranslationDetails(
             TranslationDetails t)  {
         TranslationDetailsSerializer s = 
-                new TranslationDetailsSerializer();
+                TranslationDetailsSerializer.INSTANCE;
         register(TRANSLATIONDETAILS, offset);
         setOffset(s.serialize(buffer, offset, t));
         
@@ -1271,7 +1366,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public TranslationDetails deserializeTranslationDetails() {
         TranslationDetailsSerializer d = 
-                new TranslationDetailsSerializer();
+                TranslationDetailsSerializer.INSTANCE;
         
         return d.deserialize(buffer, getOffsetFromID(TRANSLATIONDETAILS));
     }
@@ -1286,7 +1381,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeItem(
             Item i)  {
-        ItemSerializer s = new ItemSerializer();
+        ItemSerializer s = ItemSerializer.INSTANCE;
         register(ITEM, offset);
         setOffset(s.serialize(buffer, offset, i));
         
@@ -1300,7 +1395,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Item deserializeItem() {
-        ItemSerializer d = new ItemSerializer();
+        ItemSerializer d = ItemSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ITEM));
     }
     
@@ -1314,7 +1409,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeCluster(
             Cluster c)  {
-        ClusterSerializer s = new ClusterSerializer();
+        ClusterSerializer s = ClusterSerializer.INSTANCE;
         register(CLUSTER, offset);
         setOffset(s.serialize(buffer, offset, c));
         
@@ -1328,7 +1423,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Cluster deserializeCluster() {
-        ClusterSerializer d = new ClusterSerializer();
+        ClusterSerializer d = ClusterSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(CLUSTER));
     }
     
@@ -1342,7 +1437,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeElement(
             Element e)  {
-        ElementSerializer s = new ElementSerializer();
+        ElementSerializer s = ElementSerializer.INSTANCE;
         register(ELEMENT, offset);
         setOffset(s.serialize(buffer, offset, e));
         
@@ -1356,7 +1451,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Element deserializeElement() {
-        ElementSerializer d = new ElementSerializer();
+        ElementSerializer d = ElementSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ELEMENT));
     }
     
@@ -1370,7 +1465,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDataStructure(
             DataStructure d)  {
-        DataStructureSerializer s = new DataStructureSerializer();
+        DataStructureSerializer s = DataStructureSerializer.INSTANCE;
         register(DATASTRUCTURE, offset);
         setOffset(s.serialize(buffer, offset, d));
         
@@ -1384,7 +1479,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DataStructure deserializeDataStructure() {
-        DataStructureSerializer d = new DataStructureSerializer();
+        DataStructureSerializer d = DataStructureSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DATASTRUCTURE));
     }
     
@@ -1398,7 +1493,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeItemList(
             ItemList il)  {
-        ItemListSerializer s = new ItemListSerializer();
+        ItemListSerializer s = ItemListSerializer.INSTANCE;
         register(ITEMLIST, offset);
         setOffset(s.serialize(buffer, offset, il));
         
@@ -1412,7 +1507,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ItemList deserializeItemList() {
-        ItemListSerializer d = new ItemListSerializer();
+        ItemListSerializer d = ItemListSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ITEMLIST));
     }
     
@@ -1426,7 +1521,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeItemStructure(
             ItemStructure i)  {
-        ItemStructureSerializer s = new ItemStructureSerializer();
+        ItemStructureSerializer s = ItemStructureSerializer.INSTANCE;
         register(ITEMSTRUCTURE, offset);
         setOffset(s.serialize(buffer, offset, i));
         
@@ -1440,7 +1535,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ItemStructure deserializeItemStructure() {
-        ItemStructureSerializer d = new ItemStructureSerializer();
+        ItemStructureSerializer d = ItemStructureSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ITEMSTRUCTURE));
     }
     
@@ -1455,7 +1550,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeItemSingle(
             ItemSingle i)  {
-        ItemSingleSerializer s = new ItemSingleSerializer();
+        ItemSingleSerializer s = ItemSingleSerializer.INSTANCE;
         register(ITEMSINGLE, offset);
         setOffset(s.serialize(buffer, offset, i));
         
@@ -1469,7 +1564,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ItemSingle deserializeItemSingle() {
-        ItemSingleSerializer d = new ItemSingleSerializer();
+        ItemSingleSerializer d = ItemSingleSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ITEMSINGLE));
     }
     
@@ -1483,7 +1578,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeItemTable(
             ItemTable i)  {
-        ItemTableSerializer s = new ItemTableSerializer();
+        ItemTableSerializer s = ItemTableSerializer.INSTANCE;
         register(ITEMTABLE, offset);
         setOffset(s.serialize(buffer, offset, i));
         
@@ -1497,7 +1592,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ItemTable deserializeItemTable() {
-        ItemTableSerializer d = new ItemTableSerializer();
+        ItemTableSerializer d = ItemTableSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ITEMTABLE));
     }
     
@@ -1511,9 +1606,9 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeItemTree(
             ItemTree i)  {
-        ItemTreeSerializer s = new ItemTreeSerializer();
+        ItemTreeSerializer s = ItemTreeSerializer.INSTANCE;
         register(ITEMTREE, offset);
-        s.serialize(buffer, offset, i);
+        setOffset(s.serialize(buffer, offset, i));
         
         return this;
     }
@@ -1525,7 +1620,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ItemTree deserializeItemTree() {
-        ItemTreeSerializer d = new ItemTreeSerializer();
+        ItemTreeSerializer d = ItemTreeSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ITEMTREE));
     }
     
@@ -1539,7 +1634,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializePartyIdentity(
             PartyIdentity p)  {
-        PartyIdentitySerializer s = new PartyIdentitySerializer();
+        PartyIdentitySerializer s = PartyIdentitySerializer.INSTANCE;
         register(PARTYIDENTITY, offset);
         setOffset(s.serialize(buffer, offset, p));
         
@@ -1553,7 +1648,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public PartyIdentity deserializePartyIdentity() {
-        PartyIdentitySerializer d = new PartyIdentitySerializer();
+        PartyIdentitySerializer d = PartyIdentitySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(PARTYIDENTITY));
     }
     
@@ -1567,7 +1662,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializePartyRelationship(
             PartyRelationship p)  {
-        PartyRelationshipSerializer s = new PartyRelationshipSerializer();
+        PartyRelationshipSerializer s = PartyRelationshipSerializer.INSTANCE;
         register(PARTYRELATIONSHIP, offset);
         setOffset(s.serialize(buffer, offset, p));
         
@@ -1581,7 +1676,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public PartyRelationship deserializePartyRelationship() {
-        PartyRelationshipSerializer d = new PartyRelationshipSerializer();
+        PartyRelationshipSerializer d = PartyRelationshipSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(PARTYRELATIONSHIP));
     }
     
@@ -1595,7 +1690,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeAddress(
             Address a)  {
-        AddressSerializer s = new AddressSerializer();
+        AddressSerializer s = AddressSerializer.INSTANCE;
         register(ADDRESS, offset);
         setOffset(s.serialize(buffer, offset, a));
         
@@ -1609,7 +1704,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Address deserializeAddress() {
-        AddressSerializer d = new AddressSerializer();
+        AddressSerializer d = AddressSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ADDRESS));
     }
     
@@ -1623,7 +1718,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeContact(
             Contact c)  {
-        ContactSerializer s = new ContactSerializer();
+        ContactSerializer s = ContactSerializer.INSTANCE;
         register(CONTACT, offset);
         setOffset(s.serialize(buffer, offset, c));
         
@@ -1637,7 +1732,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Contact deserializeContact() {
-        ContactSerializer d = new ContactSerializer();
+        ContactSerializer d = ContactSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(CONTACT));
     }
     
@@ -1651,7 +1746,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeParty(
             Party p)  {
-        PartySerializer s = new PartySerializer();
+        PartySerializer s = PartySerializer.INSTANCE;
         register(PARTY, offset);
         setOffset(s.serialize(buffer, offset, p));
         
@@ -1665,7 +1760,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Party deserializeParty() {
-        PartySerializer d = new PartySerializer();
+        PartySerializer d = PartySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(PARTY));
     }
     
@@ -1679,7 +1774,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeCapability(
             Capability c)  {
-        CapabilitySerializer s = new CapabilitySerializer();
+        CapabilitySerializer s = CapabilitySerializer.INSTANCE;
         register(CAPABILITY, offset);
         setOffset(s.serialize(buffer, offset, c));
         
@@ -1693,7 +1788,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Capability deserializeCapability() {
-        CapabilitySerializer d = new CapabilitySerializer();
+        CapabilitySerializer d = CapabilitySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(CAPABILITY));
     }
     
@@ -1707,7 +1802,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeRole(
             Role r)  {
-        RoleSerializer s = new RoleSerializer();
+        RoleSerializer s = RoleSerializer.INSTANCE;
         register(ROLE, offset);
         setOffset(s.serialize(buffer, offset, r));
         
@@ -1721,7 +1816,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Role deserializeRole() {
-        RoleSerializer d = new RoleSerializer();
+        RoleSerializer d = RoleSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ROLE));
     }
     
@@ -1735,7 +1830,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeActor(
             Actor a)  {
-        ActorSerializer s = new ActorSerializer();
+        ActorSerializer s = ActorSerializer.INSTANCE;
         register(ACTOR, offset);
         setOffset(s.serialize(buffer, offset, a));
         
@@ -1749,7 +1844,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Actor deserializeActor() {
-        ActorSerializer d = new ActorSerializer();
+        ActorSerializer d = ActorSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ACTOR));
     }
     
@@ -1763,7 +1858,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeAgent(
             Agent a)  {
-        AgentSerializer s = new AgentSerializer();
+        AgentSerializer s = AgentSerializer.INSTANCE;
         register(AGENT, offset);
         setOffset(s.serialize(buffer, offset, a));
         
@@ -1777,7 +1872,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Agent deserializeAgent() {
-        AgentSerializer d = new AgentSerializer();
+        AgentSerializer d = AgentSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(AGENT));
     }
     
@@ -1790,7 +1885,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeGroup(
             Group g)  {
-        GroupSerializer s = new GroupSerializer();
+        GroupSerializer s = GroupSerializer.INSTANCE;
         register(GROUP, offset);
         setOffset(s.serialize(buffer, offset, g));
         
@@ -1804,7 +1899,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Group deserializeGroup() {
-        GroupSerializer d = new GroupSerializer();
+        GroupSerializer d = GroupSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(GROUP));
     }
     
@@ -1818,7 +1913,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeOrganisation(
             Organisation o)  {
-        OrganisationSerializer s = new OrganisationSerializer();
+        OrganisationSerializer s = OrganisationSerializer.INSTANCE;
         register(ORGANISATION, offset);
         setOffset(s.serialize(buffer, offset, o));
         
@@ -1832,7 +1927,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Organisation deserializeOrganisation() {
-        OrganisationSerializer d = new OrganisationSerializer();
+        OrganisationSerializer d = OrganisationSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ORGANISATION));
     }
     
@@ -1846,7 +1941,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializePerson(
             Person p)  {
-        PersonSerializer s = new PersonSerializer();
+        PersonSerializer s = PersonSerializer.INSTANCE;
         register(PERSON, offset);
         setOffset(s.serialize(buffer, offset, p));
         
@@ -1860,7 +1955,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Person deserializePerson() {
-        PersonSerializer d = new PersonSerializer();
+        PersonSerializer d = PersonSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(PERSON));
     }
     
@@ -1874,7 +1969,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeinstructionDetails(
             InstructionDetails id)  {
-        InstructionDetailsSerializer s = new InstructionDetailsSerializer();
+        InstructionDetailsSerializer s = InstructionDetailsSerializer.INSTANCE;
         register(INSTRUCTIONDETAILS, offset);
         setOffset(s.serialize(buffer, offset, id));
         
@@ -1888,7 +1983,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public InstructionDetails deserializeInstructionDetails() {
-        InstructionDetailsSerializer d = new InstructionDetailsSerializer();
+        InstructionDetailsSerializer d = InstructionDetailsSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(INSTRUCTIONDETAILS));
     }
     
@@ -1902,7 +1997,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeISMTransition(
             ISMTransition ism)  {
-        ISMTransitionSerializer s = new ISMTransitionSerializer();
+        ISMTransitionSerializer s = ISMTransitionSerializer.INSTANCE;
         register(ISMTRANSITION, offset);
         setOffset(s.serialize(buffer, offset, ism));
         
@@ -1916,7 +2011,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ISMTransition deserializeISMTransition() {
-        ISMTransitionSerializer d = new ISMTransitionSerializer();
+        ISMTransitionSerializer d = ISMTransitionSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ISMTRANSITION));
     }
     
@@ -1930,7 +2025,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeActivity(
             Activity a)  {
-        ActivitySerializer s = new ActivitySerializer();
+        ActivitySerializer s = ActivitySerializer.INSTANCE;
         register(ACTIVITY, offset);
         setOffset(s.serialize(buffer, offset, a));
         
@@ -1944,7 +2039,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Activity deserializeActivity() {
-        ActivitySerializer d = new ActivitySerializer();
+        ActivitySerializer d = ActivitySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ACTIVITY));
     }
 
@@ -1956,7 +2051,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvOrdered(DvOrdered d) {
-        DvOrderedSerializer s = new DvOrderedSerializer();
+        DvOrderedSerializer s = DvOrderedSerializer.INSTANCE;
         register(DVORDERED, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -1970,7 +2065,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvOrdered deserializeDvOrdered() {
-        DvOrderedSerializer d = new DvOrderedSerializer();
+        DvOrderedSerializer d = DvOrderedSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVORDERED));
     }
 
@@ -1982,7 +2077,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvInterval(DvInterval d) {
-        DvIntervalSerializer s = new DvIntervalSerializer();
+        DvIntervalSerializer s = DvIntervalSerializer.INSTANCE;
         register(DVINTERVAL, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -1996,7 +2091,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvInterval deserializeDvInterval() {
-        DvIntervalSerializer d = new DvIntervalSerializer();
+        DvIntervalSerializer d = DvIntervalSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVINTERVAL));
     }
 
@@ -2008,7 +2103,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvQuantified(DvQuantified d) {
-        DvQuantifiedSerializer s = new DvQuantifiedSerializer();
+        DvQuantifiedSerializer s = DvQuantifiedSerializer.INSTANCE;
         register(DVQUANTIFIED, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2022,7 +2117,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvQuantified deserializeDvQuantified() {
-        DvQuantifiedSerializer d = new DvQuantifiedSerializer();
+        DvQuantifiedSerializer d = DvQuantifiedSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVQUANTIFIED));
     }
 
@@ -2034,7 +2129,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvAmount(DvAmount d) {
-        DvAmountSerializer s = new DvAmountSerializer();
+        DvAmountSerializer s = DvAmountSerializer.INSTANCE;
         register(DVAMOUNT, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2048,7 +2143,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvAmount deserializeDvAmount() {
-        DvAmountSerializer d = new DvAmountSerializer();
+        DvAmountSerializer d = DvAmountSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVAMOUNT));
     }
 
@@ -2060,7 +2155,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvOrdinal(DvOrdinal d) {
-        DvOrdinalSerializer s = new DvOrdinalSerializer();
+        DvOrdinalSerializer s = DvOrdinalSerializer.INSTANCE;
         register(DVORDINAL, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2074,7 +2169,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvOrdinal deserializeDvOrdinal() {
-        DvOrdinalSerializer d = new DvOrdinalSerializer();
+        DvOrdinalSerializer d = DvOrdinalSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVORDINAL));
     }
 
@@ -2086,7 +2181,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvCount(DvCount d) {
-        DvCountSerializer s = new DvCountSerializer();
+        DvCountSerializer s = DvCountSerializer.INSTANCE;
         register(DVCOUNT, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2100,7 +2195,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvCount deserializeDvCount() {
-        DvCountSerializer d = new DvCountSerializer();
+        DvCountSerializer d = DvCountSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVCOUNT));
     }
 
@@ -2112,7 +2207,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvProportion(DvProportion d) {
-        DvProportionSerializer s = new DvProportionSerializer();
+        DvProportionSerializer s = DvProportionSerializer.INSTANCE;
         register(DVPROPORTION, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2126,7 +2221,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvProportion deserializeDvProportion() {
-        DvProportionSerializer d = new DvProportionSerializer();
+        DvProportionSerializer d = DvProportionSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVPROPORTION));
     }
 
@@ -2138,7 +2233,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvQuantity(DvQuantity d) {
-        DvQuantitySerializer s = new DvQuantitySerializer();
+        DvQuantitySerializer s = DvQuantitySerializer.INSTANCE;
         register(DVQUANTITY, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2152,7 +2247,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvQuantity deserializeDvQuantity() {
-        DvQuantitySerializer d = new DvQuantitySerializer();
+        DvQuantitySerializer d = DvQuantitySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVQUANTITY));
     }
 
@@ -2164,7 +2259,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvDuration(DvDuration d) {
-        DvDurationSerializer s = new DvDurationSerializer();
+        DvDurationSerializer s = DvDurationSerializer.INSTANCE;
         register(DVDURATION, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2178,7 +2273,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvDuration deserializeDvDuration() {
-        DvDurationSerializer d = new DvDurationSerializer();
+        DvDurationSerializer d = DvDurationSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVDURATION));
     }
 
@@ -2191,7 +2286,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvAbsoluteQuantity(
             DvAbsoluteQuantityWithDvCount d) {
-        DvAbsoluteQuantitySerializer s = new DvAbsoluteQuantitySerializer();
+        DvAbsoluteQuantitySerializer s = DvAbsoluteQuantitySerializer.INSTANCE;
         register(DVABSOLUTEQUANTITY, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2205,7 +2300,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvAbsoluteQuantityWithDvCount deserializeDvAbsoluteQuantityDvCount() {
-        DvAbsoluteQuantitySerializer d = new DvAbsoluteQuantitySerializer();
+        DvAbsoluteQuantitySerializer d = DvAbsoluteQuantitySerializer.INSTANCE;
         return d.deserializeDvCount(buffer, getOffsetFromID(DVABSOLUTEQUANTITY));
     }
 
@@ -2218,7 +2313,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvAbsoluteQuantity(
             DvAbsoluteQuantityWithDvDuration d) {
-        DvAbsoluteQuantitySerializer s = new DvAbsoluteQuantitySerializer();
+        DvAbsoluteQuantitySerializer s = DvAbsoluteQuantitySerializer.INSTANCE;
         register(DVABSOLUTEQUANTITY, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2232,7 +2327,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvAbsoluteQuantityWithDvDuration deserializeDvAbsoluteQuantityDvDuration() {
-        DvAbsoluteQuantitySerializer d = new DvAbsoluteQuantitySerializer();
+        DvAbsoluteQuantitySerializer d = DvAbsoluteQuantitySerializer.INSTANCE;
         return d.deserializeDvDuration(buffer, getOffsetFromID(DVABSOLUTEQUANTITY));
     }
 
@@ -2245,7 +2340,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvAbsoluteQuantity(
             DvAbsoluteQuantityWithDvProportion d) {
-        DvAbsoluteQuantitySerializer s = new DvAbsoluteQuantitySerializer();
+        DvAbsoluteQuantitySerializer s = DvAbsoluteQuantitySerializer.INSTANCE;
         register(DVABSOLUTEQUANTITY, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2259,7 +2354,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvAbsoluteQuantityWithDvProportion deserializeDvAbsoluteQuantityDvProportion() {
-        DvAbsoluteQuantitySerializer d = new DvAbsoluteQuantitySerializer();
+        DvAbsoluteQuantitySerializer d = DvAbsoluteQuantitySerializer.INSTANCE;
         return d.deserializeDvProportion(buffer, getOffsetFromID(DVABSOLUTEQUANTITY));
     }
 
@@ -2272,7 +2367,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeDvAbsoluteQuantity(
             DvAbsoluteQuantityWithDvQuantity d) {
-        DvAbsoluteQuantitySerializer s = new DvAbsoluteQuantitySerializer();
+        DvAbsoluteQuantitySerializer s = DvAbsoluteQuantitySerializer.INSTANCE;
         register(DVABSOLUTEQUANTITY, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2286,7 +2381,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvAbsoluteQuantityWithDvQuantity deserializeDvAbsoluteQuantityDvQuantity() {
-        DvAbsoluteQuantitySerializer d = new DvAbsoluteQuantitySerializer();
+        DvAbsoluteQuantitySerializer d = DvAbsoluteQuantitySerializer.INSTANCE;
         return d.deserializeDvQuantity(buffer, getOffsetFromID(DVABSOLUTEQUANTITY));
     }
 
@@ -2298,7 +2393,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvDate(DvDate d) {
-        DvDateSerializer s = new DvDateSerializer();
+        DvDateSerializer s = DvDateSerializer.INSTANCE;
         register(DVDATE, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2312,7 +2407,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvDate deserializeDvDate() {
-        DvDateSerializer d = new DvDateSerializer();
+        DvDateSerializer d = DvDateSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVDATE));
     }
 
@@ -2324,7 +2419,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvTime(DvTime d) {
-        DvTimeSerializer s = new DvTimeSerializer();
+        DvTimeSerializer s = DvTimeSerializer.INSTANCE;
         register(DVTIME, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2338,7 +2433,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvTime deserializeDvTime() {
-        DvTimeSerializer d = new DvTimeSerializer();
+        DvTimeSerializer d = DvTimeSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVTIME));
     }
 
@@ -2350,7 +2445,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvDateTime(DvDateTime d) {
-        DvDateTimeSerializer s = new DvDateTimeSerializer();
+        DvDateTimeSerializer s = DvDateTimeSerializer.INSTANCE;
         register(DVDATETIME, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2364,7 +2459,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvDateTime deserializeDvDateTime() {
-        DvDateTimeSerializer d = new DvDateTimeSerializer();
+        DvDateTimeSerializer d = DvDateTimeSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVDATETIME));
     }
 
@@ -2376,7 +2471,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeDvTemporal(DvTemporal d) {
-        DvTemporalSerializer s = new DvTemporalSerializer();
+        DvTemporalSerializer s = DvTemporalSerializer.INSTANCE;
         register(DVTEMPORAL, offset);
         setOffset(s.serialize(buffer, offset, d));
 
@@ -2390,7 +2485,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public DvTemporal deserializeDvTemporal() {
-        DvTemporalSerializer d = new DvTemporalSerializer();
+        DvTemporalSerializer d = DvTemporalSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(DVTEMPORAL));
     }
 
@@ -2402,7 +2497,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeParticipation(Participation p) {
-        ParticipationSerializer s = new ParticipationSerializer();
+        ParticipationSerializer s = ParticipationSerializer.INSTANCE;
         register(PARTICIPATION, offset);
         setOffset(s.serialize(buffer, offset, p));
 
@@ -2416,7 +2511,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Participation deserializeParticipation() {
-        ParticipationSerializer d = new ParticipationSerializer();
+        ParticipationSerializer d = ParticipationSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(PARTICIPATION));
     }
 
@@ -2428,7 +2523,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeAuditDetails(AuditDetails a) {
-        AuditDetailsSerializer s = new AuditDetailsSerializer();
+        AuditDetailsSerializer s = AuditDetailsSerializer.INSTANCE;
         register(AUDITDETAILS, offset);
         setOffset(s.serialize(buffer, offset, a));
 
@@ -2442,7 +2537,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public AuditDetails deserializeAuditDetails() {
-        AuditDetailsSerializer d = new AuditDetailsSerializer();
+        AuditDetailsSerializer d = AuditDetailsSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(AUDITDETAILS));
     }
 
@@ -2454,7 +2549,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeAttestation(Attestation a) {
-        AttestationSerializer s = new AttestationSerializer();
+        AttestationSerializer s = AttestationSerializer.INSTANCE;
         register(ATTESTATION, offset);
         setOffset(s.serialize(buffer, offset, a));
 
@@ -2468,7 +2563,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Attestation deserializeAttestation() {
-        AttestationSerializer d = new AttestationSerializer();
+        AttestationSerializer d = AttestationSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ATTESTATION));
     }
 
@@ -2481,7 +2576,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeRevisionHistoryItem(
             RevisionHistoryItem r) {
-        RevisionHistoryItemSerializer s = new RevisionHistoryItemSerializer();
+        RevisionHistoryItemSerializer s = RevisionHistoryItemSerializer.INSTANCE;
         register(REVISIONHISTORYITEM, offset);
         setOffset(s.serialize(buffer, offset, r));
 
@@ -2495,7 +2590,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RevisionHistoryItem deserializeRevisionHistoryItem() {
-        RevisionHistoryItemSerializer d = new RevisionHistoryItemSerializer();
+        RevisionHistoryItemSerializer d = RevisionHistoryItemSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(REVISIONHISTORYITEM));
     }
 
@@ -2508,7 +2603,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeRevisionHistory(
             RevisionHistory r) {
-        RevisionHistorySerializer s = new RevisionHistorySerializer();
+        RevisionHistorySerializer s = RevisionHistorySerializer.INSTANCE;
         register(REVISIONHISTORY, offset);
         setOffset(s.serialize(buffer, offset, r));
 
@@ -2522,7 +2617,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RevisionHistory deserializeRevisionHistory() {
-        RevisionHistorySerializer d = new RevisionHistorySerializer();
+        RevisionHistorySerializer d = RevisionHistorySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(REVISIONHISTORY));
     }
 
@@ -2534,7 +2629,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeContribution(Contribution c) {
-        ContributionSerializer s = new ContributionSerializer();
+        ContributionSerializer s = ContributionSerializer.INSTANCE;
         register(CONTRIBUTION, offset);
         setOffset(s.serialize(buffer, offset, c));
 
@@ -2548,7 +2643,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Contribution deserializeContribution() {
-        ContributionSerializer d = new ContributionSerializer();
+        ContributionSerializer d = ContributionSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(CONTRIBUTION));
     }
 
@@ -2560,7 +2655,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeFolder(Folder f) {
-        FolderSerializer s = new FolderSerializer();
+        FolderSerializer s = FolderSerializer.INSTANCE;
         register(FOLDER, offset);
         setOffset(s.serialize(buffer, offset, f));
 
@@ -2574,7 +2669,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Folder deserializeFolder() {
-        FolderSerializer d = new FolderSerializer();
+        FolderSerializer d = FolderSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(FOLDER));
     }
 
@@ -2587,7 +2682,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeAuthoredResource(
             AuthoredResource a) {
-        AuthoredResourceSerializer s = new AuthoredResourceSerializer();
+        AuthoredResourceSerializer s = AuthoredResourceSerializer.INSTANCE;
         register(AUTHOREDRESOURCE, offset);
         setOffset(s.serialize(buffer, offset, a));
 
@@ -2601,7 +2696,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public AuthoredResource deserializeAuthoredResource() {
-        AuthoredResourceSerializer d = new AuthoredResourceSerializer();
+        AuthoredResourceSerializer d = AuthoredResourceSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(AUTHOREDRESOURCE));
     }
 
@@ -2614,7 +2709,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeResourceDescription(
             ResourceDescription r) {
-        ResourceDescriptionSerializer s = new ResourceDescriptionSerializer();
+        ResourceDescriptionSerializer s = ResourceDescriptionSerializer.INSTANCE;
         register(RESOURCEDESCRIPTION, offset);
         setOffset(s.serialize(buffer, offset, r));
 
@@ -2628,7 +2723,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ResourceDescription deserializeResourceDescription() {
-        ResourceDescriptionSerializer d = new ResourceDescriptionSerializer();
+        ResourceDescriptionSerializer d = ResourceDescriptionSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(RESOURCEDESCRIPTION));
     }
 
@@ -2640,7 +2735,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeEvent(EventWithItemTree e) {
-        EventSerializer s = new EventSerializer();
+        EventSerializer s = EventSerializer.INSTANCE;
         register(EVENT, offset);
         setOffset(s.serialize(buffer, offset, e));
 
@@ -2654,7 +2749,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public EventWithItemTree deserializeEventWithItemTree() {
-        EventSerializer d = new EventSerializer();
+        EventSerializer d = EventSerializer.INSTANCE;
         return d.deserializeItemTree(buffer, getOffsetFromID(EVENT));
     }
 
@@ -2666,7 +2761,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeEvent(EventWithItemSingle e) {
-        EventSerializer s = new EventSerializer();
+        EventSerializer s = EventSerializer.INSTANCE;
         register(EVENT, offset);
         setOffset(s.serialize(buffer, offset, e));
 
@@ -2680,7 +2775,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public EventWithItemSingle deserializeEventWithItemSingle() {
-        EventSerializer d = new EventSerializer();
+        EventSerializer d = EventSerializer.INSTANCE;
         return d.deserializeItemSingle(buffer, getOffsetFromID(EVENT));
     }
 
@@ -2692,7 +2787,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeEvent(EventWithItemTable e) {
-        EventSerializer s = new EventSerializer();
+        EventSerializer s = EventSerializer.INSTANCE;
         register(EVENT, offset);
         setOffset(s.serialize(buffer, offset, e));
 
@@ -2706,7 +2801,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public EventWithItemTable deserializeEventWithItemTable() {
-        EventSerializer d = new EventSerializer();
+        EventSerializer d = EventSerializer.INSTANCE;
         return d.deserializeItemTable(buffer, getOffsetFromID(EVENT));
     }
 
@@ -2719,7 +2814,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeIntervalEvent(
             IntervalEventWithItemTree i) {
-        IntervalEventSerializer s = new IntervalEventSerializer();
+        IntervalEventSerializer s = IntervalEventSerializer.INSTANCE;
         register(INTERVALEVENT, offset);
         setOffset(s.serialize(buffer, offset, i));
 
@@ -2733,7 +2828,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public IntervalEventWithItemTree deserializeIntervalEventWithItemTree() {
-        IntervalEventSerializer d = new IntervalEventSerializer();
+        IntervalEventSerializer d = IntervalEventSerializer.INSTANCE;
         return d.deserializeItemTree(buffer, getOffsetFromID(INTERVALEVENT));
     }
 
@@ -2746,7 +2841,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeIntervalEvent(
             IntervalEventWithItemSingle i) {
-        IntervalEventSerializer s = new IntervalEventSerializer();
+        IntervalEventSerializer s = IntervalEventSerializer.INSTANCE;
         register(INTERVALEVENT, offset);
         setOffset(s.serialize(buffer, offset, i));
 
@@ -2760,7 +2855,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public IntervalEventWithItemSingle deserializeIntervalEventWithItemSingle() {
-        IntervalEventSerializer d = new IntervalEventSerializer();
+        IntervalEventSerializer d = IntervalEventSerializer.INSTANCE;
         return d.deserializeItemSingle(buffer, getOffsetFromID(INTERVALEVENT));
     }
 
@@ -2773,7 +2868,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeIntervalEvent(
             IntervalEventWithItemTable i) {
-        IntervalEventSerializer s = new IntervalEventSerializer();
+        IntervalEventSerializer s = IntervalEventSerializer.INSTANCE;
         register(INTERVALEVENT, offset);
         setOffset(s.serialize(buffer, offset, i));
 
@@ -2787,7 +2882,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public IntervalEventWithItemTable deserializeIntervalEventWithItemTable() {
-        IntervalEventSerializer d = new IntervalEventSerializer();
+        IntervalEventSerializer d = IntervalEventSerializer.INSTANCE;
         return d.deserializeItemTable(buffer, getOffsetFromID(INTERVALEVENT));
     }
 
@@ -2799,7 +2894,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeHistory(HistoryWithItemTree h) {
-        HistorySerializer s = new HistorySerializer();
+        HistorySerializer s = HistorySerializer.INSTANCE;
         register(HISTORY, offset);
         setOffset(s.serialize(buffer, offset, h));
 
@@ -2807,13 +2902,13 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     }
 
     public void testEventS(List<EventWithItemTree> l){
-        EventSerializer es = new EventSerializer();
+        EventSerializer es = EventSerializer.INSTANCE;
         register(EVENT, offset);
         setOffset(es.listSerializeItemTree(buffer, offset, l));
     }
 
     public List<EventWithItemTree> testEventD(){
-        EventSerializer es = new EventSerializer();
+        EventSerializer es = EventSerializer.INSTANCE;
         return es.deserializeListOfItemTree(buffer, getOffsetFromID(EVENT));
     }
 
@@ -2824,7 +2919,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public HistoryWithItemTree deserializeHistoryWithItemTree() {
-        HistorySerializer d = new HistorySerializer();
+        HistorySerializer d = HistorySerializer.INSTANCE;
         return d.deserializeItemTree(buffer, getOffsetFromID(HISTORY));
     }
 
@@ -2836,7 +2931,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeHistory(HistoryWithItemSingle h) {
-        HistorySerializer s = new HistorySerializer();
+        HistorySerializer s = HistorySerializer.INSTANCE;
         register(HISTORY, offset);
         setOffset(s.serialize(buffer, offset, h));
 
@@ -2850,7 +2945,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public HistoryWithItemSingle deserializeHistoryWithItemSingle() {
-        HistorySerializer d = new HistorySerializer();
+        HistorySerializer d = HistorySerializer.INSTANCE;
         return d.deserializeItemSingle(buffer, getOffsetFromID(HISTORY));
     }
 
@@ -2862,7 +2957,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeHistory(HistoryWithItemTable h) {
-        HistorySerializer s = new HistorySerializer();
+        HistorySerializer s = HistorySerializer.INSTANCE;
         register(HISTORY, offset);
         setOffset(s.serialize(buffer, offset, h));
 
@@ -2876,7 +2971,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public HistoryWithItemTable deserializeHistoryWithItemTable() {
-        HistorySerializer d = new HistorySerializer();
+        HistorySerializer d = HistorySerializer.INSTANCE;
         return d.deserializeItemTable(buffer, getOffsetFromID(HISTORY));
     }
 
@@ -2889,7 +2984,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializePointEvent(
             PointEventWithItemTree p) {
-        PointEventSerializer s = new PointEventSerializer();
+        PointEventSerializer s = PointEventSerializer.INSTANCE;
         register(POINTEVENT, offset);
         setOffset(s.serialize(buffer, offset, p));
 
@@ -2903,7 +2998,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public PointEventWithItemTree deserializePointEventWithItemTree() {
-        PointEventSerializer d = new PointEventSerializer();
+        PointEventSerializer d = PointEventSerializer.INSTANCE;
         return d.deserializeItemTree(buffer, getOffsetFromID(POINTEVENT));
     }
 
@@ -2916,7 +3011,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializePointEvent(
             PointEventWithItemSingle p) {
-        PointEventSerializer s = new PointEventSerializer();
+        PointEventSerializer s = PointEventSerializer.INSTANCE;
         register(POINTEVENT, offset);
         setOffset(s.serialize(buffer, offset, p));
 
@@ -2930,7 +3025,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public PointEventWithItemSingle deserializePointEventWithItemSingle() {
-        PointEventSerializer d = new PointEventSerializer();
+        PointEventSerializer d = PointEventSerializer.INSTANCE;
         return d.deserializeItemSingle(buffer, getOffsetFromID(POINTEVENT));
     }
 
@@ -2943,7 +3038,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializePointEvent(
             PointEventWithItemTable p) {
-        PointEventSerializer s = new PointEventSerializer();
+        PointEventSerializer s = PointEventSerializer.INSTANCE;
         register(POINTEVENT, offset);
         setOffset(s.serialize(buffer, offset, p));
 
@@ -2957,7 +3052,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public PointEventWithItemTable deserializePointEventWithItemTable() {
-        PointEventSerializer d = new PointEventSerializer();
+        PointEventSerializer d = PointEventSerializer.INSTANCE;
         return d.deserializeItemTable(buffer, getOffsetFromID(POINTEVENT));
     }
 
@@ -2969,7 +3064,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeContentItem(ContentItem c) {
-        ContentItemSerializer s = new ContentItemSerializer();
+        ContentItemSerializer s = ContentItemSerializer.INSTANCE;
         register(CONTENTITEM, offset);
         setOffset(s.serialize(buffer, offset, c));
 
@@ -2983,7 +3078,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ContentItem deserializeContentItem() {
-        ContentItemSerializer d = new ContentItemSerializer();
+        ContentItemSerializer d = ContentItemSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(CONTENTITEM));
     }
 
@@ -2995,7 +3090,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeEntry(Entry e) {
-        EntrySerializer s = new EntrySerializer();
+        EntrySerializer s = EntrySerializer.INSTANCE;
         register(ENTRY, offset);
         setOffset(s.serialize(buffer, offset, e));
 
@@ -3009,7 +3104,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Entry deserializeEntry() {
-        EntrySerializer d = new EntrySerializer();
+        EntrySerializer d = EntrySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ENTRY));
     }
 
@@ -3021,7 +3116,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeCareEntry(CareEntry e) {
-        CareEntrySerializer s = new CareEntrySerializer();
+        CareEntrySerializer s = CareEntrySerializer.INSTANCE;
         register(CAREENTRY, offset);
         setOffset(s.serialize(buffer, offset, e));
 
@@ -3035,7 +3130,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public CareEntry deserializeCareEntry() {
-        CareEntrySerializer d = new CareEntrySerializer();
+        CareEntrySerializer d = CareEntrySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(CAREENTRY));
     }
 
@@ -3047,7 +3142,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeAction(Action a) {
-        ActionSerializer s = new ActionSerializer();
+        ActionSerializer s = ActionSerializer.INSTANCE;
         register(ACTION, offset);
         setOffset(s.serialize(buffer, offset, a));
 
@@ -3061,7 +3156,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Action deserializeAction() {
-        ActionSerializer d = new ActionSerializer();
+        ActionSerializer d = ActionSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ACTION));
     }
 
@@ -3073,7 +3168,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeAdminEntry(AdminEntry a) {
-        AdminEntrySerializer s = new AdminEntrySerializer();
+        AdminEntrySerializer s = AdminEntrySerializer.INSTANCE;
         register(ADMINENTRY, offset);
         setOffset(s.serialize(buffer, offset, a));
 
@@ -3087,7 +3182,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public AdminEntry deserializeAdminEntry() {
-        AdminEntrySerializer d = new AdminEntrySerializer();
+        AdminEntrySerializer d = AdminEntrySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(ADMINENTRY));
     }
 
@@ -3099,7 +3194,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeEvaluation(Evaluation a) {
-        EvaluationSerializer s = new EvaluationSerializer();
+        EvaluationSerializer s = EvaluationSerializer.INSTANCE;
         register(EVALUATION, offset);
         setOffset(s.serialize(buffer, offset, a));
 
@@ -3113,7 +3208,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Evaluation deserializeEvaluation() {
-        EvaluationSerializer d = new EvaluationSerializer();
+        EvaluationSerializer d = EvaluationSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(EVALUATION));
     }
 
@@ -3125,7 +3220,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeInstruction(Instruction i) {
-        InstructionSerializer s = new InstructionSerializer();
+        InstructionSerializer s = InstructionSerializer.INSTANCE;
         register(INSTRUCTION, offset);
         setOffset(s.serialize(buffer, offset, i));
 
@@ -3139,7 +3234,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Instruction deserializeInstruction() {
-        InstructionSerializer d = new InstructionSerializer();
+        InstructionSerializer d = InstructionSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(INSTRUCTION));
     }
 
@@ -3153,7 +3248,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
     @Override
     public RMObjectSerializationClient serializeObservation(
             ObservationWithItemTreeItemTree o) {
-        ObservationSerializer s = new ObservationSerializer();
+        ObservationSerializer s = ObservationSerializer.INSTANCE;
         register(OBSERVATION, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -3166,7 +3261,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObservationWithItemTreeItemTree deserializeObservationWithItemTreeItemTree() {
-        ObservationSerializer d = new ObservationSerializer();
+        ObservationSerializer d = ObservationSerializer.INSTANCE;
         return d.deserializeItemTreeItemTree(buffer,
                 getOffsetFromID(OBSERVATION));
     }
@@ -3180,7 +3275,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeObservation(ObservationWithItemTreeItemSingle o) {
-        ObservationSerializer s = new ObservationSerializer();
+        ObservationSerializer s = ObservationSerializer.INSTANCE;
         register(OBSERVATION, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -3193,7 +3288,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObservationWithItemTreeItemSingle deserializeObservationWithItemTreeItemSingle() {
-        ObservationSerializer d = new ObservationSerializer();
+        ObservationSerializer d = ObservationSerializer.INSTANCE;
         return d.deserializeItemTreeItemSingle(buffer,
                 getOffsetFromID(OBSERVATION));
     }
@@ -3208,7 +3303,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeObservation(ObservationWithItemTreeItemTable o) {
-        ObservationSerializer s = new ObservationSerializer();
+        ObservationSerializer s = ObservationSerializer.INSTANCE;
         register(OBSERVATION, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -3221,7 +3316,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObservationWithItemTreeItemTable deserializeObservationWithItemTreeItemTable() {
-        ObservationSerializer d = new ObservationSerializer();
+        ObservationSerializer d = ObservationSerializer.INSTANCE;
         return d.deserializeItemTreeItemTable(buffer,
                 getOffsetFromID(OBSERVATION));
     }
@@ -3235,7 +3330,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeObservation(ObservationWithItemSingleItemTree o) {
-        ObservationSerializer s = new ObservationSerializer();
+        ObservationSerializer s = ObservationSerializer.INSTANCE;
         register(OBSERVATION, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -3250,7 +3345,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeObservation(ObservationWithItemSingleItemSingle o) {
-        ObservationSerializer s = new ObservationSerializer();
+        ObservationSerializer s = ObservationSerializer.INSTANCE;
         register(OBSERVATION, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -3265,7 +3360,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeObservation(ObservationWithItemSingleItemTable o) {
-        ObservationSerializer s = new ObservationSerializer();
+        ObservationSerializer s = ObservationSerializer.INSTANCE;
         register(OBSERVATION, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -3280,7 +3375,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeObservation(ObservationWithItemTableItemTree o) {
-        ObservationSerializer s = new ObservationSerializer();
+        ObservationSerializer s = ObservationSerializer.INSTANCE;
         register(OBSERVATION, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -3295,7 +3390,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeObservation(ObservationWithItemTableItemSingle o) {
-        ObservationSerializer s = new ObservationSerializer();
+        ObservationSerializer s = ObservationSerializer.INSTANCE;
         register(OBSERVATION, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -3310,7 +3405,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeObservation(ObservationWithItemTableItemTable o) {
-        ObservationSerializer s = new ObservationSerializer();
+        ObservationSerializer s = ObservationSerializer.INSTANCE;
         register(OBSERVATION, offset);
         setOffset(s.serialize(buffer, offset, o));
 
@@ -3323,7 +3418,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObservationWithItemSingleItemTree deserializeObservationWithItemSingleItemTree() {
-        ObservationSerializer d = new ObservationSerializer();
+        ObservationSerializer d = ObservationSerializer.INSTANCE;
         return d.deserializeItemSingleItemTree(buffer,
                 getOffsetFromID(OBSERVATION));
     }
@@ -3334,7 +3429,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObservationWithItemSingleItemSingle deserializeObservationWithItemSingleItemSingle() {
-        ObservationSerializer d = new ObservationSerializer();
+        ObservationSerializer d = ObservationSerializer.INSTANCE;
         return d.deserializeItemSingleItemSingle(buffer,
                 getOffsetFromID(OBSERVATION));
     }
@@ -3345,7 +3440,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObservationWithItemSingleItemTable deserializeObservationWithItemSingleItemTable() {
-        ObservationSerializer d = new ObservationSerializer();
+        ObservationSerializer d = ObservationSerializer.INSTANCE;
         return d.deserializeItemSingleItemTable(buffer,
                 getOffsetFromID(OBSERVATION));
     }
@@ -3356,7 +3451,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObservationWithItemTableItemTable deserializeObservationWithItemTableItemTable() {
-        ObservationSerializer d = new ObservationSerializer();
+        ObservationSerializer d = ObservationSerializer.INSTANCE;
         return d.deserializeItemTableItemTable(buffer,
                 getOffsetFromID(OBSERVATION));
     }
@@ -3367,7 +3462,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObservationWithItemTableItemTree deserializeObservationWithItemTableItemTree() {
-        ObservationSerializer d = new ObservationSerializer();
+        ObservationSerializer d = ObservationSerializer.INSTANCE;
         return d.deserializeItemTableItemTree(buffer,
                 getOffsetFromID(OBSERVATION));
     }
@@ -3378,7 +3473,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public ObservationWithItemTableItemSingle deserializeObservationWithItemTableItemSingle() {
-        ObservationSerializer d = new ObservationSerializer();
+        ObservationSerializer d = ObservationSerializer.INSTANCE;
         return d.deserializeItemTableItemSingle(buffer,
                 getOffsetFromID(OBSERVATION));
     }
@@ -3391,7 +3486,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeSection(Section s) {
-        SectionSerializer ss = new SectionSerializer();
+        SectionSerializer ss = SectionSerializer.INSTANCE;
         register(SECTION, offset);
         setOffset(ss.serialize(buffer, offset, s));
 
@@ -3405,7 +3500,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Section deserializeSection() {
-        SectionSerializer d = new SectionSerializer();
+        SectionSerializer d = SectionSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(SECTION));
     }
 
@@ -3417,7 +3512,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeEventContext(EventContext e) {
-        EventContextSerializer s = new EventContextSerializer();
+        EventContextSerializer s = EventContextSerializer.INSTANCE;
         register(EVENTCONTEXT, offset);
         setOffset(s.serialize(buffer, offset, e));
 
@@ -3430,7 +3525,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public EventContext deserializeEventContext() {
-        EventContextSerializer d = new EventContextSerializer();
+        EventContextSerializer d = EventContextSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(EVENTCONTEXT));
     }
 
@@ -3442,7 +3537,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeComposition(Composition c) {
-        CompositionSerializer s = new CompositionSerializer();
+        CompositionSerializer s = CompositionSerializer.INSTANCE;
         register(COMPOSITION, offset);
         setOffset(s.serialize(buffer, offset, c));
 
@@ -3456,7 +3551,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Composition deserializeComposition() {
-        CompositionSerializer d = new CompositionSerializer();
+        CompositionSerializer d = CompositionSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(COMPOSITION));
     }
 
@@ -3468,7 +3563,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeEHR(RMObject.EHR e) {
-        EHRSerializer s = new EHRSerializer();
+        EHRSerializer s = EHRSerializer.INSTANCE;
         register(EHR, offset);
         setOffset(s.serialize(buffer, offset, e));
 
@@ -3482,7 +3577,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public EHR deserializeEHR() {
-        EHRSerializer d = new EHRSerializer();
+        EHRSerializer d = EHRSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(EHR));
     }
 
@@ -3494,7 +3589,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeEHRStatus(EHRStatus e) {
-        EHRStatusSerializer s = new EHRStatusSerializer();
+        EHRStatusSerializer s = EHRStatusSerializer.INSTANCE;
         register(EHRSTATUS, offset);
         setOffset(s.serialize(buffer, offset, e));
 
@@ -3508,7 +3603,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public EHRStatus deserializeEHRStatus() {
-        EHRStatusSerializer d = new EHRStatusSerializer();
+        EHRStatusSerializer d = EHRStatusSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(EHRSTATUS));
     }
 
@@ -3520,7 +3615,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeEHRAccess(EHRAccess e) {
-        EHRAccessSerializer s = new EHRAccessSerializer();
+        EHRAccessSerializer s = EHRAccessSerializer.INSTANCE;
         register(EHRACCESS, offset);
         setOffset(s.serialize(buffer, offset, e));
 
@@ -3534,7 +3629,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public EHRAccess deserializeEHRAccess() {
-        EHRAccessSerializer d = new EHRAccessSerializer();
+        EHRAccessSerializer d = EHRAccessSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(EHRACCESS));
     }
 
@@ -3546,7 +3641,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeXTerminology(XTerminology t) {
-        XTerminologySerializer s = new XTerminologySerializer();
+        XTerminologySerializer s = XTerminologySerializer.INSTANCE;
         register(XTERMINOLOGY, offset);
         setOffset(s.serialize(buffer, offset, t));
 
@@ -3560,7 +3655,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public XTerminology deserializeXTerminology() {
-        XTerminologySerializer d = new XTerminologySerializer();
+        XTerminologySerializer d = XTerminologySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(XTERMINOLOGY));
     }
 
@@ -3572,7 +3667,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeXComposition(XComposition c) {
-        XCompositionSerializer s = new XCompositionSerializer();
+        XCompositionSerializer s = XCompositionSerializer.INSTANCE;
         register(XCOMPOSITION, offset);
         setOffset(s.serialize(buffer, offset, c));
 
@@ -3586,7 +3681,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public XComposition deserializeXComposition() {
-        XCompositionSerializer d = new XCompositionSerializer();
+        XCompositionSerializer d = XCompositionSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(XCOMPOSITION));
     }
 
@@ -3598,7 +3693,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeXDemographics(XDemographics c) {
-        XDemographicsSerializer s = new XDemographicsSerializer();
+        XDemographicsSerializer s = XDemographicsSerializer.INSTANCE;
         register(XDEMOGRAPHICS, offset);
         setOffset(s.serialize(buffer, offset, c));
 
@@ -3612,7 +3707,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public XDemographics deserializeXDemographics() {
-        XDemographicsSerializer d = new XDemographicsSerializer();
+        XDemographicsSerializer d = XDemographicsSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(XDEMOGRAPHICS));
     }
 
@@ -3624,7 +3719,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeXFolder(XFolder f) {
-        XFolderSerializer s = new XFolderSerializer();
+        XFolderSerializer s = XFolderSerializer.INSTANCE;
         register(XFOLDER, offset);
         setOffset(s.serialize(buffer, offset, f));
 
@@ -3638,7 +3733,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public XFolder deserializeXFolder() {
-        XFolderSerializer d = new XFolderSerializer();
+        XFolderSerializer d = XFolderSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(XFOLDER));
     }
 
@@ -3650,7 +3745,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeXAccessControl(XAccessControl a) {
-        XAccessControlSerializer s = new XAccessControlSerializer();
+        XAccessControlSerializer s = XAccessControlSerializer.INSTANCE;
         register(XACCESSCONTROL, offset);
         setOffset(s.serialize(buffer, offset, a));
 
@@ -3664,7 +3759,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public XAccessControl deserializeXAccessControl() {
-        XAccessControlSerializer d = new XAccessControlSerializer();
+        XAccessControlSerializer d = XAccessControlSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(XACCESSCONTROL));
     }
 
@@ -3676,7 +3771,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeEHRExtract(EHRExtract e) {
-        EHRExtractSerializer s = new EHRExtractSerializer();
+        EHRExtractSerializer s = EHRExtractSerializer.INSTANCE;
         register(EHREXTRACT, offset);
         setOffset(s.serialize(buffer, offset, e));
 
@@ -3690,7 +3785,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public EHRExtract deserializeEHRExtract() {
-        EHRExtractSerializer d = new EHRExtractSerializer();
+        EHRExtractSerializer d = EHRExtractSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(EHREXTRACT));
     }
 
@@ -3702,7 +3797,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeGenericEntry(GenericEntry g) {
-        GenericEntrySerializer s = new GenericEntrySerializer();
+        GenericEntrySerializer s = GenericEntrySerializer.INSTANCE;
         register(GENERICENTRY, offset);
         setOffset(s.serialize(buffer, offset, g));
 
@@ -3716,7 +3811,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public GenericEntry deserializeGenericEntry() {
-        GenericEntrySerializer d = new GenericEntrySerializer();
+        GenericEntrySerializer d = GenericEntrySerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(GENERICENTRY));
     }
 
@@ -3728,7 +3823,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeMessageContent(MessageContent m) {
-        MessageContentSerializer s = new MessageContentSerializer();
+        MessageContentSerializer s = MessageContentSerializer.INSTANCE;
         register(MESSAGECONTENT, offset);
         setOffset(s.serialize(buffer, offset, m));
 
@@ -3742,7 +3837,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public MessageContent deserializeMessageContent() {
-        MessageContentSerializer d = new MessageContentSerializer();
+        MessageContentSerializer d = MessageContentSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(MESSAGECONTENT));
     }
 
@@ -3754,7 +3849,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public RMObjectSerializationClient serializeMessage(Message m) {
-        MessageSerializer s = new MessageSerializer();
+        MessageSerializer s = MessageSerializer.INSTANCE;
         register(MESSAGE, offset);
         setOffset(s.serialize(buffer, offset, m));
 
@@ -3768,7 +3863,7 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      */
     @Override
     public Message deserializeMessage() {
-        MessageSerializer d = new MessageSerializer();
+        MessageSerializer d = MessageSerializer.INSTANCE;
         return d.deserialize(buffer, getOffsetFromID(MESSAGE));
     }
 
@@ -3779,28 +3874,182 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
      * @param offset
      */
     private void register(RMObjectID id, int offset) {
-        String key = Index.createKey(
-                id.name(), order[id.getValue()]
-        );
-        //order[id.getValue()]++;
-        index.setItemPosition(key, offset);
+        index.add(id, offset);
     }
 
     /**
-     * Método para obter a posição de um determinado objeto no índice
+     * Método para obter a posição de um determinado objeto no índice. Por
+     * padrão é a posição da última instância serializada, exceto quando
+     * outra foi indicada por {@link #select(int)}, o que vale apenas para
+     * esta consulta.
      *
      * @param id
      * @return offset do item
      */
     private int getOffsetFromID(RMObjectID id) {
-        return index.getItemPosition(
-                Index.createKey(
-                        id.name(),
-                        order[id.getValue()]
-                )
-        );
+        int instance = selected < 0 ? index.count(id) - 1 : selected;
+        selected = -1;
+        return offsetOf(id, instance);
+    }
+
+    /**
+     * Posição do último segmento de vários objetos serializado ou daquele
+     * indicado por {@link #select(int)}, o que vale apenas para esta
+     * consulta.
+     */
+    private int getBatchOffset() {
+        int instance = selected < 0 ? index.batches() - 1 : selected;
+        selected = -1;
+        return index.batch(instance);
+    }
+
+    /**
+     * Quantidade de segmentos serializados por
+     * {@link #serializeAll(Class, Collection)}.
+     *
+     * @return Quantidade de segmentos.
+     */
+    public int batches() {
+        return index.batches();
+    }
+
+    /**
+     * Quantidade de instâncias serializadas com o identificador indicado.
+     * Variantes de um mesmo tipo (por exemplo, as de Observation)
+     * compartilham o identificador e, portanto, a contagem.
+     *
+     * @param id Identificador do tipo.
+     * @return Quantidade de instâncias serializadas do tipo.
+     */
+    public int instances(RMObjectID id) {
+        return index.count(id);
+    }
+
+    /**
+     * Obtém a posição, no buffer, da instância indicada de um tipo. As
+     * instâncias são numeradas, a partir de 0, na ordem em que foram
+     * serializadas.
+     *
+     * @param id Identificador do tipo.
+     * @param instance Ordem da instância, de 0 a
+     *                 {@code instances(id) - 1}.
+     * @return Posição inicial da instância no buffer.
+     * @throws IndexOutOfBoundsException se não existe a instância.
+     */
+    public int offsetOf(RMObjectID id, int instance) {
+        return index.position(id, instance);
+    }
+
+    /**
+     * Indica a instância a ser obtida pela próxima deserialização, em vez
+     * da última serializada. Exemplo: {@code client.select(0)
+     * .deserializeDvBoolean()} recupera o primeiro DvBoolean serializado.
+     * Para percorrer todas as instâncias de um tipo basta variar a ordem
+     * de 0 a {@code instances(id) - 1}.
+     *
+     * @param instance Ordem da instância, a partir de 0.
+     * @return Instância de RMObjectSerializationClient para chaining.
+     * @see #instances(RMObjectID)
+     */
+    public RMObjectSerializationClient select(int instance) {
+        if (instance < 0) {
+            throw new IndexOutOfBoundsException("instância " + instance);
+        }
+
+        selected = instance;
+        return this;
     }
     
+    /**
+     * Serializa os valores em um único segmento (ver {@link RMObjectBatch}),
+     * registrado à parte das instâncias de cada tipo (ver
+     * {@link #batches()}). Em comparação com a serialização individual de
+     * cada valor, apenas um registro é acrescentado ao índice.
+     *
+     * @param type   Tipo dos valores, empregado para localizar o codec
+     *               ({@link RMObjectCodecs#of(Class)}).
+     * @param values Valores a serem serializados.
+     * @param <T>    Tipo dos valores.
+     * @return Este cliente.
+     */
+    public <T> RMObjectSerializationClient serializeAll(Class<T> type,
+            Collection<? extends T> values) {
+        RMObjectCodec<T> codec = RMObjectCodecs.of(type);
+        index.addBatch(offset);
+        setOffset(RMObjectBatch.serialize(buffer, offset, codec, values));
+
+        return this;
+    }
+
+    /**
+     * Deserializa todos os valores do segmento produzido por
+     * {@link #serializeAll(Class, Collection)}. Assim como as demais
+     * deserializações, considera o último segmento serializado ou aquele
+     * indicado por {@link #select(int)}.
+     *
+     * @param type Tipo dos valores.
+     * @param <T>  Tipo dos valores.
+     * @return Valores deserializados, na ordem em que foram serializados.
+     * @throws IllegalArgumentException se o segmento não contém valores do
+     *                                  tipo indicado.
+     */
+    public <T> List<T> deserializeAll(Class<T> type) {
+        return RMObjectBatch.deserialize(buffer, getBatchOffset(),
+                RMObjectCodecs.of(type));
+    }
+
+    /**
+     * Percorre os valores do segmento produzido por
+     * {@link #serializeAll(Class, Collection)}, deserializando cada um deles
+     * apenas quando alcançado. Assim como as demais deserializações,
+     * considera o último segmento serializado ou aquele indicado por
+     * {@link #select(int)}.
+     *
+     * @param type Tipo dos valores.
+     * @param <T>  Tipo dos valores.
+     * @return Valores do segmento, na ordem em que foram serializados.
+     * @throws IllegalArgumentException se o segmento não contém valores do
+     *                                  tipo indicado.
+     */
+    public <T> Iterable<T> iterateAll(Class<T> type) {
+        return RMObjectBatch.iterate(buffer, getBatchOffset(),
+                RMObjectCodecs.of(type));
+    }
+
+    /**
+     * Obtém visão da Composition serializada, sem deserializá-la. Assim
+     * como as deserializações, considera a última instância serializada ou
+     * aquela indicada por {@link #select(int)}.
+     *
+     * @return Visão da Composition.
+     */
+    public RMObjectView.CompositionView viewComposition() {
+        return RMObjectView.composition(buffer, getOffsetFromID(COMPOSITION));
+    }
+
+    /**
+     * Obtém visão do EHR serializado, sem deserializá-lo. Assim como as
+     * deserializações, considera a última instância serializada ou
+     * aquela indicada por {@link #select(int)}.
+     *
+     * @return Visão do EHR.
+     */
+    public RMObjectView.EHRView viewEHR() {
+        return RMObjectView.ehr(buffer, getOffsetFromID(EHR));
+    }
+
+    /**
+     * Obtém visão da Observation (qualquer variante) serializada, sem
+     * deserializá-la. Assim como as deserializações, considera a última
+     * instância serializada ou aquela indicada por {@link #select(int)}.
+     *
+     * @return Visão da Observation.
+     */
+    public RMObjectView.ObservationView viewObservation() {
+        return RMObjectView.observation(buffer,
+                getOffsetFromID(OBSERVATION));
+    }
+
     /**
      * Seta o offset atual
      * @param pos 
@@ -3809,7 +4058,72 @@ public class RMObjectSerializationClient implements Serializer, Deserializer {
         this.offset = pos;
     }
 
+    /**
+     * Obtém todo o conteúdo do buffer empregado, inclusive a região ainda
+     * não utilizada.
+     *
+     * @return Vetor de bytes correspondente ao buffer.
+     * @see #getBytes()
+     */
     public byte[] getBuffer(){
         return buffer.data();
     }
+
+    /**
+     * Indica se as serializações empregam o perfil compacto do buffer.
+     */
+    boolean isCompact() {
+        return buffer.isCompact();
+    }
+
+    /**
+     * Obtém a quantidade de bytes produzida pelas serializações realizadas.
+     *
+     * @return Quantidade de bytes serializados.
+     */
+    public int size() {
+        return offset;
+    }
+
+    /**
+     * Obtém cópia exata dos bytes produzidos pelas serializações realizadas.
+     *
+     * @return Vetor com exatamente {@link #size()} bytes.
+     */
+    public byte[] getBytes() {
+        return buffer.copyOf(0, offset);
+    }
+
+    /**
+     * Obtém visão, apenas para leitura e sem cópia, dos bytes produzidos
+     * pelas serializações realizadas. A visão deixa de refletir serializações
+     * posteriores.
+     *
+     * @return Visão dos {@link #size()} bytes serializados.
+     */
+    public ByteBuffer asByteBuffer() {
+        return buffer.slice(0, offset);
+    }
+
+    /**
+     * Escreve no canal os bytes produzidos pelas serializações realizadas.
+     *
+     * @param channel Canal de destino.
+     * @return Quantidade de bytes escrita.
+     * @throws IOException se a escrita falhar.
+     */
+    public int writeTo(WritableByteChannel channel) throws IOException {
+        return buffer.writeTo(channel, 0, offset);
+    }
+
+    /**
+     * Escreve no fluxo os bytes produzidos pelas serializações realizadas.
+     *
+     * @param out Fluxo de destino.
+     * @return Quantidade de bytes escrita.
+     * @throws IOException se a escrita falhar.
+     */
+    public int writeTo(OutputStream out) throws IOException {
+        return buffer.writeTo(out, 0, offset);
+    }
 }
@@ -0,0 +1,458 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.*;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Deserialização incremental de fluxo produzido por
+ * {@link RMObjectStreamWriter}. Os quadros são obtidos, um a um, à medida
+ * que os bytes correspondentes chegam pelo canal, ou seja, cada item do
+ * conteúdo de uma Composition, ou cada pasta de um XFolder, está
+ * disponível tão logo seja lido, sem aguardar o restante do documento.
+ *
+ * <pre>
+ * RMObjectID id;
+ * while ((id = reader.next()) != null) {
+ *     if (id == RMObjectID.CONTENTITEM) {
+ *         processa(reader.value(ContentItem.class));
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>Quando montagem é requisitada (padrão), as partes são retidas até a
+ * leitura do quadro correspondente ao "esqueleto", cujo valor é o objeto
+ * completo. Caso contrário, as partes não são retidas e o valor do
+ * esqueleto é o objeto sem as partes (por exemplo, Composition sem
+ * conteúdo), o que limita a memória empregada ao tamanho do maior
+ * quadro.</p>
+ *
+ * <p>O tamanho de um quadro, obtido do próprio fluxo, não é aceito além do
+ * limite estabelecido ({@link #setMaxFrameSize(int)}), o que impede que um
+ * fluxo corrompido ou malicioso provoque a alocação de memória
+ * arbitrária.</p>
+ *
+ * <p>Instâncias desta classe não podem ser compartilhadas entre
+ * <em>threads</em>.</p>
+ */
+public final class RMObjectStreamReader implements Closeable {
+
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    /**
+     * Maior tamanho do conteúdo de um quadro quando não estabelecido
+     * explicitamente.
+     */
+    public static final int DEFAULT_MAX_FRAME_SIZE = 64 * 1024 * 1024;
+
+    private final ReadableByteChannel channel;
+    private final boolean assemble;
+    private final ByteBuffer header;
+    private ByteBuffer data;
+    private BlobSegment blobSegment;
+    private int maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+
+    /**
+     * Partes já lidas, ainda não consumidas pelo respectivo esqueleto.
+     */
+    private final Deque<Object> pending = new ArrayDeque<>();
+
+    /**
+     * Composition (sem conteúdo) da XComposition seguinte, quando as
+     * partes não são montadas.
+     */
+    private Composition composition;
+
+    private RMObjectID id;
+    private int parts;
+    private int depth;
+    private Buffer content;
+    private Object value;
+    private boolean decoded;
+    private boolean ended;
+
+    private RMObjectStreamReader(ReadableByteChannel channel,
+                                 boolean assemble) {
+        this.channel = channel;
+        this.assemble = assemble;
+        this.header = ByteBuffer.allocate(RMObjectStreamWriter.FRAME_HEADER);
+        this.data = ByteBuffer.allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Cria instância que lê do canal e monta os objetos a partir das
+     * respectivas partes.
+     *
+     * @param channel Canal do qual o fluxo é lido.
+     * @return Nova instância.
+     * @throws IOException se a leitura falhar ou o fluxo não foi produzido
+     *                     por {@link RMObjectStreamWriter}.
+     */
+    public static RMObjectStreamReader create(ReadableByteChannel channel)
+            throws IOException {
+        return create(channel, true);
+    }
+
+    /**
+     * Cria instância que lê do canal.
+     *
+     * @param channel  Canal do qual o fluxo é lido.
+     * @param assemble {@code true} se os objetos devem ser montados a
+     *                 partir das partes.
+     * @return Nova instância.
+     * @throws IOException se a leitura falhar ou o fluxo não foi produzido
+     *                     por {@link RMObjectStreamWriter}.
+     * @throws IllegalArgumentException se o canal é {@code null}.
+     */
+    public static RMObjectStreamReader create(ReadableByteChannel channel,
+                                              boolean assemble)
+            throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("null channel");
+        }
+
+        RMObjectStreamReader reader =
+                new RMObjectStreamReader(channel, assemble);
+        ByteBuffer magic = ByteBuffer.allocate(PrimitiveTypeSize.INT.getSize());
+        reader.read(magic);
+        if (magic.getInt(0) != RMObjectStreamWriter.MAGIC) {
+            throw new IOException("fluxo inválido");
+        }
+
+        return reader;
+    }
+
+    /**
+     * Cria instância que lê do fluxo e monta os objetos a partir das
+     * respectivas partes.
+     *
+     * @param in Fluxo do qual os quadros são lidos.
+     * @return Nova instância.
+     * @throws IOException se a leitura falhar ou o fluxo não foi produzido
+     *                     por {@link RMObjectStreamWriter}.
+     * @throws IllegalArgumentException se o fluxo é {@code null}.
+     */
+    public static RMObjectStreamReader create(InputStream in)
+            throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("null in");
+        }
+
+        return create(Channels.newChannel(in), true);
+    }
+
+    /**
+     * Estabelece o segmento de conteúdos que resolve as referências aos
+     * dados de DvMultimedia depositados pelo escritor
+     * ({@link RMObjectStreamWriter#setBlobSegment(BlobSegment, int)}).
+     *
+     * @param segment Segmento de conteúdos ou {@code null}.
+     * @return Esta instância.
+     */
+    public RMObjectStreamReader setBlobSegment(BlobSegment segment) {
+        blobSegment = segment;
+        return this;
+    }
+
+    /**
+     * Estabelece o maior tamanho aceito para o conteúdo de um quadro.
+     *
+     * @param size Maior tamanho, em bytes.
+     * @return Esta instância.
+     * @throws IllegalArgumentException se o tamanho é negativo.
+     */
+    public RMObjectStreamReader setMaxFrameSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("tamanho negativo");
+        }
+
+        maxFrameSize = size;
+        return this;
+    }
+
+    /**
+     * Lê o próximo quadro.
+     *
+     * @return Identificador do tipo do quadro lido ou {@code null} se o
+     * fluxo terminou (rodapé).
+     * @throws IOException se a leitura falhar, o fluxo terminar
+     *                     inesperadamente ou o tamanho do quadro é negativo
+     *                     ou excede o limite
+     *                     ({@link #setMaxFrameSize(int)}).
+     */
+    public RMObjectID next() throws IOException {
+        if (ended) {
+            return null;
+        }
+
+        header.clear();
+        read(header);
+        int length = header.getInt(0);
+        int frame = header.getInt(4);
+        if (frame == RMObjectStreamWriter.END) {
+            ended = true;
+            id = null;
+            content = null;
+            value = null;
+            return null;
+        }
+
+        if (length < 0 || length > maxFrameSize) {
+            throw new IOException("tamanho de quadro inválido: " + length);
+        }
+
+        id = RMObjectID.fromValue(frame);
+        parts = header.getInt(8);
+        depth = header.getInt(12);
+        content = Buffer.newInstance(payload(length));
+        content.setBlobSegment(blobSegment, 0);
+        value = null;
+        decoded = false;
+
+        if (parts != RMObjectStreamWriter.COMPLETE) {
+            value = shell();
+            decoded = true;
+        }
+
+        if (depth > 0 && assemble) {
+            pending.push(value());
+        } else if (id == RMObjectID.COMPOSITION && depth > 0) {
+            composition = (Composition) value();
+        }
+
+        return id;
+    }
+
+    /**
+     * Identificador do tipo do quadro corrente.
+     *
+     * @return Identificador ou {@code null} se o fluxo terminou.
+     */
+    public RMObjectID id() {
+        return id;
+    }
+
+    /**
+     * Nível do quadro corrente. Um objeto escrito diretamente possui nível
+     * 0, enquanto as respectivas partes possuem níveis maiores.
+     *
+     * @return Nível do quadro corrente.
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Indica se o quadro corrente corresponde a um objeto escrito
+     * diretamente, e não a uma parte de outro.
+     *
+     * @return {@code true} se o quadro corrente não é parte de outro.
+     */
+    public boolean isRoot() {
+        return depth == 0;
+    }
+
+    /**
+     * Serialização contida no quadro corrente, cujas posições são relativas
+     * ao início do quadro. Pode ser empregada, por exemplo, por
+     * {@link RMObjectPath}. O conteúdo é válido apenas até a leitura do
+     * próximo quadro.
+     *
+     * @return Conteúdo do quadro corrente.
+     */
+    public Buffer content() {
+        return content;
+    }
+
+    /**
+     * Objeto correspondente ao quadro corrente.
+     *
+     * @return Objeto deserializado.
+     * @throws IllegalStateException se não há quadro corrente ou o tipo
+     *                               possui variantes, caso em que deve ser
+     *                               empregado {@link #value(Class)}.
+     */
+    public Object value() {
+        if (id == null) {
+            throw new IllegalStateException("não há quadro corrente");
+        }
+
+        if (!decoded) {
+            List<RMObjectCodec<?>> codecs = RMObjectCodecs.of(id);
+            if (codecs.size() != 1) {
+                throw new IllegalStateException(id + " possui variantes");
+            }
+
+            value = codecs.get(0).deserialize(content, 0);
+            decoded = true;
+        }
+
+        return value;
+    }
+
+    /**
+     * Objeto correspondente ao quadro corrente.
+     *
+     * @param type Classe do objeto.
+     * @param <T>  Tipo do objeto.
+     * @return Objeto deserializado.
+     * @throws IllegalStateException se não há quadro corrente ou o quadro
+     *                               não corresponde à classe.
+     */
+    public <T> T value(Class<T> type) {
+        if (id == null) {
+            throw new IllegalStateException("não há quadro corrente");
+        }
+
+        RMObjectCodec<T> codec = RMObjectCodecs.of(type);
+        if (codec.id() != id) {
+            throw new IllegalStateException(id + " não é " + type.getName());
+        }
+
+        if (!decoded) {
+            value = codec.deserialize(content, 0);
+            decoded = true;
+        }
+
+        return type.cast(value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Objeto correspondente ao esqueleto, montado a partir das partes
+     * quando requisitado.
+     */
+    private Object shell() {
+        List<Object> partes = new ArrayList<>(parts);
+        if (assemble) {
+            for (int i = 0; i < parts; i++) {
+                partes.add(0, pending.pop());
+            }
+        }
+
+        switch (id) {
+            case COMPOSITION:
+                return composition(partes);
+            case XCOMPOSITION:
+                return xcomposition(partes);
+            case XFOLDER:
+                return folder(partes);
+            case EHREXTRACT:
+                return extract(partes);
+            default:
+                throw new IllegalStateException(id + " não possui partes");
+        }
+    }
+
+    private Composition composition(List<Object> partes) {
+        Composition c = RMObjectCodecs.of(Composition.class)
+                .deserialize(content, 0);
+        if (partes.isEmpty()) {
+            return c;
+        }
+
+        List<ContentItem> itens = new ArrayList<>(partes.size());
+        for (Object parte : partes) {
+            itens.add((ContentItem) parte);
+        }
+
+        return RMObjectFactory.newComposition(c.getLocatable(), itens,
+                c.getLanguage(), c.getContext(), c.getComposer(),
+                c.getCategory(), c.getTerritory());
+    }
+
+    private XComposition xcomposition(List<Object> partes) {
+        DvEHRURI originalPath = RMObjectCodecs.of(DvEHRURI.class)
+                .deserialize(content, 0);
+        int primary = data.limit() - PrimitiveTypeSize.BOOLEAN.getSize();
+        Composition c = partes.isEmpty()
+                ? composition : (Composition) partes.get(0);
+        composition = null;
+        return RMObjectFactory.newXComposition(content.readBoolean(primary),
+                originalPath, c);
+    }
+
+    private XFolder folder(List<Object> partes) {
+        XFolder f = RMObjectCodecs.of(XFolder.class).deserialize(content, 0);
+        List<XFolder> folders = new ArrayList<>();
+        List<XComposition> compositions = new ArrayList<>();
+        for (Object parte : partes) {
+            if (parte instanceof XFolder) {
+                folders.add((XFolder) parte);
+            } else {
+                compositions.add((XComposition) parte);
+            }
+        }
+
+        return RMObjectFactory.newXFolder(f.getLocatable(),
+                folders.isEmpty() ? null : folders,
+                compositions.isEmpty() ? null : compositions);
+    }
+
+    private EHRExtract extract(List<Object> partes) {
+        EHRExtract e = RMObjectCodecs.of(EHRExtract.class)
+                .deserialize(content, 0);
+        if (partes.isEmpty()) {
+            return e;
+        }
+
+        return RMObjectFactory.newEHRExtract(e.getTimeCreated(), e.getEhrId(),
+                e.getSubjectOfCare(), e.getOriginator(),
+                e.getOtherParticipations(), e.isIncludeMultimedia(),
+                e.getFollowLinks(), (XFolder) partes.get(0),
+                e.getTerminology(), e.getDemographics(),
+                e.getAccessControl());
+    }
+
+    /**
+     * Lê o conteúdo do quadro, cujo tamanho (já verificado) é indicado.
+     */
+    private ByteBuffer payload(int length) throws IOException {
+        if (length > data.capacity()) {
+            int dobro = (int) Math.min((long) data.capacity() << 1,
+                    maxFrameSize);
+            data = ByteBuffer.allocate(Math.max(length, dobro));
+        }
+
+        data.clear().limit(length);
+        read(data);
+        data.flip();
+        return data;
+    }
+
+    private void read(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes) < 0) {
+                throw new EOFException("fim inesperado do fluxo");
+            }
+        }
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Serialização sequencial (<em>streaming</em>) de objetos do modelo de
+ * referência em um canal. Ao contrário de
+ * {@link RMObjectSerializationClient}, o documento não precisa residir
+ * integralmente em memória: cada parte é serializada em um buffer
+ * reutilizado e imediatamente escrita no canal.
+ *
+ * <p>O fluxo é formado por quadros. Cada quadro é precedido por cabeçalho
+ * com o tamanho do conteúdo, o identificador ({@link RMObjectID}) do tipo
+ * e a quantidade de partes. As posições no conteúdo de um quadro são
+ * relativas ao início do conteúdo, ou seja, cada quadro pode ser
+ * deserializado isoladamente.</p>
+ *
+ * <pre>
+ * fluxo   := MAGIC quadro* rodapé
+ * quadro  := tamanho:int id:int partes:int nível:int conteúdo
+ * rodapé  := tamanho:int FIM:int partes:int nível:int
+ *            n:int (início:long id:int){n} posição:long
+ * </pre>
+ *
+ * <p>Um quadro com {@link #COMPLETE} partes contém um objeto completo. Caso
+ * contrário, o quadro contém o "esqueleto" de um objeto cujas partes (por
+ * exemplo, os itens do conteúdo de uma Composition) são os quadros
+ * imediatamente anteriores, em ordem, de nível uma unidade maior. O
+ * nível de um objeto escrito diretamente (raiz) é 0. Dessa forma, a memória
+ * empregada é limitada pela maior parte, e não pelo tamanho do documento.
+ * São decompostos em partes: Composition (itens do conteúdo), XFolder
+ * (pastas e XComposition), XComposition (Composition) e EHRExtract
+ * (diretório).</p>
+ *
+ * <p>Os dados de DvMultimedia, que podem ocupar vários megabytes em uma
+ * única parte, são depositados em um segmento de conteúdos, quando
+ * fornecido ({@link #setBlobSegment(BlobSegment, int)}), e o quadro contém
+ * apenas a referência a eles. Após um quadro maior que
+ * {@link #RETAINED_CAPACITY}, o buffer empregado pelos quadros é
+ * substituído por outro com a capacidade inicial, ou seja, uma parte
+ * excepcionalmente grande não mantém a memória correspondente
+ * reservada.</p>
+ *
+ * <p>O rodapé identifica o início (posição do primeiro quadro) e o tipo de
+ * cada objeto escrito, e termina com a posição do próprio rodapé, o que
+ * permite acesso direto quando o canal admite posicionamento.</p>
+ *
+ * <p>Instâncias desta classe não podem ser compartilhadas entre
+ * <em>threads</em>.</p>
+ *
+ * @see RMObjectStreamReader
+ */
+public final class RMObjectStreamWriter implements Closeable {
+
+    /**
+     * Início de todo fluxo ("HCS1").
+     */
+    static final int MAGIC = 0x48435331;
+
+    /**
+     * Identificador do quadro que corresponde ao rodapé.
+     */
+    static final int END = -1;
+
+    /**
+     * Quantidade de partes de um quadro que contém objeto completo.
+     */
+    static final int COMPLETE = -1;
+
+    /**
+     * Tamanho do cabeçalho de um quadro.
+     */
+    static final int FRAME_HEADER = 4 * PrimitiveTypeSize.INT.getSize();
+
+    /**
+     * Capacidade inicial do buffer empregado pelos quadros.
+     */
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    /**
+     * Maior capacidade do buffer empregado pelos quadros mantida após a
+     * escrita de um quadro.
+     */
+    static final int RETAINED_CAPACITY = 1024 * 1024;
+
+    private final WritableByteChannel channel;
+    private Buffer buffer;
+    private BlobSegment blobSegment;
+    private int blobThreshold;
+    private final ByteBuffer header;
+    private long written;
+    private boolean closed;
+
+    /**
+     * Início e identificador de cada objeto escrito.
+     */
+    private long[] starts = new long[16];
+    private int[] ids = new int[16];
+    private int roots;
+
+    private RMObjectStreamWriter(WritableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = Buffer.newGrowableInstance(INITIAL_CAPACITY);
+        this.header = ByteBuffer.allocate(FRAME_HEADER);
+    }
+
+    /**
+     * Cria instância que escreve no canal indicado.
+     *
+     * @param channel Canal no qual o fluxo é escrito.
+     * @return Nova instância.
+     * @throws IOException se a escrita no canal falhar.
+     * @throws IllegalArgumentException se o canal é {@code null}.
+     */
+    public static RMObjectStreamWriter create(WritableByteChannel channel)
+            throws IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("null channel");
+        }
+
+        RMObjectStreamWriter writer = new RMObjectStreamWriter(channel);
+        ByteBuffer magic = ByteBuffer.allocate(PrimitiveTypeSize.INT.getSize());
+        magic.putInt(0, MAGIC);
+        writer.write(magic);
+        return writer;
+    }
+
+    /**
+     * Cria instância que escreve no fluxo indicado.
+     *
+     * @param out Fluxo no qual os quadros são escritos.
+     * @return Nova instância.
+     * @throws IOException se a escrita no fluxo falhar.
+     * @throws IllegalArgumentException se o fluxo é {@code null}.
+     */
+    public static RMObjectStreamWriter create(OutputStream out)
+            throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("null out");
+        }
+
+        return create(Channels.newChannel(out));
+    }
+
+    /**
+     * Estabelece o segmento no qual são depositados os dados de
+     * DvMultimedia cujo tamanho excede o limite indicado. O quadro contém
+     * apenas a referência aos dados, resolvida pelo leitor associado ao
+     * mesmo segmento ({@link RMObjectStreamReader#setBlobSegment}).
+     *
+     * @param segment   Segmento de conteúdos ou {@code null}, para que os
+     *                  dados sejam mantidos nos quadros.
+     * @param threshold Maior tamanho, em bytes, de dados mantidos no
+     *                  próprio quadro.
+     * @return Esta instância.
+     * @throws IllegalArgumentException se o limite é negativo.
+     */
+    public RMObjectStreamWriter setBlobSegment(BlobSegment segment,
+                                               int threshold) {
+        buffer.setBlobSegment(segment, threshold);
+        blobSegment = segment;
+        blobThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Escreve objeto em um único quadro.
+     *
+     * @param type  Classe do objeto.
+     * @param value Objeto a ser escrito.
+     * @param <T>   Tipo do objeto.
+     * @return Esta instância.
+     * @throws IOException se a escrita no canal falhar.
+     * @throws IllegalArgumentException se não há codec para a classe.
+     */
+    public <T> RMObjectStreamWriter write(Class<T> type, T value)
+            throws IOException {
+        RMObjectCodec<T> codec = RMObjectCodecs.of(type);
+        long start = root();
+        frame(codec.id(), COMPLETE, 0, codec.serialize(buffer, 0, value));
+        register(start, codec.id());
+        return this;
+    }
+
+    /**
+     * Escreve Composition: um quadro para cada item do conteúdo seguido
+     * do quadro com os demais atributos.
+     *
+     * @param composition Composition a ser escrita.
+     * @return Esta instância.
+     * @throws IOException se a escrita no canal falhar.
+     */
+    public RMObjectStreamWriter writeComposition(Composition composition)
+            throws IOException {
+        long start = root();
+        composition(composition, 0);
+        register(start, RMObjectID.COMPOSITION);
+        return this;
+    }
+
+    /**
+     * Escreve XFolder: as pastas e as XComposition, recursivamente, seguidas
+     * do quadro com o Locatable da pasta.
+     *
+     * @param folder Pasta a ser escrita.
+     * @return Esta instância.
+     * @throws IOException se a escrita no canal falhar.
+     */
+    public RMObjectStreamWriter writeXFolder(XFolder folder)
+            throws IOException {
+        long start = root();
+        folder(folder, 0);
+        register(start, RMObjectID.XFOLDER);
+        return this;
+    }
+
+    /**
+     * Escreve EHRExtract: o diretório, conforme
+     * {@link #writeXFolder(XFolder)}, seguido do quadro com os demais
+     * atributos.
+     *
+     * @param extract EHRExtract a ser escrito.
+     * @return Esta instância.
+     * @throws IOException se a escrita no canal falhar.
+     */
+    public RMObjectStreamWriter writeEHRExtract(EHRExtract extract)
+            throws IOException {
+        long start = root();
+        XFolder directory = extract.getDirectory();
+        if (directory != null) {
+            folder(directory, 1);
+        }
+
+        EHRExtract esqueleto = RMObjectFactory.newEHRExtract(
+                extract.getTimeCreated(), extract.getEhrId(),
+                extract.getSubjectOfCare(), extract.getOriginator(),
+                extract.getOtherParticipations(),
+                extract.isIncludeMultimedia(), extract.getFollowLinks(),
+                null, extract.getTerminology(), extract.getDemographics(),
+                extract.getAccessControl());
+        frame(RMObjectID.EHREXTRACT, directory == null ? 0 : 1, 0,
+                RMObjectCodecs.of(EHRExtract.class)
+                        .serialize(buffer, 0, esqueleto));
+        register(start, RMObjectID.EHREXTRACT);
+        return this;
+    }
+
+    /**
+     * Quantidade de bytes escrita no canal.
+     *
+     * @return Quantidade de bytes escrita até o momento.
+     */
+    public long size() {
+        return written;
+    }
+
+    /**
+     * Escreve o rodapé e fecha o canal. Chamadas subsequentes não
+     * produzem efeito.
+     *
+     * @throws IOException se a escrita no canal falhar.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        try {
+            footer();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void composition(Composition composition, int depth)
+            throws IOException {
+        int parts = 0;
+        if (composition.getContent() != null) {
+            RMObjectCodec<ContentItem> codec =
+                    RMObjectCodecs.of(ContentItem.class);
+            for (ContentItem item : composition.getContent()) {
+                frame(codec.id(), COMPLETE, depth + 1,
+                        codec.serialize(buffer, 0, item));
+                parts++;
+            }
+        }
+
+        Composition esqueleto = RMObjectFactory.newComposition(
+                composition.getLocatable(), null, composition.getLanguage(),
+                composition.getContext(), composition.getComposer(),
+                composition.getCategory(), composition.getTerritory());
+        frame(RMObjectID.COMPOSITION, parts, depth,
+                RMObjectCodecs.of(Composition.class)
+                        .serialize(buffer, 0, esqueleto));
+    }
+
+    private void folder(XFolder folder, int depth) throws IOException {
+        int parts = 0;
+        if (folder.getFolders() != null) {
+            for (XFolder child : folder.getFolders()) {
+                folder(child, depth + 1);
+                parts++;
+            }
+        }
+
+        if (folder.getCompositions() != null) {
+            for (XComposition child : folder.getCompositions()) {
+                xcomposition(child, depth + 1);
+                parts++;
+            }
+        }
+
+        XFolder esqueleto = RMObjectFactory.newXFolder(folder.getLocatable(),
+                null, null);
+        frame(RMObjectID.XFOLDER, parts, depth,
+                RMObjectCodecs.of(XFolder.class)
+                        .serialize(buffer, 0, esqueleto));
+    }
+
+    /**
+     * A Composition é escrita como parte. O quadro da XComposition contém o
+     * DvEHRURI seguido de {@code primary}.
+     */
+    private void xcomposition(XComposition xcomposition, int depth)
+            throws IOException {
+        composition(xcomposition.getComposition(), depth + 1);
+
+        int position = RMObjectCodecs.of(DvEHRURI.class)
+                .serialize(buffer, 0, xcomposition.getOriginalPath());
+        buffer.writeBoolean(position, xcomposition.isPrimary());
+        frame(RMObjectID.XCOMPOSITION, 1, depth,
+                position + PrimitiveTypeSize.BOOLEAN.getSize());
+    }
+
+    /**
+     * Escreve o quadro cujo conteúdo ocupa {@code [0, length)} do buffer e,
+     * em seguida, apaga essa região para o próximo quadro ou, se o buffer
+     * cresceu além de {@link #RETAINED_CAPACITY}, o substitui.
+     */
+    private void frame(RMObjectID id, int parts, int depth, int length)
+            throws IOException {
+        if (closed) {
+            throw new IllegalStateException("fluxo encerrado");
+        }
+
+        header.clear();
+        header.putInt(length).putInt(id.getValue()).putInt(parts)
+                .putInt(depth).flip();
+        write(header);
+        written += buffer.writeTo(channel, 0, length);
+        if (buffer.capacity() > RETAINED_CAPACITY) {
+            buffer = Buffer.newGrowableInstance(INITIAL_CAPACITY);
+            buffer.setBlobSegment(blobSegment, blobThreshold);
+        } else {
+            buffer.clear(0, length);
+        }
+    }
+
+    /**
+     * Capacidade do buffer empregado pelos quadros.
+     */
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    private void footer() throws IOException {
+        long position = written;
+        int length = PrimitiveTypeSize.INT.getSize()
+                + roots * (Long.BYTES + PrimitiveTypeSize.INT.getSize());
+        ByteBuffer footer = ByteBuffer.allocate(FRAME_HEADER + length
+                + Long.BYTES);
+        footer.putInt(length).putInt(END).putInt(COMPLETE).putInt(0)
+                .putInt(roots);
+        for (int i = 0; i < roots; i++) {
+            footer.putLong(starts[i]).putInt(ids[i]);
+        }
+
+        footer.putLong(position).flip();
+        write(footer);
+    }
+
+    private long root() {
+        if (closed) {
+            throw new IllegalStateException("fluxo encerrado");
+        }
+
+        return written;
+    }
+
+    private void register(long start, RMObjectID id) {
+        if (roots == starts.length) {
+            starts = Arrays.copyOf(starts, roots << 1);
+            ids = Arrays.copyOf(ids, roots << 1);
+        }
+
+        starts[roots] = start;
+        ids[roots] = id.getValue();
+        roots++;
+    }
+
+    private void write(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            written += channel.write(bytes);
+        }
+    }
+}
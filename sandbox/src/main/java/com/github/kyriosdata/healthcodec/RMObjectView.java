@@ -0,0 +1,548 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.*;
+import com.github.kyriosdata.healthcodec.RMObjectSerialization.*;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Visões sobre objetos serializados em um {@link Buffer}. Uma visão
+ * mantém apenas o buffer e a posição inicial do objeto. Cada atributo é
+ * deserializado apenas quando requisitado, a partir do cabeçalho de
+ * posições do objeto. Desta forma, obter a categoria de uma Composition,
+ * por exemplo, não exige a deserialização de todo o seu conteúdo.
+ *
+ * <p>Uma visão reflete o conteúdo corrente do buffer, ou seja, não deve
+ * ser empregada após o buffer ser reutilizado.</p>
+ */
+public final class RMObjectView {
+
+    private static final int INT = PrimitiveTypeSize.INT.getSize();
+    private static final int BOOLEAN = PrimitiveTypeSize.BOOLEAN.getSize();
+    private static final int BYTE = PrimitiveTypeSize.BYTE.getSize();
+
+    private RMObjectView() {
+        // Apenas funções.
+    }
+
+    /**
+     * Cria visão de Composition serializada na posição indicada.
+     *
+     * @param buffer Buffer que contém a serialização.
+     * @param offset Posição inicial da Composition.
+     * @return Visão da Composition.
+     */
+    public static CompositionView composition(Buffer buffer, int offset) {
+        return new CompositionView(buffer, offset);
+    }
+
+    /**
+     * Cria visão de EHR serializado na posição indicada.
+     *
+     * @param buffer Buffer que contém a serialização.
+     * @param offset Posição inicial do EHR.
+     * @return Visão do EHR.
+     */
+    public static EHRView ehr(Buffer buffer, int offset) {
+        return new EHRView(buffer, offset);
+    }
+
+    /**
+     * Cria visão de Observation (qualquer variante) serializada na posição
+     * indicada.
+     *
+     * @param buffer Buffer que contém a serialização.
+     * @param offset Posição inicial da Observation.
+     * @return Visão da Observation.
+     */
+    public static ObservationView observation(Buffer buffer, int offset) {
+        return new ObservationView(buffer, offset);
+    }
+
+    /**
+     * Cria visão de Locatable (ou ContentItem) serializado na posição
+     * indicada.
+     *
+     * @param buffer Buffer que contém a serialização.
+     * @param offset Posição inicial do Locatable.
+     * @return Visão do Locatable.
+     */
+    public static LocatableView locatable(Buffer buffer, int offset) {
+        return new LocatableView(buffer, offset);
+    }
+
+    /**
+     * Deserializa DvMultimedia cujos dados não são copiados, mas obtidos
+     * como visão somente leitura da região correspondente do buffer (que
+     * pode ser, por exemplo, um arquivo mapeado em memória).
+     *
+     * @param buffer Buffer que contém a serialização.
+     * @param offset Posição inicial do DvMultimedia.
+     * @return DvMultimedia cujos dados são visão do buffer.
+     * @see DvMultimedia#getDataBuffer()
+     */
+    public static DvMultimedia dvMultimedia(Buffer buffer, int offset) {
+        return DvMultimediaSerializer.INSTANCE.deserializeView(buffer, offset);
+    }
+
+    /**
+     * Obtém a posição de um atributo a partir do cabeçalho de um objeto.
+     * O cabeçalho contém, na ordem dos atributos, a posição de cada um
+     * deles. Atributos opcionais são precedidos de um boolean e, quando
+     * ausentes, ocupam apenas este boolean.
+     *
+     * @param buffer   Buffer que contém a serialização.
+     * @param offset   Posição inicial do objeto (do cabeçalho).
+     * @param optional Máscara na qual o bit {@code i} indica que o atributo
+     *                 {@code i} é opcional.
+     * @param field    Ordem do atributo desejado no cabeçalho.
+     * @return Posição do atributo ou -1, se ausente.
+     */
+    static int field(Buffer buffer, int offset, int optional, int field) {
+        return field(buffer, offset, optional, field, false);
+    }
+
+    /**
+     * Obtém a posição de um atributo a partir do cabeçalho de um objeto
+     * cujo tipo admite o cabeçalho compacto. Se o buffer emprega o perfil
+     * compacto, o cabeçalho é iniciado por um byte no qual o bit {@code i}
+     * indica a presença do atributo opcional {@code i}, seguido das
+     * posições apenas dos atributos presentes.
+     *
+     * @param buffer   Buffer que contém a serialização.
+     * @param offset   Posição inicial do objeto (do cabeçalho).
+     * @param optional Máscara na qual o bit {@code i} indica que o atributo
+     *                 {@code i} é opcional.
+     * @param field    Ordem do atributo desejado no cabeçalho.
+     * @param packed   Indica se o tipo admite o cabeçalho compacto.
+     * @return Posição do atributo ou -1, se ausente.
+     */
+    static int field(Buffer buffer, int offset, int optional, int field,
+                     boolean packed) {
+        if (packed && buffer.isCompact()) {
+            int presence = buffer.readByte(offset) & 0xFF;
+            if ((optional & 1 << field) != 0 && (presence & 1 << field) == 0) {
+                return -1;
+            }
+
+            int slots = (~optional | presence) & ((1 << field) - 1);
+            return buffer.readInteger(offset + BYTE
+                    + Integer.bitCount(slots) * INT);
+        }
+
+        int header = offset;
+        for (int i = 0; i < field; i++) {
+            if ((optional & (1 << i)) == 0) {
+                header += INT;
+            } else {
+                header += buffer.readBoolean(header) ? BOOLEAN + INT : BOOLEAN;
+            }
+        }
+
+        if ((optional & (1 << field)) != 0) {
+            if (!buffer.readBoolean(header)) {
+                return -1;
+            }
+
+            header += BOOLEAN;
+        }
+
+        return buffer.readInteger(header);
+    }
+
+    /**
+     * Quantidade de elementos de uma lista serializada.
+     */
+    static int listSize(Buffer buffer, int position) {
+        return buffer.readInteger(position);
+    }
+
+    /**
+     * Posição do elemento indicado de uma lista serializada.
+     */
+    static int listElement(Buffer buffer, int position, int index) {
+        int size = buffer.readInteger(position);
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(
+                    "elemento " + index + " de " + size);
+        }
+
+        return buffer.readInteger(position + INT + index * INT);
+    }
+
+    /**
+     * Visão de Locatable (e, portanto, de ContentItem).
+     */
+    public static final class LocatableView {
+        private static final int UID = 0;
+        private static final int ARCHETYPE_NODE_ID = 1;
+        private static final int NAME = 2;
+        private static final int ARCHETYPE_DETAILS = 3;
+        private static final int FEEDER_AUDIT = 4;
+        private static final int LINKS = 5;
+        private static final int OPTIONAL = 1 << UID | 1 << ARCHETYPE_DETAILS
+                | 1 << FEEDER_AUDIT | 1 << LINKS;
+
+        private final Buffer buffer;
+        private final int offset;
+
+        private LocatableView(Buffer buffer, int offset) {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        private int position(int attribute) {
+            return field(buffer, offset, OPTIONAL, attribute, true);
+        }
+
+        public int offset() {
+            return offset;
+        }
+
+        public UIDBasedID uid() {
+            int position = position(UID);
+            return position < 0 ? null
+                    : UIDBasedIDSerializer.INSTANCE.deserialize(buffer, position);
+        }
+
+        public String archetypeNodeId() {
+            return RMObjectSerialization.stringDeserialization(buffer,
+                    position(ARCHETYPE_NODE_ID));
+        }
+
+        public DvText name() {
+            return DvTextSerializer.INSTANCE.deserialize(buffer, position(NAME));
+        }
+
+        public Archetyped archetypeDetails() {
+            int position = position(ARCHETYPE_DETAILS);
+            return position < 0 ? null
+                    : ArchetypedSerializer.INSTANCE.deserialize(buffer, position);
+        }
+
+        public FeederAudit feederAudit() {
+            int position = position(FEEDER_AUDIT);
+            return position < 0 ? null
+                    : FeederAuditSerializer.INSTANCE.deserialize(buffer, position);
+        }
+
+        public Set<Link> links() {
+            int position = position(LINKS);
+            return position < 0 ? null
+                    : LinkSerializer.INSTANCE.setDeserializer(buffer, position);
+        }
+
+        /**
+         * Deserializa o Locatable completo.
+         *
+         * @return Instância de Locatable.
+         */
+        public Locatable toLocatable() {
+            return LocatableSerializer.INSTANCE.deserialize(buffer, offset);
+        }
+    }
+
+    /**
+     * Visão de Composition.
+     */
+    public static final class CompositionView {
+        private static final int LOCATABLE = 0;
+        private static final int CONTENT = 1;
+        private static final int LANGUAGE = 2;
+        private static final int CONTEXT = 3;
+        private static final int COMPOSER = 4;
+        private static final int CATEGORY = 5;
+        private static final int TERRITORY = 6;
+        private static final int OPTIONAL = 1 << CONTENT | 1 << CONTEXT;
+
+        private final Buffer buffer;
+        private final int offset;
+
+        private CompositionView(Buffer buffer, int offset) {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        private int position(int attribute) {
+            return field(buffer, offset, OPTIONAL, attribute, true);
+        }
+
+        public int offset() {
+            return offset;
+        }
+
+        public LocatableView locatable() {
+            return new LocatableView(buffer, position(LOCATABLE));
+        }
+
+        public boolean hasContent() {
+            return position(CONTENT) >= 0;
+        }
+
+        /**
+         * Quantidade de itens do conteúdo (0 se não há conteúdo).
+         *
+         * @return Quantidade de itens do conteúdo.
+         */
+        public int contentSize() {
+            int position = position(CONTENT);
+            return position < 0 ? 0 : listSize(buffer, position);
+        }
+
+        /**
+         * Visão do item indicado do conteúdo, sem deserializar os demais.
+         *
+         * @param index Ordem do item, de 0 a {@code contentSize() - 1}.
+         * @return Visão do item (Locatable) indicado.
+         * @throws IndexOutOfBoundsException se não existe o item.
+         */
+        public LocatableView content(int index) {
+            int position = position(CONTENT);
+            if (position < 0) {
+                throw new IndexOutOfBoundsException("sem conteúdo");
+            }
+
+            return new LocatableView(buffer,
+                    listElement(buffer, position, index));
+        }
+
+        public List<ContentItem> contentItems() {
+            int position = position(CONTENT);
+            return position < 0 ? null
+                    : ContentItemSerializer.INSTANCE.deserializeList(buffer,
+                    position);
+        }
+
+        public CodePhrase language() {
+            return CodePhraseSerializer.INSTANCE.deserialize(buffer,
+                    position(LANGUAGE));
+        }
+
+        public EventContext context() {
+            int position = position(CONTEXT);
+            return position < 0 ? null
+                    : EventContextSerializer.INSTANCE.deserialize(buffer,
+                    position);
+        }
+
+        public PartyProxy composer() {
+            return PartyProxySerializer.INSTANCE.deserialize(buffer,
+                    position(COMPOSER));
+        }
+
+        public DvCodedText category() {
+            return DvCodedTextSerializer.INSTANCE.deserialize(buffer,
+                    position(CATEGORY));
+        }
+
+        public CodePhrase territory() {
+            return CodePhraseSerializer.INSTANCE.deserialize(buffer,
+                    position(TERRITORY));
+        }
+
+        /**
+         * Deserializa a Composition completa.
+         *
+         * @return Instância de Composition.
+         */
+        public Composition toComposition() {
+            return CompositionSerializer.INSTANCE.deserialize(buffer, offset);
+        }
+    }
+
+    /**
+     * Visão de EHR.
+     */
+    public static final class EHRView {
+        private static final int SYSTEM_ID = 0;
+        private static final int EHR_ID = 1;
+        private static final int TIME_CREATED = 2;
+        private static final int CONTRIBUTIONS = 3;
+        private static final int EHR_STATUS = 4;
+        private static final int DIRECTORY = 5;
+        private static final int COMPOSITIONS = 6;
+
+        private final Buffer buffer;
+        private final int offset;
+
+        private EHRView(Buffer buffer, int offset) {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        private int position(int attribute) {
+            return field(buffer, offset, 0, attribute);
+        }
+
+        public int offset() {
+            return offset;
+        }
+
+        public HierObjectID systemID() {
+            return HierObjectIDSerializer.INSTANCE.deserialize(buffer,
+                    position(SYSTEM_ID));
+        }
+
+        public HierObjectID ehrID() {
+            return HierObjectIDSerializer.INSTANCE.deserialize(buffer,
+                    position(EHR_ID));
+        }
+
+        public DvDateTime timeCreated() {
+            return DvDateTimeSerializer.INSTANCE.deserialize(buffer,
+                    position(TIME_CREATED));
+        }
+
+        public List<ObjectRef> contributions() {
+            return ObjectRefSerializer.INSTANCE.deserializeList(buffer,
+                    position(CONTRIBUTIONS));
+        }
+
+        public ObjectRef ehrStatus() {
+            return ObjectRefSerializer.INSTANCE.deserialize(buffer,
+                    position(EHR_STATUS));
+        }
+
+        public ObjectRef directory() {
+            return ObjectRefSerializer.INSTANCE.deserialize(buffer,
+                    position(DIRECTORY));
+        }
+
+        public int compositionsSize() {
+            return listSize(buffer, position(COMPOSITIONS));
+        }
+
+        /**
+         * Referência à Composition indicada, sem deserializar as demais.
+         *
+         * @param index Ordem da referência, de 0 a
+         *              {@code compositionsSize() - 1}.
+         * @return Referência à Composition.
+         * @throws IndexOutOfBoundsException se não existe a referência.
+         */
+        public ObjectRef composition(int index) {
+            return ObjectRefSerializer.INSTANCE.deserialize(buffer,
+                    listElement(buffer, position(COMPOSITIONS), index));
+        }
+
+        public List<ObjectRef> compositions() {
+            return ObjectRefSerializer.INSTANCE.deserializeList(buffer,
+                    position(COMPOSITIONS));
+        }
+
+        /**
+         * Deserializa o EHR completo.
+         *
+         * @return Instância de EHR.
+         */
+        public EHR toEHR() {
+            return EHRSerializer.INSTANCE.deserialize(buffer, offset);
+        }
+    }
+
+    /**
+     * Visão de Observation. Todas as variantes compartilham o cabeçalho
+     * (CareEntry, data e state opcional). Cabe ao cliente, que conhece a
+     * variante serializada, escolher o método correspondente para obter
+     * data ou state.
+     */
+    public static final class ObservationView {
+        private static final int CARE_ENTRY = 0;
+        private static final int DATA = 1;
+        private static final int STATE = 2;
+        private static final int OPTIONAL = 1 << STATE;
+
+        // Posição de ContentItem (Locatable) no cabeçalho de Entry.
+        private static final int ENTRY = 0;
+        private static final int CONTENT_ITEM = 0;
+
+        private final Buffer buffer;
+        private final int offset;
+
+        private ObservationView(Buffer buffer, int offset) {
+            this.buffer = buffer;
+            this.offset = offset;
+        }
+
+        private int position(int attribute) {
+            return field(buffer, offset, OPTIONAL, attribute);
+        }
+
+        public int offset() {
+            return offset;
+        }
+
+        public CareEntry careEntry() {
+            return CareEntrySerializer.INSTANCE.deserialize(buffer,
+                    position(CARE_ENTRY));
+        }
+
+        /**
+         * Visão do Locatable da Observation, obtido por meio de CareEntry,
+         * Entry e ContentItem, sem deserializá-los.
+         *
+         * @return Visão do Locatable da Observation.
+         */
+        public LocatableView locatable() {
+            int careEntry = position(CARE_ENTRY);
+            int entry = field(buffer, careEntry, 0, ENTRY);
+            return new LocatableView(buffer,
+                    field(buffer, entry, 0, CONTENT_ITEM));
+        }
+
+        public HistoryWithItemTree dataItemTree() {
+            return HistorySerializer.INSTANCE.deserializeItemTree(buffer,
+                    position(DATA));
+        }
+
+        public HistoryWithItemSingle dataItemSingle() {
+            return HistorySerializer.INSTANCE.deserializeItemSingle(buffer,
+                    position(DATA));
+        }
+
+        public HistoryWithItemTable dataItemTable() {
+            return HistorySerializer.INSTANCE.deserializeItemTable(buffer,
+                    position(DATA));
+        }
+
+        public boolean hasState() {
+            return position(STATE) >= 0;
+        }
+
+        public HistoryWithItemTree stateItemTree() {
+            int position = position(STATE);
+            return position < 0 ? null
+                    : HistorySerializer.INSTANCE.deserializeItemTree(buffer,
+                    position);
+        }
+
+        public HistoryWithItemSingle stateItemSingle() {
+            int position = position(STATE);
+            return position < 0 ? null
+                    : HistorySerializer.INSTANCE.deserializeItemSingle(buffer,
+                    position);
+        }
+
+        public HistoryWithItemTable stateItemTable() {
+            int position = position(STATE);
+            return position < 0 ? null
+                    : HistorySerializer.INSTANCE.deserializeItemTable(buffer,
+                    position);
+        }
+    }
+}
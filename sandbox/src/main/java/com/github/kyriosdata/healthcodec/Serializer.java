@@ -20,9 +20,10 @@ import com.github.kyriosdata.healthcodec.RMObject.*;
  *
  * @author Gabriel
  * Interface com uma coleção de métodos para a serialização das classes do
- * MR de forma que apenas a última referência é armazenada.
- * CUIDADO: Caso seja realizada a serialização de mais de uma instância de
- * um mesmo objeto, a referência do objeto anterior será perdida.
+ * MR. Todas as instâncias serializadas de um mesmo tipo são mantidas, na
+ * ordem em que foram serializadas. A deserialização recupera a última
+ * delas, exceto quando outra é indicada por
+ * {@link RMObjectSerializationClient#select(int)}.
  * IMPORTANTE: Caso seja de interesse do usuário, é interessante acessar
  * {@link RMObjectSerialization} para acessar a coleção de métodos que permitem
  * uma flexibilidade alta quanto a realização de mútliplas serializações de uma
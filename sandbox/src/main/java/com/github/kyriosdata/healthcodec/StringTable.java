@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.kyriosdata.healthcodec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tabela de sequências de caracteres de um documento (por exemplo, um
+ * EHRExtract), o que permite que valores repetidos, como "openehr",
+ * "SNOMED-CT" ou "at0001", sejam serializados uma única vez.
+ *
+ * <p>Quando associada a um {@link Buffer} (ver
+ * {@link Buffer#setStringTable(StringTable)}), a serialização de uma
+ * sequência já serializada no documento produz apenas uma referência à
+ * posição da primeira ocorrência, que funciona como índice na tabela. Na
+ * deserialização, todas as ocorrências de um mesmo valor produzem a mesma
+ * instância de {@link String}.</p>
+ *
+ * <p>Referências são resolvidas a partir do próprio buffer, ou seja, a
+ * deserialização não depende da tabela. Contudo, o documento deve ser
+ * mantido integralmente: uma região copiada isoladamente pode conter
+ * referências a posições fora dela.</p>
+ *
+ * <p>A tabela corresponde a um único documento e deve ser esvaziada
+ * ({@link #clear()}) antes que o buffer seja reutilizado. Instâncias desta
+ * classe não podem ser compartilhadas entre <em>threads</em>.</p>
+ */
+public final class StringTable {
+
+    /**
+     * Posição da primeira ocorrência de cada valor serializado.
+     */
+    private final Map<String, Integer> written = new HashMap<>();
+
+    /**
+     * Valores deserializados, pela posição da respectiva serialização.
+     */
+    private final Map<Integer, String> read = new HashMap<>();
+
+    private StringTable() {
+        // Emprega newInstance().
+    }
+
+    /**
+     * Cria tabela vazia.
+     *
+     * @return Nova tabela.
+     */
+    public static StringTable newInstance() {
+        return new StringTable();
+    }
+
+    /**
+     * Quantidade de valores distintos serializados no documento.
+     *
+     * @return Quantidade de valores.
+     */
+    public int size() {
+        return written.size();
+    }
+
+    /**
+     * Esvazia a tabela, o que deve ocorrer quando o buffer ao qual está
+     * associada passa a ser empregado por outro documento.
+     */
+    public void clear() {
+        written.clear();
+        read.clear();
+    }
+
+    /**
+     * Posição da primeira ocorrência do valor.
+     *
+     * @return Posição ou -1, se o valor ainda não foi serializado.
+     */
+    int positionOf(String value) {
+        Integer position = written.get(value);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Registra a serialização do valor na posição indicada.
+     */
+    void written(String value, int position) {
+        written.putIfAbsent(value, position);
+    }
+
+    /**
+     * Valor deserializado a partir da posição indicada.
+     *
+     * @return Valor ou {@code null}, se ainda não deserializado.
+     */
+    String read(int position) {
+        return read.get(position);
+    }
+
+    /**
+     * Registra o valor deserializado a partir da posição indicada.
+     */
+    void read(int position, String value) {
+        read.put(position, value);
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.DvMultimedia;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlobSegmentTest {
+
+    private static byte[] dados(int tamanho) {
+        byte[] dados = new byte[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            dados[i] = (byte) i;
+        }
+
+        return dados;
+    }
+
+    private static DvMultimedia dvMultimedia(byte[] data) {
+        return RMObjectFactory.newDvMultimedia(
+                RMObjectTestHelper.dvEncapsulated(), "alternateText",
+                RMObjectTestHelper.codePhrase(),
+                RMObjectTestHelper.codePhrase(), new byte[]{0, 1, 0, 1},
+                RMObjectTestHelper.codePhrase(), null,
+                RMObjectTestHelper.dVURI(), data);
+    }
+
+    @Test
+    void conteudoArmazenadoUmaUnicaVez() {
+        BlobSegment segment = BlobSegment.newInstance();
+        BlobSegment.Reference r1 = segment.put(ByteBuffer.wrap(dados(100)));
+        BlobSegment.Reference r2 = segment.put(ByteBuffer.wrap(dados(100)));
+
+        assertEquals(1, segment.count());
+        assertArrayEquals(r1.getHash(), r2.getHash());
+        assertEquals(100, r1.getLength());
+        assertTrue(segment.contains(r1.getHash()));
+        assertEquals(ByteBuffer.wrap(dados(100)), r2.data());
+        assertTrue(r2.data().isReadOnly());
+        assertNull(segment.get(new byte[BlobSegment.HASH]));
+    }
+
+    @Test
+    void segmentoEmArquivoPreservaConteudos(@TempDir Path dir)
+            throws IOException {
+        Path path = dir.resolve("blobs");
+        byte[] hash;
+        try (BlobSegment segment = BlobSegment.open(path)) {
+            hash = segment.put(ByteBuffer.wrap(dados(5000))).getHash();
+            segment.put(ByteBuffer.wrap(dados(10)));
+        }
+
+        try (BlobSegment segment = BlobSegment.open(path)) {
+            assertEquals(2, segment.count());
+            assertEquals(ByteBuffer.wrap(dados(5000)), segment.get(hash));
+        }
+    }
+
+    @Test
+    void registroIncompletoDescartado(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("blobs");
+        byte[] hash;
+        try (BlobSegment segment = BlobSegment.open(path)) {
+            hash = segment.put(ByteBuffer.wrap(dados(100))).getHash();
+        }
+
+        // Acréscimo interrompido: cabeçalho completo, conteúdo parcial.
+        long completo = Files.size(path);
+        ByteBuffer torn = ByteBuffer.allocate(4 + BlobSegment.HASH + 10);
+        torn.putInt(5000);
+        Files.write(path, torn.array(), StandardOpenOption.APPEND);
+
+        try (BlobSegment segment = BlobSegment.open(path)) {
+            assertEquals(1, segment.count());
+            assertEquals(completo, Files.size(path));
+            assertEquals(ByteBuffer.wrap(dados(100)), segment.get(hash));
+            segment.put(ByteBuffer.wrap(dados(10)));
+        }
+
+        try (BlobSegment segment = BlobSegment.open(path)) {
+            assertEquals(2, segment.count());
+        }
+    }
+
+    @Test
+    void ultimoRegistroCorrompidoDescartado(@TempDir Path dir)
+            throws IOException {
+        Path path = dir.resolve("blobs");
+        byte[] primeiro;
+        byte[] ultimo;
+        long completo;
+        try (BlobSegment segment = BlobSegment.open(path)) {
+            primeiro = segment.put(ByteBuffer.wrap(dados(100))).getHash();
+            segment.flush();
+            completo = Files.size(path);
+            ultimo = segment.put(ByteBuffer.wrap(dados(200))).getHash();
+        }
+
+        // Conteúdo completo, mas não gravado como escrito (tamanho e hash
+        // preservados).
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        try (BlobSegment segment = BlobSegment.open(path)) {
+            assertEquals(1, segment.count());
+            assertTrue(segment.contains(primeiro));
+            assertFalse(segment.contains(ultimo));
+            assertEquals(completo, Files.size(path));
+            segment.put(ByteBuffer.wrap(dados(200)));
+        }
+
+        try (BlobSegment segment = BlobSegment.open(path)) {
+            assertEquals(ByteBuffer.wrap(dados(200)), segment.get(ultimo));
+        }
+    }
+
+    @Test
+    void conteudosAcrescentadosAposLeitura(@TempDir Path dir)
+            throws IOException {
+        try (BlobSegment segment = BlobSegment.open(dir.resolve("blobs"))) {
+            BlobSegment.Reference r1 = segment.put(ByteBuffer.wrap(dados(50)));
+            assertEquals(ByteBuffer.wrap(dados(50)), r1.data());
+
+            BlobSegment.Reference r2 = segment.put(ByteBuffer.wrap(dados(70)));
+            assertEquals(ByteBuffer.wrap(dados(70)), r2.data());
+            assertEquals(ByteBuffer.wrap(dados(50)), r1.data());
+            assertTrue(r2.data().isReadOnly());
+        }
+    }
+
+    @Test
+    void arquivoQueNaoESegmento(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("outro");
+        Files.write(path, new byte[]{1, 2, 3, 4, 5});
+        assertThrows(IOException.class, () -> BlobSegment.open(path));
+    }
+
+    @Test
+    void dadosAcimaDoLimiteForaDoBuffer() {
+        BlobSegment segment = BlobSegment.newInstance();
+        Buffer buffer = Buffer.newGrowableInstance();
+        buffer.setBlobSegment(segment, 1024);
+        RMObjectSerializationClient s = RMObjectSerializationClient.create(buffer);
+
+        byte[] data = dados(64 * 1024);
+        s.serializeDvMultimedia(dvMultimedia(data));
+        assertTrue(s.size() < 1024);
+        assertEquals(1, segment.count());
+
+        DvMultimedia d = s.deserializeDvMultimedia();
+        assertNotNull(d.getBlobReference());
+        assertEquals(data.length, d.getDataLength());
+        assertArrayEquals(data, d.getData());
+        assertEquals(RMObjectCodecs.of(DvMultimedia.class)
+                        .sizeOf(dvMultimedia(data)),
+                s.size() - BlobSegment.HASH - 4 + data.length);
+    }
+
+    @Test
+    void tamanhoSemObterConteudoDoSegmento() {
+        // Conteúdo ausente do segmento: o tamanho não depende dele.
+        BlobSegment.Reference blob = BlobSegment.newInstance()
+                .reference(new byte[BlobSegment.HASH], 5000);
+        DvMultimedia d = dvMultimedia(new byte[0]);
+        DvMultimedia externo = RMObjectFactory.newDvMultimediaBlob(
+                d.getDvEncapsulated(), d.getAlternateText(),
+                d.getMediaType(), d.getCompressionAlgorithm(),
+                d.getIntegrityCheck(), d.getIntegrityCheckAlgorithm(),
+                d.getThumbnail(), d.getUri(), blob);
+
+        assertThrows(IllegalStateException.class, blob::data);
+        assertEquals(RMObjectCodecs.of(DvMultimedia.class).sizeOf(d) + 5000,
+                RMObjectCodecs.of(DvMultimedia.class).sizeOf(externo));
+    }
+
+    @Test
+    void dadosAbaixoDoLimiteNoBuffer() {
+        Buffer buffer = Buffer.newGrowableInstance();
+        buffer.setBlobSegment(BlobSegment.newInstance(), 1024);
+        RMObjectSerializationClient s = RMObjectSerializationClient.create(buffer);
+
+        s.serializeDvMultimedia(dvMultimedia(dados(1024)));
+        DvMultimedia d = s.deserializeDvMultimedia();
+        assertNull(d.getBlobReference());
+        assertArrayEquals(dados(1024), d.getData());
+    }
+
+    @Test
+    void referenciaSemSegmento() {
+        Buffer buffer = Buffer.newGrowableInstance();
+        buffer.setBlobSegment(BlobSegment.newInstance(), 0);
+        RMObjectSerializationClient s = RMObjectSerializationClient.create(buffer);
+        s.serializeDvMultimedia(dvMultimedia(dados(100)));
+
+        DvMultimedia d = RMObjectCodecs.of(DvMultimedia.class)
+                .deserialize(Buffer.newInstance(s.getBytes()), 0);
+        assertEquals(100, d.getDataLength());
+        assertThrows(IllegalStateException.class, d::getData);
+    }
+
+    @Test
+    void dadosIncorporadosAoSerializarSemSegmento() {
+        Buffer buffer = Buffer.newGrowableInstance();
+        buffer.setBlobSegment(BlobSegment.newInstance(), 0);
+        RMObjectSerializationClient s = RMObjectSerializationClient.create(buffer);
+        s.serializeDvMultimedia(dvMultimedia(dados(100)));
+        DvMultimedia externo = s.deserializeDvMultimedia();
+
+        RMObjectSerializationClient outro = RMObjectSerializationClient.create();
+        outro.serializeDvMultimedia(externo);
+        DvMultimedia d = outro.deserializeDvMultimedia();
+        assertNull(d.getBlobReference());
+        assertArrayEquals(dados(100), d.getData());
+        assertFalse(Arrays.equals(s.getBytes(), outro.getBytes()));
+    }
+
+    @Test
+    void limiteNegativo() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Buffer.newGrowableInstance().setBlobSegment(
+                        BlobSegment.newInstance(), -1));
+    }
+}
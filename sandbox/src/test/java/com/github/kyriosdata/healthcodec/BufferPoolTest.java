@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BufferPoolTest {
+
+    @Test
+    void capacidadeArredondadaParaClasseDeTamanho() {
+        BufferPool pool = new BufferPool();
+        assertEquals(1024, pool.acquire(0).capacity());
+        assertEquals(1024, pool.acquire(1000).capacity());
+        assertEquals(2048, pool.acquire(1025).capacity());
+        assertTrue(pool.acquire(10).isGrowable());
+    }
+
+    @Test
+    void bufferDevolvidoReutilizado() {
+        BufferPool pool = new BufferPool();
+        Buffer buffer = pool.acquire(5000);
+        pool.release(buffer);
+        assertSame(buffer, pool.acquire(4097));
+        assertNotSame(buffer, pool.acquire(4097));
+    }
+
+    @Test
+    void bufferQueCresceuMudaDeClasse() {
+        BufferPool pool = new BufferPool();
+        Buffer buffer = pool.acquire(1024);
+        buffer.writeByte(3000, (byte) 1);
+        pool.release(buffer);
+        assertSame(buffer, pool.acquire(2048));
+    }
+
+    @Test
+    void configuracaoRestauradaAoDevolver() {
+        BufferPool pool = new BufferPool();
+        Buffer buffer = pool.acquire(1024);
+        buffer.setCompact(true);
+        buffer.setStringTable(StringTable.newInstance());
+        buffer.setBlobSegment(BlobSegment.newInstance(), 10);
+        buffer.setParallelism(ForkJoinPool.commonPool(), 2);
+        pool.release(buffer);
+
+        Buffer reutilizado = pool.acquire(1024);
+        assertSame(buffer, reutilizado);
+        assertFalse(reutilizado.isCompact());
+        assertNull(reutilizado.getStringTable());
+        assertNull(reutilizado.getBlobSegment());
+        assertEquals(0, reutilizado.getBlobThreshold());
+        assertNull(reutilizado.getForkJoinPool());
+    }
+
+    @Test
+    void bufferNaoExpansivelDescartado() {
+        BufferPool pool = new BufferPool();
+        Buffer buffer = Buffer.newInstance(new byte[1024]);
+        pool.release(buffer);
+        assertNotSame(buffer, pool.acquire(1024));
+    }
+
+    @Test
+    void quantidadeRetidaLimitada() {
+        BufferPool pool = new BufferPool(1);
+        Buffer primeiro = pool.acquire(1024);
+        Buffer segundo = pool.acquire(1024);
+        pool.release(primeiro);
+        pool.release(segundo);
+        assertSame(primeiro, pool.acquire(1024));
+        assertNotSame(segundo, pool.acquire(1024));
+    }
+
+    @Test
+    void bufferDevolvidoDuasVezesRecusado() {
+        BufferPool pool = new BufferPool();
+        Buffer buffer = pool.acquire(1024);
+        pool.release(buffer);
+        assertThrows(IllegalStateException.class, () -> pool.release(buffer));
+
+        assertSame(buffer, pool.acquire(1024));
+        pool.release(buffer);
+    }
+
+    @Test
+    void buffersForaDoHeapMantidosAParte() {
+        BufferPool pool = new BufferPool();
+        Buffer direto = pool.acquireDirect(1024);
+        assertTrue(direto.isDirect());
+        assertTrue(direto.isGrowable());
+        pool.release(direto);
+
+        Buffer heap = pool.acquire(1024);
+        assertNotSame(direto, heap);
+        assertFalse(heap.isDirect());
+        assertSame(direto, pool.acquireDirect(1024));
+
+        pool.release(heap);
+        assertNotSame(heap, pool.acquireDirect(1024));
+    }
+
+    @Test
+    void argumentosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new BufferPool(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BufferPool().acquire(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new BufferPool().acquireDirect(-1));
+    }
+}
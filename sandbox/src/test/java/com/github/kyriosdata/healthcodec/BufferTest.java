@@ -15,12 +15,28 @@
 
 package com.github.kyriosdata.healthcodec;
 
+import com.github.kyriosdata.healthcodec.RMObject.Composition;
+import com.github.kyriosdata.healthcodec.RMObjectSerialization.CompositionSerializer;
+import com.github.kyriosdata.healthcodec.composition.CompositionTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BufferTest {
 
@@ -60,4 +76,184 @@ class BufferTest {
         assertThrows(IndexOutOfBoundsException.class,
                 () -> buffer.readByte(1));
     }
+
+    @Test
+    void bufferExpansivelCresceConformeDemanda() {
+        Buffer buffer = Buffer.newGrowableInstance(4);
+        assertTrue(buffer.isGrowable());
+        assertEquals(4, buffer.capacity());
+
+        buffer.writeInteger(0, 23);
+        buffer.writeDouble(4, 1.5);
+        buffer.writeString(12, "openEHR");
+
+        assertTrue(buffer.capacity() >= 19);
+        assertEquals(23, buffer.readInteger(0));
+        assertEquals(1.5, buffer.readDouble(4));
+        assertEquals("openEHR", buffer.readString(12, 7));
+    }
+
+    @Test
+    void bufferNaoExpansivelPreservaLimites() {
+        Buffer buffer = Buffer.newInstance(new byte[2]);
+        assertFalse(buffer.isGrowable());
+        buffer.ensureCapacity(100);
+        assertEquals(2, buffer.capacity());
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> buffer.writeInteger(0, 1));
+    }
+
+    @Test
+    void capacidadeNegativaRejeitada() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Buffer.newGrowableInstance(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> Buffer.newDirectInstance(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> Buffer.newGrowableDirectInstance(-1));
+    }
+
+    @Test
+    void bufferDiretoCresceForaDoHeap() {
+        Buffer buffer = Buffer.newGrowableDirectInstance(2);
+        assertTrue(buffer.isDirect());
+        buffer.writeString(0, "SNOMED-CT");
+        assertTrue(buffer.isDirect());
+        assertEquals("SNOMED-CT", buffer.readString(0, 9));
+        assertEquals('S', buffer.data()[0]);
+    }
+
+    @Test
+    void bufferSobreByteBufferCompartilhaConteudo() {
+        ByteBuffer original = ByteBuffer.allocateDirect(8);
+        original.position(4);
+        Buffer buffer = Buffer.newInstance(original);
+        buffer.writeInteger(0, 7);
+        assertEquals(4, buffer.capacity());
+        assertEquals(7, original.getInt(4));
+    }
+
+    @Test
+    void serializacaoIdenticaEmTodosOsArmazenamentos(@TempDir Path dir)
+            throws IOException {
+        Composition c = RMObjectTestHelper.composition();
+        CompositionSerializer s = CompositionSerializer.INSTANCE;
+
+        Buffer heap = Buffer.newGrowableInstance();
+        int size = s.serialize(heap, 0, c);
+        byte[] esperado = Arrays.copyOf(heap.data(), size);
+
+        Buffer direto = Buffer.newDirectInstance(size);
+        assertEquals(size, s.serialize(direto, 0, c));
+        assertArrayEquals(esperado, direto.data());
+        CompositionTest.testValidComposition(s.deserialize(direto, 0));
+
+        Path arquivo = dir.resolve("composition.bin");
+        Buffer mapeado = Buffer.newMappedInstance(arquivo, size);
+        assertEquals(size, s.serialize(mapeado, 0, c));
+        mapeado.force();
+        assertArrayEquals(esperado, Files.readAllBytes(arquivo));
+
+        try (FileChannel channel = FileChannel.open(arquivo)) {
+            Buffer leitura = Buffer.newMappedInstance(channel,
+                    FileChannel.MapMode.READ_ONLY, 0, size);
+            CompositionTest.testValidComposition(s.deserialize(leitura, 0));
+            assertThrows(ReadOnlyBufferException.class,
+                    () -> leitura.writeByte(0, (byte) 1));
+        }
+    }
+
+    @Test
+    void codificacaoUtf8IdenticaAoJdk() {
+        String[] textos = {"", "at0001", "Pressão arterial", "日本語",
+                "emoji \uD83D\uDE00 fim", "isolado \uD800 e \uDC00"};
+
+        for (String texto : textos) {
+            byte[] esperado = texto.getBytes(StandardCharsets.UTF_8);
+            assertEquals(esperado.length, Buffer.sizeOf(texto));
+            for (Buffer buffer : new Buffer[] {Buffer.newGrowableInstance(1),
+                    Buffer.newGrowableDirectInstance(1)}) {
+                assertEquals(esperado.length, buffer.writeString(3, texto));
+                assertArrayEquals(esperado,
+                        buffer.readByteArray(3, esperado.length));
+                assertEquals(new String(esperado, StandardCharsets.UTF_8),
+                        buffer.readString(3, esperado.length));
+            }
+        }
+    }
+
+    @Test
+    void vetorDeBytesEmBloco() {
+        byte[] dados = {1, 2, 3, 4, 5};
+        for (Buffer buffer : new Buffer[] {Buffer.newGrowableInstance(1),
+                Buffer.newDirectInstance(16)}) {
+            buffer.writeByteArray(7, dados);
+            assertArrayEquals(dados, buffer.readByteArray(7, dados.length));
+            assertEquals(0, buffer.readByte(6));
+        }
+    }
+
+    @Test
+    void leituraForaDoBufferRejeitada() {
+        Buffer buffer = Buffer.newInstance(new byte[4]);
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> buffer.readString(2, 3));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> buffer.writeString(2, "abc"));
+    }
+
+    @Test
+    void apagaRegiao() {
+        for (Buffer b : new Buffer[] {
+                Buffer.newInstance(new byte[32]),
+                Buffer.newDirectInstance(32) }) {
+            for (int i = 0; i < 32; i++) {
+                b.writeByte(i, (byte) 0x7F);
+            }
+
+            b.clear(3, 21);
+            for (int i = 0; i < 32; i++) {
+                assertEquals(i >= 3 && i < 24 ? 0 : 0x7F, b.readByte(i));
+            }
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> b.clear(30, 3));
+        }
+    }
+
+    @Test
+    void varintDeTamanhoVariavel() {
+        Buffer buffer = Buffer.newGrowableInstance(1);
+        int[] valores = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE};
+        int[] tamanhos = {1, 1, 1, 2, 2, 3, 5};
+        for (int i = 0; i < valores.length; i++) {
+            assertEquals(tamanhos[i], Buffer.sizeOfVarInt(valores[i]));
+            assertEquals(tamanhos[i], buffer.writeVarInt(5, valores[i]));
+            assertEquals(valores[i], buffer.readVarInt(5));
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> buffer.writeVarInt(0, -1));
+    }
+
+    @Test
+    void perfilCompactoReduzSerializacao() {
+        Composition c = RMObjectTestHelper.composition();
+        CompositionSerializer s = CompositionSerializer.INSTANCE;
+
+        Buffer padrao = Buffer.newGrowableInstance();
+        int size = s.serialize(padrao, 0, c);
+        assertEquals(RMObjectCodecs.of(Composition.class).sizeOf(c), size);
+
+        Buffer compacto = Buffer.newGrowableInstance();
+        compacto.setCompact(true);
+        assertTrue(compacto.isCompact());
+        int compactSize = s.serialize(compacto, 0, c);
+        assertTrue(compactSize < size);
+        CompositionTest.testValidComposition(s.deserialize(compacto, 0));
+
+        Buffer copia = Buffer.newInstance(Arrays.copyOf(compacto.data(),
+                compactSize));
+        copia.setCompact(true);
+        CompositionTest.testValidComposition(s.deserialize(copia, 0));
+    }
 }
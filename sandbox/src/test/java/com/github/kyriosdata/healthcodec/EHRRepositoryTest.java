@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.Composition;
+import com.github.kyriosdata.healthcodec.RMObject.EHR;
+import com.github.kyriosdata.healthcodec.RMObject.HierObjectID;
+import com.github.kyriosdata.healthcodec.composition.CompositionTest;
+import com.github.kyriosdata.healthcodec.composition.ehr.EHRTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EHRRepositoryTest {
+
+    private static HierObjectID ehrId(int i) {
+        return RMObjectFactory.newHierObjectID("ehr" + i);
+    }
+
+    private static EHR ehr(int i) {
+        EHR e = RMObjectTestHelper.eHR();
+        return RMObjectFactory.newEHR(e.getSystemID(), ehrId(i),
+                e.getTimeCreated(), e.getContributions(), e.getEhrStatus(),
+                e.getDirectory(), e.getCompositions());
+    }
+
+    private static Composition composition(String language) {
+        Composition c = RMObjectTestHelper.composition();
+        return RMObjectFactory.newComposition(c.getLocatable(),
+                c.getContent(), RMObjectFactory.newCodePhrase(
+                        RMObjectTestHelper.terminologyID(), language),
+                c.getContext(), c.getComposer(), c.getCategory(),
+                c.getTerritory());
+    }
+
+    private static void assertLanguages(List<Composition> compositions,
+                                        String... languages) {
+        assertEquals(languages.length, compositions.size());
+        for (int i = 0; i < languages.length; i++) {
+            assertEquals(languages[i],
+                    compositions.get(i).getLanguage().getCodeString());
+        }
+    }
+
+    @Test
+    void ehrEComposicoesPreservados(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        try (EHRRepository repository = EHRRepository.open(path)) {
+            repository.put(RMObjectTestHelper.eHR());
+            HierObjectID id = RMObjectTestHelper.hierObjectID();
+            repository.addComposition(id, RMObjectTestHelper.composition());
+            EHRTest.testValidEHR(repository.getEHR(id));
+        }
+
+        try (EHRRepository repository = EHRRepository.open(path)) {
+            HierObjectID id = RMObjectTestHelper.hierObjectID();
+            assertEquals(1, repository.size());
+            EHRTest.testValidEHR(repository.getEHR(id));
+            assertEquals("value", repository.viewEHR(id).ehrID()
+                    .getUIDBasedID().getValue());
+
+            List<Composition> c = repository.getLatestCompositions(id, 10);
+            assertEquals(1, c.size());
+            CompositionTest.testValidComposition(c.get(0));
+        }
+    }
+
+    @Test
+    void composicoesMaisRecentes(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        try (EHRRepository repository = EHRRepository.open(path)) {
+            for (int i = 0; i < 100; i++) {
+                repository.put(ehr(i));
+            }
+
+            for (int i = 0; i < 5; i++) {
+                repository.addComposition(ehrId(7), composition("a" + i));
+                repository.addComposition(ehrId(42), composition("b" + i));
+            }
+
+            assertLanguages(repository.getLatestCompositions(ehrId(7), 3),
+                    "a4", "a3", "a2");
+        }
+
+        try (EHRRepository repository = EHRRepository.open(path)) {
+            assertEquals(100, repository.size());
+            for (int i = 0; i < 100; i++) {
+                assertTrue(repository.contains(ehrId(i)));
+            }
+
+            // O EHR substituído mantém as Compositions.
+            repository.put(ehr(42));
+            repository.addComposition(ehrId(42), composition("b5"));
+            assertEquals(100, repository.size());
+            assertLanguages(repository.getLatestCompositions(ehrId(42), 2),
+                    "b5", "b4");
+            assertLanguages(repository.getLatestCompositions(ehrId(7), 0));
+            assertTrue(repository.getLatestCompositions(ehrId(8), 5)
+                    .isEmpty());
+        }
+    }
+
+    @Test
+    void registroDeComposicaoNaoConfundidoComComposition(@TempDir Path dir)
+            throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        try (EHRRepository repository = EHRRepository.open(path)) {
+            repository.put(ehr(1));
+            repository.addComposition(ehrId(1), composition("a0"));
+        }
+
+        RMObjectContainer.Reader reader = RMObjectContainer.map(path);
+        assertEquals(RMObjectID.COMPOSITION, reader.id(1));
+        assertTrue(reader.variant(1) < 0);
+        assertThrows(IllegalArgumentException.class,
+                () -> reader.get(1, RMObjectCodecs.of(Composition.class)));
+    }
+
+    @Test
+    void ehrAusente(@TempDir Path dir) throws IOException {
+        try (EHRRepository repository =
+                     EHRRepository.open(dir.resolve("ehr.hcc"))) {
+            assertFalse(repository.contains(ehrId(1)));
+            assertNull(repository.getEHR(ehrId(1)));
+            assertNull(repository.viewEHR(ehrId(1)));
+            assertTrue(repository.getLatestCompositions(ehrId(1), 5)
+                    .isEmpty());
+            assertThrows(IllegalArgumentException.class,
+                    () -> repository.addComposition(ehrId(1),
+                            RMObjectTestHelper.composition()));
+            assertThrows(IllegalArgumentException.class,
+                    () -> repository.getLatestCompositions(ehrId(1), -1));
+        }
+    }
+
+    @Test
+    void indiceReconstruidoSemFechamento(@TempDir Path dir)
+            throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        Path copia = dir.resolve("copia.hcc");
+        try (EHRRepository repository = EHRRepository.open(path)) {
+            repository.put(ehr(1));
+            repository.addComposition(ehrId(1), composition("a0"));
+            repository.flush();
+            Files.copy(path, copia);
+        }
+
+        try (EHRRepository repository = EHRRepository.open(copia)) {
+            assertTrue(repository.contains(ehrId(1)));
+            assertLanguages(repository.getLatestCompositions(ehrId(1), 5),
+                    "a0");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IndexTest {
+
+    @Test
+    void posicoesMantidasPorTipoEOrdem() {
+        Index index = new Index();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, index.add(RMObjectID.OBSERVATION, i * 10));
+        }
+        index.add(RMObjectID.DVTEXT, 7);
+
+        assertEquals(100, index.count(RMObjectID.OBSERVATION));
+        assertEquals(1, index.count(RMObjectID.DVTEXT));
+        assertEquals(0, index.count(RMObjectID.DVBOOLEAN));
+        assertEquals(0, index.position(RMObjectID.OBSERVATION, 0));
+        assertEquals(990, index.position(RMObjectID.OBSERVATION, 99));
+        assertEquals(7, index.position(RMObjectID.DVTEXT, 0));
+    }
+
+    @Test
+    void todosOsIdentificadoresRegistrados() {
+        Index index = new Index();
+        for (RMObjectID id : RMObjectID.values()) {
+            assertEquals(0, index.add(id, id.ordinal()));
+        }
+
+        for (RMObjectID id : RMObjectID.values()) {
+            assertEquals(1, index.count(id));
+            assertEquals(id.ordinal(), index.position(id, 0));
+        }
+    }
+
+    @Test
+    void segmentosMantidosAParte() {
+        Index index = new Index();
+        index.add(RMObjectID.CODEPHRASE, 3);
+        assertEquals(0, index.addBatch(40));
+        assertEquals(1, index.addBatch(80));
+
+        assertEquals(2, index.batches());
+        assertEquals(80, index.batch(1));
+        assertEquals(1, index.count(RMObjectID.CODEPHRASE));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.batch(2));
+
+        index.reset();
+        assertEquals(0, index.batches());
+    }
+
+    @Test
+    void instanciaInexistente() {
+        Index index = new Index();
+        index.add(RMObjectID.DVTEXT, 7);
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> index.position(RMObjectID.DVTEXT, 1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> index.position(RMObjectID.DVTEXT, -1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> index.position(RMObjectID.DVBOOLEAN, 0));
+    }
+
+    @Test
+    void reinicioDescartaRegistros() {
+        Index index = new Index();
+        index.add(RMObjectID.DVTEXT, 7);
+        index.add(RMObjectID.DVTEXT, 9);
+        index.reset();
+
+        assertEquals(0, index.count(RMObjectID.DVTEXT));
+        assertEquals(0, index.add(RMObjectID.DVTEXT, 11));
+        assertEquals(11, index.position(RMObjectID.DVTEXT, 0));
+    }
+}
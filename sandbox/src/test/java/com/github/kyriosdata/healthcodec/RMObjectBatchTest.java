@@ -0,0 +1,124 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.CodePhrase;
+import com.github.kyriosdata.healthcodec.RMObject.ObservationWithItemTreeItemSingle;
+import com.github.kyriosdata.healthcodec.RMObject.ObservationWithItemTreeItemTree;
+import com.github.kyriosdata.healthcodec.composition.content.entry.ObservationTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RMObjectBatchTest {
+
+    private static List<CodePhrase> codePhrases(int quantidade) {
+        List<CodePhrase> codes = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            codes.add(RMObjectFactory.newCodePhrase(
+                    RMObjectTestHelper.terminologyID(), "code" + i));
+        }
+
+        return codes;
+    }
+
+    @Test
+    void observationsEmUmUnicoSegmento() {
+        List<ObservationWithItemTreeItemTree> observations =
+                Collections.nCopies(1000,
+                        RMObjectTestHelper.observationWithItemTreeItemTree());
+
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeAll(ObservationWithItemTreeItemTree.class,
+                        observations);
+        assertEquals(1, s.batches());
+        assertEquals(0, s.instances(RMObjectID.OBSERVATION));
+
+        List<ObservationWithItemTreeItemTree> lidas =
+                s.deserializeAll(ObservationWithItemTreeItemTree.class);
+        assertEquals(1000, lidas.size());
+        lidas.forEach(ObservationTest::testValidObservationWithItemTreeItemTree);
+    }
+
+    @Test
+    void iteracaoDeserializaSobDemanda() {
+        RMObjectCodec<CodePhrase> codec = RMObjectCodecs.of(CodePhrase.class);
+        Buffer buffer = Buffer.newGrowableInstance();
+        int fim = RMObjectBatch.serialize(buffer, 0, codec, codePhrases(10));
+
+        assertEquals(10, RMObjectBatch.count(buffer, 0));
+        assertEquals("code7",
+                RMObjectBatch.get(buffer, 0, codec, 7).getCodeString());
+
+        // Objetos posteriores ao terceiro são corrompidos, mas não alcançados.
+        buffer.writeInteger(4 * (3 + 3), fim + 1000);
+        Iterator<CodePhrase> iterator =
+                RMObjectBatch.iterate(buffer, 0, codec).iterator();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("code" + i, iterator.next().getCodeString());
+        }
+
+        assertTrue(iterator.hasNext());
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> RMObjectBatch.get(buffer, 0, codec, 10));
+    }
+
+    @Test
+    void selecaoEntreSegmentos() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeAll(CodePhrase.class, codePhrases(3))
+                .serializeAll(CodePhrase.class, Collections.emptyList());
+
+        assertFalse(s.iterateAll(CodePhrase.class).iterator().hasNext());
+
+        List<String> codes = new ArrayList<>();
+        for (CodePhrase c : s.select(0).iterateAll(CodePhrase.class)) {
+            codes.add(c.getCodeString());
+        }
+
+        assertEquals(List.of("code0", "code1", "code2"), codes);
+    }
+
+    @Test
+    void segmentoDeOutraVariante() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeAll(ObservationWithItemTreeItemTree.class,
+                        List.of(RMObjectTestHelper
+                                .observationWithItemTreeItemTree()));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> s.iterateAll(ObservationWithItemTreeItemSingle.class));
+        assertEquals(1, s.deserializeAll(
+                ObservationWithItemTreeItemTree.class).size());
+    }
+
+    @Test
+    void segmentoDeOutroTipo() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeAll(CodePhrase.class, codePhrases(2));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> s.deserializeAll(RMObject.DVURI.class));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.Composition;
+import com.github.kyriosdata.healthcodec.RMObject.ObservationWithItemTreeItemTree;
+import com.github.kyriosdata.healthcodec.composition.CompositionTest;
+import com.github.kyriosdata.healthcodec.composition.content.entry.ObservationTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RMObjectCodecsTest {
+
+    @Test
+    void codecObtidoPelaClasse() {
+        RMObjectCodec<Composition> codec = RMObjectCodecs.of(Composition.class);
+        assertEquals(RMObjectID.COMPOSITION, codec.id());
+        assertSame(Composition.class, codec.type());
+        assertSame(codec, RMObjectCodecs.of(Composition.class));
+
+        Buffer buffer = Buffer.newGrowableInstance();
+        Composition composition = RMObjectTestHelper.composition();
+        int fim = codec.serialize(buffer, 100, composition);
+
+        assertEquals(fim - 100, codec.sizeOf(composition));
+        CompositionTest.testValidComposition(codec.deserialize(buffer, 100));
+    }
+
+    @Test
+    void codecsObtidosPeloIdentificador() {
+        List<RMObjectCodec<?>> variantes =
+                RMObjectCodecs.of(RMObjectID.OBSERVATION);
+        assertEquals(9, variantes.size());
+        assertTrue(variantes.contains(
+                RMObjectCodecs.of(ObservationWithItemTreeItemTree.class)));
+
+        assertEquals(1, RMObjectCodecs.of(RMObjectID.DVBOOLEAN).size());
+        assertTrue(RMObjectCodecs.of(RMObjectID.UNKNOWN).isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+                () -> variantes.remove(0));
+    }
+
+    @Test
+    void codecDeVariante() {
+        RMObjectCodec<ObservationWithItemTreeItemTree> codec =
+                RMObjectCodecs.of(ObservationWithItemTreeItemTree.class);
+
+        Buffer buffer = Buffer.newGrowableInstance();
+        codec.serialize(buffer, 0,
+                RMObjectTestHelper.observationWithItemTreeItemTree());
+        ObservationTest.testValidObservationWithItemTreeItemTree(
+                codec.deserialize(buffer, 0));
+    }
+
+    @Test
+    void codigosDeVarianteDistintosEEstaveis() {
+        RMObjectCodec<?> codec = RMObjectCodecs.of(
+                RMObject.ObservationWithItemTableItemTable.class);
+        assertEquals(9, codec.variant());
+        assertSame(codec, RMObjectCodecs.of(RMObjectID.OBSERVATION, 9));
+        assertEquals(0, RMObjectCodecs.of(Composition.class).variant());
+        assertNull(RMObjectCodecs.of(RMObjectID.OBSERVATION, 0));
+
+        for (RMObjectID id : RMObjectID.values()) {
+            List<RMObjectCodec<?>> codecs = RMObjectCodecs.of(id);
+            for (RMObjectCodec<?> c : codecs) {
+                assertSame(c, RMObjectCodecs.of(id, c.variant()));
+            }
+        }
+    }
+
+    @Test
+    void tipoSemCodec() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RMObjectCodecs.of(String.class));
+    }
+}
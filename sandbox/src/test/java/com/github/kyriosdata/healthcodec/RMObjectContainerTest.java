@@ -0,0 +1,268 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.CodePhrase;
+import com.github.kyriosdata.healthcodec.RMObject.Composition;
+import com.github.kyriosdata.healthcodec.RMObject.EHRExtract;
+import com.github.kyriosdata.healthcodec.RMObject.ObservationWithItemTreeItemTable;
+import com.github.kyriosdata.healthcodec.RMObject.ObservationWithItemTreeItemTree;
+import com.github.kyriosdata.healthcodec.composition.CompositionTest;
+import com.github.kyriosdata.healthcodec.composition.content.entry.ObservationTest;
+import com.github.kyriosdata.healthcodec.composition.ehrextract.EHRExtractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RMObjectContainerTest {
+
+    private static final RMObjectCodec<CodePhrase> CODE_PHRASE =
+            RMObjectCodecs.of(CodePhrase.class);
+
+    private static CodePhrase codePhrase(int i) {
+        return RMObjectFactory.newCodePhrase(
+                RMObjectTestHelper.terminologyID(), "code" + i);
+    }
+
+    private static void append(Path path, int from, int to)
+            throws IOException {
+        try (RMObjectContainer container = RMObjectContainer.open(path)) {
+            for (int i = from; i < to; i++) {
+                assertEquals(i, container.append(CODE_PHRASE, codePhrase(i)));
+            }
+        }
+    }
+
+    private static void assertCodes(RMObjectContainer.Reader reader,
+                                    int count) {
+        assertEquals(count, reader.count());
+        for (int i = count - 1; i >= 0; i--) {
+            assertEquals(RMObjectID.CODEPHRASE, reader.id(i));
+            assertEquals("code" + i,
+                    reader.get(i, CODE_PHRASE).getCodeString());
+        }
+    }
+
+    @Test
+    void registrosAcessadosPelaOrdem(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        append(path, 0, 5000);
+
+        RMObjectContainer.Reader reader = RMObjectContainer.map(path);
+        assertCodes(reader, 5000);
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.id(5000));
+        assertThrows(IllegalArgumentException.class,
+                () -> reader.get(0, RMObjectCodecs.of(EHRExtract.class)));
+    }
+
+    @Test
+    void acrescimosAposReabrir(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        append(path, 0, 3);
+        append(path, 3, 10);
+
+        try (RMObjectContainer container = RMObjectContainer.open(path)) {
+            assertEquals(10, container.count());
+        }
+
+        assertCodes(RMObjectContainer.map(path), 10);
+    }
+
+    @Test
+    void documentosDeClientes(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        Buffer compacto = Buffer.newGrowableInstance();
+        compacto.setCompact(true);
+        try (RMObjectContainer container = RMObjectContainer.open(path)) {
+            container.append(RMObjectCodecs.of(EHRExtract.class),
+                    RMObjectSerializationClient.create().serializeEHRExtract(
+                            RMObjectTestHelper.ehrExtract()));
+            container.append(RMObjectCodecs.of(Composition.class),
+                    RMObjectSerializationClient.create(compacto)
+                            .serializeComposition(
+                                    RMObjectTestHelper.composition()));
+        }
+
+        RMObjectContainer.Reader reader = RMObjectContainer.map(path);
+        EHRExtractTest.testValidEHRExtract(
+                reader.get(0, RMObjectCodecs.of(EHRExtract.class)));
+        CompositionTest.testValidComposition(
+                reader.get(1, RMObjectCodecs.of(Composition.class)));
+    }
+
+    @Test
+    void indiceReconstruidoSemFechamento(@TempDir Path dir)
+            throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        Path copia = dir.resolve("copia.hcc");
+        try (RMObjectContainer container = RMObjectContainer.open(path)) {
+            for (int i = 0; i < 4; i++) {
+                container.append(CODE_PHRASE, codePhrase(i));
+            }
+
+            container.flush();
+            Files.copy(path, copia);
+        }
+
+        // Registro incompleto, como após uma falha durante a escrita.
+        Files.write(copia, new byte[]{0, 0, 1, 0, 0, 0},
+                StandardOpenOption.APPEND);
+        assertCodes(RMObjectContainer.map(copia), 4);
+
+        append(copia, 4, 6);
+        assertCodes(RMObjectContainer.map(copia), 6);
+    }
+
+    @Test
+    void indiceTruncado(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        append(path, 0, 20);
+
+        // Índice incompleto, como após uma falha durante o fechamento.
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 6);
+        }
+
+        assertCodes(RMObjectContainer.map(path), 20);
+        append(path, 20, 21);
+        assertCodes(RMObjectContainer.map(path), 21);
+    }
+
+    @Test
+    void tamanhoDeRegistroInvalido(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        append(path, 0, 2);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.WRITE)) {
+            // Substitui o índice (2 posições e final) por registro inválido.
+            long end = channel.size() - 2 * Long.BYTES - 16;
+            channel.truncate(end);
+            ByteBuffer registro = ByteBuffer.allocate(10);
+            registro.putInt(-9).putInt(RMObjectID.CODEPHRASE.getValue())
+                    .put((byte) 0).put((byte) 0).flip();
+            channel.write(registro, end);
+        }
+
+        assertCodes(RMObjectContainer.map(path), 2);
+        try (RMObjectContainer container = RMObjectContainer.open(path)) {
+            assertEquals(2, container.count());
+            assertThrows(IllegalArgumentException.class,
+                    () -> container.append(CODE_PHRASE,
+                            ByteBuffer.allocate(0)));
+        }
+    }
+
+    @Test
+    void varianteDoRegistroVerificada(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        RMObjectCodec<ObservationWithItemTreeItemTree> tree =
+                RMObjectCodecs.of(ObservationWithItemTreeItemTree.class);
+        RMObjectCodec<ObservationWithItemTreeItemTable> table =
+                RMObjectCodecs.of(ObservationWithItemTreeItemTable.class);
+        try (RMObjectContainer container = RMObjectContainer.open(path)) {
+            container.append(tree,
+                    RMObjectTestHelper.observationWithItemTreeItemTree());
+        }
+
+        RMObjectContainer.Reader reader = RMObjectContainer.map(path);
+        assertEquals(tree.variant(), reader.variant(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> reader.get(0, table));
+        ObservationTest.testValidObservationWithItemTreeItemTree(
+                reader.get(0, tree));
+
+        // Variante sem codec: o registro não é considerado válido.
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - Long.BYTES - 16);
+            channel.write(ByteBuffer.wrap(new byte[]{100}), 4 + 2 * 4);
+        }
+
+        assertEquals(0, RMObjectContainer.map(path).count());
+    }
+
+    @Test
+    void leitorMapeiaApenasAcrescimos(@TempDir Path dir) throws IOException {
+        try (RMObjectContainer container =
+                     RMObjectContainer.open(dir.resolve("ehr.hcc"))) {
+            container.append(CODE_PHRASE, codePhrase(0));
+            RMObjectContainer.Reader primeiro = container.reader();
+            assertSame(primeiro, container.reader());
+
+            for (int i = 1; i < 2000; i++) {
+                container.append(CODE_PHRASE, codePhrase(i));
+                RMObjectContainer.Reader reader = container.reader();
+                assertEquals("code" + i,
+                        reader.get(i, CODE_PHRASE).getCodeString());
+                assertTrue(reader.regions() <= 32);
+            }
+
+            assertCodes(container.reader(), 2000);
+            assertCodes(primeiro, 1);
+        }
+    }
+
+    @Test
+    void acrescimoAlemDaCapacidadeRecusado(@TempDir Path dir)
+            throws IOException {
+        Path path = dir.resolve("ehr.hcc");
+        int count;
+        try (RMObjectContainer container =
+                     RMObjectContainer.open(path, 1024)) {
+            IOException e = null;
+            while (e == null) {
+                try {
+                    container.append(CODE_PHRASE, codePhrase(
+                            container.count()));
+                } catch (IOException excedido) {
+                    e = excedido;
+                }
+            }
+
+            count = container.count();
+            assertCodes(container.reader(), count);
+        }
+
+        assertTrue(Files.size(path) <= 1024);
+        assertCodes(RMObjectContainer.map(path), count);
+        try (RMObjectContainer container =
+                     RMObjectContainer.open(path, 1024)) {
+            assertEquals(count, container.count());
+            assertThrows(IOException.class,
+                    () -> container.append(CODE_PHRASE, codePhrase(count)));
+        }
+    }
+
+    @Test
+    void arquivoQueNaoEContainer(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("outro");
+        Files.write(path, new byte[]{1, 2, 3, 4, 5});
+        assertThrows(IOException.class, () -> RMObjectContainer.open(path));
+        assertThrows(IOException.class, () -> RMObjectContainer.map(path));
+    }
+}
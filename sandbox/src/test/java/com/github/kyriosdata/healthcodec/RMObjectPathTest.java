@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.Composition;
+import com.github.kyriosdata.healthcodec.RMObject.DvCodedText;
+import com.github.kyriosdata.healthcodec.RMObject.DvText;
+import com.github.kyriosdata.healthcodec.RMObject.EventWithItemTree;
+import com.github.kyriosdata.healthcodec.RMObject.Item;
+import com.github.kyriosdata.healthcodec.RMObject.ObjectRef;
+import com.github.kyriosdata.healthcodec.RMObjectPath.Node;
+import com.github.kyriosdata.healthcodec.RMObjectPath.Type;
+import com.github.kyriosdata.healthcodec.datastructure.history.EventTest;
+import com.github.kyriosdata.healthcodec.datastructure.itemstructure.representation.ItemTest;
+import com.github.kyriosdata.healthcodec.datatypes.text.DvCodedTextTest;
+import com.github.kyriosdata.healthcodec.datatypes.text.DvTextTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RMObjectPathTest {
+
+    @Test
+    void atributoDeComposition() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeDvBoolean(RMObjectTestHelper.dvBoolean(true))
+                .serializeComposition(RMObjectTestHelper.composition());
+        int offset = s.offsetOf(RMObjectID.COMPOSITION, 0);
+
+        DvCodedText category = (DvCodedText) RMObjectPath.compile("/category")
+                .decode(Buffer.newInstance(s.getBytes()), offset, Type.COMPOSITION);
+        DvCodedTextTest.testValidDvCodedText(category);
+    }
+
+    @Test
+    void atributoHerdadoDeLocatable() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeComposition(RMObjectTestHelper.composition());
+
+        Buffer buffer = Buffer.newInstance(s.getBytes());
+        DvTextTest.testValidDvText((DvText) RMObjectPath.compile("/name")
+                .decode(buffer, 0, Type.COMPOSITION));
+        assertEquals("value", RMObjectPath.compile("/archetype_node_id")
+                .decode(buffer, 0, Type.COMPOSITION));
+        DvTextTest.testValidDvText((DvText) RMObjectPath
+                .compile("/content[0]/name")
+                .decode(buffer, 0, Type.COMPOSITION));
+    }
+
+    @Test
+    void atributoOpcionalAusente() {
+        Composition c = RMObjectTestHelper.composition();
+        Composition semOpcionais = RMObjectFactory.newComposition(
+                c.getLocatable(), null, c.getLanguage(), null,
+                c.getComposer(), c.getCategory(), c.getTerritory());
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeComposition(semOpcionais);
+
+        assertNull(RMObjectPath.compile("/content[0]/name")
+                .resolve(Buffer.newInstance(s.getBytes()), 0, Type.COMPOSITION));
+        assertNull(RMObjectPath.compile("/context")
+                .decode(Buffer.newInstance(s.getBytes()), 0, Type.COMPOSITION));
+    }
+
+    @Test
+    void caminhoEmObservation() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create();
+        for (int i = 0; i < 2; i++) {
+            s.serializeObservation(
+                    RMObjectTestHelper.observationWithItemTreeItemTree());
+        }
+        int offset = s.offsetOf(RMObjectID.OBSERVATION, 1);
+        Buffer buffer = Buffer.newInstance(s.getBytes());
+        Type root = Type.OBSERVATION_ITEM_TREE_ITEM_TREE;
+
+        Node events = RMObjectPath.compile("/data/events")
+                .resolve(buffer, offset, root);
+        assertTrue(events.isList());
+        assertSame(Type.EVENT_ITEM_TREE, events.type());
+        assertEquals(1, events.size());
+        EventTest.testValidEventWithItemTree(
+                (EventWithItemTree) events.element(0).decode());
+
+        Item item = (Item) RMObjectPath.compile("/data/events[0]/data/items[0]")
+                .decode(buffer, offset, root);
+        ItemTest.testValidItem(item);
+
+        DvTextTest.testValidDvText((DvText) RMObjectPath
+                .compile("/data/events[0]/data/items[0]/name")
+                .decode(buffer, offset, root));
+        assertEquals("value", RMObjectPath.compile("/archetype_node_id")
+                .decode(buffer, offset, root));
+    }
+
+    @Test
+    void listaDeEHR() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeEHR(RMObjectTestHelper.eHR());
+
+        ObjectRef ref = (ObjectRef) RMObjectPath.compile("/compositions[0]")
+                .decode(Buffer.newInstance(s.getBytes()), 0, Type.EHR);
+        assertEquals("VERSIONED_COMPOSITION", ref.getType());
+
+        List<?> todas = (List<?>) RMObjectPath.compile("/compositions")
+                .decode(Buffer.newInstance(s.getBytes()), 0, Type.EHR);
+        assertEquals(RMObjectTestHelper.eHR().getCompositions().size(),
+                todas.size());
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> RMObjectPath.compile("/compositions[99]")
+                        .resolve(Buffer.newInstance(s.getBytes()), 0, Type.EHR));
+    }
+
+    @Test
+    void caminhosInvalidos() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RMObjectPath.compile("category"));
+        assertThrows(IllegalArgumentException.class,
+                () -> RMObjectPath.compile("/content[x]"));
+        assertThrows(IllegalArgumentException.class,
+                () -> RMObjectPath.compile("/a//b"));
+
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeComposition(RMObjectTestHelper.composition());
+        assertThrows(IllegalArgumentException.class,
+                () -> RMObjectPath.compile("/inexistente")
+                        .resolve(Buffer.newInstance(s.getBytes()), 0, Type.COMPOSITION));
+        assertThrows(IllegalArgumentException.class,
+                () -> RMObjectPath.compile("/category[0]")
+                        .resolve(Buffer.newInstance(s.getBytes()), 0, Type.COMPOSITION));
+        assertThrows(IllegalArgumentException.class,
+                () -> RMObjectPath.compile("/content/name")
+                        .resolve(Buffer.newInstance(s.getBytes()), 0, Type.COMPOSITION));
+    }
+
+    @Test
+    void caminhoNoPerfilCompacto() {
+        Buffer buffer = Buffer.newGrowableInstance();
+        buffer.setCompact(true);
+        RMObjectSerializationClient.create(buffer)
+                .serializeComposition(RMObjectTestHelper.composition());
+
+        DvCodedTextTest.testValidDvCodedText((DvCodedText) RMObjectPath
+                .compile("/category").decode(buffer, 0, Type.COMPOSITION));
+        assertEquals("value", RMObjectPath.compile("/content[0]/archetype_node_id")
+                .decode(buffer, 0, Type.COMPOSITION));
+        assertEquals(1, RMObjectPath.compile("/links")
+                .resolve(buffer, 0, Type.COMPOSITION).size());
+    }
+}
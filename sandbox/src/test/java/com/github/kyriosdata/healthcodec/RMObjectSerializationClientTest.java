@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.composition.CompositionTest;
+import com.github.kyriosdata.healthcodec.composition.content.entry.ObservationTest;
+import com.github.kyriosdata.healthcodec.composition.ehr.EHRTest;
+import com.github.kyriosdata.healthcodec.composition.ehrextract.EHRExtractTest;
+import com.github.kyriosdata.healthcodec.composition.message.MessageTest;
+import com.github.kyriosdata.healthcodec.datatypes.uri.DvEHRURITest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RMObjectSerializationClientTest {
+
+    @Test
+    void tamanhoExatoDoConteudoSerializado() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeDvBoolean(RMObjectTestHelper.dvBoolean(true));
+
+        assertEquals(1, s.size());
+        assertArrayEquals(new byte[] {1}, s.getBytes());
+        assertTrue(s.getBuffer().length > s.size());
+    }
+
+    @Test
+    void visaoSomenteLeitura() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeComposition(RMObjectTestHelper.composition());
+
+        ByteBuffer visao = s.asByteBuffer();
+        assertEquals(s.size(), visao.remaining());
+        assertTrue(visao.isReadOnly());
+        assertThrows(java.nio.ReadOnlyBufferException.class,
+                () -> visao.put(0, (byte) 0));
+    }
+
+    @Test
+    void escritaEmFluxoECanal() throws IOException {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeComposition(RMObjectTestHelper.composition());
+
+        ByteArrayOutputStream fluxo = new ByteArrayOutputStream();
+        assertEquals(s.size(), s.writeTo(fluxo));
+        assertArrayEquals(s.getBytes(), fluxo.toByteArray());
+
+        ByteArrayOutputStream destino = new ByteArrayOutputStream();
+        assertEquals(s.size(), s.writeTo(Channels.newChannel(destino)));
+        assertArrayEquals(s.getBytes(), destino.toByteArray());
+    }
+
+    @Test
+    void serializacaoSeguinteNaoSobrescreveAnterior() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeDvEHRURI(RMObjectTestHelper.dvEHRURI())
+                .serializeDvBoolean(RMObjectTestHelper.dvBoolean(true));
+
+        DvEHRURITest.testValidDvEHRURI(s.deserializeDvEHRURI());
+        assertTrue(s.deserializeDvBoolean().getValue());
+    }
+
+    @Test
+    void todasAsInstanciasDeUmTipoSaoMantidas() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeDvBoolean(RMObjectTestHelper.dvBoolean(true))
+                .serializeDvBoolean(RMObjectTestHelper.dvBoolean(false))
+                .serializeDvBoolean(RMObjectTestHelper.dvBoolean(true));
+
+        assertEquals(3, s.instances(RMObjectID.DVBOOLEAN));
+        assertEquals(0, s.offsetOf(RMObjectID.DVBOOLEAN, 0));
+        assertEquals(1, s.offsetOf(RMObjectID.DVBOOLEAN, 1));
+        assertEquals(2, s.offsetOf(RMObjectID.DVBOOLEAN, 2));
+
+        assertTrue(s.select(0).deserializeDvBoolean().getValue());
+        assertFalse(s.select(1).deserializeDvBoolean().getValue());
+
+        // Sem seleção, a última instância é recuperada.
+        assertTrue(s.deserializeDvBoolean().getValue());
+        assertEquals(0, s.instances(RMObjectID.DVTEXT));
+    }
+
+    @Test
+    void percorrerInstanciasDeObservation() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create();
+        for (int i = 0; i < 5; i++) {
+            s.serializeObservation(
+                    RMObjectTestHelper.observationWithItemTreeItemTree());
+        }
+
+        int total = s.instances(RMObjectID.OBSERVATION);
+        assertEquals(5, total);
+        for (int i = 0; i < total; i++) {
+            ObservationTest.testValidObservationWithItemTreeItemTree(s.select(i)
+                    .deserializeObservationWithItemTreeItemTree());
+        }
+    }
+
+    @Test
+    void instanciaInexistente() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeDvBoolean(RMObjectTestHelper.dvBoolean(true));
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> s.offsetOf(RMObjectID.DVBOOLEAN, 1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> s.select(-1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> s.select(1).deserializeDvBoolean());
+        assertThrows(IndexOutOfBoundsException.class,
+                s::deserializeDvText);
+    }
+
+    @Test
+    void reinicioPermiteReutilizarInstancia() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeComposition(RMObjectTestHelper.composition());
+        byte[] esperado = s.getBytes();
+
+        s.reset().serializeDvBoolean(RMObjectTestHelper.dvBoolean(false));
+        assertEquals(1, s.size());
+        assertEquals(1, s.instances(RMObjectID.DVBOOLEAN));
+        assertEquals(0, s.instances(RMObjectID.COMPOSITION));
+        assertFalse(s.deserializeDvBoolean().getValue());
+
+        s.reset().serializeComposition(RMObjectTestHelper.composition());
+        assertArrayEquals(esperado, s.getBytes());
+        CompositionTest.testValidComposition(s.deserializeComposition());
+    }
+
+    @Test
+    void conteudoAnteriorDoBufferNaoAfetaSerializacao() {
+        byte[] lixo = new byte[1 << 20];
+        Arrays.fill(lixo, (byte) 0x5A);
+        RMObjectSerializationClient s =
+                RMObjectSerializationClient.create(Buffer.newInstance(lixo));
+
+        s.serializeComposition(RMObjectTestHelper.composition());
+        assertArrayEquals(RMObjectSerializationClient.create()
+                .serializeComposition(RMObjectTestHelper.composition())
+                .getBytes(), s.getBytes());
+        CompositionTest.testValidComposition(s.deserializeComposition());
+
+        s.reset().serializeEHR(RMObjectTestHelper.eHR());
+        EHRTest.testValidEHR(s.deserializeEHR());
+
+        s.reset().serializeEHRExtract(RMObjectTestHelper.ehrExtract());
+        EHRExtractTest.testValidEHRExtract(s.deserializeEHRExtract());
+
+        s.reset().serializeMessage(RMObjectTestHelper.message());
+        MessageTest.testValidMessage(s.deserializeMessage());
+
+        s.reset().serializeObservation(
+                RMObjectTestHelper.observationWithItemTreeItemTree());
+        ObservationTest.testValidObservationWithItemTreeItemTree(
+                s.deserializeObservationWithItemTreeItemTree());
+    }
+
+    @Test
+    void regiaoEscritaApagadaAoReutilizarBuffer() {
+        Buffer buffer = Buffer.newGrowableInstance(1 << 20);
+        buffer.writeInteger(5000, -1);
+        RMObjectSerializationClient.create(buffer);
+        assertEquals(0, buffer.readInteger(5000));
+
+        RMObjectSerializationClient.create(buffer)
+                .serializeComposition(RMObjectTestHelper.composition());
+        buffer.writeByte((1 << 20) - 1, (byte) 1);
+        RMObjectSerializationClient s = RMObjectSerializationClient
+                .create(buffer)
+                .serializeObservation(
+                        RMObjectTestHelper.observationWithItemTreeItemTree());
+        assertArrayEquals(RMObjectSerializationClient.create()
+                .serializeObservation(
+                        RMObjectTestHelper.observationWithItemTreeItemTree())
+                .getBytes(), s.getBytes());
+        assertEquals(0, buffer.readByte((1 << 20) - 1));
+    }
+
+    @Test
+    void instanciaLocalDaThreadReiniciada() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.local()
+                .serializeDvBoolean(RMObjectTestHelper.dvBoolean(true));
+        assertEquals(1, s.size());
+
+        RMObjectSerializationClient outra = RMObjectSerializationClient.local();
+        assertSame(s, outra);
+        assertEquals(0, outra.size());
+        assertEquals(0, outra.instances(RMObjectID.DVBOOLEAN));
+    }
+
+    @Test
+    void bufferObtidoDeRepositorio() {
+        BufferPool pool = new BufferPool();
+        Buffer buffer = pool.acquire(4096);
+
+        RMObjectSerializationClient s = RMObjectSerializationClient
+                .create(buffer)
+                .serializeComposition(RMObjectTestHelper.composition());
+        CompositionTest.testValidComposition(s.deserializeComposition());
+        pool.release(buffer);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> RMObjectSerializationClient.create(null));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.Composition;
+import com.github.kyriosdata.healthcodec.RMObject.ContentItem;
+import com.github.kyriosdata.healthcodec.RMObject.DvBoolean;
+import com.github.kyriosdata.healthcodec.RMObject.EHRExtract;
+import com.github.kyriosdata.healthcodec.RMObject.XComposition;
+import com.github.kyriosdata.healthcodec.RMObject.XFolder;
+import com.github.kyriosdata.healthcodec.common.archetyped.LocatableTest;
+import com.github.kyriosdata.healthcodec.composition.CompositionTest;
+import com.github.kyriosdata.healthcodec.composition.ehrextract.XFolderTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RMObjectStreamReaderTest {
+
+    private static byte[] stream(Composition c, XFolder f, EHRExtract e)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RMObjectStreamWriter w = RMObjectStreamWriter.create(out)) {
+            w.write(DvBoolean.class, RMObjectTestHelper.dvBoolean(true))
+                    .writeComposition(c)
+                    .writeXFolder(f)
+                    .writeEHRExtract(e);
+        }
+
+        return out.toByteArray();
+    }
+
+    private static EHRExtract ehrExtractComDiretorio() {
+        EHRExtract e = RMObjectTestHelper.ehrExtract();
+        return RMObjectFactory.newEHRExtract(e.getTimeCreated(), e.getEhrId(),
+                e.getSubjectOfCare(), e.getOriginator(),
+                e.getOtherParticipations(), e.isIncludeMultimedia(),
+                e.getFollowLinks(), RMObjectTestHelper.xFolder(),
+                e.getTerminology(), e.getDemographics(),
+                e.getAccessControl());
+    }
+
+    @Test
+    void objetosMontadosAPartirDasPartes() throws IOException {
+        byte[] bytes = stream(RMObjectTestHelper.composition(),
+                RMObjectTestHelper.xFolder(), ehrExtractComDiretorio());
+        RMObjectStreamReader r = RMObjectStreamReader.create(
+                new ByteArrayInputStream(bytes));
+
+        assertSame(RMObjectID.DVBOOLEAN, r.next());
+        assertTrue(r.isRoot());
+        assertTrue(r.value(DvBoolean.class).getValue());
+
+        int itens = 0;
+        RMObjectID id;
+        while ((id = r.next()) == RMObjectID.CONTENTITEM) {
+            assertFalse(r.isRoot());
+            LocatableTest.testValidLocatable(
+                    r.value(ContentItem.class).getLocatable());
+            itens++;
+        }
+
+        assertSame(RMObjectID.COMPOSITION, id);
+        assertTrue(r.isRoot());
+        assertEquals(RMObjectTestHelper.composition().getContent().size(),
+                itens);
+        CompositionTest.testValidComposition(r.value(Composition.class));
+
+        while (!r.next().equals(RMObjectID.XFOLDER) || !r.isRoot()) {
+            assertTrue(r.depth() > 0);
+        }
+        XFolderTest.testValidXFolder((XFolder) r.value());
+
+        while (r.next() != RMObjectID.EHREXTRACT) {
+            assertTrue(r.depth() > 0);
+        }
+        EHRExtract e = r.value(EHRExtract.class);
+        XFolderTest.testValidXFolder(e.getDirectory());
+        assertEquals("value", e.getEhrId());
+
+        assertNull(r.next());
+        assertNull(r.next());
+        assertThrows(IllegalStateException.class, r::value);
+        r.close();
+    }
+
+    @Test
+    void semMontagemAsPartesNaoSaoRetidas() throws IOException {
+        byte[] bytes = stream(RMObjectTestHelper.composition(),
+                RMObjectTestHelper.xFolder(), RMObjectTestHelper.ehrExtract());
+        RMObjectStreamReader r = RMObjectStreamReader.create(
+                Channels.newChannel(new ByteArrayInputStream(bytes)), false);
+
+        int raizes = 0;
+        RMObjectID id;
+        while ((id = r.next()) != null) {
+            if (id == RMObjectID.XCOMPOSITION) {
+                XComposition x = r.value(XComposition.class);
+                assertTrue(x.isPrimary());
+                assertNull(x.getComposition().getContent());
+            }
+
+            if (r.isRoot()) {
+                raizes++;
+            }
+        }
+
+        assertEquals(4, raizes);
+    }
+
+    @Test
+    void itemDisponivelAntesDoRestanteDoFluxo() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RMObjectStreamWriter w = RMObjectStreamWriter.create(out);
+        w.writeComposition(RMObjectTestHelper.composition());
+        byte[] parcial = Arrays.copyOf(out.toByteArray(), out.size() / 2);
+        RMObjectStreamReader r = RMObjectStreamReader.create(
+                new ByteArrayInputStream(parcial));
+
+        assertSame(RMObjectID.CONTENTITEM, r.next());
+        LocatableTest.testValidLocatable(
+                r.value(ContentItem.class).getLocatable());
+        assertThrows(EOFException.class, r::next);
+    }
+
+    @Test
+    void tamanhoDeQuadroLimitado() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RMObjectStreamWriter w = RMObjectStreamWriter.create(out)) {
+            w.writeComposition(RMObjectTestHelper.composition());
+        }
+
+        RMObjectStreamReader r = RMObjectStreamReader.create(
+                new ByteArrayInputStream(out.toByteArray()))
+                .setMaxFrameSize(16);
+        assertThrows(IOException.class, r::next);
+
+        // Tamanho corrompido, maior que o limite padrão.
+        ByteBuffer bytes = ByteBuffer.wrap(out.toByteArray());
+        bytes.putInt(4, Integer.MAX_VALUE);
+        RMObjectStreamReader corrompido = RMObjectStreamReader.create(
+                new ByteArrayInputStream(bytes.array()));
+        assertThrows(IOException.class, corrompido::next);
+        assertThrows(IllegalArgumentException.class,
+                () -> corrompido.setMaxFrameSize(-1));
+    }
+
+    @Test
+    void fluxoInvalido() {
+        assertThrows(IOException.class, () -> RMObjectStreamReader.create(
+                new ByteArrayInputStream(new byte[]{1, 2, 3, 4})));
+        assertThrows(IllegalArgumentException.class,
+                () -> RMObjectStreamReader.create(
+                        (java.io.InputStream) null));
+    }
+}
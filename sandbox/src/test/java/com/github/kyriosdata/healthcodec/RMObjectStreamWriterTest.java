@@ -0,0 +1,222 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.Composition;
+import com.github.kyriosdata.healthcodec.RMObject.ContentItem;
+import com.github.kyriosdata.healthcodec.RMObject.DvBoolean;
+import com.github.kyriosdata.healthcodec.RMObject.DvMultimedia;
+import com.github.kyriosdata.healthcodec.RMObject.EHRExtract;
+import com.github.kyriosdata.healthcodec.RMObject.XFolder;
+import com.github.kyriosdata.healthcodec.common.archetyped.LocatableTest;
+import com.github.kyriosdata.healthcodec.composition.ehrextract.EHRExtractTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RMObjectStreamWriterTest {
+
+    /**
+     * Quadro lido do fluxo: posição, identificador, partes e conteúdo.
+     */
+    private static final class Frame {
+        private final long start;
+        private final int id;
+        private final int parts;
+        private final Buffer content;
+
+        private Frame(long start, int id, int parts, Buffer content) {
+            this.start = start;
+            this.id = id;
+            this.parts = parts;
+            this.content = content;
+        }
+    }
+
+    private static List<Frame> frames(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        assertEquals(RMObjectStreamWriter.MAGIC, in.getInt());
+        List<Frame> frames = new ArrayList<>();
+        while (true) {
+            int start = in.position();
+            int length = in.getInt();
+            int id = in.getInt();
+            int parts = in.getInt();
+            in.getInt();
+            if (id == RMObjectStreamWriter.END) {
+                return frames;
+            }
+
+            byte[] content = Arrays.copyOfRange(bytes, in.position(),
+                    in.position() + length);
+            in.position(in.position() + length);
+            frames.add(new Frame(start, id, parts, Buffer.newInstance(content)));
+        }
+    }
+
+    @Test
+    void compositionEmPartes() throws IOException {
+        Composition c = RMObjectTestHelper.composition();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RMObjectStreamWriter w = RMObjectStreamWriter.create(out)) {
+            w.writeComposition(c);
+        }
+
+        List<Frame> frames = frames(out.toByteArray());
+        int n = c.getContent().size();
+        assertEquals(n + 1, frames.size());
+        for (int i = 0; i < n; i++) {
+            Frame f = frames.get(i);
+            assertEquals(RMObjectID.CONTENTITEM.getValue(), f.id);
+            assertEquals(RMObjectStreamWriter.COMPLETE, f.parts);
+            ContentItem item = RMObjectCodecs.of(ContentItem.class)
+                    .deserialize(f.content, 0);
+            LocatableTest.testValidLocatable(item.getLocatable());
+        }
+
+        Frame esqueleto = frames.get(n);
+        assertEquals(RMObjectID.COMPOSITION.getValue(), esqueleto.id);
+        assertEquals(n, esqueleto.parts);
+        Composition shell = RMObjectCodecs.of(Composition.class)
+                .deserialize(esqueleto.content, 0);
+        assertNull(shell.getContent());
+        LocatableTest.testValidLocatable(shell.getLocatable());
+    }
+
+    @Test
+    void rodapeIndicaInicioDeCadaObjeto() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RMObjectStreamWriter w = RMObjectStreamWriter.create(out);
+        w.write(DvBoolean.class, RMObjectTestHelper.dvBoolean(true))
+                .writeComposition(RMObjectTestHelper.composition())
+                .writeXFolder(RMObjectTestHelper.xFolder());
+        long size = w.size();
+        w.close();
+        w.close();
+
+        byte[] bytes = out.toByteArray();
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        long footer = in.getLong(bytes.length - Long.BYTES);
+        assertEquals(size, footer);
+        in.position((int) footer);
+        in.getInt();
+        assertEquals(RMObjectStreamWriter.END, in.getInt());
+        in.getInt();
+        in.getInt();
+        assertEquals(3, in.getInt());
+
+        List<Frame> frames = frames(bytes);
+        long[] starts = new long[3];
+        int[] ids = new int[3];
+        for (int i = 0; i < 3; i++) {
+            starts[i] = in.getLong();
+            ids[i] = in.getInt();
+        }
+
+        assertEquals(Integer.BYTES, starts[0]);
+        assertEquals(RMObjectID.DVBOOLEAN.getValue(), ids[0]);
+        assertTrue(RMObjectCodecs.of(DvBoolean.class)
+                .deserialize(frames.get(0).content, 0).getValue());
+        assertEquals(frames.get(1).start, starts[1]);
+        assertEquals(RMObjectID.COMPOSITION.getValue(), ids[1]);
+        assertEquals(RMObjectID.XFOLDER.getValue(), ids[2]);
+
+        Frame raiz = frames.get(frames.size() - 1);
+        assertEquals(RMObjectID.XFOLDER.getValue(), raiz.id);
+        assertEquals(2, raiz.parts);
+        XFolder shell = RMObjectCodecs.of(XFolder.class)
+                .deserialize(raiz.content, 0);
+        assertNull(shell.getFolders());
+        assertNull(shell.getCompositions());
+    }
+
+    @Test
+    void ehrExtractSemDiretorio() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RMObjectStreamWriter w = RMObjectStreamWriter.create(out)) {
+            w.writeEHRExtract(RMObjectTestHelper.ehrExtract());
+        }
+
+        List<Frame> frames = frames(out.toByteArray());
+        assertEquals(1, frames.size());
+        assertEquals(0, frames.get(0).parts);
+        EHRExtractTest.testValidEHRExtract(RMObjectCodecs.of(EHRExtract.class)
+                .deserialize(frames.get(0).content, 0));
+    }
+
+    @Test
+    void dadosDeDvMultimediaForaDosQuadros() throws IOException {
+        byte[] dados = new byte[4 * 1024 * 1024];
+        Arrays.fill(dados, (byte) 7);
+        DvMultimedia media = RMObjectFactory.newDvMultimedia(
+                RMObjectTestHelper.dvEncapsulated(), "alternateText",
+                RMObjectTestHelper.codePhrase(),
+                RMObjectTestHelper.codePhrase(), new byte[]{0, 1, 0, 1},
+                RMObjectTestHelper.codePhrase(), null,
+                RMObjectTestHelper.dVURI(), dados);
+
+        // Sem segmento, os dados estão no quadro, mas o buffer não é
+        // mantido com a capacidade correspondente.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RMObjectStreamWriter w = RMObjectStreamWriter.create(out)) {
+            w.write(DvMultimedia.class, media);
+            assertTrue(w.capacity() <= RMObjectStreamWriter.RETAINED_CAPACITY);
+        }
+
+        assertTrue(out.size() > dados.length);
+
+        BlobSegment segment = BlobSegment.newInstance();
+        out = new ByteArrayOutputStream();
+        try (RMObjectStreamWriter w = RMObjectStreamWriter.create(out)) {
+            w.setBlobSegment(segment, 1024);
+            w.write(DvMultimedia.class, media);
+        }
+
+        assertTrue(out.size() < 1024);
+        assertEquals(1, segment.count());
+        try (RMObjectStreamReader r = RMObjectStreamReader.create(
+                new ByteArrayInputStream(out.toByteArray()))) {
+            r.setBlobSegment(segment);
+            assertEquals(RMObjectID.DVMULTIMEDIA, r.next());
+            assertArrayEquals(dados, r.value(DvMultimedia.class).getData());
+        }
+    }
+
+    @Test
+    void escritaAposEncerramento() throws IOException {
+        RMObjectStreamWriter w =
+                RMObjectStreamWriter.create(new ByteArrayOutputStream());
+        w.close();
+        assertThrows(IllegalStateException.class,
+                () -> w.writeComposition(RMObjectTestHelper.composition()));
+        assertThrows(IllegalArgumentException.class,
+                () -> RMObjectStreamWriter.create((ByteArrayOutputStream) null));
+        assertFalse(w.size() == 0);
+    }
+}
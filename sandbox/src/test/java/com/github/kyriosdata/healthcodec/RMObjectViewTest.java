@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.Composition;
+import com.github.kyriosdata.healthcodec.common.archetyped.LocatableTest;
+import com.github.kyriosdata.healthcodec.common.generic.PartyProxyTest;
+import com.github.kyriosdata.healthcodec.composition.CompositionTest;
+import com.github.kyriosdata.healthcodec.composition.EventContextTest;
+import com.github.kyriosdata.healthcodec.composition.content.entry.CareEntryTest;
+import com.github.kyriosdata.healthcodec.composition.ehr.EHRTest;
+import com.github.kyriosdata.healthcodec.datastructure.history.HistoryTest;
+import com.github.kyriosdata.healthcodec.datatypes.quantity.datetime.DvDateTimeTest;
+import com.github.kyriosdata.healthcodec.datatypes.support.identification.HierObjectIDTest;
+import com.github.kyriosdata.healthcodec.datatypes.support.identification.ObjectRefTest;
+import com.github.kyriosdata.healthcodec.datatypes.text.CodePhraseTest;
+import com.github.kyriosdata.healthcodec.datatypes.text.DvCodedTextTest;
+import com.github.kyriosdata.healthcodec.datatypes.text.DvTextTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RMObjectViewTest {
+
+    @Test
+    void atributosDeComposition() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeDvBoolean(RMObjectTestHelper.dvBoolean(true))
+                .serializeComposition(RMObjectTestHelper.composition());
+
+        RMObjectView.CompositionView v = s.viewComposition();
+        assertEquals(1, v.offset());
+        DvCodedTextTest.testValidDvCodedText(v.category());
+        PartyProxyTest.testValidPartyProxy(v.composer());
+        CodePhraseTest.testValidCodePhrase(v.language());
+        CodePhraseTest.testValidCodePhrase(v.territory());
+        EventContextTest.testValidEventContext(v.context());
+        LocatableTest.testValidLocatable(v.locatable().toLocatable());
+
+        assertTrue(v.hasContent());
+        assertEquals(RMObjectTestHelper.composition().getContent().size(),
+                v.contentSize());
+        LocatableTest.testValidLocatable(v.content(0).toLocatable());
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> v.content(v.contentSize()));
+        CompositionTest.testValidComposition(v.toComposition());
+    }
+
+    @Test
+    void compositionSemAtributosOpcionais() {
+        Composition c = RMObjectTestHelper.composition();
+        Composition semOpcionais = RMObjectFactory.newComposition(
+                c.getLocatable(), null, c.getLanguage(), null,
+                c.getComposer(), c.getCategory(), c.getTerritory());
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeComposition(semOpcionais);
+
+        RMObjectView.CompositionView v = s.viewComposition();
+        assertFalse(v.hasContent());
+        assertEquals(0, v.contentSize());
+        assertNull(v.contentItems());
+        assertNull(v.context());
+        DvCodedTextTest.testValidDvCodedText(v.category());
+        CodePhraseTest.testValidCodePhrase(v.territory());
+    }
+
+    @Test
+    void atributosDeLocatable() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeLocatable(RMObjectTestHelper.locatable());
+
+        RMObjectView.LocatableView v = RMObjectView.locatable(
+                Buffer.newInstance(s.getBytes()), 0);
+        assertEquals("value", v.uid().getValue());
+        assertEquals("value", v.archetypeNodeId());
+        DvTextTest.testValidDvText(v.name());
+        assertEquals(1, v.links().size());
+        LocatableTest.testValidLocatable(v.toLocatable());
+    }
+
+    @Test
+    void atributosDeEHR() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create()
+                .serializeEHR(RMObjectTestHelper.eHR());
+
+        RMObjectView.EHRView v = s.viewEHR();
+        HierObjectIDTest.testValidHierObjectID(v.systemID());
+        HierObjectIDTest.testValidHierObjectID(v.ehrID());
+        DvDateTimeTest.testValidDvDateTime(v.timeCreated());
+        ObjectRefTest.testValidObjectRef(v.ehrStatus());
+        assertEquals(RMObjectTestHelper.eHR().getCompositions().size(),
+                v.compositionsSize());
+        assertEquals("VERSIONED_COMPOSITION", v.composition(0).getType());
+        EHRTest.testValidEHR(v.toEHR());
+    }
+
+    @Test
+    void atributosDeObservation() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create();
+        for (int i = 0; i < 3; i++) {
+            s.serializeObservation(
+                    RMObjectTestHelper.observationWithItemTreeItemTree());
+        }
+
+        RMObjectView.ObservationView v = s.select(1).viewObservation();
+        assertEquals(s.offsetOf(RMObjectID.OBSERVATION, 1), v.offset());
+        CareEntryTest.testValidCareEntry(v.careEntry());
+        HistoryTest.testValidHistoryWithItemTree(v.dataItemTree());
+        assertTrue(v.hasState());
+        HistoryTest.testValidHistoryWithItemTree(v.stateItemTree());
+        LocatableTest.testValidLocatable(v.locatable().toLocatable());
+    }
+
+    @Test
+    void compositionNoPerfilCompacto() {
+        Buffer buffer = Buffer.newGrowableInstance();
+        buffer.setCompact(true);
+        Composition c = RMObjectTestHelper.composition();
+        RMObjectSerializationClient s = RMObjectSerializationClient.create(
+                buffer).serializeComposition(c);
+
+        RMObjectView.CompositionView v = s.viewComposition();
+        DvCodedTextTest.testValidDvCodedText(v.category());
+        EventContextTest.testValidEventContext(v.context());
+        assertEquals(c.getContent().size(), v.contentSize());
+        LocatableTest.testValidLocatable(v.content(0).toLocatable());
+        assertEquals("value", v.locatable().uid().getValue());
+        CompositionTest.testValidComposition(v.toComposition());
+
+        Composition semOpcionais = RMObjectFactory.newComposition(
+                c.getLocatable(), null, c.getLanguage(), null,
+                c.getComposer(), c.getCategory(), c.getTerritory());
+        Buffer outro = Buffer.newGrowableInstance();
+        outro.setCompact(true);
+        v = RMObjectSerializationClient.create(outro)
+                .serializeComposition(semOpcionais).viewComposition();
+        assertFalse(v.hasContent());
+        assertNull(v.context());
+        CodePhraseTest.testValidCodePhrase(v.territory());
+    }
+}
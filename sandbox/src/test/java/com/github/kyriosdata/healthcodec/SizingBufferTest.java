@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObjectSerialization.*;
+import org.junit.jupiter.api.Test;
+
+import static com.github.kyriosdata.healthcodec.RMObjectTestHelper.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SizingBufferTest {
+
+    private static final Buffer SIZING = Buffer.newSizingInstance();
+
+    private static RMObjectSerializationClient client() {
+        return RMObjectSerializationClient.create();
+    }
+
+    @Test
+    void tamanhoCoincideComSerializacaoDeTiposSimples() {
+        assertEquals(client().serializeDvBoolean(dvBoolean(true)).size(),
+                DvBooleanSerializer.INSTANCE
+                        .serialize(SIZING, 0, dvBoolean(true)));
+        assertEquals(client().serializeGenericID(genericID()).size(),
+                GenericIDSerializer.INSTANCE
+                        .serialize(SIZING, 0, genericID()));
+        assertEquals(client().serializeDvText(dvText()).size(),
+                DvTextSerializer.INSTANCE
+                        .serialize(SIZING, 0, dvText()));
+        assertEquals(client().serializeDvCodedText(dvCodedText()).size(),
+                DvCodedTextSerializer.INSTANCE
+                        .serialize(SIZING, 0, dvCodedText()));
+        assertEquals(client().serializeDvMultimedia(dvMultimedia()).size(),
+                DvMultimediaSerializer.INSTANCE
+                        .serialize(SIZING, 0, dvMultimedia()));
+        assertEquals(client().serializeDvAbsoluteQuantity(dvAQDvCount()).size(),
+                DvAbsoluteQuantitySerializer.INSTANCE
+                        .serialize(SIZING, 0, dvAQDvCount()));
+    }
+
+    @Test
+    void tamanhoCoincideComSerializacaoDeTiposCompostos() {
+        assertEquals(client().serializePerson(person()).size(),
+                PersonSerializer.INSTANCE
+                        .serialize(SIZING, 0, person()));
+        assertEquals(client().serializeSection(section()).size(),
+                SectionSerializer.INSTANCE
+                        .serialize(SIZING, 0, section()));
+        assertEquals(client().serializeHistory(historyWithItemTable()).size(),
+                HistorySerializer.INSTANCE
+                        .serialize(SIZING, 0, historyWithItemTable()));
+        assertEquals(client().serializeObservation(
+                observationWithItemTreeItemTree()).size(),
+                ObservationSerializer.INSTANCE.serialize(SIZING, 0,
+                        observationWithItemTreeItemTree()));
+        assertEquals(client().serializeComposition(composition()).size(),
+                CompositionSerializer.INSTANCE
+                        .serialize(SIZING, 0, composition()));
+        assertEquals(client().serializeEHR(eHR()).size(),
+                EHRSerializer.INSTANCE
+                        .serialize(SIZING, 0, eHR()));
+        assertEquals(client().serializeXFolder(xFolder()).size(),
+                XFolderSerializer.INSTANCE
+                        .serialize(SIZING, 0, xFolder()));
+        assertEquals(client().serializeEHRExtract(ehrExtract()).size(),
+                EHRExtractSerializer.INSTANCE
+                        .serialize(SIZING, 0, ehrExtract()));
+        assertEquals(client().serializeMessage(message()).size(),
+                MessageSerializer.INSTANCE
+                        .serialize(SIZING, 0, message()));
+    }
+
+    @Test
+    void bufferComCapacidadeExataAcomodaSerializacao() {
+        RMObject.Composition composition = composition();
+        int size = CompositionSerializer.INSTANCE
+                .serialize(SIZING, 0, composition);
+
+        Buffer buffer = Buffer.newDirectInstance(size);
+        int end = CompositionSerializer.INSTANCE
+                .serialize(buffer, 0, composition);
+
+        assertEquals(size, end);
+    }
+}
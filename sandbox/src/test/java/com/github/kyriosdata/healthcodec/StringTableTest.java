@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 Instituto de Informática - UFG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.kyriosdata.healthcodec;
+
+import com.github.kyriosdata.healthcodec.RMObject.Composition;
+import com.github.kyriosdata.healthcodec.RMObject.EHRExtract;
+import com.github.kyriosdata.healthcodec.composition.CompositionTest;
+import com.github.kyriosdata.healthcodec.composition.ehrextract.EHRExtractTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringTableTest {
+
+    private static Buffer buffer(StringTable table, boolean compact) {
+        Buffer buffer = Buffer.newGrowableInstance();
+        buffer.setStringTable(table);
+        buffer.setCompact(compact);
+        return buffer;
+    }
+
+    @Test
+    void valoresRepetidosSerializadosUmaUnicaVez() {
+        Composition c = RMObjectTestHelper.composition();
+        RMObjectSerializationClient semTabela =
+                RMObjectSerializationClient.create().serializeComposition(c);
+
+        StringTable table = StringTable.newInstance();
+        RMObjectSerializationClient s = RMObjectSerializationClient.create(
+                buffer(table, false)).serializeComposition(c);
+        assertTrue(s.size() < semTabela.size());
+        assertTrue(table.size() > 0);
+
+        Composition d = s.deserializeComposition();
+        CompositionTest.testValidComposition(d);
+        assertSame(d.getLocatable().getArchetypeNodeId(),
+                d.getContent().get(0).getLocatable().getArchetypeNodeId());
+    }
+
+    @Test
+    void referenciasResolvidasSemTabela() {
+        RMObjectSerializationClient s = RMObjectSerializationClient.create(
+                buffer(StringTable.newInstance(), false))
+                .serializeEHRExtract(RMObjectTestHelper.ehrExtract());
+
+        EHRExtract e = RMObjectCodecs.of(EHRExtract.class)
+                .deserialize(Buffer.newInstance(s.getBytes()), 0);
+        EHRExtractTest.testValidEHRExtract(e);
+    }
+
+    @Test
+    void tabelaNoPerfilCompacto() {
+        Composition c = RMObjectTestHelper.composition();
+        RMObjectSerializationClient compacto = RMObjectSerializationClient
+                .create(buffer(null, true)).serializeComposition(c);
+
+        StringTable table = StringTable.newInstance();
+        RMObjectSerializationClient s = RMObjectSerializationClient.create(
+                buffer(table, true)).serializeComposition(c);
+        assertTrue(s.size() < compacto.size());
+        CompositionTest.testValidComposition(s.deserializeComposition());
+
+        Buffer leitura = Buffer.newInstance(s.getBytes());
+        leitura.setCompact(true);
+        Composition d = RMObjectCodecs.of(Composition.class)
+                .deserialize(leitura, 0);
+        CompositionTest.testValidComposition(d);
+        assertNotSame(d.getLocatable().getArchetypeNodeId(),
+                d.getContent().get(0).getLocatable().getArchetypeNodeId());
+    }
+
+    @Test
+    void tabelaEsvaziadaAoReiniciarCliente() {
+        StringTable table = StringTable.newInstance();
+        RMObjectSerializationClient s = RMObjectSerializationClient.create(
+                buffer(table, false));
+        s.serializeComposition(RMObjectTestHelper.composition());
+
+        s.reset().serializeEHRExtract(RMObjectTestHelper.ehrExtract());
+        EHRExtractTest.testValidEHRExtract(s.deserializeEHRExtract());
+
+        RMObjectSerializationClient novo = RMObjectSerializationClient.create(
+                buffer(StringTable.newInstance(), false))
+                .serializeEHRExtract(RMObjectTestHelper.ehrExtract());
+        assertArrayEquals(novo.getBytes(), s.getBytes());
+    }
+
+    @Test
+    void tabelaEsvaziada() {
+        StringTable table = StringTable.newInstance();
+        RMObjectSerializationClient.create(buffer(table, false))
+                .serializeComposition(RMObjectTestHelper.composition());
+
+        table.clear();
+        assertEquals(0, table.size());
+    }
+}
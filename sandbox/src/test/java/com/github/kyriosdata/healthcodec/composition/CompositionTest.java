@@ -1,6 +1,9 @@
 package com.github.kyriosdata.healthcodec.composition;
 
+import com.github.kyriosdata.healthcodec.Buffer;
 import com.github.kyriosdata.healthcodec.RMObject.Composition;
+import com.github.kyriosdata.healthcodec.RMObject.ContentItem;
+import com.github.kyriosdata.healthcodec.RMObjectCodecs;
 import com.github.kyriosdata.healthcodec.RMObjectFactory;
 import com.github.kyriosdata.healthcodec.RMObjectSerializationClient;
 import com.github.kyriosdata.healthcodec.RMObjectTestHelper;
@@ -11,6 +14,12 @@ import com.github.kyriosdata.healthcodec.datatypes.text.CodePhraseTest;
 import com.github.kyriosdata.healthcodec.datatypes.text.DvCodedTextTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class CompositionTest {
@@ -128,4 +137,83 @@ public class CompositionTest {
                     null);
         });
     }
+
+    private static Composition compositionWithContent(int size){
+        Composition c = RMObjectTestHelper.composition();
+        List<ContentItem> content = new ArrayList<>();
+        while (content.size() < size) {
+            content.addAll(RMObjectTestHelper.contentItemList(false));
+        }
+
+        return RMObjectFactory.newComposition(c.getLocatable(),
+                content, c.getLanguage(), c.getContext(), c.getComposer(),
+                c.getCategory(), c.getTerritory());
+    }
+
+    @Test
+    void compositionParallelSerializationTest(){
+        Composition grande = compositionWithContent(300);
+        List<ContentItem> content = grande.getContent();
+        s.serializeComposition(grande);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Buffer buffer = Buffer.newGrowableInstance();
+            buffer.setParallelism(pool, 2);
+            RMObjectSerializationClient paralelo =
+                    RMObjectSerializationClient.create(buffer);
+            paralelo.serializeComposition(grande);
+
+            assertArrayEquals(s.getBytes(), paralelo.getBytes());
+            Composition d = paralelo.deserializeComposition();
+            testValidComposition(d);
+            assertEquals(content.size(), d.getContent().size());
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Buffer.newGrowableInstance().setParallelism(null, 0));
+    }
+
+    @Test
+    void compositionShortListSequentialTest(){
+        // Pool encerrado: qualquer submissão seria rejeitada.
+        ForkJoinPool pool = new ForkJoinPool(2);
+        pool.shutdownNow();
+
+        Composition pequena = compositionWithContent(32);
+        s.serializeComposition(pequena);
+        Buffer buffer = Buffer.newGrowableInstance();
+        buffer.setParallelism(pool, 2);
+        RMObjectSerializationClient sequencial =
+                RMObjectSerializationClient.create(buffer);
+        sequencial.serializeComposition(pequena);
+
+        assertArrayEquals(s.getBytes(), sequencial.getBytes());
+        assertEquals(32, sequencial.deserializeComposition()
+                .getContent().size());
+    }
+
+    @Test
+    void compositionParallelDeserializationTest(){
+        Composition grande = compositionWithContent(300);
+        s.serializeComposition(grande);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Buffer buffer = Buffer.newInstance(s.getBytes());
+            buffer.setParallelism(pool, 2);
+            Composition d = RMObjectCodecs.of(Composition.class)
+                    .deserialize(buffer, 0);
+
+            testValidComposition(d);
+            assertEquals(grande.getContent().size(), d.getContent().size());
+            for (ContentItem item : d.getContent()) {
+                ContentItemTest.testValidContentItem(item);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
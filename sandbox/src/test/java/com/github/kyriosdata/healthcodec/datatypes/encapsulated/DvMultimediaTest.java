@@ -1,13 +1,17 @@
 package com.github.kyriosdata.healthcodec.datatypes.encapsulated;
 
+import com.github.kyriosdata.healthcodec.Buffer;
 import com.github.kyriosdata.healthcodec.RMObject.DvMultimedia;
 import com.github.kyriosdata.healthcodec.RMObjectFactory;
 import com.github.kyriosdata.healthcodec.RMObjectSerializationClient;
 import com.github.kyriosdata.healthcodec.RMObjectTestHelper;
+import com.github.kyriosdata.healthcodec.RMObjectView;
 import com.github.kyriosdata.healthcodec.datatypes.text.CodePhraseTest;
 import com.github.kyriosdata.healthcodec.datatypes.uri.DvURITest;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DvMultimediaTest {
@@ -37,6 +41,62 @@ public class DvMultimediaTest {
         testValidDvMultimedia(d);
     }
 
+    @Test
+    void dvMultimediaViewTest(){
+        s.serializeDvMultimedia(RMObjectTestHelper.dvMultimedia());
+        DvMultimedia d = s.deserializeDvMultimediaView();
+
+        testValidDvMultimedia(d);
+        ByteBuffer data = d.getDataBuffer();
+        assertTrue(data.isReadOnly());
+        assertEquals(4, d.getDataLength());
+        assertEquals(4, data.remaining());
+    }
+
+    @Test
+    void dvMultimediaViewSemCopiaTest(){
+        s.serializeDvMultimedia(RMObjectTestHelper.dvMultimedia());
+        byte[] bytes = s.getBytes();
+        Buffer buffer = Buffer.newInstance(bytes);
+        DvMultimedia d = RMObjectView.dvMultimedia(buffer, 0);
+
+        // Os dados são os últimos bytes da serialização.
+        buffer.writeByte(bytes.length - 1, (byte) 7);
+        assertEquals(7, d.getDataBuffer().get(3));
+        assertEquals(7, d.getData()[3]);
+    }
+
+    @Test
+    void dvMultimediaViewSerializacaoTest(){
+        s.serializeDvMultimedia(RMObjectTestHelper.dvMultimedia());
+        byte[] original = s.getBytes();
+        DvMultimedia d = RMObjectView.dvMultimedia(
+                Buffer.newInstance(original), 0);
+
+        RMObjectSerializationClient outro = RMObjectSerializationClient.create();
+        outro.serializeDvMultimedia(d);
+        assertArrayEquals(original, outro.getBytes());
+    }
+
+    @Test
+    void dvMultimediaViewFromByteBufferTest(){
+        byte[] integrityCheck = {0,1,0,1};
+        ByteBuffer data = ByteBuffer.wrap(new byte[]{9, 1, 0, 1, 0, 9}, 1, 4);
+        DvMultimedia d = RMObjectFactory.newDvMultimediaView(
+                RMObjectTestHelper.dvEncapsulated(),
+                "alternateText",
+                RMObjectTestHelper.codePhrase(),
+                RMObjectTestHelper.codePhrase(),
+                integrityCheck,
+                RMObjectTestHelper.codePhrase(),
+                null,
+                RMObjectTestHelper.dVURI(),
+                data);
+
+        testValidDvMultimedia(d);
+        assertEquals(1, data.position());
+    }
+
     @Test
     void dvMultimediaNullMediaTypeTest(){
         byte[] integrityCheck = {0,1,0,1};
@@ -107,4 +167,32 @@ public class DvMultimediaTest {
                     null);
         });
     }
+
+    @Test
+    void dvMultimediaPerfilCompactoTest(){
+        DvMultimedia comMiniatura = RMObjectFactory.newDvMultimedia(
+                RMObjectTestHelper.dvEncapsulated(),
+                "alternateText",
+                RMObjectTestHelper.codePhrase(),
+                RMObjectTestHelper.codePhrase(),
+                new byte[]{0,1,0,1},
+                RMObjectTestHelper.codePhrase(),
+                RMObjectTestHelper.dvMultimedia(),
+                RMObjectTestHelper.dVURI(),
+                new byte[]{1,0,1,0});
+        s.serializeDvMultimedia(comMiniatura);
+
+        Buffer buffer = Buffer.newGrowableInstance();
+        buffer.setCompact(true);
+        RMObjectSerializationClient compacto =
+                RMObjectSerializationClient.create(buffer);
+        compacto.serializeDvMultimedia(comMiniatura);
+        assertTrue(compacto.size() < s.size());
+
+        DvMultimedia d = compacto.deserializeDvMultimedia();
+        testValidDvMultimedia(d.getThumbnail());
+        assertArrayEquals(new byte[]{1,0,1,0}, d.getData());
+        testValidDvMultimedia(compacto.deserializeDvMultimediaView()
+                .getThumbnail());
+    }
 }
@@ -12,10 +12,8 @@ public class DvOrdinalTest {
     RMObjectSerializationClient s =  RMObjectSerializationClient.create();
 
     public static void testValidDvOrdinal(DvOrdinal d){
-        DvOrderedTest.testValidDvOrdered(d.getOtherReferenceRanges().get(0).
-                getRange().getInterval().getLower());
-        DvOrderedTest.testValidDvOrdered(d.getOtherReferenceRanges().get(0).
-                getRange().getInterval().getUpper());
+        ReferenceRangeTest.testValidReferenceRange(
+                d.getOtherReferenceRanges().get(0));
         DvIntervalTest.testValidDvInterval(d.getNormalRange());
         assertEquals(10, d.getValue());
         DvCodedTextTest.testValidDvCodedText(d.getSymbol());
@@ -26,6 +26,16 @@ public class GenericIDTest {
         testValidGenericID(g);
     }
 
+    @Test
+    void genericIDNonAsciiTest(){
+        GenericID g = RMObjectFactory.newGenericID("Pressão", "Ação-São");
+        s.serializeGenericID(g);
+        g = s.deserializeGenericID();
+
+        assertEquals("Pressão", g.getObjectID().getValue());
+        assertEquals("Ação-São", g.getScheme());
+    }
+
     @Test
     void genericIDEmptyScheme(){
         assertThrows(IllegalArgumentException.class, () -> {